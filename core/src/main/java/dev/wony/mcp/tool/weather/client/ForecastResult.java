@@ -0,0 +1,24 @@
+package dev.wony.mcp.tool.weather.client;
+
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+
+/**
+ * 예보 조회 결과 (예보 또는 사용자에게 보여줄 오류 메시지)
+ *
+ * @param forecast     조회된 예보, 실패 시 null
+ * @param errorMessage 오류 메시지, 성공 시 null
+ */
+public record ForecastResult(Forecast forecast, String errorMessage) {
+
+    public static ForecastResult success(Forecast forecast) {
+        return new ForecastResult(forecast, null);
+    }
+
+    public static ForecastResult failure(String errorMessage) {
+        return new ForecastResult(null, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return forecast != null;
+    }
+}
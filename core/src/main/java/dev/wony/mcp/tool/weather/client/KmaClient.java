@@ -0,0 +1,127 @@
+package dev.wony.mcp.tool.weather.client;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.util.BaseTimeCalculator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Spring 없이 사용하는 기상청 단기예보 조회서비스 클라이언트
+ *
+ * <p>JDK {@link HttpClient}로 요청하고 {@link KmaResponseReader}로 응답을 읽어, 배치 작업이나 짧게 실행되는 도구에서
+ * 스프링 컨텍스트 없이 예보를 조회할 때 사용합니다. 요청 파라미터와 응답 검증 규칙은 서버와 같은 {@link KmaRequests}를 씁니다.
+ * 캐시, 키 순환, 재시도는 하지 않습니다.
+ *
+ * <pre>
+ * KmaClient client = new KmaClient(System.getenv("WEATHER_API_SERVICE_KEY"));
+ * ForecastResult result = client.fetchLatest(ForecastType.VILAGE_FCST, CoordinateConverter.toGridCoordinate(37.5665, 126.9780));
+ * </pre>
+ *
+ * <p>서비스 키는 공공데이터포털의 디코딩된 키(Decoding)를 사용합니다. 요청할 때 URL 인코딩합니다.
+ */
+public final class KmaClient {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String serviceKey;
+    private final Duration timeout;
+
+    public KmaClient(String serviceKey) {
+        this(KmaRequests.BASE_URL, serviceKey, DEFAULT_TIMEOUT);
+    }
+
+    public KmaClient(String baseUrl, String serviceKey, Duration timeout) {
+        if (serviceKey == null || serviceKey.isBlank()) {
+            throw new IllegalArgumentException("서비스 키가 필요합니다.");
+        }
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.serviceKey = serviceKey;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * 현재 시각 기준 최신 발표 예보 조회 (발표 일정으로 추정한 기준시각 사용)
+     *
+     * @throws UncheckedIOException API 호출에 실패한 경우
+     */
+    public ForecastResult fetchLatest(ForecastType type, GridCoordinate grid) {
+        return fetch(type, grid, BaseTimeCalculator.baseTime(type, LocalDateTime.now()));
+    }
+
+    /**
+     * 지정한 발표시각의 예보 조회
+     *
+     * @return 예보, 데이터 없음이나 오류 코드 응답이면 실패 결과
+     * @throws UncheckedIOException API 호출에 실패했거나 응답이 JSON이 아닌 경우
+     */
+    public ForecastResult fetch(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        WeatherApiResponse response = get(KmaRequests.path(type),
+                KmaRequests.parameters(type, grid, baseDateTime, serviceKey));
+        return KmaRequests.decode(type, grid, baseDateTime, response,
+                type.getDescription() + " 정보를 조회할 수 없습니다.", type.getDescription() + " 정보가 없습니다.");
+    }
+
+    /**
+     * 발표시각의 예보가 발표되었는지 확인 (예보버전조회)
+     *
+     * @throws UncheckedIOException API 호출에 실패한 경우
+     */
+    public boolean isPublished(ForecastType type, LocalDateTime baseDateTime) {
+        return KmaRequests.isPublished(get(KmaRequests.versionPath(),
+                KmaRequests.versionParameters(type, baseDateTime, serviceKey)));
+    }
+
+    private WeatherApiResponse get(String path, Map<String, Object> parameters) {
+        HttpRequest request = HttpRequest.newBuilder(uri(path, parameters))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() / 100 != 2) {
+                    throw new IOException("기상청 API HTTP " + response.statusCode());
+                }
+                return KmaResponseReader.read(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("기상청 API 호출이 중단되었습니다."));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private URI uri(String path, Map<String, Object> parameters) {
+        StringBuilder uri = new StringBuilder(baseUrl).append(path);
+        char separator = '?';
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            uri.append(separator)
+                    .append(parameter.getKey())
+                    .append('=')
+                    .append(URLEncoder.encode(String.valueOf(parameter.getValue()), StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        return URI.create(uri.toString());
+    }
+}
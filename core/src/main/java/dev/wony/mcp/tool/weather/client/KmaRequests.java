@@ -0,0 +1,120 @@
+package dev.wony.mcp.tool.weather.client;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastDecoder;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기상청 단기예보 조회서비스 요청/응답 처리 유틸리티 클래스
+ * 서버의 동기(RestClient)/비동기(WebClient) 클라이언트와 코어 모듈의 {@link KmaClient}가 같은 요청 파라미터와
+ * 응답 검증 규칙을 사용하도록 공유합니다. HTTP 클라이언트에 의존하지 않도록 요청은 경로와 쿼리 파라미터로만 표현합니다.
+ */
+public final class KmaRequests {
+
+    public static final String BASE_URL = "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0";
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+    public static final DateTimeFormatter VERSION_BASE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    public static final String VERSION_OPERATION = "getFcstVersion";
+
+    private KmaRequests() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 조회 요청 경로 ({@link #BASE_URL} 기준)
+     */
+    public static String path(ForecastType type) {
+        return "/" + type.getOperation();
+    }
+
+    /**
+     * 조회 요청 쿼리 파라미터 (요청에 넣을 순서대로)
+     */
+    public static Map<String, Object> parameters(ForecastType type, GridCoordinate grid,
+                                                 LocalDateTime baseDateTime, String serviceKey) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("serviceKey", serviceKey);
+        parameters.put("numOfRows", type.getNumOfRows());
+        parameters.put("pageNo", 1);
+        parameters.put("dataType", "JSON");
+        parameters.put("base_date", baseDateTime.format(DATE_FORMATTER));
+        parameters.put("base_time", baseDateTime.format(TIME_FORMATTER));
+        parameters.put("nx", grid.nx());
+        parameters.put("ny", grid.ny());
+        return parameters;
+    }
+
+    /**
+     * 예보버전조회 요청 경로 ({@link #BASE_URL} 기준)
+     */
+    public static String versionPath() {
+        return "/" + VERSION_OPERATION;
+    }
+
+    /**
+     * 예보버전조회 요청 쿼리 파라미터 (요청에 넣을 순서대로)
+     * 발표시각의 예보 파일이 생성되었는지만 확인하므로 응답이 한 건 내외로 작습니다.
+     */
+    public static Map<String, Object> versionParameters(ForecastType type, LocalDateTime baseDateTime,
+                                                        String serviceKey) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("serviceKey", serviceKey);
+        parameters.put("numOfRows", 10);
+        parameters.put("pageNo", 1);
+        parameters.put("dataType", "JSON");
+        parameters.put("ftype", type.getVersionFileType());
+        parameters.put("basedatetime", baseDateTime.format(VERSION_BASE_FORMATTER));
+        return parameters;
+    }
+
+    /**
+     * 예보버전조회 응답에서 발표 여부 확인
+     * 아직 발표되지 않은 시각은 데이터 없음(03) 등 정상 이외의 결과 코드나 빈 항목으로 응답합니다.
+     */
+    public static boolean isPublished(WeatherApiResponse response) {
+        if (response == null || response.response() == null || response.response().header() == null
+                || !"00".equals(response.response().header().resultCode())) {
+            return false;
+        }
+        var body = response.response().body();
+        if (body == null || body.items() == null || body.items().item() == null) {
+            return false;
+        }
+        return body.items().item().stream()
+                .anyMatch(item -> item.version() != null && !item.version().isBlank());
+    }
+
+    /**
+     * 응답 검증 후 예보 모델로 변환
+     *
+     * @param unavailableMessage 응답 본문이 없을 때 반환할 메시지
+     * @param emptyMessage       응답 항목이 없을 때 반환할 메시지
+     */
+    public static ForecastResult decode(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                        WeatherApiResponse response, String unavailableMessage, String emptyMessage) {
+        if (response == null || response.response() == null || response.response().body() == null) {
+            return ForecastResult.failure(unavailableMessage);
+        }
+
+        String resultCode = response.response().header().resultCode();
+        if (!"00".equals(resultCode)) {
+            return ForecastResult.failure(String.format("API 오류: %s - %s",
+                    resultCode, response.response().header().resultMsg()));
+        }
+
+        var items = response.response().body().items();
+        if (items == null || items.item() == null || items.item().isEmpty()) {
+            return ForecastResult.failure(emptyMessage);
+        }
+
+        Forecast forecast = ForecastDecoder.decode(type, grid, baseDateTime, items.item());
+        return ForecastResult.success(forecast);
+    }
+}
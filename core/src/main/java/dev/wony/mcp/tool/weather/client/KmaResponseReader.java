@@ -0,0 +1,191 @@
+package dev.wony.mcp.tool.weather.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기상청 JSON 응답을 {@link WeatherApiResponse}로 읽는 유틸리티 클래스
+ *
+ * <p>Jackson 스트리밍 API만 사용하므로 데이터 바인딩(ObjectMapper)의 초기화와 리플렉션 비용이 없어,
+ * 짧게 실행되는 도구에서도 첫 응답부터 바로 읽습니다. 알 수 없는 필드는 건너뜁니다.
+ */
+public final class KmaResponseReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private KmaResponseReader() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 응답 본문 읽기 (스트림은 닫지 않음)
+     *
+     * @throws IOException JSON이 아니거나 읽기에 실패한 경우 (인증 오류 등 XML 응답 포함)
+     */
+    public static WeatherApiResponse read(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            expectObject(parser, parser.nextToken());
+            WeatherApiResponse.Response response = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("response".equals(field) && value == JsonToken.START_OBJECT) {
+                    response = readResponse(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new WeatherApiResponse(response);
+        }
+    }
+
+    private static WeatherApiResponse.Response readResponse(JsonParser parser) throws IOException {
+        WeatherApiResponse.Header header = null;
+        WeatherApiResponse.Body body = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("header".equals(field) && value == JsonToken.START_OBJECT) {
+                header = readHeader(parser);
+            } else if ("body".equals(field) && value == JsonToken.START_OBJECT) {
+                body = readBody(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new WeatherApiResponse.Response(header, body);
+    }
+
+    private static WeatherApiResponse.Header readHeader(JsonParser parser) throws IOException {
+        String resultCode = null;
+        String resultMsg = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "resultCode" -> resultCode = text(parser);
+                case "resultMsg" -> resultMsg = text(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new WeatherApiResponse.Header(resultCode, resultMsg);
+    }
+
+    private static WeatherApiResponse.Body readBody(JsonParser parser) throws IOException {
+        String dataType = null;
+        WeatherApiResponse.Items items = null;
+        Integer pageNo = null;
+        Integer numOfRows = null;
+        Integer totalCount = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "dataType" -> dataType = text(parser);
+                case "items" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        items = readItems(parser);
+                    } else {
+                        // 항목이 없으면 빈 문자열("")로 오는 경우가 있음
+                        parser.skipChildren();
+                    }
+                }
+                case "pageNo" -> pageNo = integer(parser);
+                case "numOfRows" -> numOfRows = integer(parser);
+                case "totalCount" -> totalCount = integer(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new WeatherApiResponse.Body(dataType, items, pageNo, numOfRows, totalCount);
+    }
+
+    private static WeatherApiResponse.Items readItems(JsonParser parser) throws IOException {
+        List<WeatherApiResponse.Item> item = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("item".equals(field) && value == JsonToken.START_ARRAY) {
+                item = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    item.add(readItem(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new WeatherApiResponse.Items(item);
+    }
+
+    private static WeatherApiResponse.Item readItem(JsonParser parser) throws IOException {
+        String baseDate = null;
+        String baseTime = null;
+        String category = null;
+        String fcstDate = null;
+        String fcstTime = null;
+        String fcstValue = null;
+        Integer nx = null;
+        Integer ny = null;
+        String obsrValue = null;
+        String filetype = null;
+        String version = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "baseDate" -> baseDate = text(parser);
+                case "baseTime" -> baseTime = text(parser);
+                case "category" -> category = text(parser);
+                case "fcstDate" -> fcstDate = text(parser);
+                case "fcstTime" -> fcstTime = text(parser);
+                case "fcstValue" -> fcstValue = text(parser);
+                case "nx" -> nx = integer(parser);
+                case "ny" -> ny = integer(parser);
+                case "obsrValue" -> obsrValue = text(parser);
+                case "filetype" -> filetype = text(parser);
+                case "version" -> version = text(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new WeatherApiResponse.Item(baseDate, baseTime, category, fcstDate, fcstTime, fcstValue,
+                nx, ny, obsrValue, filetype, version);
+    }
+
+    private static void expectObject(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "기상청 응답이 JSON 객체가 아닙니다: " + token);
+        }
+    }
+
+    private static String text(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private static Integer integer(JsonParser parser) throws IOException {
+        String value = text(parser);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
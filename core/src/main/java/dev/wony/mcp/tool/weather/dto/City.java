@@ -0,0 +1,82 @@
+package dev.wony.mcp.tool.weather.dto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 날씨 조회를 지원하는 주요 도시
+ */
+public enum City {
+    SEOUL("서울", "seoul", new GridCoordinate(60, 127)),
+    BUSAN("부산", "busan", new GridCoordinate(98, 76)),
+    DAEGU("대구", "daegu", new GridCoordinate(89, 91)),
+    INCHEON("인천", "incheon", new GridCoordinate(55, 124)),
+    GWANGJU("광주", "gwangju", new GridCoordinate(58, 74)),
+    DAEJEON("대전", "daejeon", new GridCoordinate(67, 100)),
+    ULSAN("울산", "ulsan", new GridCoordinate(102, 84)),
+    SEJONG("세종", "sejong", new GridCoordinate(66, 103)),
+    JEJU("제주", "jeju", new GridCoordinate(52, 38));
+
+    private final String name;
+    private final String id;
+    private final GridCoordinate grid;
+
+    City(String name, String id, GridCoordinate grid) {
+        this.name = name;
+        this.id = id;
+        this.grid = grid;
+    }
+
+    /**
+     * 한글 도시명
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 영문 식별자 (리소스 URI 등에 사용)
+     */
+    public String getId() {
+        return id;
+    }
+
+    public GridCoordinate getGrid() {
+        return grid;
+    }
+
+    /**
+     * 한글 도시명으로 도시 찾기
+     */
+    public static Optional<City> fromName(String name) {
+        return Arrays.stream(values())
+                .filter(city -> city.name.equals(name))
+                .findFirst();
+    }
+
+    /**
+     * 영문 식별자로 도시 찾기
+     */
+    public static Optional<City> fromId(String id) {
+        return Arrays.stream(values())
+                .filter(city -> city.id.equals(id))
+                .findFirst();
+    }
+
+    /**
+     * 격자 좌표로 도시 찾기
+     */
+    public static Optional<City> fromGrid(GridCoordinate grid) {
+        return Arrays.stream(values())
+                .filter(city -> city.grid.equals(grid))
+                .findFirst();
+    }
+
+    /**
+     * 한글 도시명 목록 (선언 순서)
+     */
+    public static List<String> names() {
+        return Arrays.stream(values()).map(City::getName).toList();
+    }
+}
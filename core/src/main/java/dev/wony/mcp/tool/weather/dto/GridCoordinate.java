@@ -0,0 +1,64 @@
+package dev.wony.mcp.tool.weather.dto;
+
+import dev.wony.mcp.tool.weather.util.CoordinateConverter;
+
+/**
+ * 기상청 격자 좌표
+ *
+ * <p>Note: 좌표 변환 로직은 {@link CoordinateConverter}로 이동
+ */
+public record GridCoordinate(int nx, int ny) {
+
+    // 기상청 동네예보 격자 범위 (5km 격자, 149 x 253)
+    public static final int MIN_NX = 1;
+    public static final int MAX_NX = 149;
+    public static final int MIN_NY = 1;
+    public static final int MAX_NY = 253;
+
+    /**
+     * "nx:ny" 형식의 문자열을 격자 좌표로 변환 (설정 파일용)
+     *
+     * @param value "60:127" 형식의 문자열
+     * @return 격자 좌표
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static GridCoordinate parse(String value) {
+        String[] parts = value == null ? new String[0] : value.trim().split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("격자 좌표는 nx:ny 형식이어야 합니다: " + value);
+        }
+        try {
+            return new GridCoordinate(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("격자 좌표는 nx:ny 형식이어야 합니다: " + value, e);
+        }
+    }
+
+    /**
+     * 기상청 예보 격자 범위 안의 좌표인지 확인 (범위 밖 격자는 API가 예보를 제공하지 않음)
+     */
+    public boolean isInForecastDomain() {
+        return nx >= MIN_NX && nx <= MAX_NX && ny >= MIN_NY && ny <= MAX_NY;
+    }
+
+    /**
+     * "nx:ny" 형식 문자열
+     */
+    public String toKey() {
+        return nx + ":" + ny;
+    }
+
+    /**
+     * 위경도를 격자 좌표로 변환
+     * Lambert Conformal Conic Projection 사용
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 격자 좌표
+     * @deprecated {@link CoordinateConverter#toGridCoordinate(double, double)} 사용 권장
+     */
+    @Deprecated(since = "리팩토링", forRemoval = false)
+    public static GridCoordinate fromLatLon(double latitude, double longitude) {
+        return CoordinateConverter.toGridCoordinate(latitude, longitude);
+    }
+}
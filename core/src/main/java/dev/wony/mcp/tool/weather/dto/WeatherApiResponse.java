@@ -52,7 +52,9 @@ public record WeatherApiResponse(
             @JsonProperty("fcstValue") String fcstValue,
             @JsonProperty("nx") Integer nx,
             @JsonProperty("ny") Integer ny,
-            @JsonProperty("obsrValue") String obsrValue
+            @JsonProperty("obsrValue") String obsrValue,
+            @JsonProperty("filetype") String filetype,
+            @JsonProperty("version") String version
     ) {
     }
 }
@@ -0,0 +1,451 @@
+package dev.wony.mcp.tool.weather.forecast;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 격자, 한 발표시각의 예보 시계열
+ *
+ * <p>예보 값을 {@code (예보 시간 인덱스, WeatherCategory ordinal)}로 색인되는 하나의 {@code int[]}에 저장합니다.
+ * 시간축은 발표시각 기준이 아닌 epoch 초 단위이며, 첫 예보 시각부터 1시간 간격으로 이어집니다.
+ *
+ * <p>셀 인코딩:
+ * <ul>
+ *   <li>{@link #MISSING}: 값 없음</li>
+ *   <li>숫자: {@code (0.1 단위 정수 << 1) | 소수점 표기 여부} - 원문 문자열을 그대로 복원할 수 있습니다</li>
+ *   <li>문자열("강수없음", "1mm 미만" 등): 예보별 문자열 테이블의 인덱스</li>
+ * </ul>
+ *
+ * <p>3일치 단기예보(약 72시간 x 17개 요소)는 약 5KB의 배열 하나로 표현됩니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 안전하게 공유할 수 있습니다.
+ */
+public final class Forecast {
+
+    /** 한국 표준시 (기상청 발표시각 기준) */
+    public static final ZoneOffset KST = ZoneOffset.ofHours(9);
+
+    /** 시간축 간격 (초) */
+    public static final int HOUR_SECONDS = 3600;
+
+    /** 값이 없는 셀 */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private static final int CATEGORY_COUNT = WeatherCategory.values().length;
+
+    // 문자열 셀은 MISSING 바로 위 구간을 사용 (숫자 셀은 이 구간에 도달할 수 없음)
+    private static final int TEXT_BASE = MISSING + 1;
+    private static final int MAX_TEXTS = 1 << 16;
+    private static final int MAX_INTEGER_DIGITS = 7;
+
+    private final ForecastType type;
+    private final GridCoordinate grid;
+    private final long baseEpochSecond;
+    private final long firstEpochSecond;
+    private final int hourCount;
+    private final int[] cells;
+    private final String[] texts;
+    private final WeatherCategory[] categoryOrder;
+
+    private Forecast(Builder builder) {
+        this.type = builder.type;
+        this.grid = builder.grid;
+        this.baseEpochSecond = builder.baseEpochSecond;
+        this.firstEpochSecond = builder.firstEpochSecond;
+        this.hourCount = builder.hourCount;
+        this.cells = builder.cells;
+        this.texts = builder.texts.toArray(new String[0]);
+        this.categoryOrder = builder.categoryOrder.toArray(new WeatherCategory[0]);
+    }
+
+    /**
+     * 예보 빌더 생성
+     *
+     * @param type             조회 종류
+     * @param grid             격자 좌표
+     * @param baseEpochSecond  발표시각 (epoch 초)
+     * @param firstEpochSecond 첫 예보 시각 (epoch 초)
+     * @param hourCount        예보 시간 수
+     */
+    public static Builder builder(ForecastType type, GridCoordinate grid,
+                                  long baseEpochSecond, long firstEpochSecond, int hourCount) {
+        return new Builder(type, grid, baseEpochSecond, firstEpochSecond, hourCount);
+    }
+
+    /**
+     * 기상청 시각(KST)을 epoch 초로 변환
+     */
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(KST);
+    }
+
+    /**
+     * epoch 초를 기상청 시각(KST)으로 변환
+     */
+    public static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, KST);
+    }
+
+    public ForecastType type() {
+        return type;
+    }
+
+    public GridCoordinate grid() {
+        return grid;
+    }
+
+    public long baseEpochSecond() {
+        return baseEpochSecond;
+    }
+
+    public LocalDateTime baseDateTime() {
+        return toDateTime(baseEpochSecond);
+    }
+
+    public int hourCount() {
+        return hourCount;
+    }
+
+    public long epochSecondAt(int hour) {
+        return firstEpochSecond + (long) hour * HOUR_SECONDS;
+    }
+
+    public LocalDateTime dateTimeAt(int hour) {
+        return toDateTime(epochSecondAt(hour));
+    }
+
+    /**
+     * epoch 초에 해당하는 시간 인덱스
+     *
+     * @return 시간 인덱스, 시간축에 없으면 -1
+     */
+    public int hourIndexOf(long epochSecond) {
+        long offset = epochSecond - firstEpochSecond;
+        if (offset < 0 || offset % HOUR_SECONDS != 0 || offset / HOUR_SECONDS >= hourCount) {
+            return -1;
+        }
+        return (int) (offset / HOUR_SECONDS);
+    }
+
+    /**
+     * 응답에 나타난 순서대로 정렬된 예보 요소 목록
+     */
+    public List<WeatherCategory> categories() {
+        return Collections.unmodifiableList(Arrays.asList(categoryOrder));
+    }
+
+    public boolean has(int hour, WeatherCategory category) {
+        return cell(hour, category) != MISSING;
+    }
+
+    /**
+     * 해당 시간에 값이 하나라도 있는지 확인
+     */
+    public boolean hasAny(int hour) {
+        int offset = hour * CATEGORY_COUNT;
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            if (cells[offset + i] != MISSING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isNumeric(int hour, WeatherCategory category) {
+        return isNumericCell(cell(hour, category));
+    }
+
+    /**
+     * 숫자 값 조회
+     *
+     * @return 값, 값이 없거나 숫자가 아니면 {@link Double#NaN}
+     */
+    public double value(int hour, WeatherCategory category) {
+        int cell = cell(hour, category);
+        return isNumericCell(cell) ? (cell >> 1) / 10.0 : Double.NaN;
+    }
+
+    /**
+     * 기상청 응답의 원문 값 조회
+     *
+     * @return 원문 문자열, 값이 없으면 null
+     */
+    public String rawValue(int hour, WeatherCategory category) {
+        int cell = cell(hour, category);
+        if (cell == MISSING) {
+            return null;
+        }
+        if (!isNumericCell(cell)) {
+            return texts[cell - TEXT_BASE];
+        }
+        return appendNumber(new StringBuilder(8), cell).toString();
+    }
+
+    /**
+     * 원문 값을 문자열 생성 없이 StringBuilder에 추가
+     *
+     * @return 값이 있어 추가했으면 true
+     */
+    public boolean appendRawValue(StringBuilder target, int hour, WeatherCategory category) {
+        int cell = cell(hour, category);
+        if (cell == MISSING) {
+            return false;
+        }
+        if (isNumericCell(cell)) {
+            appendNumber(target, cell);
+        } else {
+            target.append(texts[cell - TEXT_BASE]);
+        }
+        return true;
+    }
+
+    /**
+     * 두 예보의 셀 값이 같은지 비교 (원문 기준)
+     */
+    public boolean sameValue(int hour, WeatherCategory category, Forecast other, int otherHour) {
+        int cell = cell(hour, category);
+        int otherCell = other.cell(otherHour, category);
+        if (isNumericCell(cell) || isNumericCell(otherCell) || cell == MISSING || otherCell == MISSING) {
+            return cell == otherCell;
+        }
+        return texts[cell - TEXT_BASE].equals(other.texts[otherCell - TEXT_BASE]);
+    }
+
+    /**
+     * 구간 [fromHour, toHour) 의 최솟값
+     *
+     * @return 최솟값, 숫자 값이 없으면 {@link Double#NaN}
+     */
+    public double min(WeatherCategory category, int fromHour, int toHour) {
+        int best = Integer.MAX_VALUE;
+        boolean found = false;
+        for (int hour = Math.max(0, fromHour); hour < Math.min(hourCount, toHour); hour++) {
+            int cell = cell(hour, category);
+            if (isNumericCell(cell) && (cell >> 1) < best) {
+                best = cell >> 1;
+                found = true;
+            }
+        }
+        return found ? best / 10.0 : Double.NaN;
+    }
+
+    /**
+     * 구간 [fromHour, toHour) 의 최댓값
+     *
+     * @return 최댓값, 숫자 값이 없으면 {@link Double#NaN}
+     */
+    public double max(WeatherCategory category, int fromHour, int toHour) {
+        int best = Integer.MIN_VALUE;
+        boolean found = false;
+        for (int hour = Math.max(0, fromHour); hour < Math.min(hourCount, toHour); hour++) {
+            int cell = cell(hour, category);
+            if (isNumericCell(cell) && (cell >> 1) > best) {
+                best = cell >> 1;
+                found = true;
+            }
+        }
+        return found ? best / 10.0 : Double.NaN;
+    }
+
+    /**
+     * 구간 [fromHour, toHour) 의 합계
+     *
+     * @return 합계, 숫자 값이 없으면 {@link Double#NaN}
+     */
+    public double sum(WeatherCategory category, int fromHour, int toHour) {
+        long total = 0;
+        boolean found = false;
+        for (int hour = Math.max(0, fromHour); hour < Math.min(hourCount, toHour); hour++) {
+            int cell = cell(hour, category);
+            if (isNumericCell(cell)) {
+                total += cell >> 1;
+                found = true;
+            }
+        }
+        return found ? total / 10.0 : Double.NaN;
+    }
+
+    /**
+     * 구간 [fromHour, toHour) 에서 값이 있는 시간 수
+     */
+    public int count(WeatherCategory category, int fromHour, int toHour) {
+        int count = 0;
+        for (int hour = Math.max(0, fromHour); hour < Math.min(hourCount, toHour); hour++) {
+            if (cell(hour, category) != MISSING) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 예보가 차지하는 대략적인 메모리 크기 (바이트)
+     */
+    public long estimatedSizeBytes() {
+        long size = 64L + 16L + (long) cells.length * Integer.BYTES + 16L + (long) categoryOrder.length * 4;
+        for (String text : texts) {
+            size += 40L + text.length() * 2L;
+        }
+        return size;
+    }
+
+    private int cell(int hour, WeatherCategory category) {
+        if (hour < 0 || hour >= hourCount) {
+            return MISSING;
+        }
+        return cells[hour * CATEGORY_COUNT + category.ordinal()];
+    }
+
+    private static boolean isNumericCell(int cell) {
+        return cell >= TEXT_BASE + MAX_TEXTS;
+    }
+
+    private static StringBuilder appendNumber(StringBuilder target, int cell) {
+        int tenths = cell >> 1;
+        if ((cell & 1) == 0) {
+            return target.append(tenths / 10);
+        }
+        if (tenths < 0) {
+            target.append('-');
+            tenths = -tenths;
+        }
+        return target.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /**
+     * 원문 값을 숫자 셀로 인코딩
+     * 정수 또는 소수점 한 자리 값만 숫자로 취급하여 원문 복원이 가능하도록 합니다.
+     *
+     * @return 숫자 셀, 원문 그대로 복원할 수 없는 값이면 {@link #MISSING}
+     */
+    static int encodeNumber(String raw) {
+        int length = raw.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && raw.charAt(0) == '-') {
+            negative = true;
+            index = 1;
+        }
+
+        int integerStart = index;
+        int integer = 0;
+        while (index < length && raw.charAt(index) >= '0' && raw.charAt(index) <= '9') {
+            integer = integer * 10 + (raw.charAt(index) - '0');
+            index++;
+        }
+        int integerDigits = index - integerStart;
+        if (integerDigits == 0 || integerDigits > MAX_INTEGER_DIGITS
+                || (integerDigits > 1 && raw.charAt(integerStart) == '0')) {
+            return MISSING;
+        }
+
+        int tenths = integer * 10;
+        boolean decimal = false;
+        if (index < length) {
+            if (index + 2 != length || raw.charAt(index) != '.') {
+                return MISSING;
+            }
+            char digit = raw.charAt(index + 1);
+            if (digit < '0' || digit > '9') {
+                return MISSING;
+            }
+            tenths += digit - '0';
+            decimal = true;
+        }
+
+        if (negative) {
+            if (tenths == 0) {
+                return MISSING;
+            }
+            tenths = -tenths;
+        }
+        return (tenths << 1) | (decimal ? 1 : 0);
+    }
+
+    /**
+     * 예보 빌더
+     * 같은 셀에 값이 여러 번 들어오면 처음 값을 유지합니다.
+     */
+    public static final class Builder {
+
+        private final ForecastType type;
+        private final GridCoordinate grid;
+        private final long baseEpochSecond;
+        private final long firstEpochSecond;
+        private final int hourCount;
+        private final int[] cells;
+        private final List<String> texts = new ArrayList<>();
+        private final Map<String, Integer> textIndex = new HashMap<>();
+        private final List<WeatherCategory> categoryOrder = new ArrayList<>();
+        private final boolean[] seenCategories = new boolean[CATEGORY_COUNT];
+
+        private Builder(ForecastType type, GridCoordinate grid,
+                        long baseEpochSecond, long firstEpochSecond, int hourCount) {
+            if (hourCount < 0) {
+                throw new IllegalArgumentException("예보 시간 수는 0 이상이어야 합니다: " + hourCount);
+            }
+            this.type = type;
+            this.grid = grid;
+            this.baseEpochSecond = baseEpochSecond;
+            this.firstEpochSecond = firstEpochSecond;
+            this.hourCount = hourCount;
+            this.cells = new int[hourCount * CATEGORY_COUNT];
+            Arrays.fill(cells, MISSING);
+        }
+
+        /**
+         * 원문 값 추가
+         *
+         * @param hour     시간 인덱스
+         * @param category 예보 요소
+         * @param raw      기상청 응답의 원문 값
+         */
+        public Builder put(int hour, WeatherCategory category, String raw) {
+            if (hour < 0 || hour >= hourCount || raw == null) {
+                return this;
+            }
+            int index = hour * CATEGORY_COUNT + category.ordinal();
+            if (cells[index] != MISSING) {
+                return this;
+            }
+            int cell = encodeNumber(raw);
+            if (cell == MISSING) {
+                cell = textCell(raw);
+                if (cell == MISSING) {
+                    return this;
+                }
+            }
+            cells[index] = cell;
+            if (!seenCategories[category.ordinal()]) {
+                seenCategories[category.ordinal()] = true;
+                categoryOrder.add(category);
+            }
+            return this;
+        }
+
+        public Forecast build() {
+            return new Forecast(this);
+        }
+
+        private int textCell(String raw) {
+            Integer index = textIndex.get(raw);
+            if (index == null) {
+                if (texts.size() >= MAX_TEXTS) {
+                    return MISSING;
+                }
+                index = texts.size();
+                texts.add(raw);
+                textIndex.put(raw, index);
+            }
+            return TEXT_BASE + index;
+        }
+    }
+}
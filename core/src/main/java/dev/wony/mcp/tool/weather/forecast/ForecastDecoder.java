@@ -0,0 +1,137 @@
+package dev.wony.mcp.tool.weather.forecast;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기상청 API 응답 항목을 {@link Forecast}로 변환하는 유틸리티 클래스
+ *
+ * <p>{@link WeatherCategory}에 정의되지 않은 요소와 예보 시각을 해석할 수 없는 항목은 무시합니다.
+ * {@link Forecast}는 요소 순번으로 값을 담으므로 모르는 요소 코드는 응답에 원시 코드로 표시되지 않고 빠집니다.
+ * 기상청이 새 요소를 추가하면 {@link WeatherCategory}에 먼저 정의해야 합니다.
+ */
+public final class ForecastDecoder {
+
+    private static final Map<String, WeatherCategory> CATEGORY_BY_CODE = new HashMap<>();
+    private static final long UNPARSABLE = Long.MIN_VALUE;
+
+    // 단기예보는 최대 5일(약 120시간)까지 발표되므로 여유를 두고 제한
+    private static final int MAX_HOURS = 24 * 7;
+
+    static {
+        for (WeatherCategory category : WeatherCategory.values()) {
+            CATEGORY_BY_CODE.put(category.name(), category);
+        }
+    }
+
+    private ForecastDecoder() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 응답 항목을 예보 시계열로 변환
+     *
+     * @param type         조회 종류
+     * @param grid         격자 좌표
+     * @param baseDateTime 발표시각
+     * @param items        응답 항목
+     * @return 변환된 예보
+     */
+    public static Forecast decode(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                  List<WeatherApiResponse.Item> items) {
+        long baseEpochSecond = Forecast.toEpochSecond(baseDateTime);
+        if (type.isObservation()) {
+            return decodeObservation(type, grid, baseEpochSecond, items);
+        }
+
+        long[] epochs = new long[items.size()];
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (int i = 0; i < epochs.length; i++) {
+            WeatherApiResponse.Item item = items.get(i);
+            long epoch = parseEpochSecond(item.fcstDate(), item.fcstTime());
+            epochs[i] = epoch;
+            if (epoch != UNPARSABLE) {
+                first = Math.min(first, epoch);
+                last = Math.max(last, epoch);
+            }
+        }
+
+        if (first > last) {
+            return Forecast.builder(type, grid, baseEpochSecond, baseEpochSecond, 0).build();
+        }
+
+        int hourCount = (int) Math.min(MAX_HOURS, (last - first) / Forecast.HOUR_SECONDS + 1);
+        Forecast.Builder builder = Forecast.builder(type, grid, baseEpochSecond, first, hourCount);
+        for (int i = 0; i < epochs.length; i++) {
+            long offset = epochs[i] - first;
+            if (epochs[i] == UNPARSABLE || offset % Forecast.HOUR_SECONDS != 0) {
+                continue;
+            }
+            WeatherApiResponse.Item item = items.get(i);
+            WeatherCategory category = CATEGORY_BY_CODE.get(item.category());
+            if (category != null) {
+                builder.put((int) (offset / Forecast.HOUR_SECONDS), category, item.fcstValue());
+            }
+        }
+        return builder.build();
+    }
+
+    private static Forecast decodeObservation(ForecastType type, GridCoordinate grid, long baseEpochSecond,
+                                              List<WeatherApiResponse.Item> items) {
+        Forecast.Builder builder = Forecast.builder(type, grid, baseEpochSecond, baseEpochSecond, 1);
+        for (WeatherApiResponse.Item item : items) {
+            WeatherCategory category = CATEGORY_BY_CODE.get(item.category());
+            if (category != null) {
+                builder.put(0, category, item.obsrValue());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * "yyyyMMdd" + "HHmm" 형식의 예보 시각을 epoch 초로 변환
+     * DateTimeFormatter를 거치지 않고 숫자를 직접 해석합니다.
+     */
+    static long parseEpochSecond(String date, String time) {
+        if (date == null || time == null || date.length() != 8 || time.length() != 4) {
+            return UNPARSABLE;
+        }
+        int yyyymmdd = parseDigits(date);
+        int hhmm = parseDigits(time);
+        if (yyyymmdd < 0 || hhmm < 0) {
+            return UNPARSABLE;
+        }
+        try {
+            long epochDay = LocalDate.of(yyyymmdd / 10000, yyyymmdd / 100 % 100, yyyymmdd % 100).toEpochDay();
+            int hour = hhmm / 100;
+            int minute = hhmm % 100;
+            if (hour > 23 || minute > 59) {
+                return UNPARSABLE;
+            }
+            return epochDay * 86_400L + hour * 3_600L + minute * 60L - Forecast.KST.getTotalSeconds();
+        } catch (DateTimeException e) {
+            return UNPARSABLE;
+        }
+    }
+
+    private static int parseDigits(String value) {
+        int result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package dev.wony.mcp.tool.weather.forecast;
+
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 연속된 두 발표 예보의 차이
+ *
+ * <p>두 예보의 시간축이 겹치는 구간에서 양쪽 모두 값이 있는 셀만 원문 기준으로 비교합니다.
+ * 발표마다 제공 요소가 다를 수 있으므로(예: TMN/TMX) 한쪽에만 있는 값은 변경으로 보지 않으며,
+ * 직전 예보의 예보 기간 뒤에 새로 추가된 시간은 개수만 집계합니다.
+ */
+public final class ForecastDiff {
+
+    private final Forecast previous;
+    private final Forecast current;
+    private final List<Change> changes;
+    private final int comparedHours;
+    private final int addedHours;
+
+    private ForecastDiff(Forecast previous, Forecast current, List<Change> changes,
+                         int comparedHours, int addedHours) {
+        this.previous = previous;
+        this.current = current;
+        this.changes = Collections.unmodifiableList(changes);
+        this.comparedHours = comparedHours;
+        this.addedHours = addedHours;
+    }
+
+    /**
+     * 직전 예보 대비 현재 예보의 변경 사항 계산
+     *
+     * @param previous 직전 발표 예보
+     * @param current  현재 발표 예보
+     * @return 예보 시각, 요소 순으로 정렬된 변경 사항
+     */
+    public static ForecastDiff between(Forecast previous, Forecast current) {
+        if (previous.type() != current.type() || !previous.grid().equals(current.grid())) {
+            throw new IllegalArgumentException(String.format("같은 종류, 같은 격자의 예보만 비교할 수 있습니다: %s %s / %s %s",
+                    previous.type(), previous.grid(), current.type(), current.grid()));
+        }
+
+        List<Change> changes = new ArrayList<>();
+        long lastPreviousEpochSecond = previous.epochSecondAt(previous.hourCount() - 1);
+        int comparedHours = 0;
+        int addedHours = 0;
+
+        for (int hour = 0; hour < current.hourCount(); hour++) {
+            if (!current.hasAny(hour)) {
+                continue;
+            }
+            long epochSecond = current.epochSecondAt(hour);
+            int previousHour = previous.hourIndexOf(epochSecond);
+            if (previousHour < 0 || !previous.hasAny(previousHour)) {
+                if (epochSecond > lastPreviousEpochSecond) {
+                    addedHours++;
+                }
+                continue;
+            }
+
+            comparedHours++;
+            for (WeatherCategory category : current.categories()) {
+                if (!current.has(hour, category) || !previous.has(previousHour, category)
+                        || current.sameValue(hour, category, previous, previousHour)) {
+                    continue;
+                }
+                changes.add(new Change(epochSecond, category,
+                        previous.rawValue(previousHour, category), current.rawValue(hour, category)));
+            }
+        }
+        return new ForecastDiff(previous, current, changes, comparedHours, addedHours);
+    }
+
+    public Forecast previous() {
+        return previous;
+    }
+
+    public Forecast current() {
+        return current;
+    }
+
+    public List<Change> changes() {
+        return changes;
+    }
+
+    /**
+     * 두 예보에서 함께 비교한 예보 시간 수
+     */
+    public int comparedHours() {
+        return comparedHours;
+    }
+
+    /**
+     * 직전 예보 기간 이후로 새로 추가된 예보 시간 수
+     */
+    public int addedHours() {
+        return addedHours;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * 예보 셀 하나의 변경
+     *
+     * @param epochSecond 예보 시각 (epoch 초)
+     * @param category    예보 요소
+     * @param before      직전 예보의 원문 값
+     * @param after       현재 예보의 원문 값
+     */
+    public record Change(long epochSecond, WeatherCategory category, String before, String after) {
+
+        public LocalDateTime dateTime() {
+            return Forecast.toDateTime(epochSecond);
+        }
+    }
+}
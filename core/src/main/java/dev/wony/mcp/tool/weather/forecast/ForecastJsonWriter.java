@@ -0,0 +1,92 @@
+package dev.wony.mcp.tool.weather.forecast;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * {@link Forecast}를 JSON으로 출력하는 유틸리티 클래스
+ *
+ * <p>중간 객체 없이 Jackson 스트리밍 API로 셀 값을 바로 씁니다.
+ * 숫자 셀은 JSON 숫자로, 문자열 셀("강수없음" 등)은 JSON 문자열로 출력하며 시각은 epoch 초입니다.
+ *
+ * <pre>
+ * {"type":"VILAGE_FCST","nx":60,"ny":127,"baseTime":1760824800,
+ *  "hours":[{"time":1760828400,"TMP":22,"SKY":1,"PCP":"강수없음"}, ...]}
+ * </pre>
+ */
+public final class ForecastJsonWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ForecastJsonWriter() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 예보 전체를 JSON 문자열로 변환
+     */
+    public static String toJson(Forecast forecast) {
+        StringWriter writer = new StringWriter(1024);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            write(generator, forecast);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * 예보 전체를 하나의 JSON 객체로 출력
+     */
+    public static void write(JsonGenerator generator, Forecast forecast) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", forecast.type().name());
+        generator.writeNumberField("nx", forecast.grid().nx());
+        generator.writeNumberField("ny", forecast.grid().ny());
+        generator.writeNumberField("baseTime", forecast.baseEpochSecond());
+        generator.writeArrayFieldStart("hours");
+        for (int hour = 0; hour < forecast.hourCount(); hour++) {
+            if (forecast.hasAny(hour)) {
+                writeHour(generator, forecast, hour);
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * 한 시간의 예보 값을 JSON 객체로 출력
+     */
+    public static void writeHour(JsonGenerator generator, Forecast forecast, int hour) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("time", forecast.epochSecondAt(hour));
+        writeValues(generator, forecast, hour);
+        generator.writeEndObject();
+    }
+
+    /**
+     * 한 시간의 예보 요소들을 현재 JSON 객체의 필드로 출력
+     */
+    public static void writeValues(JsonGenerator generator, Forecast forecast, int hour) throws IOException {
+        for (WeatherCategory category : forecast.categories()) {
+            if (!forecast.has(hour, category)) {
+                continue;
+            }
+            if (forecast.isNumeric(hour, category)) {
+                double value = forecast.value(hour, category);
+                if (value == Math.rint(value)) {
+                    generator.writeNumberField(category.name(), (long) value);
+                } else {
+                    generator.writeNumberField(category.name(), value);
+                }
+            } else {
+                generator.writeStringField(category.name(), forecast.rawValue(hour, category));
+            }
+        }
+    }
+}
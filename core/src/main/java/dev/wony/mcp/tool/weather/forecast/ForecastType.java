@@ -0,0 +1,50 @@
+package dev.wony.mcp.tool.weather.forecast;
+
+/**
+ * 기상청 단기예보 조회서비스의 조회 종류
+ *
+ * <p>각 조회 종류는 API 오퍼레이션 이름, 한 번에 요청할 행 수, 예보버전조회(getFcstVersion)의 파일 구분을 함께 가집니다.
+ */
+public enum ForecastType {
+    ULTRA_SRT_NCST("getUltraSrtNcst", "초단기실황", 10, "ODAM"),
+    ULTRA_SRT_FCST("getUltraSrtFcst", "초단기예보", 60, "VSRT"),
+    VILAGE_FCST("getVilageFcst", "단기예보", 300, "SHRT");
+
+    private final String operation;
+    private final String description;
+    private final int numOfRows;
+    private final String versionFileType;
+
+    ForecastType(String operation, String description, int numOfRows, String versionFileType) {
+        this.operation = operation;
+        this.description = description;
+        this.numOfRows = numOfRows;
+        this.versionFileType = versionFileType;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getNumOfRows() {
+        return numOfRows;
+    }
+
+    /**
+     * 예보버전조회의 파일 구분 (ftype)
+     */
+    public String getVersionFileType() {
+        return versionFileType;
+    }
+
+    /**
+     * 관측값(obsrValue)을 담는 조회인지 확인
+     */
+    public boolean isObservation() {
+        return this == ULTRA_SRT_NCST;
+    }
+}
@@ -0,0 +1,108 @@
+package dev.wony.mcp.tool.weather.util;
+
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기상청 조회 종류별 발표(기준) 시각 계산 유틸리티 클래스
+ * 현재 시각에서 API로 조회 가능한 가장 최근 발표 시각을 구합니다.
+ * 제공 지연을 고려하지 않은 발표 일정({@link #scheduledIssuance})은 예보버전조회로 실제 발표를 확인할 때 사용합니다.
+ */
+public final class BaseTimeCalculator {
+
+    private static final int[] SHORT_TERM_BASE_HOURS = {2, 5, 8, 11, 14, 17, 20, 23};
+
+    private BaseTimeCalculator() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 초단기실황 기준시각: 현재 시각에서 한 시간 전, 정시
+     */
+    public static LocalDateTime ultraSrtNcst(LocalDateTime now) {
+        return now.minusHours(1).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    /**
+     * 초단기예보 기준시각: 가장 최근 발표 시각 (매시 30분 발표, 45분 이후 제공)
+     */
+    public static LocalDateTime ultraSrtFcst(LocalDateTime now) {
+        if (now.getMinute() < 45) {
+            return now.minusHours(1).withMinute(30).withSecond(0).withNano(0);
+        }
+        return now.withMinute(30).withSecond(0).withNano(0);
+    }
+
+    /**
+     * 단기예보 발표 시각 계산
+     * 발표시각: 02:00, 05:00, 08:00, 11:00, 14:00, 17:00, 20:00, 23:00 (API 제공 시간: 각 10분 이후)
+     */
+    public static LocalDateTime vilageFcst(LocalDateTime now) {
+        int hour = now.getHour();
+        int minute = now.getMinute();
+
+        int baseHour = -1;
+
+        for (int baseTime : SHORT_TERM_BASE_HOURS) {
+            if (hour > baseTime || (hour == baseTime && minute >= 10)) {
+                baseHour = baseTime;
+            }
+        }
+
+        if (baseHour < 0) {
+            // 02:10 이전: 전날 23시
+            return now.minusDays(1).withHour(23).withMinute(0).withSecond(0).withNano(0);
+        } else {
+            return now.withHour(baseHour).withMinute(0).withSecond(0).withNano(0);
+        }
+    }
+
+    /**
+     * 조회 종류별 기준시각 (해당 종류의 계산 메서드에 위임)
+     */
+    public static LocalDateTime baseTime(ForecastType type, LocalDateTime now) {
+        return switch (type) {
+            case ULTRA_SRT_NCST -> ultraSrtNcst(now);
+            case ULTRA_SRT_FCST -> ultraSrtFcst(now);
+            case VILAGE_FCST -> vilageFcst(now);
+        };
+    }
+
+    /**
+     * 주요 도시 현재 날씨 기준시각 (초단기실황)
+     * 매시간 정시 발표, 10분 후 제공 - 현재 시각이 40분 이전이면 이전 시간 데이터 조회
+     */
+    public static LocalDateTime cityObservation(LocalDateTime now) {
+        LocalDateTime base = now.getMinute() < 40 ? now.minusHours(1) : now;
+        return base.withMinute(0).withSecond(0).withNano(0);
+    }
+
+    /**
+     * 발표 일정상 가장 최근 발표 시각 (API 제공 지연 미고려)
+     * 초단기실황은 매시 정시, 초단기예보는 매시 30분, 단기예보는 02시부터 3시간 간격
+     */
+    public static LocalDateTime scheduledIssuance(ForecastType type, LocalDateTime now) {
+        LocalDateTime hour = now.withMinute(0).withSecond(0).withNano(0);
+        return switch (type) {
+            case ULTRA_SRT_NCST -> hour;
+            case ULTRA_SRT_FCST -> now.getMinute() >= 30 ? hour.withMinute(30) : hour.minusHours(1).withMinute(30);
+            case VILAGE_FCST -> {
+                int baseHour = -1;
+                for (int baseTime : SHORT_TERM_BASE_HOURS) {
+                    if (now.getHour() >= baseTime) {
+                        baseHour = baseTime;
+                    }
+                }
+                yield baseHour < 0 ? hour.minusDays(1).withHour(23) : hour.withHour(baseHour);
+            }
+        };
+    }
+
+    /**
+     * 직전 발표 시각 (단기예보 3시간, 그 외 1시간 전)
+     */
+    public static LocalDateTime previousIssuance(ForecastType type, LocalDateTime baseDateTime) {
+        return baseDateTime.minusHours(type == ForecastType.VILAGE_FCST ? 3 : 1);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.wony.mcp.tool.weather.util;
+
+import dev.wony.mcp.tool.weather.dto.Coordinate;
+
+/**
+ * 조회 전 위치 검사 유틸리티 클래스
+ *
+ * <p>기상청 API는 한국 주변 격자만 예보를 제공하므로, 해외 좌표나 잘못된 좌표는 API를 호출하지 않고 바로 거부합니다.
+ * 같은 잘못된 입력으로 재시도가 반복되어도 네트워크 비용이 들지 않습니다.
+ */
+public final class LocationPreflight {
+
+    private static final String INVALID_FORMAT = "잘못된 좌표입니다: %s";
+    private static final String OUT_OF_DOMAIN_FORMAT =
+            "기상청 예보 영역 밖의 좌표입니다 (한국 영역만 지원): %s";
+
+    private LocationPreflight() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 위경도 사전 검사
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 거부 사유 메시지, 조회할 수 있는 좌표이면 null
+     */
+    public static String rejectionMessage(double latitude, double longitude) {
+        Coordinate coordinate;
+        try {
+            coordinate = new Coordinate(latitude, longitude);
+        } catch (IllegalArgumentException e) {
+            return String.format(INVALID_FORMAT, e.getMessage());
+        }
+        if (!coordinate.isInKorea() || !coordinate.toGridCoordinate().isInForecastDomain()) {
+            return String.format(OUT_OF_DOMAIN_FORMAT, coordinate.toFormattedString());
+        }
+        return null;
+    }
+}
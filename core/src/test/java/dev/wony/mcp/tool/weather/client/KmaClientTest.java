@@ -0,0 +1,132 @@
+package dev.wony.mcp.tool.weather.client;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KmaClient 테스트")
+class KmaClientTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+
+    private static final String FORECAST_BODY = """
+            {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},
+             "body":{"dataType":"JSON","items":{"item":[
+              {"baseDate":"20251019","baseTime":"0500","category":"TMP","fcstDate":"20251019","fcstTime":"0600","fcstValue":"12","nx":60,"ny":127},
+              {"baseDate":"20251019","baseTime":"0500","category":"PCP","fcstDate":"20251019","fcstTime":"0600","fcstValue":"강수없음","nx":60,"ny":127,"extra":{"a":[1,2]}},
+              {"baseDate":"20251019","baseTime":"0500","category":"TMP","fcstDate":"20251019","fcstTime":"0700","fcstValue":"13","nx":60,"ny":127}
+             ]},"pageNo":1,"numOfRows":1000,"totalCount":3}}}
+            """;
+
+    private HttpServer server;
+    private KmaClient client;
+    private final AtomicReference<String> requestedUri = new AtomicReference<>();
+    private volatile int status = 200;
+    private volatile String body = FORECAST_BODY;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requestedUri.set(exchange.getRequestURI().getRawPath() + "?" + exchange.getRequestURI().getRawQuery());
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        client = new KmaClient("http://127.0.0.1:" + server.getAddress().getPort() + "/",
+                "key+/=", Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("요청 파라미터를 인코딩해 조회하고 응답을 예보 모델로 변환한다")
+    void fetchesForecast() {
+        // when
+        ForecastResult result = client.fetch(ForecastType.VILAGE_FCST, SEOUL, BASE);
+
+        // then
+        assertThat(requestedUri.get()).startsWith("/getVilageFcst?serviceKey=key%2B%2F%3D&numOfRows=")
+                .contains("&base_date=20251019&base_time=0500&nx=60&ny=127");
+        assertThat(result.isSuccess()).isTrue();
+        Forecast forecast = result.forecast();
+        assertThat(forecast.grid()).isEqualTo(SEOUL);
+        assertThat(forecast.hourCount()).isEqualTo(2);
+        assertThat(forecast.value(1, WeatherCategory.TMP)).isEqualTo(13.0);
+        assertThat(forecast.rawValue(0, WeatherCategory.PCP)).isEqualTo("강수없음");
+    }
+
+    @Test
+    @DisplayName("오류 코드와 빈 항목 응답은 실패 결과로 반환한다")
+    void returnsFailureForErrorCodes() {
+        // given
+        body = """
+                {"response":{"header":{"resultCode":"03","resultMsg":"NO_DATA"},"body":{"items":""}}}
+                """;
+
+        // when
+        ForecastResult result = client.fetch(ForecastType.VILAGE_FCST, SEOUL, BASE);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.errorMessage()).contains("03").contains("NO_DATA");
+    }
+
+    @Test
+    @DisplayName("HTTP 오류와 JSON이 아닌 응답은 예외가 발생한다")
+    void throwsForTransportErrors() {
+        // given
+        body = "<OpenAPI_ServiceResponse><cmmMsgHeader><returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg></cmmMsgHeader></OpenAPI_ServiceResponse>";
+
+        // when & then
+        assertThatThrownBy(() -> client.fetch(ForecastType.VILAGE_FCST, SEOUL, BASE))
+                .isInstanceOf(UncheckedIOException.class);
+
+        status = 503;
+        assertThatThrownBy(() -> client.fetch(ForecastType.VILAGE_FCST, SEOUL, BASE))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("503");
+    }
+
+    @Test
+    @DisplayName("예보버전조회로 발표 여부를 확인한다")
+    void checksPublication() {
+        // given
+        body = """
+                {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},
+                 "body":{"items":{"item":[{"filetype":"SHRT","version":"20251019051000"}]}}}}
+                """;
+
+        // when
+        boolean published = client.isPublished(ForecastType.VILAGE_FCST, BASE);
+
+        // then
+        assertThat(published).isTrue();
+        assertThat(requestedUri.get()).startsWith("/getFcstVersion?").contains("basedatetime=202510190500");
+    }
+}
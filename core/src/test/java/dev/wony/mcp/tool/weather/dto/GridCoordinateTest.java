@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("GridCoordinate 테스트")
 class GridCoordinateTest {
@@ -67,4 +68,36 @@ class GridCoordinateTest {
         assertThat(grid.nx()).isEqualTo(67);
         assertThat(grid.ny()).isEqualTo(100);
     }
+
+    @Test
+    @DisplayName("nx:ny 형식 문자열을 격자 좌표로 변환한다")
+    void parse() {
+        // when
+        GridCoordinate grid = GridCoordinate.parse(" 60:127 ");
+
+        // then
+        assertThat(grid).isEqualTo(new GridCoordinate(60, 127));
+        assertThat(grid.toKey()).isEqualTo("60:127");
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않으면 예외가 발생한다")
+    void parse_invalid() {
+        assertThatThrownBy(() -> GridCoordinate.parse("60,127"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nx:ny");
+        assertThatThrownBy(() -> GridCoordinate.parse("a:b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("기상청 예보 격자 범위 안의 좌표인지 확인한다")
+    void isInForecastDomain() {
+        assertThat(new GridCoordinate(60, 127).isInForecastDomain()).isTrue();
+        assertThat(new GridCoordinate(1, 1).isInForecastDomain()).isTrue();
+        assertThat(new GridCoordinate(149, 253).isInForecastDomain()).isTrue();
+        assertThat(new GridCoordinate(0, 127).isInForecastDomain()).isFalse();
+        assertThat(new GridCoordinate(150, 127).isInForecastDomain()).isFalse();
+        assertThat(new GridCoordinate(60, 254).isInForecastDomain()).isFalse();
+    }
 }
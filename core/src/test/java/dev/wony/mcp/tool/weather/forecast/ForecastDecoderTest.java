@@ -0,0 +1,116 @@
+package dev.wony.mcp.tool.weather.forecast;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ForecastDecoder 테스트")
+class ForecastDecoderTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+
+    private static WeatherApiResponse.Item forecastItem(String category, String date, String time, String value) {
+        return new WeatherApiResponse.Item("20251019", "0500", category, date, time, value, 60, 127, null, null, null);
+    }
+
+    private static WeatherApiResponse.Item observationItem(String category, String value) {
+        return new WeatherApiResponse.Item("20251019", "1000", category, null, null, null, 60, 127, value, null, null);
+    }
+
+    @Test
+    @DisplayName("예보 항목을 시간별 시계열로 변환한다")
+    void decodeForecast() {
+        // given
+        List<WeatherApiResponse.Item> items = List.of(
+                forecastItem("TMP", "20251019", "0600", "12"),
+                forecastItem("PCP", "20251019", "0600", "강수없음"),
+                forecastItem("TMP", "20251019", "0800", "15")
+        );
+
+        // when
+        Forecast forecast = ForecastDecoder.decode(ForecastType.VILAGE_FCST, SEOUL,
+                LocalDateTime.of(2025, 10, 19, 5, 0), items);
+
+        // then
+        assertThat(forecast.hourCount()).isEqualTo(3);
+        assertThat(forecast.dateTimeAt(0)).isEqualTo(LocalDateTime.of(2025, 10, 19, 6, 0));
+        assertThat(forecast.rawValue(0, WeatherCategory.PCP)).isEqualTo("강수없음");
+        assertThat(forecast.hasAny(1)).isFalse();
+        assertThat(forecast.value(2, WeatherCategory.TMP)).isEqualTo(15.0);
+    }
+
+    @Test
+    @DisplayName("실황 항목은 발표시각 한 시간으로 변환한다")
+    void decodeObservation() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 10, 19, 10, 0);
+        List<WeatherApiResponse.Item> items = List.of(
+                observationItem("T1H", "15.3"),
+                observationItem("REH", "63")
+        );
+
+        // when
+        Forecast forecast = ForecastDecoder.decode(ForecastType.ULTRA_SRT_NCST, SEOUL, base, items);
+
+        // then
+        assertThat(forecast.hourCount()).isEqualTo(1);
+        assertThat(forecast.dateTimeAt(0)).isEqualTo(base);
+        assertThat(forecast.value(0, WeatherCategory.T1H)).isEqualTo(15.3);
+        assertThat(forecast.categories()).containsExactly(WeatherCategory.T1H, WeatherCategory.REH);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 요소와 잘못된 예보 시각은 무시한다")
+    void ignoreInvalidItems() {
+        // given
+        List<WeatherApiResponse.Item> items = List.of(
+                forecastItem("TMP", "20251019", "0600", "12"),
+                forecastItem("XYZ", "20251019", "0600", "1"),
+                forecastItem("TMP", "2025101", "0700", "13"),
+                forecastItem("TMP", "20251019", "0630", "14")
+        );
+
+        // when
+        Forecast forecast = ForecastDecoder.decode(ForecastType.VILAGE_FCST, SEOUL,
+                LocalDateTime.of(2025, 10, 19, 5, 0), items);
+
+        // then
+        assertThat(forecast.categories()).containsExactly(WeatherCategory.TMP);
+        assertThat(forecast.hourCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실황의 알 수 없는 요소는 원시 코드로 남기지 않고 버린다")
+    void ignoreUnknownObservationCategory() {
+        // given
+        List<WeatherApiResponse.Item> items = List.of(
+                observationItem("T1H", "15.3"),
+                observationItem("XYZ", "7")
+        );
+
+        // when
+        Forecast forecast = ForecastDecoder.decode(ForecastType.ULTRA_SRT_NCST, SEOUL,
+                LocalDateTime.of(2025, 10, 19, 10, 0), items);
+
+        // then
+        assertThat(forecast.categories()).containsExactly(WeatherCategory.T1H);
+        assertThat(forecast.value(0, WeatherCategory.T1H)).isEqualTo(15.3);
+    }
+
+    @Test
+    @DisplayName("예보 시각을 KST 기준 epoch 초로 변환한다")
+    void parseEpochSecond() {
+        // when
+        long epoch = ForecastDecoder.parseEpochSecond("20251019", "0600");
+
+        // then
+        assertThat(epoch).isEqualTo(Forecast.toEpochSecond(LocalDateTime.of(2025, 10, 19, 6, 0)));
+    }
+}
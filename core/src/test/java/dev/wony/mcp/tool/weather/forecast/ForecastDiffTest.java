@@ -0,0 +1,101 @@
+package dev.wony.mcp.tool.weather.forecast;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ForecastDiff 테스트")
+class ForecastDiffTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final LocalDateTime PREVIOUS_BASE = LocalDateTime.of(2025, 10, 19, 11, 0);
+    private static final LocalDateTime CURRENT_BASE = LocalDateTime.of(2025, 10, 19, 14, 0);
+
+    private static Forecast.Builder builder(GridCoordinate grid, LocalDateTime base, int hourCount) {
+        long baseEpochSecond = Forecast.toEpochSecond(base);
+        return Forecast.builder(ForecastType.VILAGE_FCST, grid, baseEpochSecond,
+                baseEpochSecond + Forecast.HOUR_SECONDS, hourCount);
+    }
+
+    @Test
+    @DisplayName("겹치는 예보 시각에서 값이 바뀐 셀만 변경으로 반환한다")
+    void changedCellsOnly() {
+        // given - 직전 12~17시, 현재 15~20시
+        Forecast previous = builder(SEOUL, PREVIOUS_BASE, 6)
+                .put(3, WeatherCategory.TMP, "20").put(3, WeatherCategory.SKY, "1")
+                .put(4, WeatherCategory.TMP, "19").put(4, WeatherCategory.PCP, "강수없음")
+                .build();
+        Forecast current = builder(SEOUL, CURRENT_BASE, 6)
+                .put(0, WeatherCategory.TMP, "20").put(0, WeatherCategory.SKY, "4")
+                .put(1, WeatherCategory.TMP, "18").put(1, WeatherCategory.PCP, "강수없음")
+                .build();
+
+        // when
+        ForecastDiff diff = ForecastDiff.between(previous, current);
+
+        // then
+        assertThat(diff.comparedHours()).isEqualTo(2);
+        assertThat(diff.changes()).containsExactly(
+                new ForecastDiff.Change(Forecast.toEpochSecond(CURRENT_BASE.plusHours(1)), WeatherCategory.SKY, "1", "4"),
+                new ForecastDiff.Change(Forecast.toEpochSecond(CURRENT_BASE.plusHours(2)), WeatherCategory.TMP, "19", "18"));
+    }
+
+    @Test
+    @DisplayName("한쪽 예보에만 있는 요소는 변경으로 보지 않는다")
+    void ignoresOneSidedCategories() {
+        // given
+        Forecast previous = builder(SEOUL, PREVIOUS_BASE, 6)
+                .put(3, WeatherCategory.TMP, "20").put(3, WeatherCategory.TMX, "23")
+                .build();
+        Forecast current = builder(SEOUL, CURRENT_BASE, 6)
+                .put(0, WeatherCategory.TMP, "20").put(0, WeatherCategory.POP, "30")
+                .build();
+
+        // when
+        ForecastDiff diff = ForecastDiff.between(previous, current);
+
+        // then
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.comparedHours()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("직전 예보 기간 이후의 시간은 새 예보 시간으로 집계한다")
+    void countsAddedHours() {
+        // given - 직전 12~14시, 현재 15~17시
+        Forecast previous = builder(SEOUL, PREVIOUS_BASE, 3)
+                .put(2, WeatherCategory.TMP, "20")
+                .build();
+        Forecast current = builder(SEOUL, CURRENT_BASE, 3)
+                .put(0, WeatherCategory.TMP, "21")
+                .put(1, WeatherCategory.TMP, "22")
+                .put(2, WeatherCategory.TMP, "23")
+                .build();
+
+        // when
+        ForecastDiff diff = ForecastDiff.between(previous, current);
+
+        // then
+        assertThat(diff.comparedHours()).isZero();
+        assertThat(diff.addedHours()).isEqualTo(3);
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 격자의 예보는 비교할 수 없다")
+    void rejectsDifferentGrid() {
+        // given
+        Forecast previous = builder(SEOUL, PREVIOUS_BASE, 1).build();
+        Forecast current = builder(new GridCoordinate(98, 76), CURRENT_BASE, 1).build();
+
+        // when & then
+        assertThatThrownBy(() -> ForecastDiff.between(previous, current))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
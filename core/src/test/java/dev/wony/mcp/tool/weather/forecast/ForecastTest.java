@@ -0,0 +1,168 @@
+package dev.wony.mcp.tool.weather.forecast;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Forecast 테스트")
+class ForecastTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+
+    private static Forecast.Builder builder(int hourCount) {
+        long base = Forecast.toEpochSecond(BASE);
+        return Forecast.builder(ForecastType.VILAGE_FCST, SEOUL, base, base + Forecast.HOUR_SECONDS, hourCount);
+    }
+
+    @ParameterizedTest
+    @DisplayName("원문 값을 그대로 복원한다")
+    @ValueSource(strings = {"0", "22", "-5", "-1.2", "0.5", "-0.5", "10.0", "강수없음", "1mm 미만", "30.0~50.0mm", "-0", "07", "1.25"})
+    void rawValueRoundTrip(String raw) {
+        // given
+        Forecast forecast = builder(1).put(0, WeatherCategory.PCP, raw).build();
+
+        // when
+        String result = forecast.rawValue(0, WeatherCategory.PCP);
+
+        // then
+        assertThat(result).isEqualTo(raw);
+    }
+
+    @Test
+    @DisplayName("숫자 값은 double로, 문자열 값은 NaN으로 조회된다")
+    void numericValue() {
+        // given
+        Forecast forecast = builder(1)
+                .put(0, WeatherCategory.UUU, "-1.2")
+                .put(0, WeatherCategory.PCP, "강수없음")
+                .build();
+
+        // when & then
+        assertThat(forecast.value(0, WeatherCategory.UUU)).isEqualTo(-1.2);
+        assertThat(forecast.isNumeric(0, WeatherCategory.PCP)).isFalse();
+        assertThat(forecast.value(0, WeatherCategory.PCP)).isNaN();
+        assertThat(forecast.value(0, WeatherCategory.TMP)).isNaN();
+    }
+
+    @Test
+    @DisplayName("값이 없는 셀은 MISSING으로 처리된다")
+    void missingValue() {
+        // given
+        Forecast forecast = builder(2).put(0, WeatherCategory.TMP, "20").build();
+
+        // then
+        assertThat(forecast.has(0, WeatherCategory.TMP)).isTrue();
+        assertThat(forecast.has(1, WeatherCategory.TMP)).isFalse();
+        assertThat(forecast.rawValue(1, WeatherCategory.TMP)).isNull();
+        assertThat(forecast.hasAny(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 셀에 값이 여러 번 들어오면 처음 값을 유지한다")
+    void firstValueWins() {
+        // given
+        Forecast forecast = builder(1)
+                .put(0, WeatherCategory.TMP, "20")
+                .put(0, WeatherCategory.TMP, "25")
+                .build();
+
+        // then
+        assertThat(forecast.rawValue(0, WeatherCategory.TMP)).isEqualTo("20");
+    }
+
+    @Test
+    @DisplayName("예보 요소는 처음 나타난 순서를 유지한다")
+    void categoryOrder() {
+        // given
+        Forecast forecast = builder(2)
+                .put(0, WeatherCategory.TMP, "20")
+                .put(0, WeatherCategory.SKY, "1")
+                .put(1, WeatherCategory.POP, "30")
+                .put(1, WeatherCategory.TMP, "21")
+                .build();
+
+        // then
+        assertThat(forecast.categories())
+                .containsExactly(WeatherCategory.TMP, WeatherCategory.SKY, WeatherCategory.POP);
+    }
+
+    @Test
+    @DisplayName("시간축은 epoch 초 기준 1시간 간격이다")
+    void timeAxis() {
+        // given
+        Forecast forecast = builder(3).build();
+        long first = Forecast.toEpochSecond(BASE.plusHours(1));
+
+        // then
+        assertThat(forecast.epochSecondAt(0)).isEqualTo(first);
+        assertThat(forecast.dateTimeAt(2)).isEqualTo(BASE.plusHours(3));
+        assertThat(forecast.hourIndexOf(first + 2 * Forecast.HOUR_SECONDS)).isEqualTo(2);
+        assertThat(forecast.hourIndexOf(first + 3 * Forecast.HOUR_SECONDS)).isEqualTo(-1);
+        assertThat(forecast.hourIndexOf(first + 60)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("구간 집계는 숫자 값만 사용한다")
+    void aggregates() {
+        // given
+        Forecast forecast = builder(4)
+                .put(0, WeatherCategory.TMP, "3")
+                .put(1, WeatherCategory.TMP, "-2.5")
+                .put(2, WeatherCategory.TMP, "7")
+                .put(3, WeatherCategory.PCP, "강수없음")
+                .build();
+
+        // then
+        assertThat(forecast.min(WeatherCategory.TMP, 0, 4)).isEqualTo(-2.5);
+        assertThat(forecast.max(WeatherCategory.TMP, 0, 2)).isEqualTo(3.0);
+        assertThat(forecast.sum(WeatherCategory.TMP, 0, 4)).isEqualTo(7.5);
+        assertThat(forecast.count(WeatherCategory.TMP, 0, 4)).isEqualTo(3);
+        assertThat(forecast.max(WeatherCategory.PCP, 0, 4)).isNaN();
+    }
+
+    @Test
+    @DisplayName("두 예보의 같은 셀 값을 원문 기준으로 비교한다")
+    void sameValue() {
+        // given
+        Forecast first = builder(1).put(0, WeatherCategory.PCP, "강수없음").put(0, WeatherCategory.TMP, "5").build();
+        Forecast second = builder(1).put(0, WeatherCategory.PCP, "강수없음").put(0, WeatherCategory.TMP, "5.0").build();
+
+        // then
+        assertThat(first.sameValue(0, WeatherCategory.PCP, second, 0)).isTrue();
+        assertThat(first.sameValue(0, WeatherCategory.TMP, second, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("3일치 단기예보는 수 KB 안에 표현된다")
+    void compactSize() {
+        // given
+        Forecast.Builder builder = builder(72);
+        for (int hour = 0; hour < 72; hour++) {
+            for (WeatherCategory category : WeatherCategory.values()) {
+                builder.put(hour, category, String.valueOf(hour));
+            }
+        }
+
+        // when
+        Forecast forecast = builder.build();
+
+        // then
+        assertThat(forecast.estimatedSizeBytes()).isLessThan(8 * 1024);
+    }
+
+    @Test
+    @DisplayName("예보 시간 수가 음수이면 예외가 발생한다")
+    void negativeHourCount() {
+        assertThatThrownBy(() -> builder(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
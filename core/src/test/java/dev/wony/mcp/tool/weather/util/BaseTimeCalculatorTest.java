@@ -0,0 +1,86 @@
+package dev.wony.mcp.tool.weather.util;
+
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BaseTimeCalculator 테스트")
+class BaseTimeCalculatorTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 10, 19, 0, 0);
+
+    @Test
+    @DisplayName("초단기실황 기준시각은 한 시간 전 정시이다")
+    void ultraSrtNcst() {
+        // when
+        LocalDateTime result = BaseTimeCalculator.ultraSrtNcst(DAY.withHour(14).withMinute(25));
+
+        // then
+        assertThat(result).isEqualTo(DAY.withHour(13));
+    }
+
+    @ParameterizedTest
+    @DisplayName("초단기예보 기준시각은 45분 이후 해당 시각 30분, 그 전에는 이전 시각 30분이다")
+    @CsvSource({"14, 44, 13", "14, 45, 14", "0, 10, -1"})
+    void ultraSrtFcst(int hour, int minute, int expectedHour) {
+        // when
+        LocalDateTime result = BaseTimeCalculator.ultraSrtFcst(DAY.withHour(hour).withMinute(minute));
+
+        // then
+        assertThat(result).isEqualTo(DAY.plusHours(expectedHour).withMinute(30));
+    }
+
+    @ParameterizedTest
+    @DisplayName("단기예보 기준시각은 10분 이후 제공되는 가장 최근 발표시각이다")
+    @CsvSource({"2, 9, -1", "2, 10, 2", "13, 0, 11", "23, 59, 23", "1, 30, -1"})
+    void vilageFcst(int hour, int minute, int expectedHour) {
+        // when
+        LocalDateTime result = BaseTimeCalculator.vilageFcst(DAY.withHour(hour).withMinute(minute));
+
+        // then
+        assertThat(result).isEqualTo(DAY.plusHours(expectedHour));
+    }
+
+    @ParameterizedTest
+    @DisplayName("도시 현재 날씨 기준시각은 40분 이전이면 이전 정시이다")
+    @CsvSource({"14, 39, 13", "14, 40, 14"})
+    void cityObservation(int hour, int minute, int expectedHour) {
+        // when
+        LocalDateTime result = BaseTimeCalculator.cityObservation(DAY.withHour(hour).withMinute(minute));
+
+        // then
+        assertThat(result).isEqualTo(DAY.withHour(expectedHour));
+    }
+
+    @ParameterizedTest
+    @DisplayName("발표 일정상 발표시각은 제공 지연 없이 가장 최근 발표시각이다")
+    @CsvSource({
+            "ULTRA_SRT_NCST, 14, 5, 840",
+            "ULTRA_SRT_FCST, 14, 29, 810",
+            "ULTRA_SRT_FCST, 14, 30, 870",
+            "VILAGE_FCST, 2, 0, 120",
+            "VILAGE_FCST, 1, 59, -60"
+    })
+    void scheduledIssuance(ForecastType type, int hour, int minute, int expectedMinutes) {
+        // when
+        LocalDateTime result = BaseTimeCalculator.scheduledIssuance(type, DAY.withHour(hour).withMinute(minute));
+
+        // then
+        assertThat(result).isEqualTo(DAY.plusMinutes(expectedMinutes));
+    }
+
+    @Test
+    @DisplayName("직전 발표시각은 단기예보 3시간, 그 외 1시간 전이다")
+    void previousIssuance() {
+        // when & then
+        assertThat(BaseTimeCalculator.previousIssuance(ForecastType.VILAGE_FCST, DAY.withHour(2))).isEqualTo(DAY.minusHours(1));
+        assertThat(BaseTimeCalculator.previousIssuance(ForecastType.ULTRA_SRT_FCST, DAY.withHour(1).withMinute(30)))
+                .isEqualTo(DAY.withMinute(30));
+    }
+}
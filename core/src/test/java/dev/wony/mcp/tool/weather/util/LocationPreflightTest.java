@@ -0,0 +1,48 @@
+package dev.wony.mcp.tool.weather.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocationPreflight 테스트")
+class LocationPreflightTest {
+
+    @Test
+    @DisplayName("한국 영역 안의 좌표는 통과한다")
+    void acceptsKoreanLocations() {
+        assertThat(LocationPreflight.rejectionMessage(37.5665, 126.9780)).isNull(); // 서울
+        assertThat(LocationPreflight.rejectionMessage(33.4996, 126.5312)).isNull(); // 제주
+        assertThat(LocationPreflight.rejectionMessage(37.2429, 131.8668)).isNull(); // 독도
+    }
+
+    @Test
+    @DisplayName("한국 영역 밖의 좌표는 거부한다")
+    void rejectsOverseasLocations() {
+        // when
+        String tokyo = LocationPreflight.rejectionMessage(35.6762, 139.6503);
+        String newYork = LocationPreflight.rejectionMessage(40.7128, -74.0060);
+
+        // then
+        assertThat(tokyo).contains("기상청 예보 영역 밖의 좌표입니다", "위도: 35.6762");
+        assertThat(newYork).contains("기상청 예보 영역 밖의 좌표입니다");
+    }
+
+    @Test
+    @DisplayName("한국 영역 경계 안이라도 예보 격자 범위 밖이면 거부한다")
+    void rejectsOutsideForecastGrid() {
+        // when - 남동쪽 모서리는 격자 nx 149를 넘음
+        String result = LocationPreflight.rejectionMessage(33.0, 132.0);
+
+        // then
+        assertThat(result).contains("기상청 예보 영역 밖의 좌표입니다");
+    }
+
+    @Test
+    @DisplayName("잘못된 위경도는 거부한다")
+    void rejectsInvalidCoordinates() {
+        assertThat(LocationPreflight.rejectionMessage(91.0, 127.0)).contains("잘못된 좌표입니다", "위도");
+        assertThat(LocationPreflight.rejectionMessage(37.5, 181.0)).contains("잘못된 좌표입니다", "경도");
+        assertThat(LocationPreflight.rejectionMessage(Double.NaN, 127.0)).contains("잘못된 좌표입니다");
+    }
+}
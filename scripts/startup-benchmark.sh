@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+#
+# STDIO 시작 시간 벤치마크: 프로세스 실행부터 첫 도구 호출 응답까지의 시간(ms)
+#
+# 사용법:
+#   ./gradlew bootJar cdsArchive            # 일반 JAR + AOT/CDS 준비
+#   ./gradlew -Pnative nativeCompile        # (선택) 네이티브 이미지
+#   scripts/startup-benchmark.sh [반복 횟수]
+#
+# 각 실행 모드마다 initialize -> notifications/initialized -> tools/call(getSupportedCities)를
+# 한 번에 보내고, tools/call 응답(id 2)이 stdout에 나올 때까지의 시간을 측정하여 중앙값을 출력합니다.
+# getSupportedCities는 기상청 API를 호출하지 않으므로 네트워크와 API 키 없이 측정할 수 있습니다.
+# jar+warmup은 JIT 예열(weather.warmup.enabled)을 켠 실행으로, 예열이 응답 준비를 늦추지 않는지 확인합니다.
+
+set -euo pipefail
+
+RUNS="${1:-10}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$ROOT/build/libs/mcp-0.0.1-SNAPSHOT.jar"
+CDS_DIR="$ROOT/build/cds"
+NATIVE="$ROOT/build/native/nativeCompile/weather-mcp"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+REQUESTS=$(cat <<'JSON'
+{"jsonrpc":"2.0","id":1,"method":"initialize","params":{"protocolVersion":"2025-06-18","capabilities":{},"clientInfo":{"name":"startup-benchmark","version":"1.0"}}}
+{"jsonrpc":"2.0","method":"notifications/initialized"}
+{"jsonrpc":"2.0","id":2,"method":"tools/call","params":{"name":"getSupportedCities","arguments":{}}}
+JSON
+)
+
+# 명령을 한 번 실행하여 첫 도구 응답까지의 시간(ms) 출력
+measure() {
+    local start end line
+    start=$(date +%s%N)
+    coproc SERVER { exec "$@" 2>/dev/null; }
+    printf '%s\n' "$REQUESTS" >&"${SERVER[1]}"
+    while IFS= read -r line <&"${SERVER[0]}"; do
+        if [[ "$line" == *'"id":2'* ]]; then
+            break
+        fi
+    done
+    end=$(date +%s%N)
+    kill "$SERVER_PID" 2>/dev/null || true
+    wait "$SERVER_PID" 2>/dev/null || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+# 모드별로 반복 측정 후 중앙값/최소/최대 출력
+bench() {
+    local name="$1"
+    shift
+    local samples=()
+    measure "$@" >/dev/null # 파일 시스템 캐시 예열
+    for _ in $(seq "$RUNS"); do
+        samples+=("$(measure "$@")")
+    done
+    local sorted
+    sorted=$(printf '%s\n' "${samples[@]}" | sort -n)
+    printf '%-12s median=%6sms  min=%6sms  max=%6sms  (n=%s)\n' "$name" \
+        "$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")" \
+        "$(echo "$sorted" | head -1)" "$(echo "$sorted" | tail -1)" "$RUNS"
+}
+
+ARGS=(--weather.api.service-key=benchmark)
+
+if [[ -f "$JAR" ]]; then
+    bench "jar" "$JAVA" -jar "$JAR" "${ARGS[@]}"
+    bench "jar+warmup" "$JAVA" -jar "$JAR" "${ARGS[@]}" --weather.warmup.enabled=true
+else
+    echo "건너뜀: $JAR 없음 (./gradlew bootJar)" >&2
+fi
+
+if [[ -f "$CDS_DIR/application.jsa" ]]; then
+    bench "aot+cds" "$JAVA" -XX:SharedArchiveFile="$CDS_DIR/application.jsa" -Dspring.aot.enabled=true \
+        -jar "$CDS_DIR/$(basename "$JAR")" "${ARGS[@]}"
+else
+    echo "건너뜀: CDS 아카이브 없음 (./gradlew cdsArchive)" >&2
+fi
+
+if [[ -x "$NATIVE" ]]; then
+    bench "native" "$NATIVE" "${ARGS[@]}"
+else
+    echo "건너뜀: 네이티브 이미지 없음 (./gradlew -Pnative nativeCompile)" >&2
+fi
@@ -0,0 +1,173 @@
+package dev.wony.mcp.tool.weather;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.util.WeatherCodeInterpreter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static dev.wony.mcp.tool.weather.client.KmaRequests.DATE_FORMATTER;
+import static dev.wony.mcp.tool.weather.client.KmaRequests.TIME_FORMATTER;
+
+/**
+ * 응답 포맷팅 벤치마크: 템플릿 기반 {@link WeatherResponseFormatter}와 이전 String.format 구현 비교
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=ResponseFormatterBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatterBenchmark {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+    private static final WeatherCategory[] VILAGE_CATEGORIES = {
+            WeatherCategory.TMP, WeatherCategory.UUU, WeatherCategory.VVV, WeatherCategory.VEC, WeatherCategory.WSD,
+            WeatherCategory.SKY, WeatherCategory.PTY, WeatherCategory.POP, WeatherCategory.WAV, WeatherCategory.PCP,
+            WeatherCategory.REH, WeatherCategory.SNO};
+
+    private Forecast vilage;
+    private Forecast observation;
+
+    @Setup
+    public void setUp() {
+        // 3일치 단기예보 (67시간 x 12개 요소, 약 800행)
+        long baseEpochSecond = Forecast.toEpochSecond(BASE);
+        Forecast.Builder builder = Forecast.builder(ForecastType.VILAGE_FCST, SEOUL, baseEpochSecond,
+                baseEpochSecond + Forecast.HOUR_SECONDS, 67);
+        for (int hour = 0; hour < 67; hour++) {
+            boolean rain = hour % 7 < 2;
+            for (WeatherCategory category : VILAGE_CATEGORIES) {
+                builder.put(hour, category, switch (category) {
+                    case TMP -> String.valueOf(5 + hour % 12);
+                    case SKY -> rain ? "4" : "1";
+                    case PTY -> rain ? "1" : "0";
+                    case POP -> rain ? "70" : "10";
+                    case PCP -> rain ? "1.0mm" : "강수없음";
+                    case SNO -> "적설없음";
+                    case VEC -> String.valueOf(hour * 23 % 360);
+                    case WSD -> String.valueOf(0.5 + hour % 10);
+                    default -> "1.2";
+                });
+            }
+        }
+        vilage = builder.build();
+
+        observation = Forecast.builder(ForecastType.ULTRA_SRT_NCST, SEOUL, baseEpochSecond, baseEpochSecond, 1)
+                .put(0, WeatherCategory.PTY, "0").put(0, WeatherCategory.REH, "85")
+                .put(0, WeatherCategory.RN1, "0").put(0, WeatherCategory.T1H, "12.3")
+                .put(0, WeatherCategory.UUU, "-1.2").put(0, WeatherCategory.VEC, "225")
+                .put(0, WeatherCategory.VVV, "0.8").put(0, WeatherCategory.WSD, "3.1")
+                .build();
+    }
+
+    @Benchmark
+    public String vilageFcstTemplate() {
+        return WeatherResponseFormatter.formatVilageFcstResponse(vilage, 37.5665, 126.978, "20251019", "0500");
+    }
+
+    @Benchmark
+    public String vilageFcstStringFormat() {
+        return StringFormatBaseline.formatVilageFcstResponse(vilage, 37.5665, 126.978, "20251019", "0500");
+    }
+
+    @Benchmark
+    public String ultraSrtNcstTemplate() {
+        return WeatherResponseFormatter.formatUltraSrtNcstResponse(observation, 37.5665, 126.978, "20251019", "1000");
+    }
+
+    @Benchmark
+    public String ultraSrtNcstStringFormat() {
+        return StringFormatBaseline.formatUltraSrtNcstResponse(observation, 37.5665, 126.978, "20251019", "1000");
+    }
+
+    /**
+     * 비교 기준: 템플릿 도입 전 String.format 구현
+     */
+    static final class StringFormatBaseline {
+
+        private StringFormatBaseline() {
+            throw new AssertionError("Utility class should not be instantiated");
+        }
+
+        static String formatUltraSrtNcstResponse(Forecast forecast, double latitude, double longitude,
+                                                 String baseDate, String baseTime) {
+            StringBuilder result = new StringBuilder();
+            result.append(String.format("=== 초단기실황 (위도: %.4f, 경도: %.4f) ===\n", latitude, longitude));
+            result.append(String.format("발표시각: %s %s\n\n", baseDate, baseTime));
+
+            Map<String, String> weatherData = new LinkedHashMap<>();
+            for (WeatherCategory category : forecast.categories()) {
+                String value = forecast.rawValue(0, category);
+                if (value == null) {
+                    continue;
+                }
+
+                if (category == WeatherCategory.PTY) {
+                    weatherData.put("강수형태", WeatherCodeInterpreter.interpretPrecipitationType(value));
+                } else if (category == WeatherCategory.VEC) {
+                    weatherData.put("풍향", WeatherCodeInterpreter.interpretWindDirection(value));
+                } else {
+                    weatherData.put(category.getDescription(), value + category.getUnit());
+                }
+            }
+
+            weatherData.forEach((key, value) -> result.append(String.format("%s: %s\n", key, value)));
+
+            return result.toString();
+        }
+
+        static String formatVilageFcstResponse(Forecast forecast, double latitude, double longitude,
+                                               String baseDate, String baseTime) {
+            StringBuilder result = new StringBuilder();
+            result.append(String.format("=== 단기예보 (위도: %.4f, 경도: %.4f) ===\n", latitude, longitude));
+            result.append(String.format("발표시각: %s %s\n\n", baseDate, baseTime));
+
+            for (int hour = 0; hour < forecast.hourCount(); hour++) {
+                if (!forecast.hasAny(hour)) {
+                    continue;
+                }
+
+                LocalDateTime time = forecast.dateTimeAt(hour);
+                result.append(String.format("[%s %s]\n", time.format(DATE_FORMATTER), time.format(TIME_FORMATTER)));
+                for (WeatherCategory category : forecast.categories()) {
+                    String value = forecast.rawValue(hour, category);
+                    if (value == null) {
+                        continue;
+                    }
+
+                    if (category == WeatherCategory.PTY) {
+                        result.append(String.format("  강수형태: %s\n", WeatherCodeInterpreter.interpretPrecipitationType(value)));
+                    } else if (category == WeatherCategory.SKY) {
+                        result.append(String.format("  하늘상태: %s\n", WeatherCodeInterpreter.interpretSkyCode(value)));
+                    } else if (category == WeatherCategory.VEC) {
+                        result.append(String.format("  풍향: %s\n", WeatherCodeInterpreter.interpretWindDirection(value)));
+                    } else {
+                        result.append(String.format("  %s: %s%s\n", category.getDescription(), value, category.getUnit()));
+                    }
+                }
+                result.append("\n");
+            }
+
+            return result.toString();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.wony.mcp;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AOT 실행 시 지원하지 않는 설정 확인
+ *
+ * <p>AOT 처리는 빌드 시점의 기본 설정(STDIO 전송, 동기 도구)으로 {@code @ConditionalOnProperty}와 프로파일을 평가하여
+ * 빈 구성을 고정합니다. 실행 시 {@code http}/{@code reactive} 프로파일이나 격자 분산 엔드포인트, 예보 내보내기를 켜도
+ * 해당 빈이 등록되지 않아 조용히 동작하지 않으므로, {@code -Dspring.aot.enabled=true}와 함께 쓰면 시작을 중단합니다.
+ */
+class AotSettingsGuard implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        List<String> unsupported = unsupportedSettings(event.getEnvironment());
+        if (!unsupported.isEmpty()) {
+            throw new IllegalStateException("AOT 실행(-Dspring.aot.enabled=true)은 기본 STDIO 설정만 지원합니다. "
+                    + "다음 설정을 끄거나 AOT 없이 실행하세요: " + String.join(", ", unsupported));
+        }
+    }
+
+    /**
+     * AOT 빌드 시점의 기본값과 다르게 빈 구성을 바꾸는 설정 목록
+     */
+    static List<String> unsupportedSettings(Environment environment) {
+        List<String> unsupported = new ArrayList<>();
+        String webApplicationType = environment.getProperty("spring.main.web-application-type", "none");
+        if (!"none".equalsIgnoreCase(webApplicationType)) {
+            unsupported.add("spring.main.web-application-type=" + webApplicationType);
+        }
+        if (!environment.getProperty("spring.ai.mcp.server.stdio", Boolean.class, true)) {
+            unsupported.add("spring.ai.mcp.server.stdio=false");
+        }
+        String serverType = environment.getProperty("spring.ai.mcp.server.type", "SYNC");
+        if (!"SYNC".equalsIgnoreCase(serverType)) {
+            unsupported.add("spring.ai.mcp.server.type=" + serverType);
+        }
+        for (String feature : new String[]{"weather.cluster.enabled", "weather.export.enabled"}) {
+            if (environment.getProperty(feature, Boolean.class, false)) {
+                unsupported.add(feature + "=true");
+            }
+        }
+        return unsupported;
+    }
+}
@@ -1,22 +1,73 @@
 package dev.wony.mcp;
 
 import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.history.ObservationHistoryService;
+import dev.wony.mcp.tool.weather.ranking.RankingService;
+import dev.wony.mcp.tool.weather.resource.WeatherResourcePublisher;
+import dev.wony.mcp.tool.weather.stats.ServerStatsService;
+import dev.wony.mcp.tool.weather.watch.WatchService;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncResourceSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceSpecification;
 import org.springframework.ai.tool.ToolCallbackProvider;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.List;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(WeatherRuntimeHints.class)
 public class McpApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(McpApplication.class, args);
+        SpringApplication application = new SpringApplication(McpApplication.class);
+        application.addListeners(new AotSettingsGuard());
+        application.run(args);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "SYNC", matchIfMissing = true)
+    public ToolCallbackProvider weatherTools(WeatherService weatherService,
+                                             ObservationHistoryService observationHistoryService,
+                                             ServerStatsService serverStatsService,
+                                             WatchService watchService,
+                                             RankingService rankingService) {
+        return  MethodToolCallbackProvider.builder()
+                .toolObjects(weatherService, observationHistoryService, serverStatsService, watchService,
+                        rankingService)
+                .build();
+    }
+
+    /**
+     * 비동기 모드에서는 기상청 API를 호출하는 도구를 ReactiveWeatherService(@McpTool)가 제공하므로
+     * 네트워크 호출이 없는 도구만 등록합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+    public ToolCallbackProvider localWeatherTools(ObservationHistoryService observationHistoryService,
+                                                  ServerStatsService serverStatsService,
+                                                  WatchService watchService,
+                                                  RankingService rankingService) {
+        return MethodToolCallbackProvider.builder()
+                .toolObjects(observationHistoryService, serverStatsService, watchService, rankingService)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "SYNC", matchIfMissing = true)
+    public List<SyncResourceSpecification> weatherResources(WeatherResourcePublisher weatherResourcePublisher) {
+        return weatherResourcePublisher.cityResources();
     }
 
     @Bean
-    public ToolCallbackProvider weatherTools(WeatherService weatherService) {
-        return  MethodToolCallbackProvider.builder().toolObjects(weatherService).build();
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+    public List<AsyncResourceSpecification> asyncWeatherResources(WeatherResourcePublisher weatherResourcePublisher) {
+        return weatherResourcePublisher.asyncCityResources();
     }
 
 }
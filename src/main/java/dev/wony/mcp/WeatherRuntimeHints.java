@@ -0,0 +1,35 @@
+package dev.wony.mcp;
+
+import dev.wony.mcp.tool.weather.ReactiveWeatherService;
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.history.ObservationHistoryService;
+import dev.wony.mcp.tool.weather.ranking.RankingService;
+import dev.wony.mcp.tool.weather.stats.ServerStatsService;
+import dev.wony.mcp.tool.weather.watch.WatchService;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * AOT 처리/네이티브 이미지용 리플렉션 힌트
+ *
+ * <p>기상청 응답 레코드({@link WeatherApiResponse}와 중첩 레코드)는 Jackson 바인딩용으로,
+ * 도구 클래스는 Spring AI가 도구 메서드를 리플렉션으로 찾아 호출하므로 public 메서드 호출용으로 등록합니다.
+ */
+class WeatherRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), WeatherApiResponse.class);
+
+        for (Class<?> toolClass : new Class<?>[]{WeatherService.class, ReactiveWeatherService.class,
+                ObservationHistoryService.class, ServerStatsService.class, WatchService.class,
+                RankingService.class}) {
+            hints.reflection().registerType(toolClass, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
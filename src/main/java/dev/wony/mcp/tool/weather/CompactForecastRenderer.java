@@ -0,0 +1,263 @@
+package dev.wony.mcp.tool.weather;
+
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.util.WeatherCodeInterpreter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 출력 크기 한도를 지키는 단기예보 요약 렌더러
+ *
+ * <p>먼저 요소별로 값이 같은 연속 시간을 하나의 구간으로 묶어 출력합니다 (예: {@code 19일 06~09시 맑음}).
+ * 결과가 한도를 넘으면 날짜별 요약(기온 범위, 하늘상태 변화, 최대 강수확률, 강수, 최대 풍속)으로 바꾸고,
+ * 그래도 넘으면 뒤쪽 날짜부터 생략합니다.
+ */
+public final class CompactForecastRenderer {
+
+    public static final int DEFAULT_MAX_CHARS = 2000;
+    public static final int MIN_MAX_CHARS = 200;
+
+    // 풍향/풍속으로 충분히 표현되므로 요약에서 제외
+    private static final Set<WeatherCategory> SKIPPED = EnumSet.of(WeatherCategory.UUU, WeatherCategory.VVV);
+    private static final int MAX_SKY_CHANGES = 3;
+    private static final String RUNS_LABEL = "표시: 시간대별 (값이 같은 연속 시간은 묶음)\n\n";
+
+    private CompactForecastRenderer() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 단기예보 요약 출력
+     *
+     * @param maxChars 최대 출력 글자 수, null이면 {@link #DEFAULT_MAX_CHARS} ({@link #MIN_MAX_CHARS} 미만은 올림)
+     */
+    public static String render(Forecast forecast, double latitude, double longitude,
+                                String baseDate, String baseTime, Integer maxChars) {
+        return render(forecast, latitude, longitude, baseDate, baseTime, maxChars, RenderedResponseCache.disabled());
+    }
+
+    /**
+     * 단기예보 요약 출력 (구간/일별 요약 본문은 렌더링 캐시 사용)
+     *
+     * @param maxChars 최대 출력 글자 수, null이면 {@link #DEFAULT_MAX_CHARS} ({@link #MIN_MAX_CHARS} 미만은 올림)
+     */
+    public static String render(Forecast forecast, double latitude, double longitude,
+                                String baseDate, String baseTime, Integer maxChars,
+                                RenderedResponseCache renderedResponses) {
+        int budget = maxChars == null ? DEFAULT_MAX_CHARS : Math.max(MIN_MAX_CHARS, maxChars);
+        String header = String.format("=== 단기예보 요약 (위도: %.4f, 경도: %.4f) ===\n발표시각: %s %s\n",
+                latitude, longitude, baseDate, baseTime);
+
+        String runs = renderedResponses.get("compact-runs", forecast, CompactForecastRenderer::renderRuns);
+        if (header.length() + RUNS_LABEL.length() + runs.length() <= budget) {
+            return header + RUNS_LABEL + runs;
+        }
+
+        // 일별 요약은 남은 글자 수에 따라 달라지므로 남은 글자 수를 변형으로 구분
+        String dailyHeader = header + String.format("표시: 일별 요약 (출력 한도 %d자)\n\n", budget);
+        int dailyBudget = budget - dailyHeader.length();
+        String daily = dailyHeader + renderedResponses.get("compact-daily", dailyBudget, forecast,
+                source -> renderDaily(source, dailyBudget));
+        return daily.length() <= budget ? daily : daily.substring(0, budget);
+    }
+
+    /**
+     * 요소별 연속 구간 출력
+     */
+    static String renderRuns(Forecast forecast) {
+        StringBuilder result = new StringBuilder();
+        for (WeatherCategory category : forecast.categories()) {
+            if (SKIPPED.contains(category)) {
+                continue;
+            }
+
+            result.append(category.getDescription()).append(": ");
+            LocalDate lastDate = null;
+            int runStart = -1;
+            String runValue = null;
+            boolean first = true;
+            for (int hour = 0; hour <= forecast.hourCount(); hour++) {
+                String value = hour < forecast.hourCount() ? displayValue(forecast, hour, category) : null;
+                if (value != null && value.equals(runValue)) {
+                    continue;
+                }
+                if (runValue != null) {
+                    if (!first) {
+                        result.append(", ");
+                    }
+                    first = false;
+                    lastDate = appendRange(result, forecast.dateTimeAt(runStart), forecast.dateTimeAt(hour - 1), lastDate);
+                    result.append(' ').append(runValue);
+                }
+                runStart = hour;
+                runValue = value;
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+
+    /**
+     * 날짜별 요약 출력 (한도를 넘는 날짜는 생략)
+     */
+    static String renderDaily(Forecast forecast, int budget) {
+        List<String> lines = new ArrayList<>();
+        int dayStart = 0;
+        while (dayStart < forecast.hourCount()) {
+            LocalDate date = forecast.dateTimeAt(dayStart).toLocalDate();
+            int dayEnd = dayStart;
+            while (dayEnd < forecast.hourCount() && forecast.dateTimeAt(dayEnd).toLocalDate().equals(date)) {
+                dayEnd++;
+            }
+            String line = dailyLine(forecast, date, dayStart, dayEnd);
+            if (line != null) {
+                lines.add(line);
+            }
+            dayStart = dayEnd;
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            String omitted = String.format("... (%d일 생략)\n", lines.size() - i - 1);
+            boolean last = i == lines.size() - 1;
+            if (result.length() + lines.get(i).length() + (last ? 0 : omitted.length()) > budget) {
+                result.append(String.format("... (%d일 생략)\n", lines.size() - i));
+                break;
+            }
+            result.append(lines.get(i));
+        }
+        return result.toString();
+    }
+
+    private static String dailyLine(Forecast forecast, LocalDate date, int from, int to) {
+        List<String> parts = new ArrayList<>();
+
+        double minTemperature = forecast.min(WeatherCategory.TMP, from, to);
+        double maxTemperature = forecast.max(WeatherCategory.TMP, from, to);
+        if (!Double.isNaN(minTemperature)) {
+            parts.add(String.format("기온 %s~%s℃", formatNumber(minTemperature), formatNumber(maxTemperature)));
+        }
+
+        List<String> skies = new ArrayList<>();
+        for (int hour = from; hour < to; hour++) {
+            String sky = forecast.rawValue(hour, WeatherCategory.SKY);
+            if (sky != null) {
+                String description = WeatherCodeInterpreter.interpretSkyCode(sky);
+                if (skies.isEmpty() || !skies.get(skies.size() - 1).equals(description)) {
+                    skies.add(description);
+                }
+            }
+        }
+        if (!skies.isEmpty()) {
+            parts.add("하늘 " + String.join("→", skies.subList(0, Math.min(skies.size(), MAX_SKY_CHANGES)))
+                    + (skies.size() > MAX_SKY_CHANGES ? "→…" : ""));
+        }
+
+        double maxPop = forecast.max(WeatherCategory.POP, from, to);
+        if (!Double.isNaN(maxPop)) {
+            parts.add(String.format("강수확률 최대 %s%%", formatNumber(maxPop)));
+        }
+
+        String precipitation = precipitationSummary(forecast, from, to);
+        if (precipitation != null) {
+            parts.add(precipitation);
+        }
+
+        double maxWind = forecast.max(WeatherCategory.WSD, from, to);
+        if (!Double.isNaN(maxWind)) {
+            parts.add(String.format("최대 풍속 %sm/s", formatNumber(maxWind)));
+        }
+
+        if (parts.isEmpty()) {
+            return null;
+        }
+        return String.format("%02d/%02d: %s\n", date.getMonthValue(), date.getDayOfMonth(), String.join(", ", parts));
+    }
+
+    /**
+     * 강수형태가 있는 시간의 종류와 시간 범위 (강수가 없으면 "강수 없음")
+     */
+    private static String precipitationSummary(Forecast forecast, int from, int to) {
+        if (forecast.count(WeatherCategory.PTY, from, to) == 0) {
+            return null;
+        }
+        List<String> types = new ArrayList<>();
+        int firstHour = -1;
+        int lastHour = -1;
+        for (int hour = from; hour < to; hour++) {
+            double code = forecast.value(hour, WeatherCategory.PTY);
+            if (Double.isNaN(code) || code == 0) {
+                continue;
+            }
+            String type = WeatherCodeInterpreter.interpretPrecipitationType(forecast.rawValue(hour, WeatherCategory.PTY));
+            if (!types.contains(type)) {
+                types.add(type);
+            }
+            firstHour = firstHour < 0 ? hour : firstHour;
+            lastHour = hour;
+        }
+        if (types.isEmpty()) {
+            return "강수 없음";
+        }
+        return String.format("%s(%02d~%02d시)", String.join("/", types),
+                forecast.dateTimeAt(firstHour).getHour(), forecast.dateTimeAt(lastHour).getHour());
+    }
+
+    /**
+     * 요약에 표시할 값 (코드 값은 해석, 숫자는 단위 포함)
+     */
+    private static String displayValue(Forecast forecast, int hour, WeatherCategory category) {
+        String raw = forecast.rawValue(hour, category);
+        if (raw == null) {
+            return null;
+        }
+        return switch (category) {
+            case SKY -> WeatherCodeInterpreter.interpretSkyCode(raw);
+            case PTY -> WeatherCodeInterpreter.interpretPrecipitationType(raw);
+            case VEC -> WeatherCodeInterpreter.interpretWindDirection(raw);
+            default -> forecast.isNumeric(hour, category) ? raw + category.getUnit() : raw;
+        };
+    }
+
+    /**
+     * 시간 구간 출력 (날짜가 바뀔 때만 날짜 표시)
+     *
+     * @return 마지막으로 표시한 날짜
+     */
+    private static LocalDate appendRange(StringBuilder result, LocalDateTime start, LocalDateTime end, LocalDate lastDate) {
+        if (!start.toLocalDate().equals(lastDate)) {
+            result.append(start.getDayOfMonth()).append("일 ");
+        }
+        appendHour(result, start);
+        if (!end.equals(start)) {
+            result.append('~');
+            if (!end.toLocalDate().equals(start.toLocalDate())) {
+                result.append(end.getDayOfMonth()).append("일 ");
+            }
+            appendHour(result, end);
+        }
+        result.append('시');
+        return end.toLocalDate();
+    }
+
+    private static void appendHour(StringBuilder result, LocalDateTime time) {
+        if (time.getHour() < 10) {
+            result.append('0');
+        }
+        result.append(time.getHour());
+    }
+
+    private static String formatNumber(double value) {
+        if (value == Math.rint(value)) {
+            return String.valueOf((long) value);
+        }
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,515 @@
+package dev.wony.mcp.tool.weather;
+
+import dev.wony.mcp.tool.weather.bulkhead.ToolBulkheads;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.NegativeResultCache;
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.client.KmaRequests;
+import dev.wony.mcp.tool.weather.client.KmaUris;
+import dev.wony.mcp.tool.weather.client.RequestHedger;
+import dev.wony.mcp.tool.weather.client.ServiceKeyPool;
+import dev.wony.mcp.tool.weather.cluster.GridShardRouter;
+import dev.wony.mcp.tool.weather.dto.City;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.issuance.IssuanceTracker;
+import dev.wony.mcp.tool.weather.popularity.GridPopularityTracker;
+import dev.wony.mcp.tool.weather.shared.SharedForecastCache;
+import dev.wony.mcp.tool.weather.stats.ServerStats;
+import dev.wony.mcp.tool.weather.util.BaseTimeCalculator;
+import dev.wony.mcp.tool.weather.util.CoordinateConverter;
+import dev.wony.mcp.tool.weather.util.LocationPreflight;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.codec.CodecException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.reactive.function.UnsupportedMediaTypeException;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static dev.wony.mcp.tool.weather.client.KmaRequests.DATE_FORMATTER;
+import static dev.wony.mcp.tool.weather.client.KmaRequests.TIME_FORMATTER;
+
+/**
+ * WebClient 기반 비동기 날씨 서비스
+ *
+ * <p>{@link WeatherService}와 같은 도구 이름과 응답 형식을 제공하지만, 기상청 API 호출이 진행되는 동안 스레드를 점유하지 않습니다.
+ * 응답 JSON은 WebClient 코덱이 논블로킹으로 디코딩하고, 여러 발표를 함께 조회할 때는 요청을 동시에 보냅니다.
+ * 조회한 예보를 캐시에 넣는 단계는 캐시 리스너와 공유 캐시 쓰기가 블로킹일 수 있으므로 boundedElastic 스케줄러에서 실행하여
+ * 이벤트 루프 스레드를 막지 않습니다.
+ *
+ * <p>MCP 서버가 비동기 모드({@code spring.ai.mcp.server.type=ASYNC}, {@code reactive} 프로파일)일 때만 등록되며,
+ * 이때 동기 {@link WeatherService} 도구는 등록되지 않습니다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+public class ReactiveWeatherService {
+
+    private final WebClient webClient;
+    private final ServiceKeyPool serviceKeys;
+    private final ForecastCache forecastCache;
+    private final IssuanceTracker issuanceTracker;
+    private final RequestHedger requestHedger;
+    private final GridPopularityTracker gridPopularity;
+    private final NegativeResultCache negativeResults;
+    private final ToolBulkheads bulkheads;
+    private final ServerStats stats;
+    private final RenderedResponseCache renderedResponses;
+    private final SharedForecastCache sharedForecasts;
+    private final GridShardRouter shards;
+    private final ConcurrentMap<FetchKey, Mono<ForecastResult>> inFlight = new ConcurrentHashMap<>();
+
+    public ReactiveWeatherService(String serviceKey, ForecastCache forecastCache) {
+        this(ServiceKeyPool.of(serviceKey), forecastCache, new IssuanceTracker(), RequestHedger.disabled(),
+                new GridPopularityTracker(), new NegativeResultCache(), ToolBulkheads.unlimited(), new ServerStats(),
+                RenderedResponseCache.disabled(), new SharedForecastCache(),
+                GridShardRouter.standalone(), KmaRequests.BASE_URL);
+    }
+
+    @Autowired
+    public ReactiveWeatherService(ServiceKeyPool serviceKeys, ForecastCache forecastCache,
+                                  IssuanceTracker issuanceTracker, RequestHedger requestHedger,
+                                  GridPopularityTracker gridPopularity, NegativeResultCache negativeResults,
+                                  ToolBulkheads bulkheads, ServerStats stats,
+                                  RenderedResponseCache renderedResponses, SharedForecastCache sharedForecasts,
+                                  GridShardRouter shards,
+                                  @Value("${weather.api.url:" + KmaRequests.BASE_URL + "}") String baseUrl) {
+        this.serviceKeys = serviceKeys;
+        this.forecastCache = forecastCache;
+        this.issuanceTracker = issuanceTracker;
+        this.requestHedger = requestHedger;
+        this.gridPopularity = gridPopularity;
+        this.negativeResults = negativeResults;
+        this.bulkheads = bulkheads;
+        this.stats = stats;
+        this.renderedResponses = renderedResponses;
+        this.sharedForecasts = sharedForecasts;
+        this.shards = shards;
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .build();
+    }
+
+    /**
+     * 초단기실황조회 (비동기)
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 실황 정보
+     */
+    @McpTool(name = "getUltraSrtNcst", description = "Get current weather observation for a specific latitude/longitude in Korea. Returns real-time weather data including temperature, precipitation, wind, and humidity.")
+    public Mono<String> getUltraSrtNcst(
+            @McpToolParam(description = "Latitude (위도)") double latitude,
+            @McpToolParam(description = "Longitude (경도)") double longitude
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return Mono.just(rejected);
+        }
+        return bulkheads.runAsync("getUltraSrtNcst", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.ULTRA_SRT_NCST,
+                    BaseTimeCalculator.ultraSrtNcst(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.ULTRA_SRT_NCST, grid);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            return loadForecast(ForecastType.ULTRA_SRT_NCST, grid, baseDateTime,
+                    "날씨 정보를 조회할 수 없습니다.", "날씨 정보가 없습니다.")
+                    .map(result -> result.isSuccess()
+                            ? WeatherResponseFormatter.formatUltraSrtNcstResponse(result.forecast(), latitude, longitude, baseDate, baseTime,
+                                    renderedResponses)
+                            : result.errorMessage())
+                    .onErrorResume(ReactiveWeatherService::isUpstreamError,
+                            e -> Mono.just(String.format("날씨 정보 조회 실패: %s", e.getMessage())));
+        });
+    }
+
+    /**
+     * 초단기예보조회 (비동기)
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 초단기예보 정보
+     */
+    @McpTool(name = "getUltraSrtFcst", description = "Get ultra short-term weather forecast (up to 6 hours) for a specific latitude/longitude in Korea. Returns hourly forecast data.")
+    public Mono<String> getUltraSrtFcst(
+            @McpToolParam(description = "Latitude (위도)") double latitude,
+            @McpToolParam(description = "Longitude (경도)") double longitude
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return Mono.just(rejected);
+        }
+        return bulkheads.runAsync("getUltraSrtFcst", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.ULTRA_SRT_FCST,
+                    BaseTimeCalculator.ultraSrtFcst(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.ULTRA_SRT_FCST, grid);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            return loadForecast(ForecastType.ULTRA_SRT_FCST, grid, baseDateTime,
+                    "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.")
+                    .map(result -> result.isSuccess()
+                            ? WeatherResponseFormatter.formatUltraSrtFcstResponse(result.forecast(), latitude, longitude, baseDate, baseTime,
+                                    renderedResponses)
+                            : result.errorMessage())
+                    .onErrorResume(ReactiveWeatherService::isUpstreamError,
+                            e -> Mono.just(String.format("날씨 예보 조회 실패: %s", e.getMessage())));
+        });
+    }
+
+    /**
+     * 현재 날씨와 6시간 예보 조회 (비동기, 초단기실황과 초단기예보를 동시에 요청)
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 실황과 시간별 예보
+     */
+    @McpTool(name = "getNowcast", description = "Get the current weather observation together with the ultra short-term forecast for the next 6 hours for a specific latitude/longitude in Korea, in one compact answer. Prefer this over calling getUltraSrtNcst and getUltraSrtFcst one after another.")
+    public Mono<String> getNowcast(
+            @McpToolParam(description = "Latitude (위도)") double latitude,
+            @McpToolParam(description = "Longitude (경도)") double longitude
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return Mono.just(rejected);
+        }
+        return bulkheads.runAsync("getNowcast", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime observationBase = issuanceTracker.resolve(ForecastType.ULTRA_SRT_NCST,
+                    BaseTimeCalculator.ultraSrtNcst(now));
+            LocalDateTime forecastBase = issuanceTracker.resolve(ForecastType.ULTRA_SRT_FCST,
+                    BaseTimeCalculator.ultraSrtFcst(now));
+            gridPopularity.record(ForecastType.ULTRA_SRT_NCST, grid);
+            gridPopularity.record(ForecastType.ULTRA_SRT_FCST, grid);
+
+            // 한쪽이 실패해도 다른 쪽은 보여주도록 API 호출 실패는 오류 메시지 결과로 변환
+            Mono<ForecastResult> observation = loadForecast(ForecastType.ULTRA_SRT_NCST, grid, observationBase,
+                    "날씨 정보를 조회할 수 없습니다.", "날씨 정보가 없습니다.")
+                    .onErrorResume(ReactiveWeatherService::isUpstreamError,
+                            e -> Mono.just(ForecastResult.failure(String.format("날씨 정보 조회 실패: %s", e.getMessage()))));
+            Mono<ForecastResult> forecast = loadForecast(ForecastType.ULTRA_SRT_FCST, grid, forecastBase,
+                    "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.")
+                    .onErrorResume(ReactiveWeatherService::isUpstreamError,
+                            e -> Mono.just(ForecastResult.failure(String.format("날씨 예보 조회 실패: %s", e.getMessage()))));
+
+            return Mono.zip(observation, forecast)
+                    .map(results -> WeatherResponseFormatter.formatNowcastResponse(results.getT1(), results.getT2(),
+                            latitude, longitude, renderedResponses));
+        });
+    }
+
+    /**
+     * 단기예보조회 (비동기)
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 단기예보 정보
+     */
+    @McpTool(name = "getVilageFcst", description = "Get short-term weather forecast (up to 3 days) for a specific latitude/longitude in Korea. Returns detailed forecast including temperature, precipitation, wind, and sky conditions.")
+    public Mono<String> getVilageFcst(
+            @McpToolParam(description = "Latitude (위도)") double latitude,
+            @McpToolParam(description = "Longitude (경도)") double longitude
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return Mono.just(rejected);
+        }
+        return bulkheads.runAsync("getVilageFcst", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.VILAGE_FCST,
+                    BaseTimeCalculator.vilageFcst(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.VILAGE_FCST, grid);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            return loadForecast(ForecastType.VILAGE_FCST, grid, baseDateTime,
+                    "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.")
+                    .map(result -> result.isSuccess()
+                            ? WeatherResponseFormatter.formatVilageFcstResponse(result.forecast(), latitude, longitude, baseDate, baseTime,
+                                    renderedResponses)
+                            : result.errorMessage())
+                    .onErrorResume(ReactiveWeatherService::isUpstreamError,
+                            e -> Mono.just(String.format("날씨 예보 조회 실패: %s", e.getMessage())));
+        });
+    }
+
+    /**
+     * 단기예보 요약 조회 (비동기)
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @param maxChars  최대 출력 글자 수 (선택)
+     * @return 단기예보 요약
+     */
+    @McpTool(name = "getVilageFcstCompact", description = "Get a compact short-term weather forecast (up to 3 days) for a specific latitude/longitude in Korea. Collapses consecutive hours with the same value and falls back to daily summaries when the output would exceed maxChars; prefer this over getVilageFcst when context space is limited.")
+    public Mono<String> getVilageFcstCompact(
+            @McpToolParam(description = "Latitude (위도)") double latitude,
+            @McpToolParam(description = "Longitude (경도)") double longitude,
+            @McpToolParam(description = "Maximum output length in characters (최대 출력 글자 수, 기본 2000, 최소 200)", required = false) Integer maxChars
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return Mono.just(rejected);
+        }
+        return bulkheads.runAsync("getVilageFcstCompact", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.VILAGE_FCST,
+                    BaseTimeCalculator.vilageFcst(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.VILAGE_FCST, grid);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            return loadForecast(ForecastType.VILAGE_FCST, grid, baseDateTime,
+                    "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.")
+                    .map(result -> result.isSuccess()
+                            ? CompactForecastRenderer.render(result.forecast(), latitude, longitude, baseDate, baseTime, maxChars,
+                                    renderedResponses)
+                            : result.errorMessage())
+                    .onErrorResume(ReactiveWeatherService::isUpstreamError,
+                            e -> Mono.just(String.format("날씨 예보 조회 실패: %s", e.getMessage())));
+        });
+    }
+
+    /**
+     * 단기예보 변경 사항 조회 (비동기)
+     * 최신 발표와 직전 발표(3시간 전)를 동시에 조회하여 비교
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 직전 발표 대비 변경 사항
+     */
+    @McpTool(name = "getVilageFcstChanges", description = "Get only what changed in the short-term forecast since the previous issuance for a specific latitude/longitude in Korea. Returns changed hours and categories instead of the full 3-day forecast; use this when polling for updates.")
+    public Mono<String> getVilageFcstChanges(
+            @McpToolParam(description = "Latitude (위도)") double latitude,
+            @McpToolParam(description = "Longitude (경도)") double longitude
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return Mono.just(rejected);
+        }
+        return bulkheads.runAsync("getVilageFcstChanges", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.VILAGE_FCST,
+                    BaseTimeCalculator.vilageFcst(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.VILAGE_FCST, grid);
+
+            return loadForecast(ForecastType.VILAGE_FCST, grid, baseDateTime,
+                    "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.")
+                    .flatMap(current -> {
+                        if (!current.isSuccess()) {
+                            return Mono.just(current.errorMessage());
+                        }
+                        // 직전 발표가 캐시에 없으면 3시간 전 발표를 한 번 조회하여 기준으로 사용
+                        Forecast previous = forecastCache.previous(ForecastType.VILAGE_FCST, grid);
+                        if (previous != null && previous.baseEpochSecond() < current.forecast().baseEpochSecond()) {
+                            return Mono.just(WeatherResponseFormatter.formatVilageFcstChangesResponse(previous,
+                                    current.forecast(), latitude, longitude, renderedResponses));
+                        }
+                        return loadForecast(ForecastType.VILAGE_FCST, grid,
+                                BaseTimeCalculator.previousIssuance(ForecastType.VILAGE_FCST, baseDateTime),
+                                "직전 날씨 예보를 조회할 수 없습니다.", "직전 날씨 예보 정보가 없습니다.")
+                                .map(loaded -> loaded.isSuccess()
+                                        ? WeatherResponseFormatter.formatVilageFcstChangesResponse(loaded.forecast(),
+                                                current.forecast(), latitude, longitude, renderedResponses)
+                                        : loaded.errorMessage());
+                    })
+                    .onErrorResume(ReactiveWeatherService::isUpstreamError,
+                            e -> Mono.just(String.format("날씨 예보 조회 실패: %s", e.getMessage())));
+        });
+    }
+
+    /**
+     * 주요 도시의 현재 날씨 조회 (비동기, 초단기실황)
+     */
+    @McpTool(name = "getCurrentWeather", description = "한국 주요 도시의 현재 날씨를 조회합니다. 지원 도시: 서울, 부산, 대구, 인천, 광주, 대전, 울산, 세종, 제주")
+    public Mono<String> getCurrentWeather(
+            @McpToolParam(description = "도시명 (서울, 부산, 대구, 인천, 광주, 대전, 울산, 세종, 제주 중 하나)") String city) {
+        City matched = City.fromName(city.trim()).orElse(null);
+        if (matched == null) {
+            return Mono.just("지원하지 않는 도시입니다. 지원 도시: " + String.join(", ", City.names()));
+        }
+
+        return bulkheads.runAsync("getCurrentWeather", () -> {
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.ULTRA_SRT_NCST,
+                    BaseTimeCalculator.cityObservation(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.ULTRA_SRT_NCST, matched.getGrid());
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            return loadForecast(ForecastType.ULTRA_SRT_NCST, matched.getGrid(), baseDateTime,
+                    city + "의 날씨 정보를 가져올 수 없습니다.", city + "의 날씨 데이터가 없습니다.")
+                    .map(result -> result.isSuccess()
+                            ? WeatherResponseFormatter.formatCityWeatherResponse(city, baseDate, baseTime, result.forecast(),
+                                    renderedResponses)
+                            : result.errorMessage())
+                    .onErrorResume(ReactiveWeatherService::isUpstreamError,
+                            e -> Mono.just(city + "의 날씨 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        });
+    }
+
+    /**
+     * 지원 도시 목록 조회
+     */
+    @McpTool(name = "getSupportedCities", description = "날씨 조회가 가능한 한국 주요 도시 목록을 반환합니다")
+    public Mono<String> getSupportedCities() {
+        return Mono.just("날씨 조회 가능한 도시:\n" + String.join(", ", City.names()));
+    }
+
+    /**
+     * 예보 조회 (캐시 우선)
+     * 격자 분산을 사용하고 다른 노드가 격자를 담당하면 담당 노드로 전달하며, 전달 결과는 이 노드에 캐시하지 않습니다.
+     */
+    private Mono<ForecastResult> loadForecast(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                              String unavailableMessage, String emptyMessage) {
+        if (shards.isLocal(grid)) {
+            return loadLocal(type, grid, baseDateTime, unavailableMessage, emptyMessage);
+        }
+        return Mono.defer(() -> {
+            // 담당 노드에 전달하지 못해 직접 조회한 예보가 있으면 사용
+            Forecast cached = forecastCache.get(type, grid, baseDateTime);
+            if (cached != null) {
+                return Mono.just(ForecastResult.success(cached));
+            }
+            return shards.forwardAsync(type, grid, baseDateTime)
+                    .switchIfEmpty(loadLocal(type, grid, baseDateTime, unavailableMessage, emptyMessage));
+        });
+    }
+
+    /**
+     * 이 노드에서 예보 조회
+     * 캐시에 같은 발표시각의 예보가 없을 때만 API를 호출하며, 구독 전까지 요청을 보내지 않습니다.
+     * 데이터 없음이나 오류 코드 응답은 잠시 기억하여 같은 요청이 반복되어도 API를 다시 호출하지 않습니다.
+     * 같은 호스트의 다른 서버 프로세스가 공유한 예보가 있으면 사용하고, 그 프로세스가 조회 중이면 공유될 때까지 기다립니다.
+     * 여러 세션이 같은 격자를 동시에 조회하면 먼저 시작한 조회 하나만 API를 호출하고 나머지는 그 결과를 함께 구독합니다.
+     */
+    private Mono<ForecastResult> loadLocal(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                           String unavailableMessage, String emptyMessage) {
+        return Mono.defer(() -> {
+            Forecast cached = forecastCache.get(type, grid, baseDateTime);
+            if (cached != null) {
+                return Mono.just(ForecastResult.success(cached));
+            }
+            String rejected = negativeResults.get(type, grid, baseDateTime);
+            if (rejected != null) {
+                return Mono.just(ForecastResult.failure(rejected));
+            }
+            // 조회가 끝나면(성공, 실패, 취소) 목록에서 빼므로 이후 조회는 캐시나 새 요청을 사용
+            FetchKey key = new FetchKey(type, grid, baseDateTime);
+            return inFlight.computeIfAbsent(key, k -> fetchAndStore(type, grid, baseDateTime, unavailableMessage,
+                            emptyMessage)
+                    .doFinally(signal -> inFlight.remove(k))
+                    .cache());
+        });
+    }
+
+    /**
+     * API를 호출하여 예보를 조회하고 캐시에 저장
+     */
+    private Mono<ForecastResult> fetchAndStore(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                               String unavailableMessage, String emptyMessage) {
+        return claimShared(type, grid, baseDateTime, System.nanoTime() + sharedForecasts.maxWait().toNanos())
+                .flatMap(claim -> {
+                    if (claim.forecast() != null) {
+                        return Mono.fromCallable(() -> {
+                                    forecastCache.put(claim.forecast());
+                                    return ForecastResult.success(claim.forecast());
+                                })
+                                .subscribeOn(Schedulers.boundedElastic());
+                    }
+                    return requestHedger.hedge(exchange(type, grid, baseDateTime, 0))
+                            // 캐시 리스너(리소스 알림, 관측 기록, 감시 평가)와 공유 캐시 쓰기는 블로킹이므로 이벤트 루프 밖에서 실행
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(response -> {
+                                ForecastResult result = KmaRequests.decode(type, grid, baseDateTime, response,
+                                        unavailableMessage, emptyMessage);
+                                if (result.isSuccess()) {
+                                    forecastCache.put(result.forecast());
+                                    sharedForecasts.publish(result.forecast());
+                                } else if (!ServiceKeyPool.isKeyRejection(response)) {
+                                    negativeResults.put(type, grid, baseDateTime, result.errorMessage());
+                                }
+                                return result;
+                            })
+                            .defaultIfEmpty(ForecastResult.failure(unavailableMessage))
+                            .doFinally(signal -> {
+                                if (claim.owner()) {
+                                    sharedForecasts.release(type, grid, baseDateTime);
+                                }
+                            });
+                });
+    }
+
+    /**
+     * 공유 캐시 확인 (다른 프로세스가 조회 중이면 스레드를 막지 않고 주기적으로 다시 확인)
+     */
+    private Mono<SharedForecastCache.Claim> claimShared(ForecastType type, GridCoordinate grid,
+                                                        LocalDateTime baseDateTime, long deadlineNanos) {
+        SharedForecastCache.Claim claim = sharedForecasts.tryClaim(type, grid, baseDateTime);
+        if (!claim.isBusy() || System.nanoTime() >= deadlineNanos) {
+            return Mono.just(claim);
+        }
+        return Mono.delay(SharedForecastCache.POLL_INTERVAL)
+                .flatMap(tick -> claimShared(type, grid, baseDateTime, deadlineNanos));
+    }
+
+    /**
+     * 서비스 키 풀에서 키를 골라 요청
+     * 키 인증 오류나 할당량 초과로 거부되면 키를 격리하고 남은 키로 다시 요청합니다.
+     */
+    private Mono<WeatherApiResponse> exchange(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                              int attempt) {
+        return Mono.defer(() -> {
+            String serviceKey = serviceKeys.acquire();
+            long start = stats.upstreamStarted();
+            return webClient.get()
+                    .uri(uriBuilder -> KmaUris.uri(uriBuilder, type, grid, baseDateTime, serviceKey))
+                    .retrieve()
+                    .bodyToMono(WeatherApiResponse.class)
+                    .doOnSuccess(response -> stats.upstreamFinished(response, start))
+                    .doOnError(e -> {
+                        stats.upstreamFailed(e, start);
+                        if (e instanceof WebClientResponseException responseException) {
+                            serviceKeys.recordHttpStatus(serviceKey, responseException.getStatusCode().value());
+                        }
+                    })
+                    .flatMap(response -> serviceKeys.record(serviceKey, response)
+                            && attempt + 1 < serviceKeys.size() && serviceKeys.hasAvailable()
+                            ? exchange(type, grid, baseDateTime, attempt + 1)
+                            : Mono.just(response));
+        });
+    }
+
+    /**
+     * 동기 경로의 RestClientException에 해당하는 오류 (HTTP 오류, 연결 실패, 응답 디코딩 실패, 사용할 수 있는 서비스 키 없음)
+     */
+    private static boolean isUpstreamError(Throwable e) {
+        return e instanceof WebClientException
+                || e instanceof RestClientException
+                || e instanceof CodecException
+                || e instanceof UnsupportedMediaTypeException;
+    }
+
+    /**
+     * 진행 중인 조회 식별 (조회 종류, 격자, 발표시각)
+     */
+    private record FetchKey(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+    }
+}
@@ -0,0 +1,139 @@
+package dev.wony.mcp.tool.weather;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static dev.wony.mcp.tool.weather.client.KmaRequests.DATE_FORMATTER;
+import static dev.wony.mcp.tool.weather.client.KmaRequests.TIME_FORMATTER;
+
+/**
+ * 미리 컴파일한 응답 텍스트 템플릿
+ *
+ * <p>패턴을 {@code {}} 자리표시자 기준의 고정 문자열 조각으로 한 번만 나눠 두고, 값을 호출자의 {@link StringBuilder}에 바로 이어 붙입니다.
+ * {@link String#format}처럼 호출마다 패턴을 해석하거나 인자를 박싱/배열로 감싸지 않으며 중간 문자열도 만들지 않습니다.
+ * 값은 {@code %s}와 같이 그대로 붙이고, null은 "null"로 붙입니다.
+ *
+ * <p>숫자 변환 도우미({@link #decimal4(double)}, {@link #integer(long)})는 같은 값을 {@code %.4f}, {@code %d}로 포맷한 결과와
+ * 같은 문자열을 만듭니다. 기본 로케일의 숫자 기호가 ASCII 숫자, '.', '-'가 아니면 {@link String#format}을 그대로 사용합니다.
+ */
+final class ResponseTemplate {
+
+    private static final String PLACEHOLDER = "{}";
+
+    private static volatile LocaleSymbols localeSymbols = new LocaleSymbols(null, false);
+
+    private final String[] literals;
+
+    private ResponseTemplate(String[] literals) {
+        this.literals = literals;
+    }
+
+    /**
+     * 패턴 컴파일
+     *
+     * @param pattern {@code {}}를 자리표시자로 사용하는 패턴 (최대 4개)
+     */
+    static ResponseTemplate compile(String pattern) {
+        String[] pieces = pattern.split("\\{}", -1);
+        if (pieces.length > 5) {
+            throw new IllegalArgumentException("자리표시자는 최대 4개까지 사용할 수 있습니다: " + pattern);
+        }
+        return new ResponseTemplate(pieces);
+    }
+
+    int arity() {
+        return literals.length - 1;
+    }
+
+    void appendTo(StringBuilder out, CharSequence v0) {
+        requireArity(1);
+        out.append(literals[0]).append(v0).append(literals[1]);
+    }
+
+    void appendTo(StringBuilder out, CharSequence v0, CharSequence v1) {
+        requireArity(2);
+        out.append(literals[0]).append(v0).append(literals[1]).append(v1).append(literals[2]);
+    }
+
+    void appendTo(StringBuilder out, CharSequence v0, CharSequence v1, CharSequence v2) {
+        requireArity(3);
+        out.append(literals[0]).append(v0).append(literals[1]).append(v1).append(literals[2])
+                .append(v2).append(literals[3]);
+    }
+
+    void appendTo(StringBuilder out, CharSequence v0, CharSequence v1, CharSequence v2, CharSequence v3) {
+        requireArity(4);
+        out.append(literals[0]).append(v0).append(literals[1]).append(v1).append(literals[2])
+                .append(v2).append(literals[3]).append(v3).append(literals[4]);
+    }
+
+    private void requireArity(int count) {
+        if (literals.length != count + 1) {
+            throw new IllegalArgumentException(String.format("자리표시자 %d개인 템플릿에 값 %d개를 전달했습니다: %s",
+                    arity(), count, String.join(PLACEHOLDER, literals)));
+        }
+    }
+
+    /**
+     * 예보 시각을 "yyyyMMdd HHmm" 형식으로 추가 ({@code DATE_FORMATTER}, {@code TIME_FORMATTER}와 같은 결과)
+     */
+    static StringBuilder appendDateTime(StringBuilder out, LocalDateTime time) {
+        int year = time.getYear();
+        if (year < 1000 || year > 9999) {
+            return out.append(time.format(DATE_FORMATTER)).append(' ').append(time.format(TIME_FORMATTER));
+        }
+        out.append(year);
+        appendTwoDigits(out, time.getMonthValue());
+        appendTwoDigits(out, time.getDayOfMonth());
+        out.append(' ');
+        appendTwoDigits(out, time.getHour());
+        appendTwoDigits(out, time.getMinute());
+        return out;
+    }
+
+    private static void appendTwoDigits(StringBuilder out, int value) {
+        out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * {@code String.format("%.4f", value)}와 같은 문자열
+     * Formatter와 같이 가장 짧은 10진 표현({@link Double#toString(double)})을 기준으로 HALF_UP 반올림합니다.
+     */
+    static String decimal4(double value) {
+        if (!isAsciiLocale() || Double.isNaN(value) || Double.isInfinite(value)) {
+            return String.format("%.4f", value);
+        }
+        String magnitude = new BigDecimal(Double.toString(Math.abs(value)))
+                .setScale(4, RoundingMode.HALF_UP)
+                .toPlainString();
+        return Double.compare(value, 0.0) < 0 ? "-" + magnitude : magnitude;
+    }
+
+    /**
+     * {@code String.format("%d", value)}와 같은 문자열
+     */
+    static String integer(long value) {
+        return isAsciiLocale() ? Long.toString(value) : String.format("%d", value);
+    }
+
+    /**
+     * 기본 포맷 로케일이 ASCII 숫자와 '.' 소수점, '-' 부호를 사용하는지 확인 (로케일이 바뀔 때만 다시 확인)
+     */
+    private static boolean isAsciiLocale() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleSymbols symbols = localeSymbols;
+        if (!locale.equals(symbols.locale())) {
+            DecimalFormatSymbols decimal = DecimalFormatSymbols.getInstance(locale);
+            symbols = new LocaleSymbols(locale, decimal.getZeroDigit() == '0'
+                    && decimal.getDecimalSeparator() == '.' && decimal.getMinusSign() == '-');
+            localeSymbols = symbols;
+        }
+        return symbols.ascii();
+    }
+
+    private record LocaleSymbols(Locale locale, boolean ascii) {
+    }
+}
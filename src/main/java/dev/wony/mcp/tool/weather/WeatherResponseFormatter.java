@@ -0,0 +1,430 @@
+package dev.wony.mcp.tool.weather;
+
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastDiff;
+import dev.wony.mcp.tool.weather.util.WeatherCodeInterpreter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.wony.mcp.tool.weather.client.KmaRequests.DATE_FORMATTER;
+import static dev.wony.mcp.tool.weather.client.KmaRequests.TIME_FORMATTER;
+
+/**
+ * 날씨 도구 응답 텍스트 포맷팅 유틸리티 클래스
+ * 동기({@link WeatherService})와 비동기({@link ReactiveWeatherService}) 도구가 같은 응답 형식을 사용하도록 공유합니다.
+ *
+ * <p>각 줄은 미리 컴파일한 {@link ResponseTemplate}으로 예상 길이에 맞춰 만든 하나의 StringBuilder에 바로 추가합니다.
+ * 출력은 String.format으로 만들던 이전 형식과 바이트 단위로 같습니다 (WeatherResponseFormatterTest의 골든 출력).
+ *
+ * <p>요청마다 달라지는 제목 줄(좌표, 도시 이름)과 발표시각 줄을 뺀 본문은 예보만으로 정해지므로,
+ * {@link RenderedResponseCache}를 받는 메서드는 본문을 캐시에서 가져와 제목 뒤에 복사합니다.
+ */
+public final class WeatherResponseFormatter {
+
+    private static final ResponseTemplate NCST_TITLE = ResponseTemplate.compile("=== 초단기실황 (위도: {}, 경도: {}) ===\n");
+    private static final ResponseTemplate ULTRA_FCST_TITLE = ResponseTemplate.compile("=== 초단기예보 (위도: {}, 경도: {}) ===\n");
+    private static final ResponseTemplate VILAGE_FCST_TITLE = ResponseTemplate.compile("=== 단기예보 (위도: {}, 경도: {}) ===\n");
+    private static final ResponseTemplate CHANGES_TITLE = ResponseTemplate.compile("=== 단기예보 변경 사항 (위도: {}, 경도: {}) ===\n");
+    private static final ResponseTemplate BASE_TIME = ResponseTemplate.compile("발표시각: {} {}\n\n");
+    private static final ResponseTemplate CHANGES_BASE_TIME = ResponseTemplate.compile("발표시각: {} {} (직전: {} {})\n");
+    private static final ResponseTemplate CHANGES_SUMMARY = ResponseTemplate.compile("비교 구간: {}시간, 변경: {}건, 새 예보 시간: {}개\n\n");
+    private static final ResponseTemplate ENTRY = ResponseTemplate.compile("{}: {}\n");
+    private static final ResponseTemplate HOURLY_ENTRY = ResponseTemplate.compile("  {}: {}\n");
+    private static final ResponseTemplate HOURLY_VALUE = ResponseTemplate.compile("  {}: {}{}\n");
+    private static final ResponseTemplate CHANGE_ENTRY = ResponseTemplate.compile("  {}: {} → {}\n");
+    private static final ResponseTemplate CHANGE_VALUE = ResponseTemplate.compile("  {}: {} → {}{}\n");
+    private static final ResponseTemplate NOWCAST_TITLE = ResponseTemplate.compile("=== 현재 날씨와 6시간 예보 (위도: {}, 경도: {}) ===\n");
+    private static final ResponseTemplate NOWCAST_OBSERVED = ResponseTemplate.compile("[현재] 관측시각: {} {}\n");
+    private static final ResponseTemplate NOWCAST_FORECAST = ResponseTemplate.compile("\n[6시간 예보] 발표시각: {} {}\n");
+    private static final ResponseTemplate CITY_TITLE = ResponseTemplate.compile("📍 {} 현재 날씨 (기준시각: {}월 {}일 {}시)\n\n");
+    private static final ResponseTemplate CITY_TEMPERATURE = ResponseTemplate.compile("🌡️ 기온: {}°C\n");
+    private static final ResponseTemplate CITY_RAIN = ResponseTemplate.compile("🌧️ 1시간 강수량: {}\n");
+    private static final ResponseTemplate CITY_HUMIDITY = ResponseTemplate.compile("💧 습도: {}%\n");
+    private static final ResponseTemplate CITY_WIND = ResponseTemplate.compile("💨 풍속: {}m/s\n");
+    private static final ResponseTemplate CITY_PRECIPITATION = ResponseTemplate.compile("☔ 강수형태: {}\n");
+
+    // 출력 크기 추정 (글자 수): 제목/발표시각, 예보 시각 줄, 요소 한 줄, 변경 한 줄
+    private static final int HEADER_CHARS = 96;
+    private static final int HOUR_HEADER_CHARS = 20;
+    private static final int ENTRY_CHARS = 24;
+    private static final int CHANGE_CHARS = 32;
+
+    private WeatherResponseFormatter() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 초단기실황 응답 포맷팅
+     */
+    public static String formatUltraSrtNcstResponse(Forecast forecast, double latitude, double longitude,
+                                              String baseDate, String baseTime) {
+        return formatUltraSrtNcstResponse(forecast, latitude, longitude, baseDate, baseTime, RenderedResponseCache.disabled());
+    }
+
+    /**
+     * 초단기실황 응답 포맷팅 (좌표 제목 아래 본문은 렌더링 캐시 사용)
+     */
+    public static String formatUltraSrtNcstResponse(Forecast forecast, double latitude, double longitude,
+                                              String baseDate, String baseTime, RenderedResponseCache renderedResponses) {
+        String body = renderedResponses.get("ultra-srt-ncst", forecast, WeatherResponseFormatter::ultraSrtNcstBody);
+        StringBuilder result = new StringBuilder(HEADER_CHARS + body.length());
+        NCST_TITLE.appendTo(result, ResponseTemplate.decimal4(latitude), ResponseTemplate.decimal4(longitude));
+        BASE_TIME.appendTo(result, baseDate, baseTime);
+        return result.append(body).toString();
+    }
+
+    private static String ultraSrtNcstBody(Forecast forecast) {
+        List<WeatherCategory> categories = forecast.categories();
+        StringBuilder result = new StringBuilder(categories.size() * ENTRY_CHARS);
+
+        // 설명이 같은 요소는 나중 값이 앞선 자리를 덮어씀
+        Map<String, String> weatherData = new LinkedHashMap<>();
+        for (WeatherCategory category : categories) {
+            String value = forecast.rawValue(0, category);
+            if (value == null) {
+                continue;
+            }
+
+            if (category == WeatherCategory.PTY) {
+                weatherData.put("강수형태", WeatherCodeInterpreter.interpretPrecipitationType(value));
+            } else if (category == WeatherCategory.VEC) {
+                weatherData.put("풍향", WeatherCodeInterpreter.interpretWindDirection(value));
+            } else {
+                weatherData.put(category.getDescription(), value + category.getUnit());
+            }
+        }
+
+        weatherData.forEach((key, value) -> ENTRY.appendTo(result, key, value));
+
+        return result.toString();
+    }
+
+    /**
+     * 초단기예보 응답 포맷팅
+     */
+    public static String formatUltraSrtFcstResponse(Forecast forecast, double latitude, double longitude,
+                                              String baseDate, String baseTime) {
+        return formatUltraSrtFcstResponse(forecast, latitude, longitude, baseDate, baseTime, RenderedResponseCache.disabled());
+    }
+
+    /**
+     * 초단기예보 응답 포맷팅 (좌표 제목 아래 본문은 렌더링 캐시 사용)
+     */
+    public static String formatUltraSrtFcstResponse(Forecast forecast, double latitude, double longitude,
+                                              String baseDate, String baseTime, RenderedResponseCache renderedResponses) {
+        String body = renderedResponses.get("ultra-srt-fcst", forecast, WeatherResponseFormatter::hourlyBody);
+        StringBuilder result = new StringBuilder(HEADER_CHARS + body.length());
+        ULTRA_FCST_TITLE.appendTo(result, ResponseTemplate.decimal4(latitude), ResponseTemplate.decimal4(longitude));
+        BASE_TIME.appendTo(result, baseDate, baseTime);
+        return result.append(body).toString();
+    }
+
+    /**
+     * 단기예보 응답 포맷팅
+     */
+    public static String formatVilageFcstResponse(Forecast forecast, double latitude, double longitude,
+                                            String baseDate, String baseTime) {
+        return formatVilageFcstResponse(forecast, latitude, longitude, baseDate, baseTime, RenderedResponseCache.disabled());
+    }
+
+    /**
+     * 단기예보 응답 포맷팅 (좌표 제목 아래 본문은 렌더링 캐시 사용)
+     */
+    public static String formatVilageFcstResponse(Forecast forecast, double latitude, double longitude,
+                                            String baseDate, String baseTime, RenderedResponseCache renderedResponses) {
+        String body = renderedResponses.get("vilage-fcst", forecast, WeatherResponseFormatter::hourlyBody);
+        StringBuilder result = new StringBuilder(HEADER_CHARS + body.length());
+        VILAGE_FCST_TITLE.appendTo(result, ResponseTemplate.decimal4(latitude), ResponseTemplate.decimal4(longitude));
+        BASE_TIME.appendTo(result, baseDate, baseTime);
+        return result.append(body).toString();
+    }
+
+    /**
+     * 단기예보 변경 사항 응답 포맷팅
+     */
+    public static String formatVilageFcstChangesResponse(ForecastDiff diff, double latitude, double longitude) {
+        StringBuilder result = new StringBuilder(HEADER_CHARS * 2 + diff.changes().size() * CHANGE_CHARS);
+        CHANGES_TITLE.appendTo(result, ResponseTemplate.decimal4(latitude), ResponseTemplate.decimal4(longitude));
+        return result.append(changesBody(diff)).toString();
+    }
+
+    /**
+     * 단기예보 변경 사항 응답 포맷팅 (렌더링 캐시에 없을 때만 두 예보를 비교)
+     *
+     * @param previous 직전 발표 예보
+     * @param current  최신 발표 예보
+     */
+    public static String formatVilageFcstChangesResponse(Forecast previous, Forecast current,
+                                                         double latitude, double longitude,
+                                                         RenderedResponseCache renderedResponses) {
+        String body = renderedResponses.get("vilage-fcst-changes", previous.baseEpochSecond(), current,
+                forecast -> changesBody(ForecastDiff.between(previous, forecast)));
+        StringBuilder result = new StringBuilder(HEADER_CHARS + body.length());
+        CHANGES_TITLE.appendTo(result, ResponseTemplate.decimal4(latitude), ResponseTemplate.decimal4(longitude));
+        return result.append(body).toString();
+    }
+
+    private static String changesBody(ForecastDiff diff) {
+        LocalDateTime base = diff.current().baseDateTime();
+        LocalDateTime previousBase = diff.previous().baseDateTime();
+
+        StringBuilder result = new StringBuilder(HEADER_CHARS + diff.changes().size() * CHANGE_CHARS);
+        CHANGES_BASE_TIME.appendTo(result,
+                base.format(DATE_FORMATTER), base.format(TIME_FORMATTER),
+                previousBase.format(DATE_FORMATTER), previousBase.format(TIME_FORMATTER));
+        CHANGES_SUMMARY.appendTo(result, ResponseTemplate.integer(diff.comparedHours()),
+                ResponseTemplate.integer(diff.changes().size()), ResponseTemplate.integer(diff.addedHours()));
+
+        if (diff.isEmpty()) {
+            result.append("직전 발표 대비 변경된 예보가 없습니다.\n");
+            return result.toString();
+        }
+
+        long currentEpochSecond = Long.MIN_VALUE;
+        for (ForecastDiff.Change change : diff.changes()) {
+            if (change.epochSecond() != currentEpochSecond) {
+                currentEpochSecond = change.epochSecond();
+                appendTimeHeader(result, change.dateTime());
+            }
+
+            WeatherCategory category = change.category();
+            if (category == WeatherCategory.PTY) {
+                CHANGE_ENTRY.appendTo(result, "강수형태",
+                        WeatherCodeInterpreter.interpretPrecipitationType(change.before()),
+                        WeatherCodeInterpreter.interpretPrecipitationType(change.after()));
+            } else if (category == WeatherCategory.SKY) {
+                CHANGE_ENTRY.appendTo(result, "하늘상태",
+                        WeatherCodeInterpreter.interpretSkyCode(change.before()),
+                        WeatherCodeInterpreter.interpretSkyCode(change.after()));
+            } else if (category == WeatherCategory.VEC) {
+                CHANGE_ENTRY.appendTo(result, "풍향",
+                        WeatherCodeInterpreter.interpretWindDirection(change.before()),
+                        WeatherCodeInterpreter.interpretWindDirection(change.after()));
+            } else {
+                CHANGE_VALUE.appendTo(result, category.getDescription(),
+                        change.before(), change.after(), category.getUnit());
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * 예보 시각별 블록 출력
+     */
+    private static String hourlyBody(Forecast forecast) {
+        List<WeatherCategory> categories = forecast.categories();
+        StringBuilder result = new StringBuilder(forecast.hourCount() * (HOUR_HEADER_CHARS + categories.size() * ENTRY_CHARS));
+        for (int hour = 0; hour < forecast.hourCount(); hour++) {
+            if (!forecast.hasAny(hour)) {
+                continue;
+            }
+
+            appendTimeHeader(result, forecast.dateTimeAt(hour));
+            for (WeatherCategory category : categories) {
+                String value = forecast.rawValue(hour, category);
+                if (value == null) {
+                    continue;
+                }
+
+                if (category == WeatherCategory.PTY) {
+                    HOURLY_ENTRY.appendTo(result, "강수형태", WeatherCodeInterpreter.interpretPrecipitationType(value));
+                } else if (category == WeatherCategory.SKY) {
+                    HOURLY_ENTRY.appendTo(result, "하늘상태", WeatherCodeInterpreter.interpretSkyCode(value));
+                } else if (category == WeatherCategory.VEC) {
+                    HOURLY_ENTRY.appendTo(result, "풍향", WeatherCodeInterpreter.interpretWindDirection(value));
+                } else {
+                    HOURLY_VALUE.appendTo(result, category.getDescription(), value, category.getUnit());
+                }
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    /**
+     * "[yyyyMMdd HHmm]" 예보 시각 줄
+     */
+    private static void appendTimeHeader(StringBuilder result, LocalDateTime time) {
+        ResponseTemplate.appendDateTime(result.append('['), time).append("]\n");
+    }
+
+    /**
+     * 현재 날씨와 6시간 예보 응답 포맷팅 (초단기실황과 초단기예보를 한 응답으로 합침)
+     * 한쪽 조회가 실패하면 그 자리에 오류 메시지를 넣고 나머지는 그대로 보여줍니다.
+     */
+    public static String formatNowcastResponse(ForecastResult observation, ForecastResult forecast,
+                                               double latitude, double longitude) {
+        return formatNowcastResponse(observation, forecast, latitude, longitude, RenderedResponseCache.disabled());
+    }
+
+    /**
+     * 현재 날씨와 6시간 예보 응답 포맷팅 (좌표 제목 아래 본문은 렌더링 캐시 사용)
+     */
+    public static String formatNowcastResponse(ForecastResult observation, ForecastResult forecast,
+                                               double latitude, double longitude,
+                                               RenderedResponseCache renderedResponses) {
+        // 실황 본문은 초단기실황 응답과 같으므로 캐시를 함께 사용
+        String observed = observation.isSuccess()
+                ? renderedResponses.get("ultra-srt-ncst", observation.forecast(), WeatherResponseFormatter::ultraSrtNcstBody)
+                : observation.errorMessage() + "\n";
+        String hourly = forecast.isSuccess()
+                ? renderedResponses.get("nowcast-fcst", forecast.forecast(), WeatherResponseFormatter::nowcastHourlyBody)
+                : forecast.errorMessage() + "\n";
+
+        StringBuilder result = new StringBuilder(HEADER_CHARS * 2 + observed.length() + hourly.length());
+        NOWCAST_TITLE.appendTo(result, ResponseTemplate.decimal4(latitude), ResponseTemplate.decimal4(longitude));
+        if (observation.isSuccess()) {
+            LocalDateTime base = observation.forecast().baseDateTime();
+            NOWCAST_OBSERVED.appendTo(result, base.format(DATE_FORMATTER), base.format(TIME_FORMATTER));
+        } else {
+            result.append("[현재]\n");
+        }
+        result.append(observed);
+        if (forecast.isSuccess()) {
+            LocalDateTime base = forecast.forecast().baseDateTime();
+            NOWCAST_FORECAST.appendTo(result, base.format(DATE_FORMATTER), base.format(TIME_FORMATTER));
+        } else {
+            result.append("\n[6시간 예보]\n");
+        }
+        return result.append(hourly).toString();
+    }
+
+    /**
+     * 예보 시각마다 한 줄 ("  yyyyMMdd HHmm: 기온, 하늘, 강수, 습도, 바람")
+     */
+    private static String nowcastHourlyBody(Forecast forecast) {
+        StringBuilder result = new StringBuilder(forecast.hourCount() * (HOUR_HEADER_CHARS + 3 * ENTRY_CHARS));
+        for (int hour = 0; hour < forecast.hourCount(); hour++) {
+            if (!forecast.hasAny(hour)) {
+                continue;
+            }
+
+            ResponseTemplate.appendDateTime(result.append("  "), forecast.dateTimeAt(hour)).append(':');
+            int start = result.length();
+            String temperature = forecast.rawValue(hour, WeatherCategory.T1H);
+            if (temperature != null) {
+                appendPart(result, start).append(temperature).append(WeatherCategory.T1H.getUnit());
+            }
+            String sky = forecast.rawValue(hour, WeatherCategory.SKY);
+            if (sky != null) {
+                appendPart(result, start).append(WeatherCodeInterpreter.interpretSkyCode(sky));
+            }
+            appendPrecipitation(result, start, forecast, hour);
+            String humidity = forecast.rawValue(hour, WeatherCategory.REH);
+            if (humidity != null) {
+                appendPart(result, start).append("습도 ").append(humidity).append(WeatherCategory.REH.getUnit());
+            }
+            String windSpeed = forecast.rawValue(hour, WeatherCategory.WSD);
+            if (windSpeed != null) {
+                appendPart(result, start).append("바람 ");
+                String windDirection = forecast.rawValue(hour, WeatherCategory.VEC);
+                if (windDirection != null) {
+                    result.append(WeatherCodeInterpreter.interpretWindDirection(windDirection)).append(' ');
+                }
+                result.append(windSpeed).append(WeatherCategory.WSD.getUnit());
+            }
+            String lightning = forecast.rawValue(hour, WeatherCategory.LGT);
+            if (lightning != null && !lightning.equals("0")) {
+                appendPart(result, start).append("낙뢰 ").append(lightning).append(WeatherCategory.LGT.getUnit());
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+
+    /**
+     * 강수형태가 없음이 아니면 "비 1mm 미만"처럼 강수량을 함께, 없으면 "강수없음"
+     */
+    private static void appendPrecipitation(StringBuilder result, int start, Forecast forecast, int hour) {
+        String type = forecast.rawValue(hour, WeatherCategory.PTY);
+        String rain = forecast.rawValue(hour, WeatherCategory.RN1);
+        if (type == null && rain == null) {
+            return;
+        }
+        appendPart(result, start);
+        if (type == null || type.equals("0")) {
+            result.append(rain == null ? "강수없음" : rain);
+            return;
+        }
+        result.append(WeatherCodeInterpreter.interpretPrecipitationType(type));
+        if (rain != null && !rain.equals("강수없음")) {
+            result.append(' ').append(rain);
+        }
+    }
+
+    /**
+     * 한 줄의 첫 항목 앞에는 공백, 이후 항목 앞에는 쉼표를 붙임
+     */
+    private static StringBuilder appendPart(StringBuilder result, int start) {
+        return result.append(result.length() == start ? " " : ", ");
+    }
+
+    /**
+     * 도시별 날씨 응답 포맷팅 (사용자 친화적 이모지 포맷)
+     */
+    public static String formatCityWeatherResponse(String city, String baseDate, String baseTime, Forecast forecast) {
+        return formatCityWeatherResponse(city, baseDate, baseTime, forecast, RenderedResponseCache.disabled());
+    }
+
+    /**
+     * 도시별 날씨 응답 포맷팅 (도시 제목 아래 본문은 렌더링 캐시 사용)
+     */
+    public static String formatCityWeatherResponse(String city, String baseDate, String baseTime, Forecast forecast,
+                                                   RenderedResponseCache renderedResponses) {
+        String body = renderedResponses.get("city-weather", forecast, WeatherResponseFormatter::cityWeatherBody);
+        StringBuilder result = new StringBuilder(HEADER_CHARS + body.length());
+        CITY_TITLE.appendTo(result, city, baseDate.substring(4, 6), baseDate.substring(6, 8), baseTime.substring(0, 2));
+        return result.append(body).toString();
+    }
+
+    private static String cityWeatherBody(Forecast forecast) {
+        List<WeatherCategory> categories = forecast.categories();
+        StringBuilder result = new StringBuilder(HEADER_CHARS);
+
+        // T1H: 기온(℃)
+        if (categories.contains(WeatherCategory.T1H)) {
+            CITY_TEMPERATURE.appendTo(result, forecast.rawValue(0, WeatherCategory.T1H));
+        }
+
+        // RN1: 1시간 강수량(mm)
+        if (categories.contains(WeatherCategory.RN1)) {
+            String rain = forecast.rawValue(0, WeatherCategory.RN1);
+            CITY_RAIN.appendTo(result, rain.equals("0") || rain.equals("강수없음") ? "없음" : rain + "mm");
+        }
+
+        // REH: 습도(%)
+        if (categories.contains(WeatherCategory.REH)) {
+            CITY_HUMIDITY.appendTo(result, forecast.rawValue(0, WeatherCategory.REH));
+        }
+
+        // WSD: 풍속(m/s)
+        if (categories.contains(WeatherCategory.WSD)) {
+            CITY_WIND.appendTo(result, forecast.rawValue(0, WeatherCategory.WSD));
+        }
+
+        // PTY: 강수형태 (0:없음, 1:비, 2:비/눈, 3:눈, 5:빗방울, 6:진눈깨비, 7:눈날림)
+        if (categories.contains(WeatherCategory.PTY)) {
+            String ptyCode = forecast.rawValue(0, WeatherCategory.PTY);
+            String pty = switch (ptyCode) {
+                case "0" -> "없음";
+                case "1" -> "비";
+                case "2" -> "비/눈";
+                case "3" -> "눈";
+                case "5" -> "빗방울";
+                case "6" -> "빗방울눈날림";
+                case "7" -> "눈날림";
+                default -> ptyCode;
+            };
+            CITY_PRECIPITATION.appendTo(result, pty);
+        }
+
+        return result.toString();
+    }
+}
@@ -1,22 +1,54 @@
 package dev.wony.mcp.tool.weather;
 
+import dev.wony.mcp.tool.weather.bulkhead.ToolBulkheads;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.NegativeResultCache;
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.client.KmaRequests;
+import dev.wony.mcp.tool.weather.client.KmaUris;
+import dev.wony.mcp.tool.weather.client.RequestHedger;
+import dev.wony.mcp.tool.weather.client.ServiceKeyPool;
+import dev.wony.mcp.tool.weather.cluster.GridShardRouter;
+import dev.wony.mcp.tool.weather.dto.City;
 import dev.wony.mcp.tool.weather.dto.GridCoordinate;
 import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
-import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.issuance.IssuanceTracker;
+import dev.wony.mcp.tool.weather.popularity.GridPopularityTracker;
+import dev.wony.mcp.tool.weather.shared.SharedForecastCache;
+import dev.wony.mcp.tool.weather.stats.ServerStats;
+import dev.wony.mcp.tool.weather.util.BaseTimeCalculator;
 import dev.wony.mcp.tool.weather.util.CoordinateConverter;
-import dev.wony.mcp.tool.weather.util.WeatherCodeInterpreter;
+import dev.wony.mcp.tool.weather.util.LocationPreflight;
+import jakarta.annotation.PreDestroy;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.util.UriBuilder;
 
+import java.net.URI;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static dev.wony.mcp.tool.weather.client.KmaRequests.DATE_FORMATTER;
+import static dev.wony.mcp.tool.weather.client.KmaRequests.TIME_FORMATTER;
 
 /**
  * 기상청 단기예보 조회서비스를 사용하는 날씨 서비스
@@ -25,30 +57,58 @@ import java.util.stream.Collectors;
 @Service
 public class WeatherService {
 
-    private static final String BASE_URL = "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0";
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
-
-    // 주요 도시 격자 좌표 (nx, ny)
-    private static final Map<String, GridCoordinate> CITY_COORDINATES = Map.of(
-            "서울", new GridCoordinate(60, 127),
-            "부산", new GridCoordinate(98, 76),
-            "대구", new GridCoordinate(89, 91),
-            "인천", new GridCoordinate(55, 124),
-            "광주", new GridCoordinate(58, 74),
-            "대전", new GridCoordinate(67, 100),
-            "울산", new GridCoordinate(102, 84),
-            "세종", new GridCoordinate(66, 103),
-            "제주", new GridCoordinate(52, 38)
-    );
+    // getNowcast 동시 실행 한도가 없을 때 실황 조회 스레드 수 (기본 도구 한도와 같음)
+    private static final int DEFAULT_NOWCAST_FORKS = 8;
 
     private final RestClient restClient;
-    private final String serviceKey;
+    private final ServiceKeyPool serviceKeys;
+    private final ForecastCache forecastCache;
+    private final IssuanceTracker issuanceTracker;
+    private final RequestHedger requestHedger;
+    private final GridPopularityTracker gridPopularity;
+    private final NegativeResultCache negativeResults;
+    private final ToolBulkheads bulkheads;
+    private final ServerStats stats;
+    private final RenderedResponseCache renderedResponses;
+    private final SharedForecastCache sharedForecasts;
+    private final GridShardRouter shards;
+    private final ExecutorService forks;
+    private final ConcurrentMap<FetchKey, CompletableFuture<ForecastResult>> inFlight = new ConcurrentHashMap<>();
+
+    public WeatherService(String serviceKey) {
+        this(serviceKey, new ForecastCache());
+    }
+
+    public WeatherService(String serviceKey, ForecastCache forecastCache) {
+        this(ServiceKeyPool.of(serviceKey), forecastCache, new IssuanceTracker(), RequestHedger.disabled(),
+                new GridPopularityTracker(), new NegativeResultCache(), ToolBulkheads.unlimited(), new ServerStats(),
+                RenderedResponseCache.disabled(), new SharedForecastCache(),
+                GridShardRouter.standalone(), KmaRequests.BASE_URL);
+    }
 
-    public WeatherService(@Value("${weather.api.service-key}") String serviceKey) {
-        this.serviceKey = serviceKey;
+    @Autowired
+    public WeatherService(ServiceKeyPool serviceKeys, ForecastCache forecastCache,
+                          IssuanceTracker issuanceTracker, RequestHedger requestHedger,
+                          GridPopularityTracker gridPopularity, NegativeResultCache negativeResults,
+                          ToolBulkheads bulkheads, ServerStats stats,
+                          RenderedResponseCache renderedResponses, SharedForecastCache sharedForecasts,
+                          GridShardRouter shards,
+                          @Value("${weather.api.url:" + KmaRequests.BASE_URL + "}") String baseUrl) {
+        this.serviceKeys = serviceKeys;
+        this.forecastCache = forecastCache;
+        this.issuanceTracker = issuanceTracker;
+        this.requestHedger = requestHedger;
+        this.gridPopularity = gridPopularity;
+        this.negativeResults = negativeResults;
+        this.bulkheads = bulkheads;
+        this.stats = stats;
+        this.renderedResponses = renderedResponses;
+        this.sharedForecasts = sharedForecasts;
+        this.shards = shards;
+        // getNowcast마다 실황 조회 하나만 맡기므로 도구 동시 실행 한도만큼이면 기다리지 않고, 한도가 없어도 스레드는 늘지 않음
+        this.forks = Executors.newFixedThreadPool(bulkheads.maxConcurrent("getNowcast", DEFAULT_NOWCAST_FORKS), forkThreads());
         this.restClient = RestClient.builder()
-                .baseUrl(BASE_URL)
+                .baseUrl(baseUrl)
                 .build();
     }
 
@@ -65,34 +125,32 @@ public class WeatherService {
             @ToolParam(description = "Latitude (위도)") double latitude,
             @ToolParam(description = "Longitude (경도)") double longitude
     ) {
-        GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
-        LocalDateTime now = LocalDateTime.now();
-
-        // 기준시각: 현재 시각에서 한 시간 전, 정시
-        LocalDateTime baseDateTime = now.minusHours(1).withMinute(0).withSecond(0).withNano(0);
-        String baseDate = baseDateTime.format(DATE_FORMATTER);
-        String baseTime = baseDateTime.format(TIME_FORMATTER);
-
-        try {
-            WeatherApiResponse response = restClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/getUltraSrtNcst")
-                            .queryParam("serviceKey", serviceKey)
-                            .queryParam("numOfRows", 10)
-                            .queryParam("pageNo", 1)
-                            .queryParam("dataType", "JSON")
-                            .queryParam("base_date", baseDate)
-                            .queryParam("base_time", baseTime)
-                            .queryParam("nx", grid.nx())
-                            .queryParam("ny", grid.ny())
-                            .build())
-                    .retrieve()
-                    .body(WeatherApiResponse.class);
-
-            return formatUltraSrtNcstResponse(response, latitude, longitude, baseDate, baseTime);
-        } catch (RestClientException e) {
-            return String.format("날씨 정보 조회 실패: %s", e.getMessage());
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return rejected;
         }
+        return bulkheads.run("getUltraSrtNcst", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime now = LocalDateTime.now();
+
+            // 기준시각: 확인된 최신 발표, 확인 정보가 없으면 현재 시각에서 한 시간 전, 정시
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.ULTRA_SRT_NCST, BaseTimeCalculator.ultraSrtNcst(now));
+            gridPopularity.record(ForecastType.ULTRA_SRT_NCST, grid);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            try {
+                ForecastResult result = loadForecast(ForecastType.ULTRA_SRT_NCST, grid, baseDateTime,
+                        "날씨 정보를 조회할 수 없습니다.", "날씨 정보가 없습니다.");
+                if (!result.isSuccess()) {
+                    return result.errorMessage();
+                }
+                return WeatherResponseFormatter.formatUltraSrtNcstResponse(result.forecast(), latitude, longitude, baseDate, baseTime,
+                        renderedResponses);
+            } catch (RestClientException e) {
+                return String.format("날씨 정보 조회 실패: %s", e.getMessage());
+            }
+        });
     }
 
     /**
@@ -108,39 +166,92 @@ public class WeatherService {
             @ToolParam(description = "Latitude (위도)") double latitude,
             @ToolParam(description = "Longitude (경도)") double longitude
     ) {
-        GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
-        LocalDateTime now = LocalDateTime.now();
-
-        // 기준시각: 현재 시각 기준으로 가장 최근 발표 시각 (매시 30분)
-        LocalDateTime baseDateTime;
-        if (now.getMinute() < 45) {
-            baseDateTime = now.minusHours(1).withMinute(30).withSecond(0).withNano(0);
-        } else {
-            baseDateTime = now.withMinute(30).withSecond(0).withNano(0);
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return rejected;
         }
+        return bulkheads.run("getUltraSrtFcst", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime now = LocalDateTime.now();
+
+            // 기준시각: 확인된 최신 발표, 확인 정보가 없으면 현재 시각 기준으로 가장 최근 발표 시각 (매시 30분)
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.ULTRA_SRT_FCST, BaseTimeCalculator.ultraSrtFcst(now));
+            gridPopularity.record(ForecastType.ULTRA_SRT_FCST, grid);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            try {
+                ForecastResult result = loadForecast(ForecastType.ULTRA_SRT_FCST, grid, baseDateTime,
+                        "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.");
+                if (!result.isSuccess()) {
+                    return result.errorMessage();
+                }
+                return WeatherResponseFormatter.formatUltraSrtFcstResponse(result.forecast(), latitude, longitude, baseDate, baseTime,
+                        renderedResponses);
+            } catch (RestClientException e) {
+                return String.format("날씨 예보 조회 실패: %s", e.getMessage());
+            }
+        });
+    }
 
-        String baseDate = baseDateTime.format(DATE_FORMATTER);
-        String baseTime = baseDateTime.format(TIME_FORMATTER);
+    /**
+     * 현재 날씨와 6시간 예보 조회
+     * 초단기실황과 초단기예보를 동시에 조회하여 한 응답으로 합치므로, 두 도구를 차례로 호출할 때보다
+     * 왕복이 한 번 줄고 응답 시간은 두 조회 중 느린 쪽만큼 걸립니다.
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 실황과 시간별 예보
+     */
+    @Tool(description = "Get the current weather observation together with the ultra short-term forecast for the next 6 hours for a specific latitude/longitude in Korea, in one compact answer. Prefer this over calling getUltraSrtNcst and getUltraSrtFcst one after another.")
+    public String getNowcast(
+            @ToolParam(description = "Latitude (위도)") double latitude,
+            @ToolParam(description = "Longitude (경도)") double longitude
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return rejected;
+        }
+        return bulkheads.run("getNowcast", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime observationBase = issuanceTracker.resolve(ForecastType.ULTRA_SRT_NCST, BaseTimeCalculator.ultraSrtNcst(now));
+            LocalDateTime forecastBase = issuanceTracker.resolve(ForecastType.ULTRA_SRT_FCST, BaseTimeCalculator.ultraSrtFcst(now));
+            gridPopularity.record(ForecastType.ULTRA_SRT_NCST, grid);
+            gridPopularity.record(ForecastType.ULTRA_SRT_FCST, grid);
+
+            // 실황은 별도 스레드에서, 예보는 호출 스레드에서 조회하고 두 조회가 모두 끝난 뒤에만 반환
+            Future<ForecastResult> observation = forks.submit(() -> loadNowcastPart(ForecastType.ULTRA_SRT_NCST, grid,
+                    observationBase, "날씨 정보를 조회할 수 없습니다.", "날씨 정보가 없습니다.", "날씨 정보 조회 실패"));
+            try {
+                ForecastResult forecast = loadNowcastPart(ForecastType.ULTRA_SRT_FCST, grid, forecastBase,
+                        "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.", "날씨 예보 조회 실패");
+                return WeatherResponseFormatter.formatNowcastResponse(observation.get(), forecast,
+                        latitude, longitude, renderedResponses);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "현재 날씨 조회가 중단되었습니다.";
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw (RuntimeException) e.getCause();
+            } finally {
+                // 예보 조회가 예외로 끝났거나 대기가 중단되면 실황 조회도 취소 (이미 끝났으면 무시됨)
+                observation.cancel(true);
+            }
+        });
+    }
 
+    /**
+     * 현재 날씨와 6시간 예보의 한쪽 조회 (API 호출 실패는 오류 메시지 결과로 변환)
+     */
+    private ForecastResult loadNowcastPart(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                           String unavailableMessage, String emptyMessage, String failurePrefix) {
         try {
-            WeatherApiResponse response = restClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/getUltraSrtFcst")
-                            .queryParam("serviceKey", serviceKey)
-                            .queryParam("numOfRows", 60)
-                            .queryParam("pageNo", 1)
-                            .queryParam("dataType", "JSON")
-                            .queryParam("base_date", baseDate)
-                            .queryParam("base_time", baseTime)
-                            .queryParam("nx", grid.nx())
-                            .queryParam("ny", grid.ny())
-                            .build())
-                    .retrieve()
-                    .body(WeatherApiResponse.class);
-
-            return formatUltraSrtFcstResponse(response, latitude, longitude, baseDate, baseTime);
+            return loadForecast(type, grid, baseDateTime, unavailableMessage, emptyMessage);
         } catch (RestClientException e) {
-            return String.format("날씨 예보 조회 실패: %s", e.getMessage());
+            return ForecastResult.failure(String.format("%s: %s", failurePrefix, e.getMessage()));
         }
     }
 
@@ -157,229 +268,306 @@ public class WeatherService {
             @ToolParam(description = "Latitude (위도)") double latitude,
             @ToolParam(description = "Longitude (경도)") double longitude
     ) {
-        GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
-        LocalDateTime now = LocalDateTime.now();
-
-        // 단기예보 발표시각: 02:10, 05:10, 08:10, 11:10, 14:10, 17:10, 20:10, 23:10
-        LocalDateTime baseDateTime = getShortTermForecastBaseTime(now);
-        String baseDate = baseDateTime.format(DATE_FORMATTER);
-        String baseTime = baseDateTime.format(TIME_FORMATTER);
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return rejected;
+        }
+        return bulkheads.run("getVilageFcst", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime now = LocalDateTime.now();
+
+            // 단기예보 발표시각: 02:10, 05:10, 08:10, 11:10, 14:10, 17:10, 20:10, 23:10 (확인된 최신 발표 우선)
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.VILAGE_FCST, BaseTimeCalculator.vilageFcst(now));
+            gridPopularity.record(ForecastType.VILAGE_FCST, grid);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            try {
+                ForecastResult result = loadForecast(ForecastType.VILAGE_FCST, grid, baseDateTime,
+                        "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.");
+                if (!result.isSuccess()) {
+                    return result.errorMessage();
+                }
+                return WeatherResponseFormatter.formatVilageFcstResponse(result.forecast(), latitude, longitude, baseDate, baseTime,
+                        renderedResponses);
+            } catch (RestClientException e) {
+                return String.format("날씨 예보 조회 실패: %s", e.getMessage());
+            }
+        });
+    }
 
-        try {
-            WeatherApiResponse response = restClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/getVilageFcst")
-                            .queryParam("serviceKey", serviceKey)
-                            .queryParam("numOfRows", 300)
-                            .queryParam("pageNo", 1)
-                            .queryParam("dataType", "JSON")
-                            .queryParam("base_date", baseDate)
-                            .queryParam("base_time", baseTime)
-                            .queryParam("nx", grid.nx())
-                            .queryParam("ny", grid.ny())
-                            .build())
-                    .retrieve()
-                    .body(WeatherApiResponse.class);
-
-            return formatVilageFcstResponse(response, latitude, longitude, baseDate, baseTime);
-        } catch (RestClientException e) {
-            return String.format("날씨 예보 조회 실패: %s", e.getMessage());
+    /**
+     * 단기예보 요약 조회
+     * 값이 같은 연속 시간을 묶어 출력하고, 출력 한도를 넘으면 날짜별 요약으로 줄임
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @param maxChars  최대 출력 글자 수 (선택)
+     * @return 단기예보 요약
+     */
+    @Tool(description = "Get a compact short-term weather forecast (up to 3 days) for a specific latitude/longitude in Korea. Collapses consecutive hours with the same value and falls back to daily summaries when the output would exceed maxChars; prefer this over getVilageFcst when context space is limited.")
+    public String getVilageFcstCompact(
+            @ToolParam(description = "Latitude (위도)") double latitude,
+            @ToolParam(description = "Longitude (경도)") double longitude,
+            @ToolParam(description = "Maximum output length in characters (최대 출력 글자 수, 기본 2000, 최소 200)", required = false) Integer maxChars
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return rejected;
         }
+        return bulkheads.run("getVilageFcstCompact", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.VILAGE_FCST, BaseTimeCalculator.vilageFcst(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.VILAGE_FCST, grid);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            try {
+                ForecastResult result = loadForecast(ForecastType.VILAGE_FCST, grid, baseDateTime,
+                        "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.");
+                if (!result.isSuccess()) {
+                    return result.errorMessage();
+                }
+                return CompactForecastRenderer.render(result.forecast(), latitude, longitude, baseDate, baseTime, maxChars,
+                        renderedResponses);
+            } catch (RestClientException e) {
+                return String.format("날씨 예보 조회 실패: %s", e.getMessage());
+            }
+        });
     }
 
     /**
-     * 단기예보 발표 시각 계산
-     * 발표시각: 02:00, 05:00, 08:00, 11:00, 14:00, 17:00, 20:00, 23:00 (API 제공 시간: 각 10분 이후)
+     * 단기예보 변경 사항 조회
+     * 최신 발표 예보와 직전 발표 예보를 비교하여 값이 바뀐 예보 시각과 요소만 반환
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 직전 발표 대비 변경 사항
      */
-    private LocalDateTime getShortTermForecastBaseTime(LocalDateTime now) {
-        int hour = now.getHour();
-        int minute = now.getMinute();
+    @Tool(description = "Get only what changed in the short-term forecast since the previous issuance for a specific latitude/longitude in Korea. Returns changed hours and categories instead of the full 3-day forecast; use this when polling for updates.")
+    public String getVilageFcstChanges(
+            @ToolParam(description = "Latitude (위도)") double latitude,
+            @ToolParam(description = "Longitude (경도)") double longitude
+    ) {
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return rejected;
+        }
+        return bulkheads.run("getVilageFcstChanges", () -> {
+            GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.VILAGE_FCST, BaseTimeCalculator.vilageFcst(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.VILAGE_FCST, grid);
+
+            try {
+                ForecastResult current = loadForecast(ForecastType.VILAGE_FCST, grid, baseDateTime,
+                        "날씨 예보를 조회할 수 없습니다.", "날씨 예보 정보가 없습니다.");
+                if (!current.isSuccess()) {
+                    return current.errorMessage();
+                }
 
-        int[] baseTimes = {2, 5, 8, 11, 14, 17, 20, 23};
-        int baseHour = 23; // 기본값: 전날 23시
+                // 직전 발표가 캐시에 없으면 3시간 전 발표를 한 번 조회하여 기준으로 사용
+                Forecast previous = forecastCache.previous(ForecastType.VILAGE_FCST, grid);
+                if (previous == null || previous.baseEpochSecond() >= current.forecast().baseEpochSecond()) {
+                    ForecastResult loaded = loadForecast(ForecastType.VILAGE_FCST, grid,
+                            BaseTimeCalculator.previousIssuance(ForecastType.VILAGE_FCST, baseDateTime),
+                            "직전 날씨 예보를 조회할 수 없습니다.", "직전 날씨 예보 정보가 없습니다.");
+                    if (!loaded.isSuccess()) {
+                        return loaded.errorMessage();
+                    }
+                    previous = loaded.forecast();
+                }
 
-        for (int baseTime : baseTimes) {
-            if (hour > baseTime || (hour == baseTime && minute >= 10)) {
-                baseHour = baseTime;
+                return WeatherResponseFormatter.formatVilageFcstChangesResponse(previous, current.forecast(),
+                        latitude, longitude, renderedResponses);
+            } catch (RestClientException e) {
+                return String.format("날씨 예보 조회 실패: %s", e.getMessage());
             }
-        }
+        });
+    }
 
-        if (baseHour == 23 && hour < 2) {
-            // 전날 23시
-            return now.minusDays(1).withHour(23).withMinute(0).withSecond(0).withNano(0);
-        } else {
-            return now.withHour(baseHour).withMinute(0).withSecond(0).withNano(0);
+    /**
+     * 예보 조회 (캐시 우선)
+     * 격자 분산을 사용하고 다른 노드가 격자를 담당하면 담당 노드로 전달하며, 전달 결과는 이 노드에 캐시하지 않습니다.
+     *
+     * @param unavailableMessage 응답 본문이 없을 때 반환할 메시지
+     * @param emptyMessage       응답 항목이 없을 때 반환할 메시지
+     * @throws RestClientException API 호출에 실패한 경우
+     */
+    private ForecastResult loadForecast(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                        String unavailableMessage, String emptyMessage) {
+        if (!shards.isLocal(grid)) {
+            // 담당 노드에 전달하지 못해 직접 조회한 예보가 있으면 사용
+            Forecast cached = forecastCache.get(type, grid, baseDateTime);
+            if (cached != null) {
+                return ForecastResult.success(cached);
+            }
+            ForecastResult forwarded = shards.forward(type, grid, baseDateTime);
+            if (forwarded != null) {
+                return forwarded;
+            }
         }
+        return loadLocal(type, grid, baseDateTime, unavailableMessage, emptyMessage);
     }
 
     /**
-     * 초단기실황 응답 포맷팅
+     * 이 노드에서 예보 조회
+     * 캐시에 같은 발표시각의 예보가 없을 때만 API를 호출하고, 정상 응답은 예보 모델로 변환하여 캐시에 저장합니다.
+     * 데이터 없음이나 오류 코드 응답은 잠시 기억하여 같은 요청이 반복되어도 API를 다시 호출하지 않습니다.
+     * 여러 세션이 같은 격자를 동시에 조회하면 먼저 시작한 조회 하나만 API를 호출하고 나머지는 그 결과를 함께 받습니다.
      */
-    private String formatUltraSrtNcstResponse(WeatherApiResponse response, double latitude, double longitude,
-                                              String baseDate, String baseTime) {
-        if (response == null || response.response() == null || response.response().body() == null) {
-            return "날씨 정보를 조회할 수 없습니다.";
+    private ForecastResult loadLocal(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                     String unavailableMessage, String emptyMessage) {
+        Forecast cached = forecastCache.get(type, grid, baseDateTime);
+        if (cached != null) {
+            return ForecastResult.success(cached);
         }
-
-        String resultCode = response.response().header().resultCode();
-        if (!"00".equals(resultCode)) {
-            return String.format("API 오류: %s - %s",
-                    resultCode, response.response().header().resultMsg());
+        String rejected = negativeResults.get(type, grid, baseDateTime);
+        if (rejected != null) {
+            return ForecastResult.failure(rejected);
         }
 
-        var items = response.response().body().items();
-        if (items == null || items.item() == null || items.item().isEmpty()) {
-            return "날씨 정보가 없습니다.";
+        FetchKey key = new FetchKey(type, grid, baseDateTime);
+        CompletableFuture<ForecastResult> pending = new CompletableFuture<>();
+        CompletableFuture<ForecastResult> running = inFlight.putIfAbsent(key, pending);
+        if (running != null) {
+            return awaitInFlight(running);
+        }
+        try {
+            ForecastResult result = fetchAndStore(type, grid, baseDateTime, unavailableMessage, emptyMessage);
+            pending.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
         }
+    }
 
-        StringBuilder result = new StringBuilder();
-        result.append(String.format("=== 초단기실황 (위도: %.4f, 경도: %.4f) ===\n", latitude, longitude));
-        result.append(String.format("발표시각: %s %s\n\n", baseDate, baseTime));
-
-        Map<String, String> weatherData = new LinkedHashMap<>();
-        for (var item : items.item()) {
-            String category = item.category();
-            String value = item.obsrValue();
-
-            if ("PTY".equals(category)) {
-                weatherData.put("강수형태", WeatherCodeInterpreter.interpretPrecipitationType(value));
-            } else if ("VEC".equals(category)) {
-                weatherData.put("풍향", WeatherCodeInterpreter.interpretWindDirection(value));
-            } else {
-                try {
-                    WeatherCategory cat = WeatherCategory.valueOf(category);
-                    weatherData.put(cat.getDescription(), value + cat.getUnit());
-                } catch (IllegalArgumentException e) {
-                    weatherData.put(category, value);
-                }
+    /**
+     * 다른 세션이 진행 중인 같은 조회의 결과를 기다림 (조회 실패 예외는 그대로 전달)
+     */
+    private static ForecastResult awaitInFlight(CompletableFuture<ForecastResult> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
             }
+            throw e;
         }
-
-        weatherData.forEach((key, value) -> result.append(String.format("%s: %s\n", key, value)));
-
-        return result.toString();
     }
 
     /**
-     * 초단기예보 응답 포맷팅
+     * API를 호출하여 캐시에 저장
+     * 같은 호스트의 다른 서버 프로세스가 공유한 예보가 있으면 사용하고, 그 프로세스가 조회 중이면 공유될 때까지 기다립니다.
      */
-    private String formatUltraSrtFcstResponse(WeatherApiResponse response, double latitude, double longitude,
-                                              String baseDate, String baseTime) {
-        if (response == null || response.response() == null || response.response().body() == null) {
-            return "날씨 예보를 조회할 수 없습니다.";
+    private ForecastResult fetchAndStore(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime,
+                                         String unavailableMessage, String emptyMessage) {
+        // 진행 중인 조회 등록 직전에 다른 조회가 끝났으면 그 결과를 사용
+        Forecast cached = forecastCache.get(type, grid, baseDateTime);
+        if (cached != null) {
+            return ForecastResult.success(cached);
         }
-
-        String resultCode = response.response().header().resultCode();
-        if (!"00".equals(resultCode)) {
-            return String.format("API 오류: %s - %s",
-                    resultCode, response.response().header().resultMsg());
+        SharedForecastCache.Claim claim = sharedForecasts.claim(type, grid, baseDateTime);
+        if (claim.forecast() != null) {
+            forecastCache.put(claim.forecast());
+            return ForecastResult.success(claim.forecast());
         }
 
-        var items = response.response().body().items();
-        if (items == null || items.item() == null || items.item().isEmpty()) {
-            return "날씨 예보 정보가 없습니다.";
+        try {
+            WeatherApiResponse response = fetch(type, grid, baseDateTime);
+            ForecastResult result = KmaRequests.decode(type, grid, baseDateTime, response, unavailableMessage, emptyMessage);
+            if (result.isSuccess()) {
+                forecastCache.put(result.forecast());
+                sharedForecasts.publish(result.forecast());
+            } else if (response != null && !ServiceKeyPool.isKeyRejection(response)) {
+                negativeResults.put(type, grid, baseDateTime, result.errorMessage());
+            }
+            return result;
+        } finally {
+            if (claim.owner()) {
+                sharedForecasts.release(type, grid, baseDateTime);
+            }
         }
+    }
 
-        StringBuilder result = new StringBuilder();
-        result.append(String.format("=== 초단기예보 (위도: %.4f, 경도: %.4f) ===\n", latitude, longitude));
-        result.append(String.format("발표시각: %s %s\n\n", baseDate, baseTime));
-
-        // 시간대별로 그룹핑
-        Map<String, Map<String, String>> timeGrouped = items.item().stream()
-                .collect(Collectors.groupingBy(
-                        item -> item.fcstDate() + " " + item.fcstTime(),
-                        LinkedHashMap::new,
-                        Collectors.toMap(
-                                WeatherApiResponse.Item::category,
-                                WeatherApiResponse.Item::fcstValue,
-                                (v1, v2) -> v1,
-                                LinkedHashMap::new
-                        )
-                ));
-
-        timeGrouped.forEach((time, data) -> {
-            result.append(String.format("[%s]\n", time));
-            data.forEach((category, value) -> {
-                if ("PTY".equals(category)) {
-                    result.append(String.format("  강수형태: %s\n", WeatherCodeInterpreter.interpretPrecipitationType(value)));
-                } else if ("SKY".equals(category)) {
-                    result.append(String.format("  하늘상태: %s\n", WeatherCodeInterpreter.interpretSkyCode(value)));
-                } else if ("VEC".equals(category)) {
-                    result.append(String.format("  풍향: %s\n", WeatherCodeInterpreter.interpretWindDirection(value)));
-                } else {
-                    try {
-                        WeatherCategory cat = WeatherCategory.valueOf(category);
-                        result.append(String.format("  %s: %s%s\n", cat.getDescription(), value, cat.getUnit()));
-                    } catch (IllegalArgumentException e) {
-                        result.append(String.format("  %s: %s\n", category, value));
-                    }
-                }
-            });
-            result.append("\n");
-        });
+    /**
+     * 격자 예보를 지정한 발표시각으로 조회하여 캐시에 저장 (새 발표 확인 시 미리 갱신)
+     *
+     * @throws RestClientException API 호출에 실패한 경우
+     */
+    public ForecastResult refresh(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        return loadForecast(type, grid, baseDateTime,
+                type.getDescription() + " 정보를 조회할 수 없습니다.", type.getDescription() + " 정보가 없습니다.");
+    }
 
-        return result.toString();
+    /**
+     * 다른 노드가 전달한 격자 예보 조회 (다시 전달하지 않고 이 노드에서 조회하여 캐시)
+     *
+     * @throws RestClientException API 호출에 실패한 경우
+     */
+    public ForecastResult loadShard(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        gridPopularity.record(type, grid);
+        return loadLocal(type, grid, baseDateTime,
+                type.getDescription() + " 정보를 조회할 수 없습니다.", type.getDescription() + " 정보가 없습니다.");
     }
 
     /**
-     * 단기예보 응답 포맷팅
+     * 발표시각의 예보가 발표되었는지 확인 (예보버전조회, 예보 본문은 받지 않음)
+     *
+     * @throws RestClientException API 호출에 실패한 경우
      */
-    private String formatVilageFcstResponse(WeatherApiResponse response, double latitude, double longitude,
-                                            String baseDate, String baseTime) {
-        if (response == null || response.response() == null || response.response().body() == null) {
-            return "날씨 예보를 조회할 수 없습니다.";
-        }
+    public boolean isPublished(ForecastType type, LocalDateTime baseDateTime) {
+        WeatherApiResponse response = exchange((uriBuilder, serviceKey) ->
+                KmaUris.versionUri(uriBuilder, type, baseDateTime, serviceKey));
+        return KmaRequests.isPublished(response);
+    }
 
-        String resultCode = response.response().header().resultCode();
-        if (!"00".equals(resultCode)) {
-            return String.format("API 오류: %s - %s",
-                    resultCode, response.response().header().resultMsg());
-        }
+    /**
+     * 기상청 API 호출 (응답이 늦으면 헤지 요청)
+     */
+    private WeatherApiResponse fetch(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        return requestHedger.call(() -> exchange((uriBuilder, serviceKey) ->
+                KmaUris.uri(uriBuilder, type, grid, baseDateTime, serviceKey)));
+    }
 
-        var items = response.response().body().items();
-        if (items == null || items.item() == null || items.item().isEmpty()) {
-            return "날씨 예보 정보가 없습니다.";
+    /**
+     * 서비스 키 풀에서 키를 골라 요청
+     * 키 인증 오류나 할당량 초과로 거부되면 키를 격리하고 남은 키로 다시 요청합니다.
+     *
+     * @throws RestClientException API 호출에 실패했거나 사용할 수 있는 키가 없는 경우
+     */
+    private WeatherApiResponse exchange(BiFunction<UriBuilder, String, URI> uri) {
+        WeatherApiResponse response = null;
+        for (int attempt = 0; attempt < serviceKeys.size(); attempt++) {
+            if (attempt > 0 && !serviceKeys.hasAvailable()) {
+                break;
+            }
+            String serviceKey = serviceKeys.acquire();
+            long start = stats.upstreamStarted();
+            try {
+                response = restClient.get()
+                        .uri(uriBuilder -> uri.apply(uriBuilder, serviceKey))
+                        .retrieve()
+                        .body(WeatherApiResponse.class);
+            } catch (RestClientResponseException e) {
+                stats.upstreamFailed(e, start);
+                serviceKeys.recordHttpStatus(serviceKey, e.getStatusCode().value());
+                throw e;
+            } catch (RestClientException e) {
+                stats.upstreamFailed(e, start);
+                throw e;
+            }
+            stats.upstreamFinished(response, start);
+            if (!serviceKeys.record(serviceKey, response)) {
+                break;
+            }
         }
-
-        StringBuilder result = new StringBuilder();
-        result.append(String.format("=== 단기예보 (위도: %.4f, 경도: %.4f) ===\n", latitude, longitude));
-        result.append(String.format("발표시각: %s %s\n\n", baseDate, baseTime));
-
-        // 시간대별로 그룹핑
-        Map<String, Map<String, String>> timeGrouped = items.item().stream()
-                .collect(Collectors.groupingBy(
-                        item -> item.fcstDate() + " " + item.fcstTime(),
-                        LinkedHashMap::new,
-                        Collectors.toMap(
-                                WeatherApiResponse.Item::category,
-                                WeatherApiResponse.Item::fcstValue,
-                                (v1, v2) -> v1,
-                                LinkedHashMap::new
-                        )
-                ));
-
-        timeGrouped.forEach((time, data) -> {
-            result.append(String.format("[%s]\n", time));
-            data.forEach((category, value) -> {
-                if ("PTY".equals(category)) {
-                    result.append(String.format("  강수형태: %s\n", WeatherCodeInterpreter.interpretPrecipitationType(value)));
-                } else if ("SKY".equals(category)) {
-                    result.append(String.format("  하늘상태: %s\n", WeatherCodeInterpreter.interpretSkyCode(value)));
-                } else if ("VEC".equals(category)) {
-                    result.append(String.format("  풍향: %s\n", WeatherCodeInterpreter.interpretWindDirection(value)));
-                } else {
-                    try {
-                        WeatherCategory cat = WeatherCategory.valueOf(category);
-                        result.append(String.format("  %s: %s%s\n", cat.getDescription(), value, cat.getUnit()));
-                    } catch (IllegalArgumentException e) {
-                        result.append(String.format("  %s: %s\n", category, value));
-                    }
-                }
-            });
-            result.append("\n");
-        });
-
-        return result.toString();
+        return response;
     }
 
     /**
@@ -393,46 +581,35 @@ public class WeatherService {
         // ✅ 입력된 도시 이름의 양 끝 공백을 제거합니다.
         String trimmedCity = city.trim();
 
-        GridCoordinate coord = CITY_COORDINATES.get(trimmedCity);
-        if (coord == null) {
-            return "지원하지 않는 도시입니다. 지원 도시: " + String.join(", ", CITY_COORDINATES.keySet());
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        // 초단기실황은 매시간 정시 발표, 10분 후 제공
-        // 현재 시각이 40분 이전이면 이전 시간 데이터 조회
-        if (now.getMinute() < 40) {
-            now = now.minusHours(1);
+        City matched = City.fromName(trimmedCity).orElse(null);
+        if (matched == null) {
+            return "지원하지 않는 도시입니다. 지원 도시: " + String.join(", ", City.names());
         }
+        return bulkheads.run("getCurrentWeather", () -> {
+            GridCoordinate coord = matched.getGrid();
+
+            // 초단기실황은 매시간 정시 발표, 10분 후 제공
+            // 확인된 최신 발표가 없으면 현재 시각이 40분 이전일 때 이전 시간 데이터 조회
+            LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.ULTRA_SRT_NCST,
+                    BaseTimeCalculator.cityObservation(LocalDateTime.now()));
+            gridPopularity.record(ForecastType.ULTRA_SRT_NCST, coord);
+            String baseDate = baseDateTime.format(DATE_FORMATTER);
+            String baseTime = baseDateTime.format(TIME_FORMATTER);
+
+            try {
+                ForecastResult result = loadForecast(ForecastType.ULTRA_SRT_NCST, coord, baseDateTime,
+                        city + "의 날씨 정보를 가져올 수 없습니다.", city + "의 날씨 데이터가 없습니다.");
+                if (!result.isSuccess()) {
+                    return result.errorMessage();
+                }
 
-        String baseDate = now.format(DATE_FORMATTER);
-        String baseTime = now.format(DateTimeFormatter.ofPattern("HH")) + "00";
+                return WeatherResponseFormatter.formatCityWeatherResponse(city, baseDate, baseTime, result.forecast(),
+                        renderedResponses);
 
-        try {
-            WeatherApiResponse response = restClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/getUltraSrtNcst")
-                            .queryParam("serviceKey", serviceKey)
-                            .queryParam("pageNo", 1)
-                            .queryParam("numOfRows", 10)
-                            .queryParam("dataType", "JSON")
-                            .queryParam("base_date", baseDate)
-                            .queryParam("base_time", baseTime)
-                            .queryParam("nx", coord.nx())
-                            .queryParam("ny", coord.ny())
-                            .build())
-                    .retrieve()
-                    .body(WeatherApiResponse.class);
-
-            if (response == null || response.response() == null || response.response().body() == null) {
-                return city + "의 날씨 정보를 가져올 수 없습니다.";
+            } catch (RestClientException e) {
+                return city + "의 날씨 조회 중 오류가 발생했습니다: " + e.getMessage();
             }
-
-            return formatCityWeatherResponse(city, baseDate, baseTime, response);
-
-        } catch (RestClientException e) {
-            return city + "의 날씨 조회 중 오류가 발생했습니다: " + e.getMessage();
-        }
+        });
     }
 
     /**
@@ -440,67 +617,26 @@ public class WeatherService {
      */
     @Tool(description = "날씨 조회가 가능한 한국 주요 도시 목록을 반환합니다")
     public String getSupportedCities() {
-        return "날씨 조회 가능한 도시:\n" + String.join(", ", CITY_COORDINATES.keySet());
+        return "날씨 조회 가능한 도시:\n" + String.join(", ", City.names());
     }
 
-    /**
-     * 도시별 날씨 응답 포맷팅 (사용자 친화적 이모지 포맷)
-     */
-    private String formatCityWeatherResponse(String city, String baseDate, String baseTime, WeatherApiResponse response) {
-        var items = response.response().body().items();
-        if (items == null || items.item() == null || items.item().isEmpty()) {
-            return city + "의 날씨 데이터가 없습니다.";
-        }
-
-        Map<String, String> weatherData = new LinkedHashMap<>();
-        for (var item : items.item()) {
-            weatherData.put(item.category(), item.obsrValue());
-        }
-
-        StringBuilder result = new StringBuilder();
-        result.append(String.format("📍 %s 현재 날씨 (기준시각: %s %s시)\n\n",
-                city,
-                baseDate.substring(4, 6) + "월 " + baseDate.substring(6, 8) + "일",
-                baseTime.substring(0, 2)));
-
-        // T1H: 기온(℃)
-        if (weatherData.containsKey("T1H")) {
-            result.append(String.format("🌡️ 기온: %s°C\n", weatherData.get("T1H")));
-        }
-
-        // RN1: 1시간 강수량(mm)
-        if (weatherData.containsKey("RN1")) {
-            String rain = weatherData.get("RN1");
-            result.append(String.format("🌧️ 1시간 강수량: %s\n",
-                    rain.equals("0") || rain.equals("강수없음") ? "없음" : rain + "mm"));
-        }
-
-        // REH: 습도(%)
-        if (weatherData.containsKey("REH")) {
-            result.append(String.format("💧 습도: %s%%\n", weatherData.get("REH")));
-        }
-
-        // WSD: 풍속(m/s)
-        if (weatherData.containsKey("WSD")) {
-            result.append(String.format("💨 풍속: %sm/s\n", weatherData.get("WSD")));
-        }
+    private static ThreadFactory forkThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "weather-nowcast-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 
-        // PTY: 강수형태 (0:없음, 1:비, 2:비/눈, 3:눈, 5:빗방울, 6:진눈깨비, 7:눈날림)
-        if (weatherData.containsKey("PTY")) {
-            String ptyCode = weatherData.get("PTY");
-            String pty = switch (ptyCode) {
-                case "0" -> "없음";
-                case "1" -> "비";
-                case "2" -> "비/눈";
-                case "3" -> "눈";
-                case "5" -> "빗방울";
-                case "6" -> "빗방울눈날림";
-                case "7" -> "눈날림";
-                default -> ptyCode;
-            };
-            result.append(String.format("☔ 강수형태: %s\n", pty));
-        }
+    @PreDestroy
+    public void close() {
+        forks.shutdownNow();
+    }
 
-        return result.toString();
+    /**
+     * 진행 중인 조회 식별 (조회 종류, 격자, 발표시각)
+     */
+    private record FetchKey(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
     }
 }
@@ -0,0 +1,104 @@
+package dev.wony.mcp.tool.weather.bulkhead;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 도구 하나의 동시 실행 한도와 대기열
+ *
+ * <p>실행 중인 호출이 한도에 도달하면 대기열에 넣고, 대기열도 가득 차면 바로 거부합니다.
+ * 실행 허가는 {@link CompletableFuture}로 전달하므로 동기 호출은 시간 제한을 두고 기다리고,
+ * 비동기 호출은 스레드를 점유하지 않고 기다릴 수 있습니다.
+ * 호출이 끝나 허가를 반납하면 대기 중인 다음 호출에 허가를 그대로 넘깁니다.
+ */
+final class Bulkhead {
+
+    private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int active;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    Bulkhead(String name, int maxConcurrent, int maxQueue) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException(name + " 동시 실행 한도는 1 이상이어야 합니다: " + maxConcurrent);
+        }
+        if (maxQueue < 0) {
+            throw new IllegalArgumentException(name + " 대기열 크기는 0 이상이어야 합니다: " + maxQueue);
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+    }
+
+    /**
+     * 실행 허가 요청
+     *
+     * @return 허가 (바로 허가되면 완료된 상태, 대기열에 들어가면 차례가 오면 완료), 대기열이 가득 차면 null
+     */
+    synchronized CompletableFuture<Void> acquire() {
+        if (active < maxConcurrent) {
+            active++;
+            accepted.increment();
+            return GRANTED;
+        }
+        if (waiters.size() < maxQueue) {
+            CompletableFuture<Void> permit = new CompletableFuture<>();
+            waiters.addLast(permit);
+            return permit;
+        }
+        rejected.increment();
+        return null;
+    }
+
+    /**
+     * 대기 포기 (시간 초과)
+     *
+     * @return 포기했으면 true, 그 사이 허가를 받았으면 false (호출 후 {@link #release()} 필요)
+     */
+    boolean abandon(CompletableFuture<Void> permit) {
+        if (!permit.cancel(false)) {
+            return false;
+        }
+        synchronized (this) {
+            waiters.remove(permit);
+        }
+        timedOut.increment();
+        return true;
+    }
+
+    /**
+     * 실행 허가 반납 (대기 중인 호출이 있으면 허가를 넘김)
+     */
+    void release() {
+        CompletableFuture<Void> next;
+        synchronized (this) {
+            do {
+                next = waiters.pollFirst();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            } while (next.isDone());
+        }
+        // 포기와 경합하면 complete가 실패하므로 다음 대기자에게 다시 넘김
+        if (next.complete(null)) {
+            accepted.increment();
+        } else {
+            release();
+        }
+    }
+
+    synchronized BulkheadStatus status() {
+        return new BulkheadStatus(name, maxConcurrent, maxQueue, active, waiters.size(),
+                accepted.sum(), rejected.sum(), timedOut.sum());
+    }
+}
@@ -0,0 +1,25 @@
+package dev.wony.mcp.tool.weather.bulkhead;
+
+/**
+ * 도구별 동시 실행 상태
+ *
+ * @param tool          도구 이름
+ * @param maxConcurrent 동시 실행 한도
+ * @param maxQueue      대기열 크기
+ * @param active        실행 중인 호출 수
+ * @param waiting       대기 중인 호출 수
+ * @param accepted      실행된 호출 수 (누적)
+ * @param rejected      대기열이 가득 차 거부된 호출 수 (누적)
+ * @param timedOut      대기 시간을 넘겨 거부된 호출 수 (누적)
+ */
+public record BulkheadStatus(
+        String tool,
+        int maxConcurrent,
+        int maxQueue,
+        int active,
+        int waiting,
+        long accepted,
+        long rejected,
+        long timedOut
+) {
+}
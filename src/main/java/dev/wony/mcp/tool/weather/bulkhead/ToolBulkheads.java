@@ -0,0 +1,189 @@
+package dev.wony.mcp.tool.weather.bulkhead;
+
+import dev.wony.mcp.tool.weather.stats.ServerStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 도구별 동시 실행 한도 (bulkhead)
+ *
+ * <p>단기예보처럼 응답 항목이 많아 처리 비용이 큰 도구에 호출이 몰려도, 도구마다 동시 실행 수와 대기열을 따로 두어
+ * 도시 목록이나 캐시된 실황 조회 같은 가벼운 호출은 영향을 받지 않도록 합니다.
+ * 한도에 도달하면 대기열에서 최대 {@code weather.bulkhead.max-wait}만큼 기다리고, 대기열이 가득 차면 바로 거부합니다.
+ *
+ * <p>한도는 {@code weather.bulkhead.limits}에 {@code 도구:동시실행:대기열} 형식으로 나열하며, 나열하지 않은 도구는 제한하지 않습니다.
+ * 모든 도구 호출의 실행 중인 수와 지연 시간(대기 시간 포함)은 {@link ServerStats}에 기록합니다.
+ */
+@Component
+public class ToolBulkheads {
+
+    private static final Logger log = LoggerFactory.getLogger(ToolBulkheads.class);
+
+    private static final String REJECTED_FORMAT =
+            "요청이 많아 %s 도구를 지금 실행할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final Map<String, Bulkhead> bulkheads;
+    private final Duration maxWait;
+    private final ServerStats stats;
+
+    @Autowired
+    public ToolBulkheads(
+            @Value("${weather.bulkhead.enabled:true}") boolean enabled,
+            @Value("${weather.bulkhead.limits:}") List<String> limits,
+            @Value("${weather.bulkhead.max-wait:500ms}") Duration maxWait,
+            ServerStats stats) {
+        this(enabled ? limits : List.of(), maxWait, stats);
+    }
+
+    ToolBulkheads(List<String> limits, Duration maxWait, ServerStats stats) {
+        Map<String, Bulkhead> parsed = new HashMap<>();
+        for (String limit : limits) {
+            if (limit == null || limit.isBlank()) {
+                continue;
+            }
+            Bulkhead bulkhead = parse(limit.trim());
+            parsed.put(bulkhead.status().tool(), bulkhead);
+        }
+        this.bulkheads = Map.copyOf(parsed);
+        this.maxWait = maxWait;
+        this.stats = stats;
+    }
+
+    /**
+     * 제한 없음 (테스트와 단독 실행용)
+     */
+    public static ToolBulkheads unlimited() {
+        return new ToolBulkheads(List.of(), Duration.ZERO, new ServerStats());
+    }
+
+    private static Bulkhead parse(String limit) {
+        String[] parts = limit.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("도구 한도는 도구:동시실행:대기열 형식이어야 합니다: " + limit);
+        }
+        try {
+            return new Bulkhead(parts[0].trim(), Integer.parseInt(parts[1].trim()), Integer.parseInt(parts[2].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("도구 한도는 도구:동시실행:대기열 형식이어야 합니다: " + limit, e);
+        }
+    }
+
+    /**
+     * 동시 실행 한도 안에서 도구 실행
+     *
+     * @return 도구 응답, 한도를 넘으면 거부 메시지
+     */
+    public String run(String tool, Supplier<String> call) {
+        long start = stats.toolStarted(tool);
+        try {
+            return admit(tool, call);
+        } finally {
+            stats.toolFinished(tool, start);
+        }
+    }
+
+    private String admit(String tool, Supplier<String> call) {
+        Bulkhead bulkhead = bulkheads.get(tool);
+        if (bulkhead == null) {
+            return call.get();
+        }
+        CompletableFuture<Void> permit = bulkhead.acquire();
+        if (permit == null || !await(bulkhead, permit)) {
+            return rejected(tool);
+        }
+        try {
+            return call.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 동시 실행 한도 안에서 비동기 도구 실행 (대기 중에도 스레드를 점유하지 않음)
+     *
+     * @return 도구 응답, 한도를 넘으면 거부 메시지
+     */
+    public Mono<String> runAsync(String tool, Supplier<Mono<String>> call) {
+        return Mono.defer(() -> {
+            long start = stats.toolStarted(tool);
+            return admitAsync(tool, call).doFinally(signal -> stats.toolFinished(tool, start));
+        });
+    }
+
+    private Mono<String> admitAsync(String tool, Supplier<Mono<String>> call) {
+        Bulkhead bulkhead = bulkheads.get(tool);
+        if (bulkhead == null) {
+            return Mono.defer(call);
+        }
+        return Mono.defer(() -> {
+            CompletableFuture<Void> permit = bulkhead.acquire();
+            if (permit == null) {
+                return Mono.just(rejected(tool));
+            }
+            return Mono.fromFuture(permit)
+                    .thenReturn(Boolean.TRUE)
+                    .timeout(maxWait, Mono.fromSupplier(() -> !bulkhead.abandon(permit)))
+                    .flatMap(granted -> granted
+                            ? Mono.defer(call).doFinally(signal -> bulkhead.release())
+                            : Mono.just(rejected(tool)));
+        });
+    }
+
+    private boolean await(Bulkhead bulkhead, CompletableFuture<Void> permit) {
+        try {
+            permit.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return !bulkhead.abandon(permit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return !bulkhead.abandon(permit);
+        } catch (ExecutionException e) {
+            // 허가는 값 없이 완료되기만 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String rejected(String tool) {
+        log.debug("{} 도구 동시 실행 한도 초과로 거부", tool);
+        return String.format(REJECTED_FORMAT, tool);
+    }
+
+    /**
+     * 도구의 동시 실행 한도
+     *
+     * @return 한도, 제한하지 않는 도구면 {@code defaultLimit}
+     */
+    public int maxConcurrent(String tool, int defaultLimit) {
+        Bulkhead bulkhead = bulkheads.get(tool);
+        return bulkhead == null ? defaultLimit : bulkhead.status().maxConcurrent();
+    }
+
+    /**
+     * 도구별 동시 실행 상태 (도구 이름순)
+     */
+    public List<BulkheadStatus> status() {
+        List<BulkheadStatus> result = new ArrayList<>(bulkheads.size());
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            result.add(bulkhead.status());
+        }
+        result.sort(Comparator.comparing(BulkheadStatus::tool));
+        return result;
+    }
+}
@@ -0,0 +1,227 @@
+package dev.wony.mcp.tool.weather.cache;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 종류와 격자별 예보 캐시
+ *
+ * <p>격자마다 최신 발표 예보와 직전 발표 예보를 함께 보관합니다.
+ * 발표시각이 캐시 키에 포함되므로 새 발표가 나오면 자연스럽게 캐시 미스가 발생하고,
+ * 새 예보가 저장되면 {@link ForecastCacheListener}에게 직전 예보와 함께 알립니다.
+ *
+ * <p>최대 격자 수를 넘으면 가장 오래 조회되지 않은 격자부터 제거합니다 (LRU).
+ */
+@Component
+public class ForecastCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(ForecastCache.class);
+
+    private final int maxEntries;
+    private final Map<Key, Entry> entries;
+    private final List<ForecastCacheListener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ForecastCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    @Autowired
+    public ForecastCache(@Value("${weather.cache.max-entries:1024}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 최대 항목 수는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > ForecastCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 발표시각이 일치하는 예보 조회
+     *
+     * @return 캐시된 예보, 없으면 null
+     */
+    public Forecast get(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        long baseEpochSecond = Forecast.toEpochSecond(baseDateTime);
+        Forecast found = null;
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(type, grid));
+            if (entry != null) {
+                found = entry.find(baseEpochSecond);
+            }
+        }
+        (found != null ? hits : misses).increment();
+        return found;
+    }
+
+    /**
+     * 격자의 최신 발표 예보 조회 (발표시각 무관)
+     *
+     * @return 최신 예보, 없으면 null
+     */
+    public Forecast latest(ForecastType type, GridCoordinate grid) {
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(type, grid));
+            return entry != null ? entry.latest : null;
+        }
+    }
+
+    /**
+     * 격자의 직전 발표 예보 조회
+     *
+     * @return 직전 예보, 없으면 null
+     */
+    public Forecast previous(ForecastType type, GridCoordinate grid) {
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(type, grid));
+            return entry != null ? entry.previous : null;
+        }
+    }
+
+    /**
+     * 조회 종류별 최신 예보 목록
+     */
+    public List<Forecast> latestOf(ForecastType type) {
+        List<Forecast> result = new ArrayList<>();
+        synchronized (entries) {
+            entries.forEach((key, entry) -> {
+                if (key.type() == type) {
+                    result.add(entry.latest);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 예보 저장
+     * 기존 최신 예보보다 새로운 발표시각이면 리스너에게 알립니다.
+     */
+    public void put(Forecast forecast) {
+        Key key = new Key(forecast.type(), forecast.grid());
+        Forecast replaced;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entries.put(key, new Entry(forecast));
+                replaced = null;
+            } else if (forecast.baseEpochSecond() > entry.latest.baseEpochSecond()) {
+                entry.previous = entry.latest;
+                entry.latest = forecast;
+                replaced = entry.previous;
+            } else {
+                if (forecast.baseEpochSecond() < entry.latest.baseEpochSecond()
+                        && (entry.previous == null || forecast.baseEpochSecond() > entry.previous.baseEpochSecond())) {
+                    entry.previous = forecast;
+                }
+                return;
+            }
+        }
+        notifyIssuance(forecast, replaced);
+    }
+
+    /**
+     * 격자의 캐시 항목 제거
+     */
+    public void invalidate(ForecastType type, GridCoordinate grid) {
+        synchronized (entries) {
+            entries.remove(new Key(type, grid));
+        }
+    }
+
+    public void addListener(ForecastCacheListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(ForecastCacheListener listener) {
+        listeners.remove(listener);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 캐시된 예보가 차지하는 대략적인 메모리 크기 (바이트)
+     */
+    public long estimatedSizeBytes() {
+        long size = 0;
+        synchronized (entries) {
+            for (Entry entry : entries.values()) {
+                size += entry.latest.estimatedSizeBytes();
+                if (entry.previous != null) {
+                    size += entry.previous.estimatedSizeBytes();
+                }
+            }
+        }
+        return size;
+    }
+
+    private void notifyIssuance(Forecast forecast, Forecast previous) {
+        for (ForecastCacheListener listener : listeners) {
+            try {
+                listener.onIssuance(forecast, previous);
+            } catch (RuntimeException e) {
+                // 리스너 오류가 조회 경로로 전파되지 않도록 격리
+                log.warn("예보 캐시 리스너 처리 실패: {}", listener, e);
+            }
+        }
+    }
+
+    private record Key(ForecastType type, GridCoordinate grid) {
+    }
+
+    private static final class Entry {
+        private Forecast latest;
+        private Forecast previous;
+
+        private Entry(Forecast latest) {
+            this.latest = latest;
+        }
+
+        private Forecast find(long baseEpochSecond) {
+            if (latest.baseEpochSecond() == baseEpochSecond) {
+                return latest;
+            }
+            if (previous != null && previous.baseEpochSecond() == baseEpochSecond) {
+                return previous;
+            }
+            return null;
+        }
+    }
+}
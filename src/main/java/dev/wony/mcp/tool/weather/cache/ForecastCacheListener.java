@@ -0,0 +1,18 @@
+package dev.wony.mcp.tool.weather.cache;
+
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+
+/**
+ * 새 발표시각의 예보가 캐시에 들어올 때 호출되는 리스너
+ */
+@FunctionalInterface
+public interface ForecastCacheListener {
+
+    /**
+     * 새 발표 예보가 캐시에 저장됨
+     *
+     * @param forecast 새 발표 예보
+     * @param previous 같은 격자의 직전 발표 예보, 없으면 null
+     */
+    void onIssuance(Forecast forecast, Forecast previous);
+}
@@ -0,0 +1,128 @@
+package dev.wony.mcp.tool.weather.cache;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실패한 조회 결과 캐시 (negative cache)
+ *
+ * <p>기상청 API가 데이터 없음이나 오류 코드로 응답한 조회 종류, 격자, 발표시각 조합을 짧은 시간 동안 기억하여,
+ * 같은 요청이 재시도로 반복되어도 API를 다시 호출하지 않고 같은 오류 메시지를 돌려줍니다.
+ * 서비스 키 때문에 거부된 응답(할당량 초과, 인증 오류)과 네트워크 오류는 격자와 무관하므로 저장하지 않습니다.
+ *
+ * <p>새 발표가 확인되면 해당 발표시각의 항목을 제거하고, 최대 항목 수를 넘으면 가장 오래된 항목부터 제거합니다.
+ */
+@Component
+public class NegativeResultCache {
+
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(2);
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+
+    public NegativeResultCache() {
+        this(DEFAULT_TTL, DEFAULT_MAX_ENTRIES, Clock.systemUTC());
+    }
+
+    @Autowired
+    public NegativeResultCache(
+            @Value("${weather.negative-cache.ttl:2m}") Duration ttl,
+            @Value("${weather.negative-cache.max-entries:1024}") int maxEntries) {
+        this(ttl, maxEntries, Clock.systemUTC());
+    }
+
+    NegativeResultCache(Duration ttl, int maxEntries, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 최대 항목 수는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 저장된 실패 결과 조회
+     *
+     * @return 오류 메시지, 없거나 만료되었으면 null
+     */
+    public String get(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return null;
+        }
+        Key key = new Key(type, grid, Forecast.toEpochSecond(baseDateTime));
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            hits.increment();
+            return entry.errorMessage();
+        }
+    }
+
+    /**
+     * 실패 결과 저장
+     */
+    public void put(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime, String errorMessage) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        Key key = new Key(type, grid, Forecast.toEpochSecond(baseDateTime));
+        Entry entry = new Entry(errorMessage, clock.millis() + ttl.toMillis());
+        synchronized (entries) {
+            // 다시 저장하면 순서도 갱신 (가장 오래된 항목부터 제거)
+            entries.remove(key);
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * 발표시각의 항목 제거 (새 발표가 확인되어 이전의 데이터 없음 응답이 더 이상 유효하지 않을 때)
+     */
+    public void invalidate(ForecastType type, LocalDateTime baseDateTime) {
+        long baseEpochSecond = Forecast.toEpochSecond(baseDateTime);
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.type() == type && key.baseEpochSecond() == baseEpochSecond);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    private record Key(ForecastType type, GridCoordinate grid, long baseEpochSecond) {
+    }
+
+    private record Entry(String errorMessage, long expiresAtMillis) {
+    }
+}
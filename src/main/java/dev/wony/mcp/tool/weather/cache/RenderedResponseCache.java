@@ -0,0 +1,314 @@
+package dev.wony.mcp.tool.weather.cache;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 렌더링된 응답 캐시 (예보 캐시 다음 단계)
+ *
+ * <p>포맷터가 예보로 만든 응답 본문을 응답 형식, 조회 종류, 격자, 발표시각, 형식 변형, 포맷 로케일 단위로 보관하여,
+ * 같은 발표의 같은 격자를 같은 형식으로 다시 조회하면 포맷팅 없이 저장된 문자열을 그대로 사용합니다.
+ * 같은 발표시각의 예보는 바뀌지 않으므로 무효화가 필요 없고, 새 발표는 다른 키가 되어 이전 발표의 항목은 조회되지 않다가 제거됩니다.
+ * 좌표나 도시 이름처럼 요청마다 다른 제목 줄은 저장하지 않고 호출자가 매번 붙입니다.
+ *
+ * <p>전체 크기는 문자열 길이로 추정한 바이트 수로 제한하며, 제거 정책은 W-TinyLFU 방식입니다.
+ * 새 항목은 작은 최근 사용 구간(window, 전체의 1%)에 들어가고, 밀려난 항목은 주 구간의 가장 오래된 항목보다
+ * 최근 빈도가 높을 때만 주 구간(probation/protected 분할 LRU)에 들어갑니다. 빈도는 고정 크기 Count-Min Sketch로 추정하고
+ * 주기적으로 절반으로 줄여 오래된 인기를 잊습니다. 한 번만 조회된 응답이 자주 조회되는 응답을 밀어내지 않습니다.
+ */
+@Component
+public class RenderedResponseCache {
+
+    public static final DataSize DEFAULT_MAX_SIZE = DataSize.ofMegabytes(8);
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int AVERAGE_ENTRY_BYTES = 4 * 1024;
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private static final RenderedResponseCache DISABLED = new RenderedResponseCache(false, DataSize.ofBytes(0));
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long windowMaxBytes;
+    private final long protectedMaxBytes;
+    private final FrequencySketch sketch;
+
+    // 모두 접근 순서 (가장 오래 사용하지 않은 항목이 맨 앞)
+    private final LinkedHashMap<Key, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Key, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Key, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowBytes;
+    private long probationBytes;
+    private long protectedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public RenderedResponseCache() {
+        this(true, DEFAULT_MAX_SIZE);
+    }
+
+    @Autowired
+    public RenderedResponseCache(
+            @Value("${weather.render-cache.enabled:true}") boolean enabled,
+            @Value("${weather.render-cache.max-size:8MB}") DataSize maxSize) {
+        if (maxSize.isNegative()) {
+            throw new IllegalArgumentException("렌더링 캐시 최대 크기는 0 이상이어야 합니다: " + maxSize);
+        }
+        this.enabled = enabled && maxSize.toBytes() > 0;
+        this.maxBytes = this.enabled ? maxSize.toBytes() : 0;
+        this.windowMaxBytes = Math.max(1, (long) (maxBytes * WINDOW_RATIO));
+        this.protectedMaxBytes = (long) ((maxBytes - windowMaxBytes) * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch(this.enabled ? (int) Math.min(1 << 20, maxBytes / AVERAGE_ENTRY_BYTES) : 1);
+    }
+
+    /**
+     * 저장하지 않고 매번 렌더링하는 캐시 (테스트, 예열, 단독 실행용)
+     */
+    public static RenderedResponseCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * 렌더링된 응답 본문 조회, 없으면 렌더링하여 저장
+     *
+     * @param format   응답 형식 이름 (형식마다 고유)
+     * @param forecast 렌더링할 예보 (조회 종류, 격자, 발표시각이 키가 됨)
+     * @param renderer 응답 본문 렌더러 (같은 키에 대해 항상 같은 결과를 내야 함)
+     */
+    public String get(String format, Forecast forecast, Function<Forecast, String> renderer) {
+        return get(format, 0, forecast, renderer);
+    }
+
+    /**
+     * 렌더링된 응답 본문 조회, 없으면 렌더링하여 저장
+     *
+     * @param variant 같은 형식 안의 변형 (출력 한도, 비교 대상 발표시각 등)
+     */
+    public String get(String format, long variant, Forecast forecast, Function<Forecast, String> renderer) {
+        if (!enabled) {
+            return renderer.apply(forecast);
+        }
+        Key key = new Key(format, variant, forecast.type(), forecast.grid(), forecast.baseEpochSecond(),
+                Locale.getDefault(Locale.Category.FORMAT));
+        synchronized (this) {
+            sketch.increment(key.hashCode());
+            String cached = lookup(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+
+        // 렌더링은 잠금 밖에서 수행 (동시에 같은 키를 렌더링하면 나중 결과가 같은 값을 다시 저장)
+        String rendered = renderer.apply(forecast);
+        synchronized (this) {
+            put(key, new Entry(rendered, weigh(rendered)));
+        }
+        return rendered;
+    }
+
+    private String lookup(Key key) {
+        Entry entry = window.get(key);
+        if (entry != null) {
+            return entry.value();
+        }
+        entry = protectedSegment.get(key);
+        if (entry != null) {
+            return entry.value();
+        }
+        entry = probation.remove(key);
+        if (entry != null) {
+            // 주 구간에서 다시 조회되면 protected로 승격하고, 넘치면 가장 오래된 protected 항목을 probation으로 내림
+            probationBytes -= entry.weight();
+            protectedSegment.put(key, entry);
+            protectedBytes += entry.weight();
+            demoteProtected();
+            return entry.value();
+        }
+        return null;
+    }
+
+    private void put(Key key, Entry entry) {
+        if (entry.weight() > maxBytes - windowMaxBytes || containsKey(key)) {
+            return;
+        }
+        window.put(key, entry);
+        windowBytes += entry.weight();
+
+        Iterator<Map.Entry<Key, Entry>> candidates = window.entrySet().iterator();
+        while (windowBytes > windowMaxBytes && candidates.hasNext()) {
+            Map.Entry<Key, Entry> candidate = candidates.next();
+            candidates.remove();
+            windowBytes -= candidate.getValue().weight();
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    /**
+     * window에서 밀려난 항목을 주 구간에 넣을지 결정 (TinyLFU 허용 정책)
+     * 공간이 부족하면 가장 오래된 항목(probation 우선)과 빈도를 비교하여, 후보의 빈도가 더 높을 때만 그 항목을 제거하고 넣습니다.
+     */
+    private void admit(Key key, Entry entry) {
+        int candidateFrequency = sketch.frequency(key.hashCode());
+        while (probationBytes + protectedBytes + entry.weight() > maxBytes - windowMaxBytes) {
+            LinkedHashMap<Key, Entry> segment = probation.isEmpty() ? protectedSegment : probation;
+            Map.Entry<Key, Entry> victim = segment.entrySet().iterator().next();
+            if (candidateFrequency <= sketch.frequency(victim.getKey().hashCode())) {
+                rejections.increment();
+                return;
+            }
+            segment.remove(victim.getKey());
+            if (segment == probation) {
+                probationBytes -= victim.getValue().weight();
+            } else {
+                protectedBytes -= victim.getValue().weight();
+            }
+            evictions.increment();
+        }
+        probation.put(key, entry);
+        probationBytes += entry.weight();
+    }
+
+    private void demoteProtected() {
+        Iterator<Map.Entry<Key, Entry>> eldest = protectedSegment.entrySet().iterator();
+        while (protectedBytes > protectedMaxBytes && eldest.hasNext()) {
+            Map.Entry<Key, Entry> demoted = eldest.next();
+            eldest.remove();
+            protectedBytes -= demoted.getValue().weight();
+            probation.put(demoted.getKey(), demoted.getValue());
+            probationBytes += demoted.getValue().weight();
+        }
+    }
+
+    private boolean containsKey(Key key) {
+        return window.containsKey(key) || probation.containsKey(key) || protectedSegment.containsKey(key);
+    }
+
+    /**
+     * 문자열이 차지하는 대략적인 바이트 수 (한글이 섞인 응답은 UTF-16으로 저장되므로 글자당 2바이트)
+     */
+    private static long weigh(String value) {
+        return ENTRY_OVERHEAD_BYTES + value.length() * 2L;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    /**
+     * 저장된 응답이 차지하는 대략적인 메모리 크기 (바이트)
+     */
+    public synchronized long estimatedSizeBytes() {
+        return windowBytes + probationBytes + protectedBytes;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 공간 확보를 위해 제거한 항목 수
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 빈도가 낮아 주 구간에 들이지 않은 항목 수
+     */
+    public long rejectionCount() {
+        return rejections.sum();
+    }
+
+    private record Key(String format, long variant, ForecastType type, GridCoordinate grid,
+                       long baseEpochSecond, Locale locale) {
+    }
+
+    private record Entry(String value, long weight) {
+    }
+
+    /**
+     * 4비트 카운터 Count-Min Sketch (TinyLFU 빈도 추정)
+     * 증가 횟수가 표본 크기에 이르면 모든 카운터를 절반으로 줄입니다.
+     */
+    private static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final long[] SEEDS = {
+                0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+        };
+
+        private final byte[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int expectedEntries) {
+            int width = Integer.highestOneBit(Math.max(64, expectedEntries) - 1) << 1;
+            this.counters = new byte[DEPTH * width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = index(hash, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(int hash) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                min = Math.min(min, counters[index(hash, row)]);
+            }
+            return min;
+        }
+
+        private int index(int hash, int row) {
+            long mixed = (hash + SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+            mixed ^= mixed >>> 32;
+            return row * (mask + 1) + ((int) mixed & mask);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.wony.mcp.tool.weather.client;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.springframework.web.util.UriBuilder;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * {@link KmaRequests}의 요청 경로와 파라미터로 Spring {@link UriBuilder} 요청 URI를 만드는 유틸리티 클래스
+ * 동기(RestClient)와 비동기(WebClient) 클라이언트가 같은 방식으로 URI를 만들도록 공유합니다.
+ */
+public final class KmaUris {
+
+    private KmaUris() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 조회 요청 URI 생성
+     */
+    public static URI uri(UriBuilder uriBuilder, ForecastType type, GridCoordinate grid,
+                          LocalDateTime baseDateTime, String serviceKey) {
+        return build(uriBuilder, KmaRequests.path(type),
+                KmaRequests.parameters(type, grid, baseDateTime, serviceKey));
+    }
+
+    /**
+     * 예보버전조회 요청 URI 생성
+     */
+    public static URI versionUri(UriBuilder uriBuilder, ForecastType type, LocalDateTime baseDateTime, String serviceKey) {
+        return build(uriBuilder, KmaRequests.versionPath(),
+                KmaRequests.versionParameters(type, baseDateTime, serviceKey));
+    }
+
+    private static URI build(UriBuilder uriBuilder, String path, Map<String, Object> parameters) {
+        uriBuilder.path(path);
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            uriBuilder.queryParam(parameter.getKey(), parameter.getValue());
+        }
+        return uriBuilder.build();
+    }
+}
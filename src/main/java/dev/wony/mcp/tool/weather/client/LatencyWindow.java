@@ -0,0 +1,63 @@
+package dev.wony.mcp.tool.weather.client;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 표본 (고정 크기 링 버퍼)
+ *
+ * <p>백분위 값은 표본이 일정 개수 쌓일 때마다 다시 계산하여 조회 경로에서 정렬하지 않습니다.
+ */
+final class LatencyWindow {
+
+    private final long[] samples;
+    private final double percentile;
+    private final int recomputeEvery;
+    private int count;
+    private int next;
+    private int sinceRecompute;
+    private long cachedPercentileNanos = -1;
+
+    LatencyWindow(int size, double percentile) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("표본 크기는 1 이상이어야 합니다: " + size);
+        }
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("백분위는 0 초과 1 이하여야 합니다: " + percentile);
+        }
+        this.samples = new long[size];
+        this.percentile = percentile;
+        this.recomputeEvery = Math.max(1, size / 8);
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (cachedPercentileNanos < 0 || ++sinceRecompute >= recomputeEvery) {
+            cachedPercentileNanos = compute();
+            sinceRecompute = 0;
+        }
+    }
+
+    /**
+     * 백분위 응답 시간 (나노초)
+     *
+     * @return 표본이 없으면 -1
+     */
+    synchronized long percentileNanos() {
+        return cachedPercentileNanos;
+    }
+
+    synchronized int size() {
+        return count;
+    }
+
+    private long compute() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+}
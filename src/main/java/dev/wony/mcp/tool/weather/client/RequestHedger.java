@@ -0,0 +1,269 @@
+package dev.wony.mcp.tool.weather.client;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 기상청 API 요청 헤징
+ *
+ * <p>요청이 최근 응답 시간의 백분위(기본 p95)만큼 지나도 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 도착한 응답을 사용합니다.
+ * 헤지 요청은 전체 요청 대비 일정 비율({@code weather.hedging.max-ratio})을 넘지 않도록 제한하여,
+ * API 장애로 모든 요청이 느려져도 트래픽이 두 배로 늘지 않습니다.
+ *
+ * <p>헤지 요청도 원래 요청과 같은 호출 경로를 거치므로 API 호출 수 집계와 할당량 제한에 함께 포함됩니다.
+ * {@code weather.hedging.enabled=false}(기본값)이면 요청을 그대로 실행합니다.
+ */
+@Component
+public class RequestHedger {
+
+    public static final int DEFAULT_WINDOW_SIZE = 256;
+    // 백분위 지연을 신뢰하기 위한 최소 표본 수
+    private static final int MIN_SAMPLES = 20;
+    // 한가할 때 모아둘 수 있는 최대 헤지 수
+    private static final double MAX_BURST = 10;
+
+    private final boolean enabled;
+    private final LatencyWindow latencies;
+    private final Duration initialDelay;
+    private final Duration minDelay;
+    private final double maxRatio;
+    private final ExecutorService executor;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private double hedgeCredit;
+
+    @Autowired
+    public RequestHedger(
+            @Value("${weather.hedging.enabled:false}") boolean enabled,
+            @Value("${weather.hedging.percentile:0.95}") double percentile,
+            @Value("${weather.hedging.initial-delay:1s}") Duration initialDelay,
+            @Value("${weather.hedging.min-delay:50ms}") Duration minDelay,
+            @Value("${weather.hedging.max-ratio:0.05}") double maxRatio) {
+        if (maxRatio < 0 || maxRatio > 1) {
+            throw new IllegalArgumentException("헤지 비율은 0 이상 1 이하여야 합니다: " + maxRatio);
+        }
+        this.enabled = enabled;
+        this.latencies = new LatencyWindow(DEFAULT_WINDOW_SIZE, percentile);
+        this.initialDelay = initialDelay;
+        this.minDelay = minDelay;
+        this.maxRatio = maxRatio;
+        this.executor = enabled ? Executors.newCachedThreadPool(daemonThreads()) : null;
+    }
+
+    /**
+     * 헤징을 사용하지 않는 인스턴스 (요청을 그대로 실행)
+     */
+    public static RequestHedger disabled() {
+        return new RequestHedger(false, 0.95, Duration.ofSeconds(1), Duration.ofMillis(50), 0);
+    }
+
+    /**
+     * 동기 요청 실행
+     * 지연 시간 안에 응답이 없고 헤지 한도가 남아 있으면 같은 요청을 한 번 더 보냅니다.
+     *
+     * @throws RestClientException 모든 요청이 실패했거나 대기 중 인터럽트된 경우
+     */
+    public <T> T call(Supplier<T> request) {
+        if (!enabled) {
+            return request.get();
+        }
+        onRequest();
+
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+        attempts.add(completion.submit(() -> timed(request)));
+        try {
+            Future<T> done = completion.poll(hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+            if (done == null && tryAcquireHedge()) {
+                attempts.add(completion.submit(() -> timed(request)));
+            }
+
+            RuntimeException failure = null;
+            for (int remaining = attempts.size(); remaining > 0; remaining--) {
+                if (done == null) {
+                    done = completion.take();
+                }
+                try {
+                    T result = done.get();
+                    if (done != attempts.get(0)) {
+                        hedgeWins.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    // 다른 요청이 남아 있으면 그 응답을 기다림
+                    failure = unwrap(e);
+                }
+                done = null;
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestClientException("기상청 API 요청 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    /**
+     * 비동기 요청 실행
+     * 지연 시간 안에 응답이 없으면 같은 요청을 다시 구독하고, 먼저 도착한 응답을 사용합니다.
+     * 동기 요청과 마찬가지로 한 요청이 실패해도 다른 요청이 남아 있으면 그 응답을 기다리고,
+     * 마지막으로 끝난 요청까지 실패했을 때만 오류를 전달합니다.
+     */
+    public <T> Mono<T> hedge(Mono<T> request) {
+        if (!enabled) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            onRequest();
+            Attempts attempts = new Attempts();
+            Mono<T> primary = timed(request)
+                    .onErrorResume(e -> attempts.lastToFail() ? Mono.error(e) : Mono.never());
+            Mono<T> hedged = Mono.delay(hedgeDelay())
+                    .flatMap(tick -> attempts.startHedge(this::tryAcquireHedge)
+                            ? timed(request)
+                                    .doOnSuccess(result -> hedgeWins.increment())
+                                    .onErrorResume(e -> attempts.lastToFail() ? Mono.error(e) : Mono.never())
+                            : Mono.<T>never());
+            // 실패한 요청은 다른 요청이 남아 있으면 신호를 내지 않으므로, 먼저 도착한 신호가 곧 성공 응답이거나 마지막 실패
+            return Mono.firstWithSignal(primary, hedged);
+        });
+    }
+
+    /**
+     * 헤지 요청을 보내기까지 기다리는 시간
+     * 표본이 충분하면 최근 응답 시간의 백분위, 부족하면 초기 지연 (최소 지연 이상)
+     */
+    public Duration hedgeDelay() {
+        long nanos = latencies.size() >= MIN_SAMPLES ? latencies.percentileNanos() : initialDelay.toNanos();
+        return Duration.ofNanos(Math.max(nanos, minDelay.toNanos()));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long hedgeCount() {
+        return hedges.sum();
+    }
+
+    public long hedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    void recordLatency(long nanos) {
+        latencies.record(nanos);
+    }
+
+    int latencySampleCount() {
+        return latencies.size();
+    }
+
+    /**
+     * 요청마다 헤지 한도를 비율만큼 적립 (최대 적립량 제한)
+     */
+    private synchronized void onRequest() {
+        requests.increment();
+        hedgeCredit = Math.min(MAX_BURST, hedgeCredit + maxRatio);
+    }
+
+    synchronized boolean tryAcquireHedge() {
+        if (hedgeCredit < 1) {
+            return false;
+        }
+        hedgeCredit -= 1;
+        hedges.increment();
+        return true;
+    }
+
+    /**
+     * 응답 시간 기록 (실패하거나 취소된 요청도 끝날 때까지 걸린 시간을 기록하여, 느린 실패가 백분위에서 빠지지 않게 함)
+     */
+    private <T> T timed(Supplier<T> request) {
+        long start = System.nanoTime();
+        try {
+            return request.get();
+        } finally {
+            recordLatency(System.nanoTime() - start);
+        }
+    }
+
+    private <T> Mono<T> timed(Mono<T> request) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return request.doFinally(signal -> recordLatency(System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * 비동기 요청 하나의 진행 중인 시도 수
+     * 마지막 시도가 실패했을 때만 오류를 전달하고, 원래 요청이 끝난 뒤에는 헤지 요청을 보내지 않습니다.
+     */
+    private static final class Attempts {
+
+        private int running = 1;
+
+        synchronized boolean startHedge(BooleanSupplier acquire) {
+            if (running == 0 || !acquire.getAsBoolean()) {
+                return false;
+            }
+            running++;
+            return true;
+        }
+
+        synchronized boolean lastToFail() {
+            return --running == 0;
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return new RestClientException("기상청 API 요청 실패", e.getCause());
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "weather-hedge-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package dev.wony.mcp.tool.weather.client;
+
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기상청 API 서비스 키 풀
+ *
+ * <p>여러 서비스 키를 가중치 기반 라운드 로빈(smooth weighted round-robin)으로 번갈아 사용하고,
+ * 일일 할당량({@code weather.api.daily-quota})을 설정하면 키마다 하루 호출 수를 집계하여 할당량을 넘은 키는 다음 날(KST)까지 건너뜁니다.
+ * 인증 오류나 할당량 초과 응답을 받은 키는 자동으로 격리하여, 키 하나가 폐기되어도 나머지 키로 계속 조회합니다.
+ * 다만 마지막 남은 키는 인증 오류가 일시적일 수 있으므로 격리하지 않고 짧게 물러났다가(지수 백오프) 다시 사용하며,
+ * 초당 호출 제한(HTTP 429)도 같은 짧은 백오프로 처리합니다. 다음 날까지 격리하는 것은 일일 할당량 초과(결과 코드 22)뿐입니다.
+ *
+ * <p>키는 {@code weather.api.service-keys}에 {@code 키} 또는 {@code 키:가중치} 형식으로 나열하며,
+ * 비어 있으면 {@code weather.api.service-key} 하나만 사용합니다.
+ */
+@Component
+public class ServiceKeyPool {
+
+    // 서비스 접근 거부, 미등록 키, 활용 기간 만료, 미등록 IP
+    static final Set<String> AUTH_ERROR_CODES = Set.of("20", "30", "31", "32");
+    // 서비스 요청 제한 횟수 초과
+    static final String QUOTA_ERROR_CODE = "22";
+    // 짧은 백오프의 첫 대기 시간과 최대 대기 시간 (연속 실패마다 두 배)
+    static final Duration BACKOFF_INITIAL = Duration.ofSeconds(1);
+    static final Duration BACKOFF_MAX = Duration.ofMinutes(1);
+    // 키별 일일 호출 한도 기본값 (0이면 제한 없음, 키마다 한도가 다르므로 운영자가 설정)
+    static final long DEFAULT_DAILY_QUOTA = 0;
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceKeyPool.class);
+
+    private final List<KeyState> keys;
+    private final long dailyQuota;
+    private final Duration quarantine;
+    private final Clock clock;
+
+    @Autowired
+    public ServiceKeyPool(
+            @Value("${weather.api.service-key:}") String serviceKey,
+            @Value("${weather.api.service-keys:}") List<String> serviceKeys,
+            @Value("${weather.api.daily-quota:" + DEFAULT_DAILY_QUOTA + "}") long dailyQuota,
+            @Value("${weather.api.quarantine:1h}") Duration quarantine) {
+        this(entries(serviceKey, serviceKeys), dailyQuota, quarantine, Clock.systemUTC());
+    }
+
+    ServiceKeyPool(List<String> entries, long dailyQuota, Duration quarantine, Clock clock) {
+        this.keys = new ArrayList<>();
+        for (String entry : entries) {
+            keys.add(KeyState.parse(entry));
+        }
+        this.dailyQuota = dailyQuota;
+        this.quarantine = quarantine;
+        this.clock = clock;
+    }
+
+    /**
+     * 키 하나만 사용하는 풀 (할당량 제한 없음)
+     */
+    public static ServiceKeyPool of(String serviceKey) {
+        return new ServiceKeyPool(List.of(serviceKey == null ? "" : serviceKey), DEFAULT_DAILY_QUOTA, Duration.ofHours(1),
+                Clock.systemUTC());
+    }
+
+    private static List<String> entries(String serviceKey, List<String> serviceKeys) {
+        List<String> entries = serviceKeys.stream()
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .toList();
+        return entries.isEmpty() ? List.of(serviceKey == null ? "" : serviceKey) : entries;
+    }
+
+    /**
+     * 다음 요청에 사용할 키 선택 (호출 수 집계)
+     * 격리되었거나 일일 할당량을 넘은 키는 건너뜁니다.
+     *
+     * @throws RestClientException 사용할 수 있는 키가 없는 경우
+     */
+    public synchronized String acquire() {
+        Instant now = clock.instant();
+        LocalDate today = today(now);
+        KeyState selected = null;
+        int totalWeight = 0;
+        for (KeyState key : keys) {
+            key.rollOver(today);
+            if (!key.isAvailable(now, dailyQuota)) {
+                continue;
+            }
+            key.currentWeight += key.weight;
+            totalWeight += key.weight;
+            if (selected == null || key.currentWeight > selected.currentWeight) {
+                selected = key;
+            }
+        }
+        if (selected == null) {
+            throw new RestClientException("사용 가능한 기상청 API 서비스 키가 없습니다 (격리 또는 일일 할당량 초과).");
+        }
+        selected.currentWeight -= totalWeight;
+        selected.usedToday++;
+        return selected.key;
+    }
+
+    /**
+     * 지금 사용할 수 있는 키가 있는지 확인
+     */
+    public synchronized boolean hasAvailable() {
+        Instant now = clock.instant();
+        LocalDate today = today(now);
+        for (KeyState key : keys) {
+            key.rollOver(today);
+            if (key.isAvailable(now, dailyQuota)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 응답 결과 코드 반영 (인증 오류는 격리 기간 또는 짧은 백오프, 할당량 초과는 다음 날까지 격리)
+     * 키가 받아들여진 응답이면 연속 실패 횟수를 초기화합니다.
+     *
+     * @return 키 때문에 거부된 응답이면 true (다른 키로 다시 요청할 수 있음)
+     */
+    public boolean record(String key, WeatherApiResponse response) {
+        String resultCode = resultCode(response);
+        if (resultCode == null) {
+            return false;
+        }
+        if (QUOTA_ERROR_CODE.equals(resultCode)) {
+            quarantine(key, nextDay(clock.instant()), resultCode);
+            return true;
+        }
+        if (AUTH_ERROR_CODES.contains(resultCode)) {
+            reject(key, resultCode);
+            return true;
+        }
+        resetFailures(key);
+        return false;
+    }
+
+    /**
+     * 서비스 키 때문에 거부된 응답인지 확인 (인증 오류, 할당량 초과)
+     * 요청한 격자와 무관한 오류이므로 격자별 실패 결과로 기억하지 않습니다.
+     */
+    public static boolean isKeyRejection(WeatherApiResponse response) {
+        String resultCode = resultCode(response);
+        return resultCode != null && (QUOTA_ERROR_CODE.equals(resultCode) || AUTH_ERROR_CODES.contains(resultCode));
+    }
+
+    private static String resultCode(WeatherApiResponse response) {
+        if (response == null || response.response() == null || response.response().header() == null) {
+            return null;
+        }
+        return response.response().header().resultCode();
+    }
+
+    /**
+     * HTTP 오류 응답 반영 (401/403은 격리 기간 또는 짧은 백오프, 429는 초당 호출 제한이므로 짧은 백오프)
+     */
+    public void recordHttpStatus(String key, int status) {
+        if (status == 429) {
+            backOff(key, "HTTP " + status);
+        } else if (status == 401 || status == 403) {
+            reject(key, "HTTP " + status);
+        }
+    }
+
+    /**
+     * 키별 상태 (키는 앞 4자리만 표시)
+     */
+    public synchronized List<KeyStatus> status() {
+        Instant now = clock.instant();
+        LocalDate today = today(now);
+        List<KeyStatus> result = new ArrayList<>(keys.size());
+        for (KeyState key : keys) {
+            key.rollOver(today);
+            result.add(new KeyStatus(mask(key.key), key.weight, key.usedToday,
+                    key.quarantinedUntil != null && key.quarantinedUntil.isAfter(now) ? key.quarantinedUntil : null));
+        }
+        return result;
+    }
+
+    /**
+     * 키별 일일 호출 한도 (0이면 제한 없음)
+     */
+    public long dailyQuota() {
+        return dailyQuota;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * 인증 오류를 받은 키 제외
+     * 다른 사용 가능한 키가 있으면 격리 기간 동안 제외하고, 마지막 남은 키는 짧은 백오프 후 다시 사용합니다.
+     */
+    private synchronized void reject(String key, String reason) {
+        Instant now = clock.instant();
+        LocalDate today = today(now);
+        for (KeyState state : keys) {
+            state.rollOver(today);
+            if (!state.key.equals(key) && state.isAvailable(now, dailyQuota)) {
+                quarantine(key, now.plus(quarantine), reason);
+                return;
+            }
+        }
+        backOff(key, reason);
+    }
+
+    /**
+     * 연속 실패 횟수에 따라 1초부터 두 배씩 늘려 최대 1분까지 제외
+     */
+    private synchronized void backOff(String key, String reason) {
+        Instant now = clock.instant();
+        for (KeyState state : keys) {
+            if (state.key.equals(key)) {
+                state.failures++;
+                Duration delay = state.failures > 6
+                        ? BACKOFF_MAX
+                        : BACKOFF_INITIAL.multipliedBy(1L << (state.failures - 1));
+                state.quarantinedUntil = now.plus(delay.compareTo(BACKOFF_MAX) > 0 ? BACKOFF_MAX : delay);
+                state.currentWeight = 0;
+                log.warn("서비스 키 {} 일시 제외 ({}, 연속 {}회), 해제 시각: {}",
+                        mask(key), reason, state.failures, state.quarantinedUntil);
+            }
+        }
+    }
+
+    private synchronized void resetFailures(String key) {
+        for (KeyState state : keys) {
+            if (state.failures > 0 && state.key.equals(key)) {
+                state.failures = 0;
+            }
+        }
+    }
+
+    private synchronized void quarantine(String key, Instant until, String reason) {
+        for (KeyState state : keys) {
+            if (state.key.equals(key)) {
+                state.quarantinedUntil = until;
+                state.currentWeight = 0;
+                log.warn("서비스 키 {} 격리 ({}), 해제 시각: {}", mask(key), reason, until);
+            }
+        }
+    }
+
+    private static LocalDate today(Instant now) {
+        return now.atOffset(Forecast.KST).toLocalDate();
+    }
+
+    private static Instant nextDay(Instant now) {
+        return today(now).plusDays(1).atStartOfDay().toInstant(Forecast.KST);
+    }
+
+    private static String mask(String key) {
+        return key.length() <= 4 ? "****" : key.substring(0, 4) + "****";
+    }
+
+    /**
+     * 키 상태
+     *
+     * @param maskedKey        앞 4자리만 표시한 키
+     * @param weight           가중치
+     * @param usedToday        오늘(KST) 호출 수
+     * @param quarantinedUntil 격리 해제 시각, 격리 중이 아니면 null
+     */
+    public record KeyStatus(String maskedKey, int weight, long usedToday, Instant quarantinedUntil) {
+    }
+
+    private static final class KeyState {
+        private final String key;
+        private final int weight;
+        private int currentWeight;
+        private long usedToday;
+        private LocalDate day;
+        private Instant quarantinedUntil;
+        // 짧은 백오프를 결정하는 연속 실패 횟수
+        private int failures;
+
+        private KeyState(String key, int weight) {
+            this.key = key;
+            this.weight = weight;
+        }
+
+        /**
+         * {@code 키} 또는 {@code 키:가중치} 형식 해석
+         */
+        private static KeyState parse(String entry) {
+            int separator = entry.lastIndexOf(':');
+            if (separator > 0) {
+                String weight = entry.substring(separator + 1).trim();
+                if (!weight.isEmpty() && weight.chars().allMatch(Character::isDigit)) {
+                    int parsed = Integer.parseInt(weight);
+                    if (parsed <= 0) {
+                        throw new IllegalArgumentException("서비스 키 가중치는 1 이상이어야 합니다: " + parsed);
+                    }
+                    return new KeyState(entry.substring(0, separator).trim(), parsed);
+                }
+            }
+            return new KeyState(entry.trim(), 1);
+        }
+
+        private void rollOver(LocalDate today) {
+            if (!today.equals(day)) {
+                day = today;
+                usedToday = 0;
+            }
+        }
+
+        private boolean isAvailable(Instant now, long dailyQuota) {
+            if (quarantinedUntil != null && quarantinedUntil.isAfter(now)) {
+                return false;
+            }
+            return dailyQuota <= 0 || usedToday < dailyQuota;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package dev.wony.mcp.tool.weather.cluster;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 격자를 노드에 나누는 일관 해시 링
+ *
+ * <p>노드마다 가상 노드 {@code virtualNodes}개를 링에 두고, 격자 해시에서 시계 방향으로 처음 만나는 가상 노드의 노드가 격자를 담당합니다.
+ * 노드를 하나 더하거나 빼면 그 노드가 맡던(맡을) 격자만 옮겨지고 나머지 격자의 담당 노드는 바뀌지 않습니다.
+ * 해시는 노드 이름과 격자 번호만으로 정해지므로, 같은 노드 목록을 가진 인스턴스는 목록 순서와 관계없이 같은 담당 노드를 계산합니다.
+ */
+final class ConsistentHashRing {
+
+    private final List<String> nodes;
+    private final long[] points;
+    private final int[] owners;
+
+    ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes <= 0) {
+            throw new IllegalArgumentException("노드와 가상 노드 수는 1 이상이어야 합니다: " + nodes + ", " + virtualNodes);
+        }
+        this.nodes = List.copyOf(nodes);
+
+        long[] hashes = new long[nodes.size() * virtualNodes];
+        for (int node = 0; node < nodes.size(); node++) {
+            long nodeHash = fnv1a(nodes.get(node));
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                int index = node * virtualNodes + replica;
+                hashes[index] = mix(nodeHash + replica * 0x9E3779B97F4A7C15L);
+            }
+        }
+
+        // 가상 노드 순번을 해시 순으로 정렬 (순번 / virtualNodes가 노드 번호)
+        Integer[] order = new Integer[hashes.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+        this.points = new long[hashes.length];
+        this.owners = new int[hashes.length];
+        for (int i = 0; i < order.length; i++) {
+            points[i] = hashes[order[i]];
+            owners[i] = order[i] / virtualNodes;
+        }
+    }
+
+    /**
+     * 격자를 담당하는 노드
+     */
+    String owner(GridCoordinate grid) {
+        long hash = mix((long) grid.nx() << 32 | grid.ny() & 0xFFFFFFFFL);
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return nodes.get(owners[index == points.length ? 0 : index]);
+    }
+
+    List<String> nodes() {
+        return nodes;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        return value ^ value >>> 33;
+    }
+}
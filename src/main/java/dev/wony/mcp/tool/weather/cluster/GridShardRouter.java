@@ -0,0 +1,262 @@
+package dev.wony.mcp.tool.weather.cluster;
+
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.shared.ForecastCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 서버 인스턴스가 격자를 나눠 맡도록 담당 노드를 정하고, 다른 노드가 맡은 격자의 예보 조회를 그 노드로 전달하는 라우터
+ *
+ * <p>{@code weather.cluster.enabled=true}이면 {@code weather.cluster.peers}의 노드(자신 포함)를 일관 해시 링에 두고
+ * 격자마다 담당 노드를 정합니다. 담당 노드만 기상청 API를 호출하고 예보를 캐시하므로, 클러스터 전체 캐시에 격자가 한 번만 들어가고
+ * 노드 수가 늘어도 API 호출은 늘지 않습니다. 다른 노드가 맡은 격자는 내부 HTTP 엔드포인트({@link ShardForecastController})로
+ * 바이너리 예보({@link ForecastCodec})를 받아 사용하며, 담당 노드에 연결할 수 없으면 직접 조회합니다.
+ *
+ * <p>노드 이름은 각 노드의 기본 URL(예: {@code http://localhost:8081})이며 {@code weather.cluster.self}가 목록에 있어야 합니다.
+ * 모든 노드가 같은 목록을 사용해야 담당 노드가 일치합니다.
+ * {@code weather.cluster.secret}을 설정하면 전달 요청에 {@link #SECRET_HEADER} 헤더로 실어 보내고,
+ * 내부 엔드포인트는 같은 값을 보낸 요청만 처리합니다 (모든 노드가 같은 값을 사용).
+ */
+@Component
+public class GridShardRouter {
+
+    public static final String FORECAST_PATH = "/internal/forecasts";
+    public static final DateTimeFormatter BASE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    public static final String SECRET_HEADER = "X-Weather-Cluster-Secret";
+
+    /**
+     * 담당 노드가 조회했지만 예보가 없을 때의 응답 상태 (본문은 사용자에게 보여줄 오류 메시지)
+     */
+    public static final int UNAVAILABLE_STATUS = 422;
+
+    private static final Logger log = LoggerFactory.getLogger(GridShardRouter.class);
+    private static final GridShardRouter STANDALONE = new GridShardRouter();
+
+    private final String self;
+    private final String secret;
+    private final ConsistentHashRing ring;
+    private final Duration timeout;
+    private final RestClient restClient;
+    private final WebClient webClient;
+    private final LongAdder forwarded = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    private GridShardRouter() {
+        this.self = null;
+        this.secret = "";
+        this.ring = null;
+        this.timeout = Duration.ZERO;
+        this.restClient = null;
+        this.webClient = null;
+    }
+
+    public GridShardRouter(boolean enabled, String self, List<String> peers, int virtualNodes, Duration timeout) {
+        this(enabled, self, peers, virtualNodes, timeout, "");
+    }
+
+    @Autowired
+    public GridShardRouter(
+            @Value("${weather.cluster.enabled:false}") boolean enabled,
+            @Value("${weather.cluster.self:}") String self,
+            @Value("${weather.cluster.peers:}") List<String> peers,
+            @Value("${weather.cluster.virtual-nodes:128}") int virtualNodes,
+            @Value("${weather.cluster.timeout:2s}") Duration timeout,
+            @Value("${weather.cluster.secret:}") String secret) {
+        List<String> nodes = new ArrayList<>();
+        for (String peer : peers) {
+            String node = normalize(peer);
+            if (!node.isEmpty() && !nodes.contains(node)) {
+                nodes.add(node);
+            }
+        }
+        this.self = normalize(self);
+        this.secret = secret == null ? "" : secret;
+        if (enabled && !nodes.contains(this.self)) {
+            throw new IllegalArgumentException("weather.cluster.self가 weather.cluster.peers에 없습니다: " + self + ", " + peers);
+        }
+
+        // 노드가 하나뿐이면 나눌 격자가 없으므로 전달하지 않음
+        this.ring = enabled && nodes.size() > 1 ? new ConsistentHashRing(nodes, virtualNodes) : null;
+        this.timeout = timeout;
+        if (ring != null) {
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+            requestFactory.setConnectTimeout(timeout);
+            requestFactory.setReadTimeout(timeout);
+            this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+            this.webClient = WebClient.builder().build();
+            log.info("격자 분산 사용: {} (노드 {}개)", this.self, nodes.size());
+        } else {
+            this.restClient = null;
+            this.webClient = null;
+        }
+    }
+
+    /**
+     * 모든 격자를 직접 조회하는 라우터 (단독 실행, 테스트용)
+     */
+    public static GridShardRouter standalone() {
+        return STANDALONE;
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node == null ? "" : node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    public boolean isEnabled() {
+        return ring != null;
+    }
+
+    /**
+     * 격자를 담당하는 노드 (사용하지 않으면 자신)
+     */
+    public String ownerOf(GridCoordinate grid) {
+        return ring == null ? self : ring.owner(grid);
+    }
+
+    /**
+     * 이 노드가 격자를 담당하는지 여부
+     */
+    public boolean isLocal(GridCoordinate grid) {
+        return ring == null || ring.owner(grid).equals(self);
+    }
+
+    /**
+     * 담당 노드에 예보 조회 전달
+     *
+     * @return 담당 노드의 조회 결과, 담당 노드에 연결할 수 없거나 응답이 올바르지 않으면 null (직접 조회)
+     */
+    public ForecastResult forward(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        String owner = ownerOf(grid);
+        forwarded.increment();
+        try {
+            byte[] payload = restClient.get()
+                    .uri(owner + FORECAST_PATH + "/{type}/{nx}/{ny}?base={base}",
+                            type.name(), grid.nx(), grid.ny(), baseDateTime.format(BASE_FORMATTER))
+                    .headers(this::addSecret)
+                    .retrieve()
+                    .body(byte[].class);
+            return decode(owner, payload);
+        } catch (RestClientResponseException e) {
+            return rejected(owner, e.getStatusCode().value(), e.getResponseBodyAsString(), e);
+        } catch (RestClientException e) {
+            return fallback(owner, e);
+        }
+    }
+
+    /**
+     * 담당 노드에 예보 조회 전달 (비동기)
+     *
+     * @return 담당 노드의 조회 결과, 담당 노드에 연결할 수 없거나 응답이 올바르지 않으면 빈 Mono (직접 조회)
+     */
+    public Mono<ForecastResult> forwardAsync(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        String owner = ownerOf(grid);
+        return Mono.defer(() -> {
+            forwarded.increment();
+            return webClient.get()
+                    .uri(owner + FORECAST_PATH + "/{type}/{nx}/{ny}?base={base}",
+                            type.name(), grid.nx(), grid.ny(), baseDateTime.format(BASE_FORMATTER))
+                    .headers(this::addSecret)
+                    .retrieve()
+                    .bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .timeout(timeout)
+                    .map(payload -> decode(owner, payload));
+        }).onErrorResume(WebClientResponseException.class, e -> {
+            ForecastResult result = rejected(owner, e.getStatusCode().value(), e.getResponseBodyAsString(), e);
+            return result == null ? Mono.empty() : Mono.just(result);
+        }).onErrorResume(Exception.class, e -> {
+            fallback(owner, e);
+            return Mono.empty();
+        });
+    }
+
+    private void addSecret(HttpHeaders headers) {
+        if (!secret.isEmpty()) {
+            headers.set(SECRET_HEADER, secret);
+        }
+    }
+
+    /**
+     * 내부 엔드포인트 요청의 공유 비밀 확인 (설정하지 않았으면 항상 허용)
+     */
+    public boolean isAuthorized(String presented) {
+        if (secret.isEmpty()) {
+            return true;
+        }
+        return presented != null && MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ForecastResult decode(String owner, byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            throw new RestClientException("담당 노드 응답 본문이 없습니다: " + owner);
+        }
+        try {
+            return ForecastResult.success(ForecastCodec.decode(payload));
+        } catch (IllegalArgumentException e) {
+            throw new RestClientException("담당 노드 응답을 읽을 수 없습니다: " + owner, e);
+        }
+    }
+
+    /**
+     * 담당 노드의 오류 응답 처리 (예보 없음은 그대로 전달, 그 밖의 오류는 직접 조회)
+     */
+    private ForecastResult rejected(String owner, int status, String body, Exception e) {
+        if (status == UNAVAILABLE_STATUS && body != null && !body.isEmpty()) {
+            return ForecastResult.failure(body);
+        }
+        return fallback(owner, e);
+    }
+
+    private ForecastResult fallback(String owner, Throwable e) {
+        fallbacks.increment();
+        log.debug("담당 노드 {}에 전달하지 못해 직접 조회합니다", owner, e);
+        return null;
+    }
+
+    public String self() {
+        return self;
+    }
+
+    public List<String> nodes() {
+        return ring == null ? List.of() : ring.nodes();
+    }
+
+    /**
+     * 담당 노드로 전달한 조회 수
+     */
+    public long forwardedCount() {
+        return forwarded.sum();
+    }
+
+    /**
+     * 담당 노드에 전달하지 못해 직접 조회한 수
+     */
+    public long fallbackCount() {
+        return fallbacks.sum();
+    }
+}
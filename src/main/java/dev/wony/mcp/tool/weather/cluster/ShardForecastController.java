@@ -0,0 +1,109 @@
+package dev.wony.mcp.tool.weather.cluster;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.shared.ForecastCodec;
+import dev.wony.mcp.tool.weather.util.BaseTimeCalculator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestClientException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 다른 노드가 전달한 예보 조회를 처리하는 내부 엔드포인트 (격자 분산 사용 시, HTTP 전송에서만 동작)
+ *
+ * <p>담당 여부와 관계없이 이 노드에서 조회하며 다시 전달하지 않으므로, 노드마다 목록이 잠시 달라도 전달이 반복되지 않습니다.
+ * 응답은 성공이면 바이너리 예보, 예보가 없으면 {@link GridShardRouter#UNAVAILABLE_STATUS}와 오류 메시지입니다.
+ *
+ * <p>요청마다 기상청 API를 호출할 수 있으므로 외부에 노출하지 않고 노드 사이의 내부망에서만 접근하게 합니다.
+ * {@code weather.cluster.secret}을 설정하면 같은 값을 {@link GridShardRouter#SECRET_HEADER} 헤더로 보낸 요청만 처리하며,
+ * 예보 영역 밖의 격자와 발표 일정에 없거나 최근 하루 범위를 벗어난 발표시각은 API를 호출하지 않고 거부합니다.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "weather.cluster", name = "enabled", havingValue = "true")
+public class ShardForecastController {
+
+    private static final MediaType TEXT_UTF8 = new MediaType("text", "plain", StandardCharsets.UTF_8);
+    // 기상청 API가 제공하는 과거 발표 범위
+    private static final Duration MAX_BASE_AGE = Duration.ofDays(1);
+    // 노드 사이 시계 차이 허용 범위
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(10);
+
+    private final WeatherService weatherService;
+    private final GridShardRouter shards;
+
+    public ShardForecastController(WeatherService weatherService, GridShardRouter shards) {
+        this.weatherService = weatherService;
+        this.shards = shards;
+    }
+
+    @GetMapping(GridShardRouter.FORECAST_PATH + "/{type}/{nx}/{ny}")
+    public ResponseEntity<byte[]> forecast(@PathVariable("type") String type, @PathVariable("nx") int nx,
+                                           @PathVariable("ny") int ny, @RequestParam("base") String base,
+                                           @RequestHeader(value = GridShardRouter.SECRET_HEADER, required = false)
+                                           String secret) {
+        return forecast(type, nx, ny, base, secret, LocalDateTime.now());
+    }
+
+    ResponseEntity<byte[]> forecast(String type, int nx, int ny, String base, String secret, LocalDateTime now) {
+        if (!shards.isAuthorized(secret)) {
+            return text(HttpStatus.FORBIDDEN, "내부 엔드포인트 인증에 실패했습니다.");
+        }
+        ForecastType forecastType;
+        LocalDateTime baseDateTime;
+        try {
+            forecastType = ForecastType.valueOf(type);
+            baseDateTime = LocalDateTime.parse(base, GridShardRouter.BASE_FORMATTER);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return text(HttpStatus.BAD_REQUEST, "요청 형식이 올바르지 않습니다: " + type + ", " + base);
+        }
+        GridCoordinate grid = new GridCoordinate(nx, ny);
+        if (!grid.isInForecastDomain()) {
+            return text(HttpStatus.BAD_REQUEST, "격자 번호가 올바르지 않습니다: " + nx + ", " + ny);
+        }
+        if (!isRecentIssuance(forecastType, baseDateTime, now)) {
+            return text(HttpStatus.BAD_REQUEST, "발표시각이 올바르지 않습니다: " + forecastType.name() + ", " + base);
+        }
+
+        try {
+            ForecastResult result = weatherService.loadShard(forecastType, grid, baseDateTime);
+            if (!result.isSuccess()) {
+                return text(HttpStatusCode.valueOf(GridShardRouter.UNAVAILABLE_STATUS), result.errorMessage());
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(ForecastCodec.encode(result.forecast()));
+        } catch (RestClientException e) {
+            return text(HttpStatus.BAD_GATEWAY, "기상청 API 호출 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 발표 일정에 있는 발표시각이고, 최근 하루 안(시계 차이 허용)인지 확인
+     */
+    private static boolean isRecentIssuance(ForecastType type, LocalDateTime baseDateTime, LocalDateTime now) {
+        return BaseTimeCalculator.scheduledIssuance(type, baseDateTime).equals(baseDateTime)
+                && !baseDateTime.isAfter(now.plus(MAX_CLOCK_SKEW))
+                && !baseDateTime.isBefore(now.minus(MAX_BASE_AGE));
+    }
+
+    private static ResponseEntity<byte[]> text(HttpStatusCode status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(TEXT_UTF8)
+                .body(message.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,94 @@
+package dev.wony.mcp.tool.weather.export;
+
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 여러 격자의 예보를 NDJSON으로 내보내는 엔드포인트 (HTTP 전송에서만 동작)
+ *
+ * <p>요청 본문에 "nx:ny" 격자를 줄바꿈이나 쉼표로 구분해 보내면, 조회가 끝나는 격자부터 바로 응답으로 흘려보냅니다.
+ * 요청 본문과 응답 본문 모두 메모리에 모으지 않으므로 분석 작업처럼 수백 개 격자를 한 번에 받을 때 사용합니다.
+ * 본문 길이가 {@code weather.export.max-body-size}를 넘는다고 알려진 요청은 바로 413으로 거부합니다.
+ *
+ * <p>요청 하나로 최대 {@code weather.export.max-grids}개 격자의 기상청 API 호출이 일어날 수 있으므로 외부에 그대로 노출하지 않습니다.
+ * {@code weather.export.secret}을 설정하면 같은 값을 {@link #SECRET_HEADER} 헤더로 보낸 요청만 처리하고 나머지는 403으로 거부합니다.
+ *
+ * <pre>
+ * curl -X POST 'http://localhost:8080/export/forecasts?type=VILAGE_FCST' \
+ *      -H 'X-Weather-Export-Secret: ...' -H 'Content-Type: text/plain' --data-binary @grids.txt
+ * </pre>
+ */
+@RestController
+@ConditionalOnProperty(prefix = "weather.export", name = "enabled", havingValue = "true")
+public class ForecastExportController {
+
+    public static final String EXPORT_PATH = "/export/forecasts";
+    public static final String SECRET_HEADER = "X-Weather-Export-Secret";
+
+    private static final MediaType TEXT_UTF8 = new MediaType("text", "plain", StandardCharsets.UTF_8);
+
+    private final ForecastExporter exporter;
+    private final String secret;
+
+    public ForecastExportController(ForecastExporter exporter, @Value("${weather.export.secret:}") String secret) {
+        this.exporter = exporter;
+        this.secret = secret == null ? "" : secret;
+    }
+
+    @PostMapping(path = EXPORT_PATH, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "type", defaultValue = "VILAGE_FCST") String type,
+            @RequestHeader(name = SECRET_HEADER, required = false) String presentedSecret,
+            @RequestHeader(name = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body) {
+        if (!isAuthorized(presentedSecret)) {
+            return text(HttpStatus.FORBIDDEN, "내보내기 엔드포인트 인증에 실패했습니다.");
+        }
+        ForecastType forecastType;
+        try {
+            forecastType = ForecastType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            return text(HttpStatus.BAD_REQUEST, "알 수 없는 조회 종류입니다: " + type);
+        }
+        if (contentLength != null && contentLength > exporter.maxBodyBytes()) {
+            return text(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "요청 본문은 최대 " + exporter.maxBodyBytes() + "바이트까지 보낼 수 있습니다: " + contentLength);
+        }
+
+        // 요청 본문은 응답을 출력하면서 격자 하나씩 읽음 (길이를 알 수 없는 본문도 최대 크기까지만 읽음)
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> exporter.export(forecastType, body, out));
+    }
+
+    /**
+     * 공유 비밀 확인 (설정하지 않았으면 항상 허용)
+     */
+    private boolean isAuthorized(String presented) {
+        if (secret.isEmpty()) {
+            return true;
+        }
+        return presented != null && MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> text(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(TEXT_UTF8)
+                .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
+}
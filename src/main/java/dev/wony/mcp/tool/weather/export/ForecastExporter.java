@@ -0,0 +1,343 @@
+package dev.wony.mcp.tool.weather.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastJsonWriter;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.issuance.IssuanceTracker;
+import dev.wony.mcp.tool.weather.util.BaseTimeCalculator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClientException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Scanner;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 여러 격자의 예보를 격자-시각당 한 줄의 JSON(NDJSON)으로 스트리밍 출력
+ *
+ * <p>격자 목록을 하나씩 읽어 최대 {@code weather.export.concurrency}개까지만 동시에 조회하고, 조회가 끝나는 순서대로
+ * 바로 출력한 뒤 다음 격자를 조회합니다. 출력이 느리면 조회도 멈추므로(배압) 메모리에는 동시 조회 수만큼의 예보만 남고,
+ * 격자 수와 관계없이 사용량이 일정합니다. 조회는 캐시 우선이며 격자 분산 사용 시 담당 노드로 전달됩니다.
+ * 요청 본문도 출력하면서 필요한 만큼만 읽으며, {@code weather.export.max-body-size}를 넘는 본문은 더 읽지 않습니다.
+ *
+ * <pre>
+ * {"type":"VILAGE_FCST","nx":60,"ny":127,"baseTime":1760824800,"time":1760828400,"TMP":22,"SKY":1,"PCP":"강수없음"}
+ * {"type":"VILAGE_FCST","grid":"999:1","baseTime":1760824800,"error":"예보 격자 범위 밖입니다: 999:1"}
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(prefix = "weather.export", name = "enabled", havingValue = "true")
+public class ForecastExporter {
+
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int DEFAULT_MAX_GRIDS = 10_000;
+    public static final DataSize DEFAULT_MAX_BODY_SIZE = DataSize.ofKilobytes(256);
+    // 요청 본문의 격자 구분자 (쉼표, 공백, 줄바꿈)
+    public static final String GRID_DELIMITER = "[,\\s]+";
+
+    // 줄 구분은 직접 쓰므로 최상위 값 사이 기본 구분자(공백)는 쓰지 않음
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .setRootValueSeparator(null);
+
+    private final WeatherService weatherService;
+    private final IssuanceTracker issuanceTracker;
+    private final ExecutorService executor;
+    private final int concurrency;
+    private final int maxGrids;
+    private final long maxBodyBytes;
+
+    public ForecastExporter(WeatherService weatherService, IssuanceTracker issuanceTracker, int concurrency, int maxGrids) {
+        this(weatherService, issuanceTracker, concurrency, maxGrids, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    @Autowired
+    public ForecastExporter(
+            WeatherService weatherService,
+            IssuanceTracker issuanceTracker,
+            @Value("${weather.export.concurrency:" + DEFAULT_CONCURRENCY + "}") int concurrency,
+            @Value("${weather.export.max-grids:" + DEFAULT_MAX_GRIDS + "}") int maxGrids,
+            @Value("${weather.export.max-body-size:256KB}") DataSize maxBodySize) {
+        if (concurrency <= 0 || maxGrids <= 0 || maxBodySize.toBytes() <= 0) {
+            throw new IllegalArgumentException("동시 조회 수, 최대 격자 수, 최대 본문 크기는 1 이상이어야 합니다: "
+                    + concurrency + ", " + maxGrids + ", " + maxBodySize);
+        }
+        this.weatherService = weatherService;
+        this.issuanceTracker = issuanceTracker;
+        this.concurrency = concurrency;
+        this.maxGrids = maxGrids;
+        this.maxBodyBytes = maxBodySize.toBytes();
+        AtomicInteger threadCount = new AtomicInteger();
+        // 동시에 여러 내보내기가 실행되어도 전체 조회 수는 concurrency를 넘지 않음
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "weather-export-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 격자 목록의 최신 발표 예보를 NDJSON으로 출력
+     *
+     * @param type  조회 종류
+     * @param grids "nx:ny" 형식의 격자 목록 (필요할 때 하나씩 읽음)
+     * @param out   출력 스트림 (닫지 않음)
+     * @return 출력 결과 요약
+     * @throws IOException 출력에 실패한 경우 (클라이언트 연결 종료 등), 이후 격자는 조회하지 않음
+     */
+    public ExportSummary export(ForecastType type, Iterator<String> grids, OutputStream out) throws IOException {
+        return export(type, grids, out, () -> false);
+    }
+
+    /**
+     * 요청 본문의 격자 목록을 읽으면서 NDJSON으로 출력
+     * 본문이 최대 크기를 넘으면 더 읽지 않고 오류 줄을 남깁니다 (이미 읽어 둔 격자는 내보냄).
+     *
+     * @param body 쉼표나 공백, 줄바꿈으로 구분한 "nx:ny" 격자 목록 (UTF-8, 닫지 않음)
+     */
+    public ExportSummary export(ForecastType type, InputStream body, OutputStream out) throws IOException {
+        LimitedInputStream limited = new LimitedInputStream(body, maxBodyBytes);
+        Scanner scanner = new Scanner(new InputStreamReader(limited, StandardCharsets.UTF_8)).useDelimiter(GRID_DELIMITER);
+        Iterator<String> grids = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                // 한도를 넘어 읽기가 끊기면 마지막 토큰이 잘린 격자일 수 있으므로 쓰지 않음
+                return scanner.hasNext() && scanner.ioException() == null;
+            }
+
+            @Override
+            public String next() {
+                return scanner.next();
+            }
+        };
+        return export(type, grids, out, limited::exceeded);
+    }
+
+    private ExportSummary export(ForecastType type, Iterator<String> grids, OutputStream out,
+                                 BooleanSupplier bodyTruncated) throws IOException {
+        LocalDateTime baseDateTime = issuanceTracker.resolve(type, BaseTimeCalculator.baseTime(type, LocalDateTime.now()));
+        long baseEpochSecond = Forecast.toEpochSecond(baseDateTime);
+        CompletionService<GridExport> completions = new ExecutorCompletionService<>(executor);
+
+        int submitted = 0;
+        int inFlight = 0;
+        int lines = 0;
+        int failures = 0;
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            while (true) {
+                while (inFlight < concurrency && submitted < maxGrids && grids.hasNext()) {
+                    String grid = grids.next().trim();
+                    if (grid.isEmpty()) {
+                        continue;
+                    }
+                    completions.submit(() -> load(type, grid, baseDateTime));
+                    submitted++;
+                    inFlight++;
+                }
+                if (inFlight == 0) {
+                    break;
+                }
+
+                GridExport done = take(completions);
+                inFlight--;
+                if (done.forecast() != null) {
+                    lines += write(generator, done.forecast());
+                } else {
+                    writeError(generator, type, done.grid(), baseEpochSecond, done.error());
+                    failures++;
+                    lines++;
+                }
+                // 격자 하나를 쓸 때마다 내보내 클라이언트가 바로 받도록 함
+                generator.flush();
+            }
+
+            if (submitted == maxGrids && grids.hasNext()) {
+                writeError(generator, type, grids.next().trim(), baseEpochSecond,
+                        "격자는 최대 " + maxGrids + "개까지 내보낼 수 있습니다. 이후 격자는 생략합니다.");
+                failures++;
+                lines++;
+            } else if (bodyTruncated.getAsBoolean()) {
+                writeError(generator, type, null, baseEpochSecond,
+                        "요청 본문은 최대 " + maxBodyBytes + "바이트까지 읽습니다. 이후 격자는 생략합니다.");
+                failures++;
+                lines++;
+            }
+        }
+        return new ExportSummary(submitted, lines, failures);
+    }
+
+    private GridExport load(ForecastType type, String raw, LocalDateTime baseDateTime) {
+        GridCoordinate grid;
+        try {
+            grid = GridCoordinate.parse(raw);
+        } catch (IllegalArgumentException e) {
+            return GridExport.failure(raw, e.getMessage());
+        }
+        if (!grid.isInForecastDomain()) {
+            return GridExport.failure(raw, "예보 격자 범위 밖입니다: " + raw);
+        }
+        try {
+            ForecastResult result = weatherService.refresh(type, grid, baseDateTime);
+            return result.isSuccess()
+                    ? new GridExport(raw, result.forecast(), null)
+                    : GridExport.failure(raw, result.errorMessage());
+        } catch (RestClientException e) {
+            return GridExport.failure(raw, "기상청 API 호출 실패: " + e.getMessage());
+        }
+    }
+
+    private static GridExport take(CompletionService<GridExport> completions) throws IOException {
+        try {
+            return completions.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("예보 내보내기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("예보 조회 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 예보를 시각당 한 줄씩 출력
+     *
+     * @return 출력한 줄 수
+     */
+    private static int write(JsonGenerator generator, Forecast forecast) throws IOException {
+        int lines = 0;
+        for (int hour = 0; hour < forecast.hourCount(); hour++) {
+            if (!forecast.hasAny(hour)) {
+                continue;
+            }
+            generator.writeStartObject();
+            generator.writeStringField("type", forecast.type().name());
+            generator.writeNumberField("nx", forecast.grid().nx());
+            generator.writeNumberField("ny", forecast.grid().ny());
+            generator.writeNumberField("baseTime", forecast.baseEpochSecond());
+            generator.writeNumberField("time", forecast.epochSecondAt(hour));
+            ForecastJsonWriter.writeValues(generator, forecast, hour);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            lines++;
+        }
+        return lines;
+    }
+
+    private static void writeError(JsonGenerator generator, ForecastType type, String grid, long baseEpochSecond,
+                                   String message) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", type.name());
+        if (grid != null) {
+            generator.writeStringField("grid", grid);
+        }
+        generator.writeNumberField("baseTime", baseEpochSecond);
+        generator.writeStringField("error", message);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    public int maxGrids() {
+        return maxGrids;
+    }
+
+    public long maxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 최대 크기까지만 읽는 입력 스트림 (넘으면 읽기 실패)
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long remaining;
+        private boolean exceeded;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            // 한도까지 읽은 뒤에는 한 바이트를 더 읽어 보아 본문이 남았는지 확인
+            int read = super.read(buffer, offset, (int) Math.min(length, Math.max(remaining, 1)));
+            if (read < 0) {
+                return -1;
+            }
+            if (read > remaining) {
+                exceeded = true;
+                throw new IOException("요청 본문이 최대 크기(" + limit + "바이트)를 넘었습니다.");
+            }
+            remaining -= read;
+            return read;
+        }
+
+        private boolean exceeded() {
+            return exceeded;
+        }
+    }
+
+    /**
+     * 격자 하나의 조회 결과 (예보 또는 오류 메시지)
+     */
+    private record GridExport(String grid, Forecast forecast, String error) {
+
+        static GridExport failure(String grid, String error) {
+            return new GridExport(grid, null, error);
+        }
+    }
+
+    /**
+     * 내보내기 결과 요약
+     *
+     * @param grids    조회한 격자 수
+     * @param lines    출력한 줄 수 (오류 줄 포함)
+     * @param failures 오류 줄 수
+     */
+    public record ExportSummary(int grids, int lines, int failures) {
+    }
+}
@@ -0,0 +1,135 @@
+package dev.wony.mcp.tool.weather.history;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.util.CoordinateConverter;
+import dev.wony.mcp.tool.weather.util.WeatherCodeInterpreter;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 기록된 초단기실황 관측 이력 조회 서비스
+ * 관측 로그만 읽으며 기상청 API를 호출하지 않습니다.
+ */
+@Service
+public class ObservationHistoryService {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd HHmm");
+    private static final int DEFAULT_HOURS = 24;
+    private static final int MAX_HOURS = 24 * 7;
+
+    private final ObservationRecorder observationRecorder;
+
+    public ObservationHistoryService(ObservationRecorder observationRecorder) {
+        this.observationRecorder = observationRecorder;
+    }
+
+    /**
+     * 초단기실황 관측 이력 조회
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @param hours     조회할 최근 시간 수
+     * @return 관측 이력
+     */
+    @Tool(description = "Get recorded hourly weather observations for a latitude/longitude in Korea over the last N hours (how the weather has changed today). Reads the local observation log only, no upstream API call.")
+    public String getObservationHistory(
+            @ToolParam(description = "Latitude (위도)") double latitude,
+            @ToolParam(description = "Longitude (경도)") double longitude,
+            @ToolParam(description = "조회할 최근 시간 수 (기본 24, 최대 168)", required = false) Integer hours
+    ) {
+        if (!observationRecorder.isEnabled()) {
+            return "관측 기록이 비활성화되어 있습니다. (weather.history.enabled=true 로 설정하세요)";
+        }
+
+        GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+        if (!observationRecorder.isTracked(grid)) {
+            return String.format("기록 대상 격자가 아닙니다: (%d, %d)", grid.nx(), grid.ny());
+        }
+
+        int range = hours == null || hours <= 0 ? DEFAULT_HOURS : Math.min(hours, MAX_HOURS);
+        long now = Forecast.toEpochSecond(LocalDateTime.now());
+        List<ObservationRecord> records = observationRecorder.history(
+                grid, now - (long) range * Forecast.HOUR_SECONDS, now);
+
+        return formatHistory(records, latitude, longitude, range);
+    }
+
+    /**
+     * 관측 이력 포맷팅
+     */
+    private String formatHistory(List<ObservationRecord> records, double latitude, double longitude, int hours) {
+        if (records.isEmpty()) {
+            return String.format("최근 %d시간 동안 기록된 관측 정보가 없습니다.", hours);
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("=== 초단기실황 기록 (위도: %.4f, 경도: %.4f) ===\n", latitude, longitude));
+        result.append(String.format("기간: 최근 %d시간 (%d건)\n", hours, records.size()));
+        appendTemperatureSummary(result, records);
+        result.append("\n");
+
+        for (ObservationRecord record : records) {
+            result.append('[').append(Forecast.toDateTime(record.epochSecond()).format(TIME_FORMATTER)).append("] ");
+            boolean first = true;
+            for (WeatherCategory category : ObservationRecord.CATEGORIES) {
+                float value = record.value(category);
+                if (Float.isNaN(value) || category == WeatherCategory.UUU || category == WeatherCategory.VVV) {
+                    continue;
+                }
+                if (!first) {
+                    result.append(", ");
+                }
+                first = false;
+                appendValue(result, category, value);
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+
+    private void appendTemperatureSummary(StringBuilder result, List<ObservationRecord> records) {
+        float min = Float.NaN;
+        float max = Float.NaN;
+        float first = Float.NaN;
+        float last = Float.NaN;
+        for (ObservationRecord record : records) {
+            float value = record.value(WeatherCategory.T1H);
+            if (Float.isNaN(value)) {
+                continue;
+            }
+            min = Float.isNaN(min) ? value : Math.min(min, value);
+            max = Float.isNaN(max) ? value : Math.max(max, value);
+            first = Float.isNaN(first) ? value : first;
+            last = value;
+        }
+        if (!Float.isNaN(min)) {
+            result.append(String.format("기온: 최저 %s℃ / 최고 %s℃ (변화 %+.1f℃)\n",
+                    formatNumber(min), formatNumber(max), last - first));
+        }
+    }
+
+    private void appendValue(StringBuilder result, WeatherCategory category, float value) {
+        String number = formatNumber(value);
+        if (category == WeatherCategory.PTY) {
+            result.append("강수형태: ").append(WeatherCodeInterpreter.interpretPrecipitationType(number));
+        } else if (category == WeatherCategory.VEC) {
+            result.append("풍향: ").append(WeatherCodeInterpreter.interpretWindDirection(number));
+        } else {
+            result.append(category.getDescription()).append(": ").append(number).append(category.getUnit());
+        }
+    }
+
+    private static String formatNumber(float value) {
+        if (value == Math.rint(value)) {
+            return String.valueOf((long) value);
+        }
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,258 @@
+package dev.wony.mcp.tool.weather.history;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 초단기실황 관측값의 추가 전용(append-only) 로그
+ *
+ * <p>로그는 시간 구간(bucket)별 세그먼트 파일로 나뉩니다. 관측 시각이 현재 세그먼트의 구간을 벗어나거나
+ * 세그먼트가 가득 차면 새 세그먼트로 넘어갑니다. 구간은 KST 자정 기준으로 정렬됩니다.
+ *
+ * <p>같은 격자, 같은 관측 시각의 기록이 여러 번 추가되면 나중에 추가된 기록이 유효합니다.
+ * {@link #compact(long)}는 닫힌 세그먼트를 구간별로 합쳐 중복 기록을 제거하고, 보관 기간이 지난 세그먼트를 삭제합니다.
+ *
+ * <p>추가와 압축은 락으로 직렬화되고, 조회는 세그먼트 목록 스냅샷을 사용하여 락 없이 수행됩니다.
+ */
+public class ObservationLog implements Closeable {
+
+    public static final int DEFAULT_SEGMENT_RECORDS = 65_536;
+
+    private static final Comparator<ObservationSegment> SEGMENT_ORDER =
+            Comparator.comparingLong(ObservationSegment::bucketStart).thenComparingLong(ObservationSegment::sequence);
+
+    private final Path directory;
+    private final long segmentSeconds;
+    private final long retentionSeconds;
+    private final int segmentRecords;
+    private final Object writeLock = new Object();
+
+    private volatile List<ObservationSegment> segments;
+    private ObservationSegment active;
+    private long nextSequence;
+
+    /**
+     * 로그 열기 (디렉토리의 기존 세그먼트를 복구)
+     *
+     * @param directory       세그먼트 디렉토리
+     * @param segmentDuration 세그먼트 시간 구간
+     * @param retention       보관 기간
+     * @param segmentRecords  세그먼트당 최대 레코드 수
+     */
+    public ObservationLog(Path directory, Duration segmentDuration, Duration retention, int segmentRecords) {
+        if (segmentDuration.getSeconds() < Forecast.HOUR_SECONDS) {
+            throw new IllegalArgumentException("세그먼트 구간은 1시간 이상이어야 합니다: " + segmentDuration);
+        }
+        if (segmentRecords <= 0) {
+            throw new IllegalArgumentException("세그먼트 레코드 수는 1 이상이어야 합니다: " + segmentRecords);
+        }
+        this.directory = directory;
+        this.segmentSeconds = segmentDuration.getSeconds();
+        this.retentionSeconds = retention.getSeconds();
+        this.segmentRecords = segmentRecords;
+        try {
+            Files.createDirectories(directory);
+            this.segments = List.copyOf(recoverSegments());
+        } catch (IOException e) {
+            throw new UncheckedIOException("관측 로그를 열 수 없습니다: " + directory, e);
+        }
+        this.nextSequence = segments.stream().mapToLong(ObservationSegment::sequence).max().orElse(0) + 1;
+        this.active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    }
+
+    /**
+     * 관측 기록 추가
+     */
+    public void append(ObservationRecord record) {
+        synchronized (writeLock) {
+            try {
+                ObservationSegment target = activeSegmentFor(record.epochSecond());
+                if (!target.append(record)) {
+                    target = rollover(bucketStartOf(record.epochSecond()));
+                    target.append(record);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("관측 기록을 추가할 수 없습니다: " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * 격자의 관측 기록을 시간 범위로 조회
+     * 같은 관측 시각의 기록이 여러 개면 마지막 기록만 반환합니다.
+     *
+     * @param grid            격자 좌표
+     * @param fromEpochSecond 시작 시각 (포함)
+     * @param toEpochSecond   종료 시각 (포함)
+     * @return 관측 시각 순으로 정렬된 기록
+     */
+    public List<ObservationRecord> scan(GridCoordinate grid, long fromEpochSecond, long toEpochSecond) {
+        TreeMap<Long, ObservationRecord> latestByTime = new TreeMap<>();
+        for (ObservationSegment segment : segments) {
+            if (!segment.overlaps(fromEpochSecond, toEpochSecond)) {
+                continue;
+            }
+            segment.forEach(record -> {
+                if (record.grid().equals(grid)
+                        && record.epochSecond() >= fromEpochSecond && record.epochSecond() <= toEpochSecond) {
+                    latestByTime.put(record.epochSecond(), record);
+                }
+            });
+        }
+        return new ArrayList<>(latestByTime.values());
+    }
+
+    /**
+     * 닫힌 세그먼트 압축
+     * 보관 기간이 지난 세그먼트를 삭제하고, 현재 구간 이전의 세그먼트를 구간별로 하나로 합치며 중복 기록을 제거합니다.
+     *
+     * @param nowEpochSecond 현재 시각 (epoch 초)
+     * @return 압축 후 세그먼트 수
+     */
+    public int compact(long nowEpochSecond) {
+        synchronized (writeLock) {
+            long activeBucket = active != null ? active.bucketStart() : Long.MAX_VALUE;
+            long expiredBefore = nowEpochSecond - retentionSeconds;
+
+            List<ObservationSegment> kept = new ArrayList<>();
+            Map<Long, List<ObservationSegment>> closedByBucket = new LinkedHashMap<>();
+            List<ObservationSegment> removed = new ArrayList<>();
+            for (ObservationSegment segment : segments) {
+                if (segment == active) {
+                    kept.add(segment);
+                } else if (segment.count() == 0 || segment.maxEpochSecond() < expiredBefore) {
+                    removed.add(segment);
+                } else if (segment.bucketStart() < activeBucket) {
+                    closedByBucket.computeIfAbsent(segment.bucketStart(), k -> new ArrayList<>()).add(segment);
+                } else {
+                    kept.add(segment);
+                }
+            }
+
+            try {
+                for (Map.Entry<Long, List<ObservationSegment>> bucket : closedByBucket.entrySet()) {
+                    List<ObservationSegment> group = bucket.getValue();
+                    if (group.size() == 1 && !hasDuplicates(group.get(0))) {
+                        kept.add(group.get(0));
+                        continue;
+                    }
+                    kept.add(ObservationSegment.write(directory, bucket.getKey(), nextSequence++, merge(group)));
+                    removed.addAll(group);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("관측 로그를 압축할 수 없습니다: " + directory, e);
+            }
+
+            kept.sort(SEGMENT_ORDER);
+            segments = List.copyOf(kept);
+            removed.forEach(this::deleteQuietly);
+            return kept.size();
+        }
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            segments.forEach(ObservationSegment::close);
+        }
+    }
+
+    private ObservationSegment activeSegmentFor(long epochSecond) throws IOException {
+        long bucket = bucketStartOf(epochSecond);
+        if (active == null || bucket > active.bucketStart()) {
+            return rollover(bucket);
+        }
+        // 현재 구간보다 이른 관측은 현재 세그먼트에 그대로 추가 (추가 전용)
+        return active;
+    }
+
+    private ObservationSegment rollover(long bucketStart) throws IOException {
+        if (active != null) {
+            active.force();
+        }
+        long bucket = active != null ? Math.max(bucketStart, active.bucketStart()) : bucketStart;
+        ObservationSegment segment = ObservationSegment.create(directory, bucket, nextSequence++, segmentRecords);
+        List<ObservationSegment> updated = new ArrayList<>(segments);
+        updated.add(segment);
+        updated.sort(SEGMENT_ORDER);
+        segments = List.copyOf(updated);
+        active = segment;
+        return segment;
+    }
+
+    private long bucketStartOf(long epochSecond) {
+        long offset = Forecast.KST.getTotalSeconds();
+        return Math.floorDiv(epochSecond + offset, segmentSeconds) * segmentSeconds - offset;
+    }
+
+    private List<ObservationSegment> recoverSegments() throws IOException {
+        List<ObservationSegment> recovered = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (ObservationSegment.isSegmentFile(file)) {
+                    recovered.add(ObservationSegment.open(file));
+                }
+            }
+        }
+        recovered.sort(SEGMENT_ORDER);
+        return recovered;
+    }
+
+    private static boolean hasDuplicates(ObservationSegment segment) {
+        Set<String> seen = new HashSet<>();
+        boolean[] duplicate = {false};
+        segment.forEach(record -> {
+            if (!seen.add(record.grid().toKey() + "@" + record.epochSecond())) {
+                duplicate[0] = true;
+            }
+        });
+        return duplicate[0];
+    }
+
+    private static List<ObservationRecord> merge(List<ObservationSegment> group) {
+        // 세그먼트 순서(기록 순서)대로 덮어써서 마지막 기록만 남김
+        Map<String, ObservationRecord> latest = new LinkedHashMap<>();
+        group.stream().sorted(SEGMENT_ORDER).forEach(segment -> segment.forEach(record ->
+                latest.put(record.grid().toKey() + "@" + record.epochSecond(), record)));
+        List<ObservationRecord> merged = new ArrayList<>(latest.values());
+        merged.sort(Comparator.comparingLong(ObservationRecord::epochSecond)
+                .thenComparingInt(record -> record.grid().nx())
+                .thenComparingInt(record -> record.grid().ny()));
+        return merged;
+    }
+
+    private void deleteQuietly(ObservationSegment segment) {
+        segment.close();
+        try {
+            Files.deleteIfExists(segment.path());
+        } catch (IOException e) {
+            // 매핑이 남아 삭제할 수 없는 경우(Windows) 다음 압축에서 다시 합쳐지며 정리됨
+        }
+    }
+}
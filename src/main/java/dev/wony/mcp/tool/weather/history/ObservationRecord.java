@@ -0,0 +1,88 @@
+package dev.wony.mcp.tool.weather.history;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 초단기실황 관측 기록 한 건
+ *
+ * <p>관측 요소는 {@link #CATEGORIES} 순서의 고정 길이 float 배열로 보관하며, 값이 없으면 {@link Float#NaN}입니다.
+ *
+ * @param grid        격자 좌표
+ * @param epochSecond 관측(발표) 시각 (epoch 초)
+ * @param values      {@link #CATEGORIES} 순서의 관측값
+ */
+public record ObservationRecord(GridCoordinate grid, long epochSecond, float[] values) {
+
+    /** 초단기실황 관측 요소 (기록 포맷의 필드 순서) */
+    public static final List<WeatherCategory> CATEGORIES = List.of(
+            WeatherCategory.T1H,
+            WeatherCategory.RN1,
+            WeatherCategory.UUU,
+            WeatherCategory.VVV,
+            WeatherCategory.REH,
+            WeatherCategory.PTY,
+            WeatherCategory.VEC,
+            WeatherCategory.WSD
+    );
+
+    public ObservationRecord {
+        if (values.length != CATEGORIES.size()) {
+            throw new IllegalArgumentException(
+                    String.format("관측값은 %d개여야 합니다: %d", CATEGORIES.size(), values.length));
+        }
+        values = values.clone();
+    }
+
+    /**
+     * 초단기실황 예보 모델에서 관측 기록 생성
+     */
+    public static ObservationRecord from(Forecast observation) {
+        float[] values = new float[CATEGORIES.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) observation.value(0, CATEGORIES.get(i));
+        }
+        return new ObservationRecord(observation.grid(), observation.baseEpochSecond(), values);
+    }
+
+    /**
+     * 관측 요소 값 조회
+     *
+     * @return 관측값, 기록 대상이 아니거나 값이 없으면 {@link Float#NaN}
+     */
+    public float value(WeatherCategory category) {
+        int index = CATEGORIES.indexOf(category);
+        return index < 0 ? Float.NaN : values[index];
+    }
+
+    @Override
+    public float[] values() {
+        return values.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ObservationRecord other)) {
+            return false;
+        }
+        return epochSecond == other.epochSecond && grid.equals(other.grid) && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * grid.hashCode() + Long.hashCode(epochSecond)) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "ObservationRecord[grid=" + grid + ", epochSecond=" + epochSecond
+                + ", values=" + Arrays.toString(values) + "]";
+    }
+}
@@ -0,0 +1,95 @@
+package dev.wony.mcp.tool.weather.history;
+
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.ForecastCacheListener;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 추적 대상 격자의 초단기실황을 관측 로그에 기록하는 리스너
+ *
+ * <p>{@code weather.history.enabled=true}일 때만 로그를 열고 예보 캐시에 리스너로 등록됩니다.
+ * 새 초단기실황이 캐시에 들어올 때마다 추적 대상 격자이면 한 건씩 추가하며, 주기적으로 로그를 압축합니다.
+ */
+@Component
+public class ObservationRecorder implements ForecastCacheListener {
+
+    private final ObservationLog observationLog;
+    private final Set<GridCoordinate> trackedGrids;
+
+    public ObservationRecorder(
+            ForecastCache forecastCache,
+            @Value("${weather.history.enabled:false}") boolean enabled,
+            @Value("${weather.history.directory:${java.io.tmpdir}/weather-mcp/history}") String directory,
+            @Value("${weather.history.grids:}") List<String> grids,
+            @Value("${weather.history.segment-duration:1d}") Duration segmentDuration,
+            @Value("${weather.history.retention:7d}") Duration retention,
+            @Value("${weather.history.segment-records:" + ObservationLog.DEFAULT_SEGMENT_RECORDS + "}") int segmentRecords) {
+        this.trackedGrids = grids.stream()
+                .filter(grid -> !grid.isBlank())
+                .map(GridCoordinate::parse)
+                .collect(Collectors.toUnmodifiableSet());
+        if (enabled) {
+            this.observationLog = new ObservationLog(Path.of(directory), segmentDuration, retention, segmentRecords);
+            forecastCache.addListener(this);
+        } else {
+            this.observationLog = null;
+        }
+    }
+
+    @Override
+    public void onIssuance(Forecast forecast, Forecast previous) {
+        if (forecast.type() == ForecastType.ULTRA_SRT_NCST && isTracked(forecast.grid())) {
+            observationLog.append(ObservationRecord.from(forecast));
+        }
+    }
+
+    /**
+     * 격자의 관측 기록 조회 (네트워크 호출 없음)
+     *
+     * @return 관측 시각 순 기록, 기록이 비활성화되어 있으면 빈 목록
+     */
+    public List<ObservationRecord> history(GridCoordinate grid, long fromEpochSecond, long toEpochSecond) {
+        if (observationLog == null) {
+            return List.of();
+        }
+        return observationLog.scan(grid, fromEpochSecond, toEpochSecond);
+    }
+
+    public boolean isEnabled() {
+        return observationLog != null;
+    }
+
+    /**
+     * 추적 대상 격자인지 확인 (대상 목록이 비어 있으면 모든 격자를 기록)
+     */
+    public boolean isTracked(GridCoordinate grid) {
+        return isEnabled() && (trackedGrids.isEmpty() || trackedGrids.contains(grid));
+    }
+
+    @Scheduled(fixedDelayString = "${weather.history.compaction-interval:1h}",
+            initialDelayString = "${weather.history.compaction-interval:1h}")
+    public void compact() {
+        if (observationLog != null) {
+            observationLog.compact(System.currentTimeMillis() / 1000);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (observationLog != null) {
+            observationLog.close();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package dev.wony.mcp.tool.weather.history;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 관측 로그 세그먼트 (메모리 매핑된 고정 길이 레코드 파일)
+ *
+ * <p>레코드 포맷 (48바이트, big-endian):
+ * <pre>
+ * 0   int     커밋 마커 (MAGIC) - 레코드 본문을 쓴 뒤 마지막에 기록
+ * 4   short   nx
+ * 6   short   ny
+ * 8   long    관측 시각 (epoch 초)
+ * 16  float*8 관측값 ({@link ObservationRecord#CATEGORIES} 순서)
+ * </pre>
+ *
+ * <p>파일은 생성 시 전체 용량만큼 미리 할당되며, 재시작 시 커밋 마커가 없는 첫 레코드까지를 유효 구간으로 복구합니다.
+ * 쓰기는 한 스레드({@link ObservationLog}의 락)에서만 수행하고, 읽기는 volatile 레코드 수를 기준으로 락 없이 수행합니다.
+ */
+final class ObservationSegment implements Closeable {
+
+    static final int RECORD_SIZE = 48;
+
+    private static final int MAGIC = 0x4F425331; // "OBS1"
+    private static final int VALUES_OFFSET = 16;
+    private static final Pattern FILE_NAME = Pattern.compile("obs-(-?\\d+)-(\\d+)\\.log");
+
+    private final Path path;
+    private final long bucketStart;
+    private final long sequence;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+
+    private volatile int count;
+    private volatile long minEpochSecond = Long.MAX_VALUE;
+    private volatile long maxEpochSecond = Long.MIN_VALUE;
+
+    private ObservationSegment(Path path, long bucketStart, long sequence, MappedByteBuffer buffer) {
+        this.path = path;
+        this.bucketStart = bucketStart;
+        this.sequence = sequence;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity() / RECORD_SIZE;
+    }
+
+    static String fileName(long bucketStart, long sequence) {
+        return "obs-" + bucketStart + "-" + sequence + ".log";
+    }
+
+    static boolean isSegmentFile(Path file) {
+        return FILE_NAME.matcher(file.getFileName().toString()).matches();
+    }
+
+    /**
+     * 새 세그먼트 파일 생성
+     */
+    static ObservationSegment create(Path directory, long bucketStart, long sequence, int capacity) throws IOException {
+        Path path = directory.resolve(fileName(bucketStart, sequence));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+            return new ObservationSegment(path, bucketStart, sequence, buffer);
+        }
+    }
+
+    /**
+     * 레코드 목록을 한 번에 기록한 읽기 전용 세그먼트 생성 (압축 결과용)
+     * 임시 파일에 모두 기록한 뒤 원자적으로 이름을 바꿔, 중간 상태의 파일이 보이지 않도록 합니다.
+     */
+    static ObservationSegment write(Path directory, long bucketStart, long sequence,
+                                    List<ObservationRecord> records) throws IOException {
+        Path target = directory.resolve(fileName(bucketStart, sequence));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        ByteBuffer content = ByteBuffer.allocate(Math.max(1, records.size()) * RECORD_SIZE);
+        for (int i = 0; i < records.size(); i++) {
+            writeRecord(content, i * RECORD_SIZE, records.get(i));
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        return open(target);
+    }
+
+    /**
+     * 기존 세그먼트 파일을 열고 유효한 레코드 수를 복구
+     */
+    static ObservationSegment open(Path path) throws IOException {
+        Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IOException("관측 로그 세그먼트 파일이 아닙니다: " + path);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size() - channel.size() % RECORD_SIZE;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            ObservationSegment segment = new ObservationSegment(path,
+                    Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), buffer);
+            segment.recover();
+            return segment;
+        }
+    }
+
+    /**
+     * 레코드 추가
+     *
+     * @return 용량이 가득 차 추가하지 못했으면 false
+     */
+    boolean append(ObservationRecord record) {
+        int index = count;
+        if (index >= capacity) {
+            return false;
+        }
+        int offset = index * RECORD_SIZE;
+        writeRecord(buffer, offset, record);
+        updateRange(record.epochSecond());
+        count = index + 1;
+        return true;
+    }
+
+    /**
+     * 유효한 레코드를 기록 순서대로 방문
+     */
+    void forEach(Consumer<ObservationRecord> visitor) {
+        int size = count;
+        for (int i = 0; i < size; i++) {
+            visitor.accept(read(i));
+        }
+    }
+
+    /**
+     * 관측 시각 범위가 [from, to] 와 겹치는지 확인
+     */
+    boolean overlaps(long fromEpochSecond, long toEpochSecond) {
+        return count > 0 && minEpochSecond <= toEpochSecond && maxEpochSecond >= fromEpochSecond;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long bucketStart() {
+        return bucketStart;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    long maxEpochSecond() {
+        return maxEpochSecond;
+    }
+
+    @Override
+    public void close() {
+        // MappedByteBuffer는 GC 시 해제되므로 변경 내용만 디스크에 반영
+        if (count > 0) {
+            buffer.force();
+        }
+    }
+
+    private ObservationRecord read(int index) {
+        int offset = index * RECORD_SIZE;
+        GridCoordinate grid = new GridCoordinate(buffer.getShort(offset + 4), buffer.getShort(offset + 6));
+        long epochSecond = buffer.getLong(offset + 8);
+        float[] values = new float[ObservationRecord.CATEGORIES.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getFloat(offset + VALUES_OFFSET + i * Float.BYTES);
+        }
+        return new ObservationRecord(grid, epochSecond, values);
+    }
+
+    private void recover() {
+        int index = 0;
+        while (index < capacity && buffer.getInt(index * RECORD_SIZE) == MAGIC) {
+            updateRange(buffer.getLong(index * RECORD_SIZE + 8));
+            index++;
+        }
+        count = index;
+    }
+
+    private void updateRange(long epochSecond) {
+        if (epochSecond < minEpochSecond) {
+            minEpochSecond = epochSecond;
+        }
+        if (epochSecond > maxEpochSecond) {
+            maxEpochSecond = epochSecond;
+        }
+    }
+
+    private static void writeRecord(ByteBuffer target, int offset, ObservationRecord record) {
+        target.putShort(offset + 4, (short) record.grid().nx());
+        target.putShort(offset + 6, (short) record.grid().ny());
+        target.putLong(offset + 8, record.epochSecond());
+        float[] values = record.values();
+        for (int i = 0; i < values.length; i++) {
+            target.putFloat(offset + VALUES_OFFSET + i * Float.BYTES, values[i]);
+        }
+        // 본문을 모두 쓴 뒤 커밋 마커 기록 (중간에 중단되면 복구 시 이 레코드부터 버려짐)
+        target.putInt(offset, MAGIC);
+    }
+}
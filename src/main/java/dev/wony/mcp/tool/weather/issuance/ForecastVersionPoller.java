@@ -0,0 +1,94 @@
+package dev.wony.mcp.tool.weather.issuance;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.cache.NegativeResultCache;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.popularity.HotGridPrefetcher;
+import dev.wony.mcp.tool.weather.util.BaseTimeCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 예보버전조회(getFcstVersion)로 새 발표를 확인하는 폴러
+ *
+ * <p>조회 종류마다 발표 일정상 다음 발표시각이 지났는데 아직 확인되지 않았을 때만 예보버전을 조회하므로,
+ * 발표 사이에는 API를 호출하지 않습니다. 새 발표가 확인되면 {@link IssuanceTracker}를 갱신하고,
+ * {@link HotGridPrefetcher}로 많이 요청되는 격자만 새 발표로 미리 갱신합니다.
+ * 발표 전에 조회되어 {@link NegativeResultCache}에 남은 데이터 없음 응답도 이때 제거합니다.
+ * 나머지 격자는 캐시 키에 발표시각이 포함되어 있어 다음 조회 때 자연스럽게 새 발표를 가져옵니다.
+ *
+ * <p>폴링도 API 일일 호출 한도를 쓰므로 기본은 꺼져 있으며, {@code weather.version.enabled=true}일 때만 폴링합니다.
+ * 꺼져 있으면 도구는 시계로 추정한 기준시각을 사용합니다.
+ */
+@Component
+public class ForecastVersionPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(ForecastVersionPoller.class);
+
+    private final WeatherService weatherService;
+    private final IssuanceTracker issuanceTracker;
+    private final HotGridPrefetcher prefetcher;
+    private final NegativeResultCache negativeResults;
+    private final boolean enabled;
+
+    public ForecastVersionPoller(
+            WeatherService weatherService,
+            IssuanceTracker issuanceTracker,
+            HotGridPrefetcher prefetcher,
+            NegativeResultCache negativeResults,
+            @Value("${weather.version.enabled:false}") boolean enabled) {
+        this.weatherService = weatherService;
+        this.issuanceTracker = issuanceTracker;
+        this.prefetcher = prefetcher;
+        this.negativeResults = negativeResults;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${weather.version.poll-interval:1m}")
+    public void poll() {
+        if (enabled) {
+            poll(LocalDateTime.now(), Instant.now());
+        }
+    }
+
+    void poll(LocalDateTime now, Instant checkedAt) {
+        for (ForecastType type : ForecastType.values()) {
+            try {
+                check(type, now, checkedAt);
+            } catch (RestClientException e) {
+                // 확인 시각을 갱신하지 않으므로 오래되면 시계 추정값으로 돌아감
+                log.debug("{} 예보버전 조회 실패", type.getDescription(), e);
+            }
+        }
+    }
+
+    private void check(ForecastType type, LocalDateTime now, Instant checkedAt) {
+        LocalDateTime scheduled = BaseTimeCalculator.scheduledIssuance(type, now);
+        LocalDateTime published = issuanceTracker.published(type);
+        if (published != null && !scheduled.isAfter(published)) {
+            // 다음 발표 일정 전: 호출 없이 확인된 발표가 최신
+            issuanceTracker.recordChecked(type, checkedAt);
+            return;
+        }
+
+        if (weatherService.isPublished(type, scheduled)) {
+            if (issuanceTracker.recordPublished(type, scheduled, checkedAt)) {
+                log.info("{} 새 발표 확인: {}", type.getDescription(), scheduled);
+                negativeResults.invalidate(type, scheduled);
+                prefetcher.prefetch(type, scheduled);
+            }
+        } else if (published == null) {
+            // 처음 확인할 때 아직 발표 전이면 직전 발표가 최신
+            issuanceTracker.recordPublished(type, BaseTimeCalculator.previousIssuance(type, scheduled), checkedAt);
+        } else {
+            issuanceTracker.recordChecked(type, checkedAt);
+        }
+    }
+}
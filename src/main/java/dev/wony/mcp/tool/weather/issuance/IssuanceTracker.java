@@ -0,0 +1,110 @@
+package dev.wony.mcp.tool.weather.issuance;
+
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 조회 종류별로 실제 발표가 확인된 최신 발표시각
+ *
+ * <p>{@link ForecastVersionPoller}가 예보버전조회로 발표를 확인할 때마다 갱신합니다.
+ * 도구는 시계로 추정한 기준시각 대신 확인된 발표시각을 사용하므로, 발표 직후에는 제공 지연을 기다리지 않고
+ * 새 예보를 조회하고, 발표가 늦어질 때는 아직 없는 예보를 요청하지 않습니다.
+ *
+ * <p>마지막 확인 후 일정 시간이 지나면 (폴링 중단, 네트워크 오류 등) 확인 정보를 신뢰하지 않고 시계 추정값을 사용합니다.
+ */
+@Component
+public class IssuanceTracker {
+
+    public static final Duration DEFAULT_STALE_AFTER = Duration.ofMinutes(5);
+
+    private final Duration staleAfter;
+    private final Map<ForecastType, State> states = new EnumMap<>(ForecastType.class);
+
+    public IssuanceTracker() {
+        this(DEFAULT_STALE_AFTER);
+    }
+
+    @Autowired
+    public IssuanceTracker(@Value("${weather.version.stale-after:5m}") Duration staleAfter) {
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * 조회에 사용할 발표시각
+     *
+     * @param estimated 시계로 추정한 기준시각
+     * @return 최근에 확인된 발표시각, 확인 정보가 없거나 오래되었으면 추정값
+     */
+    public LocalDateTime resolve(ForecastType type, LocalDateTime estimated) {
+        return resolve(type, estimated, Instant.now());
+    }
+
+    LocalDateTime resolve(ForecastType type, LocalDateTime estimated, Instant now) {
+        synchronized (states) {
+            State state = states.get(type);
+            if (state == null || state.checkedAt.plus(staleAfter).isBefore(now)) {
+                return estimated;
+            }
+            return state.published;
+        }
+    }
+
+    /**
+     * 확인된 최신 발표시각
+     *
+     * @return 발표시각, 확인된 적이 없으면 null
+     */
+    public LocalDateTime published(ForecastType type) {
+        synchronized (states) {
+            State state = states.get(type);
+            return state != null ? state.published : null;
+        }
+    }
+
+    /**
+     * 발표 확인 기록
+     *
+     * @return 기존에 확인된 발표보다 새로운 발표이면 true
+     */
+    public boolean recordPublished(ForecastType type, LocalDateTime baseDateTime, Instant checkedAt) {
+        synchronized (states) {
+            State state = states.get(type);
+            if (state != null && !baseDateTime.isAfter(state.published)) {
+                state.checkedAt = checkedAt;
+                return false;
+            }
+            states.put(type, new State(baseDateTime, checkedAt));
+            return true;
+        }
+    }
+
+    /**
+     * 새 발표 없음 확인 기록 (확인된 발표시각이 여전히 최신임)
+     */
+    public void recordChecked(ForecastType type, Instant checkedAt) {
+        synchronized (states) {
+            State state = states.get(type);
+            if (state != null) {
+                state.checkedAt = checkedAt;
+            }
+        }
+    }
+
+    private static final class State {
+        private final LocalDateTime published;
+        private Instant checkedAt;
+
+        private State(LocalDateTime published, Instant checkedAt) {
+            this.published = published;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
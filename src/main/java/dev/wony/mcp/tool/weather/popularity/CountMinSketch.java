@@ -0,0 +1,84 @@
+package dev.wony.mcp.tool.weather.popularity;
+
+/**
+ * 고정 크기 빈도 추정기 (Count-Min Sketch)
+ *
+ * <p>행마다 다른 해시로 고른 카운터를 증가시키고, 추정값은 그중 최솟값입니다.
+ * 서로 다른 키가 아무리 많아도 메모리는 {@code depth x width}개의 카운터로 고정되며, 추정값은 실제보다 작지 않습니다.
+ * 가장 작은 카운터만 증가시키는 보수적 갱신(conservative update)으로 과대 추정을 줄입니다.
+ */
+final class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int depth;
+    private final int width;
+    private final int[] counters;
+
+    CountMinSketch(int depth, int width) {
+        if (depth <= 0 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth는 1 이상 " + SEEDS.length + " 이하여야 합니다: " + depth);
+        }
+        if (width <= 0) {
+            throw new IllegalArgumentException("width는 1 이상이어야 합니다: " + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new int[depth * width];
+    }
+
+    /**
+     * 키 빈도 1 증가
+     *
+     * @return 증가 후 추정 빈도
+     */
+    int add(long key) {
+        int[] indexes = new int[depth];
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = row * width + bucket(key, row);
+            min = Math.min(min, counters[indexes[row]]);
+        }
+        if (min == Integer.MAX_VALUE) {
+            return min;
+        }
+        int updated = min + 1;
+        for (int index : indexes) {
+            if (counters[index] < updated) {
+                counters[index] = updated;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 추정 빈도 (실제 빈도 이상)
+     */
+    int estimate(long key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * width + bucket(key, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄임 (오래된 빈도 감쇠)
+     */
+    void halve() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+    }
+
+    private int bucket(long key, int row) {
+        long hash = (key + SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        hash ^= hash >>> 31;
+        hash *= 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 29;
+        return (int) Long.remainderUnsigned(hash, width);
+    }
+}
@@ -0,0 +1,144 @@
+package dev.wony.mcp.tool.weather.popularity;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회 종류와 격자별 요청 빈도 추적기 (heavy hitter)
+ *
+ * <p>도구 호출마다 조회 종류와 격자를 {@link CountMinSketch}에 기록하고, 추정 빈도가 가장 높은 K개만 후보로 유지합니다.
+ * 조회된 좌표 종류가 아무리 많아도 메모리는 스케치 크기와 K개 후보로 고정됩니다.
+ * 주기적으로 빈도를 절반으로 줄여 최근 트래픽(행사, 기상 특보 등)의 변화를 따라갑니다.
+ */
+@Component
+public class GridPopularityTracker {
+
+    public static final int DEFAULT_TOP_K = 64;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 4096;
+
+    private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+    private final int topK;
+    // 후보 키 -> 추정 빈도
+    private final Map<Long, Integer> candidates = new HashMap<>();
+
+    public GridPopularityTracker() {
+        this(DEFAULT_TOP_K);
+    }
+
+    @Autowired
+    public GridPopularityTracker(@Value("${weather.prefetch.top-k:64}") int topK) {
+        if (topK <= 0) {
+            throw new IllegalArgumentException("top-k는 1 이상이어야 합니다: " + topK);
+        }
+        this.topK = topK;
+    }
+
+    /**
+     * 요청 기록
+     */
+    public synchronized void record(ForecastType type, GridCoordinate grid) {
+        long key = key(type, grid);
+        int estimate = sketch.add(key);
+        if (candidates.containsKey(key) || candidates.size() < topK) {
+            candidates.put(key, estimate);
+            return;
+        }
+
+        // 후보 중 빈도가 가장 낮은 키보다 많이 요청되면 교체
+        Map.Entry<Long, Integer> coldest = null;
+        for (Map.Entry<Long, Integer> candidate : candidates.entrySet()) {
+            if (coldest == null || candidate.getValue() < coldest.getValue()) {
+                coldest = candidate;
+            }
+        }
+        if (estimate > coldest.getValue()) {
+            candidates.remove(coldest.getKey());
+            candidates.put(key, estimate);
+        }
+    }
+
+    /**
+     * 조회 종류별 가장 많이 요청된 격자 (빈도 내림차순)
+     */
+    public synchronized List<GridCoordinate> hotGrids(ForecastType type, int limit) {
+        return hotGrids(type, limit, 1);
+    }
+
+    /**
+     * 조회 종류별 가장 많이 요청된 격자 중 추정 빈도가 {@code minCount} 이상인 격자 (빈도 내림차순)
+     */
+    public synchronized List<GridCoordinate> hotGrids(ForecastType type, int limit, int minCount) {
+        return hotSet().stream()
+                .filter(hot -> hot.type() == type && hot.count() >= minCount)
+                .limit(limit)
+                .map(HotGrid::grid)
+                .toList();
+    }
+
+    /**
+     * 현재 인기 격자 전체 (빈도 내림차순)
+     */
+    public synchronized List<HotGrid> hotSet() {
+        List<HotGrid> result = new ArrayList<>(candidates.size());
+        candidates.forEach((key, count) -> result.add(new HotGrid(type(key), grid(key), count)));
+        result.sort(Comparator.comparingInt(HotGrid::count).reversed());
+        return result;
+    }
+
+    /**
+     * 추정 요청 빈도
+     */
+    public synchronized int estimate(ForecastType type, GridCoordinate grid) {
+        return sketch.estimate(key(type, grid));
+    }
+
+    /**
+     * 빈도 감쇠 (오래된 요청의 영향을 절반으로 줄임)
+     */
+    @Scheduled(fixedDelayString = "${weather.prefetch.decay-interval:1h}",
+            initialDelayString = "${weather.prefetch.decay-interval:1h}")
+    public synchronized void decay() {
+        sketch.halve();
+        candidates.replaceAll((key, count) -> count >>> 1);
+        candidates.values().removeIf(count -> count == 0);
+    }
+
+    private static long key(ForecastType type, GridCoordinate grid) {
+        return ((long) type.ordinal() << 40) | ((long) (grid.nx() & 0xFFFFF) << 20) | (grid.ny() & 0xFFFFF);
+    }
+
+    private static ForecastType type(long key) {
+        return ForecastType.values()[(int) (key >>> 40)];
+    }
+
+    private static GridCoordinate grid(long key) {
+        return new GridCoordinate(signExtend((int) (key >>> 20)), signExtend((int) key));
+    }
+
+    /**
+     * 하위 20비트를 부호 있는 정수로 복원 (범위 밖 좌표도 키가 겹치지 않도록)
+     */
+    private static int signExtend(int value) {
+        return (value << 12) >> 12;
+    }
+
+    /**
+     * 인기 격자
+     *
+     * @param count 추정 요청 빈도
+     */
+    public record HotGrid(ForecastType type, GridCoordinate grid, int count) {
+    }
+}
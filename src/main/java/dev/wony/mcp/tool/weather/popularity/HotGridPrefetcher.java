@@ -0,0 +1,146 @@
+package dev.wony.mcp.tool.weather.popularity;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.ForecastCacheListener;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.cluster.GridShardRouter;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 새 발표가 나오면 많이 요청되는 격자의 예보를 미리 조회하는 리스너
+ *
+ * <p>조회 종류별로 새 발표시각을 처음 보았을 때 (도구 조회로 캐시에 들어오거나 예보버전 폴러가 발표를 확인했을 때)
+ * {@link GridPopularityTracker}의 상위 격자 중 아직 이전 발표만 캐시된 격자를 백그라운드에서 갱신합니다.
+ * 같은 발표시각에 대해서는 한 번만 실행되므로, 미리 조회한 예보가 캐시에 들어와도 다시 실행되지 않습니다.
+ *
+ * <p>한 번만 요청된 격자까지 미리 조회하면 API 호출만 늘어나므로, 추정 빈도가 {@code weather.prefetch.min-hits}
+ * (기본 2) 이상인 격자만 미리 조회합니다.
+ *
+ * <p>미리 조회도 API 일일 호출 한도를 쓰므로 기본은 꺼져 있으며({@code weather.prefetch.enabled=true}로 켬),
+ * 꺼져 있으면 빈도는 추적하지만 미리 조회하지 않습니다.
+ * 격자 분산을 사용하면 이 노드가 담당하는 격자만 미리 조회합니다.
+ */
+@Component
+public class HotGridPrefetcher implements ForecastCacheListener {
+
+    public static final int DEFAULT_MIN_HITS = 2;
+
+    private static final Logger log = LoggerFactory.getLogger(HotGridPrefetcher.class);
+
+    private final WeatherService weatherService;
+    private final ForecastCache forecastCache;
+    private final GridPopularityTracker popularity;
+    private final GridShardRouter shards;
+    private final int maxGrids;
+    private final int minHits;
+    private final ExecutorService executor;
+    private final Map<ForecastType, Long> prefetchedBases = new EnumMap<>(ForecastType.class);
+
+    public HotGridPrefetcher(WeatherService weatherService, ForecastCache forecastCache, GridPopularityTracker popularity,
+                             boolean enabled, int maxGrids) {
+        this(weatherService, forecastCache, popularity, GridShardRouter.standalone(), enabled, maxGrids, DEFAULT_MIN_HITS);
+    }
+
+    @Autowired
+    public HotGridPrefetcher(
+            WeatherService weatherService,
+            ForecastCache forecastCache,
+            GridPopularityTracker popularity,
+            GridShardRouter shards,
+            @Value("${weather.prefetch.enabled:false}") boolean enabled,
+            @Value("${weather.prefetch.max-grids:32}") int maxGrids,
+            @Value("${weather.prefetch.min-hits:2}") int minHits) {
+        this.weatherService = weatherService;
+        this.forecastCache = forecastCache;
+        this.popularity = popularity;
+        this.shards = shards;
+        this.maxGrids = maxGrids;
+        this.minHits = minHits;
+        if (enabled && maxGrids > 0) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "weather-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+            forecastCache.addListener(this);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    @Override
+    public void onIssuance(Forecast forecast, Forecast previous) {
+        prefetch(forecast.type(), forecast.baseDateTime());
+    }
+
+    /**
+     * 새 발표시각으로 인기 격자 미리 조회 (발표시각마다 한 번, 백그라운드 실행)
+     *
+     * @return 미리 조회를 예약했으면 true
+     */
+    public boolean prefetch(ForecastType type, LocalDateTime baseDateTime) {
+        if (executor == null || !markPrefetched(type, Forecast.toEpochSecond(baseDateTime))) {
+            return false;
+        }
+        try {
+            executor.execute(() -> refreshHotGrids(type, baseDateTime));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private synchronized boolean markPrefetched(ForecastType type, long baseEpochSecond) {
+        Long prefetched = prefetchedBases.get(type);
+        if (prefetched != null && prefetched >= baseEpochSecond) {
+            return false;
+        }
+        prefetchedBases.put(type, baseEpochSecond);
+        return true;
+    }
+
+    void refreshHotGrids(ForecastType type, LocalDateTime baseDateTime) {
+        long baseEpochSecond = Forecast.toEpochSecond(baseDateTime);
+        for (GridCoordinate grid : popularity.hotGrids(type, maxGrids, minHits)) {
+            if (!shards.isLocal(grid)) {
+                continue;
+            }
+            Forecast latest = forecastCache.latest(type, grid);
+            if (latest != null && latest.baseEpochSecond() >= baseEpochSecond) {
+                continue;
+            }
+            try {
+                ForecastResult result = weatherService.refresh(type, grid, baseDateTime);
+                if (!result.isSuccess()) {
+                    log.debug("{} 격자 {} 미리 조회 실패: {}", type.getDescription(), grid, result.errorMessage());
+                }
+            } catch (RestClientException e) {
+                log.debug("{} 격자 {} 미리 조회 실패", type.getDescription(), grid, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package dev.wony.mcp.tool.weather.ranking;
+
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.ForecastCacheListener;
+import dev.wony.mcp.tool.weather.dto.City;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 격자별 최신 초단기실황을 요소별 기본형 배열로 보관하는 순위 조회 인덱스
+ *
+ * <p>새 초단기실황이 캐시에 들어올 때마다 격자의 슬롯에 요소 값을 기록합니다. 요소마다 슬롯 순서의 {@code float[]} 열을
+ * 두므로, 순위 조회는 한 요소의 열만 순서대로 훑으면서 크기 K의 힙으로 상위 K개를 고릅니다 (객체 생성 없이 O(N log K)).
+ *
+ * <p>슬롯이 가득 차면 가장 오래된 관측의 슬롯을 재사용합니다. 격자 분산으로 다른 노드가 맡은 격자는 이 노드 캐시에 들어오지
+ * 않으므로 포함되지 않습니다.
+ */
+@Component
+public class CurrentConditionIndex implements ForecastCacheListener {
+
+    public static final int DEFAULT_MAX_REGIONS = 4096;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final WeatherCategory[] CATEGORIES = WeatherCategory.values();
+    private static final City[] CITIES = City.values();
+
+    private final int maxRegions;
+    private final Map<GridCoordinate, Integer> slots = new HashMap<>();
+    private GridCoordinate[] grids = new GridCoordinate[INITIAL_CAPACITY];
+    private long[] observedAt = new long[INITIAL_CAPACITY];
+    // 도시 격자이면 City 순번, 아니면 -1
+    private byte[] cities = new byte[INITIAL_CAPACITY];
+    // 요소 순번별 열 (한 번도 들어오지 않은 요소는 null)
+    private final float[][] columns = new float[CATEGORIES.length][];
+    private int size;
+
+    public CurrentConditionIndex() {
+        this(DEFAULT_MAX_REGIONS);
+    }
+
+    public CurrentConditionIndex(int maxRegions) {
+        if (maxRegions <= 0) {
+            throw new IllegalArgumentException("최대 지역 수는 1 이상이어야 합니다: " + maxRegions);
+        }
+        this.maxRegions = maxRegions;
+    }
+
+    @Autowired
+    public CurrentConditionIndex(ForecastCache forecastCache,
+                                 @Value("${weather.ranking.max-regions:" + DEFAULT_MAX_REGIONS + "}") int maxRegions) {
+        this(maxRegions);
+        forecastCache.addListener(this);
+    }
+
+    @Override
+    public void onIssuance(Forecast forecast, Forecast previous) {
+        if (forecast.type() == ForecastType.ULTRA_SRT_NCST) {
+            update(forecast);
+        }
+    }
+
+    /**
+     * 격자의 초단기실황 기록 (이미 더 최근 관측이 있으면 무시)
+     */
+    public synchronized void update(Forecast observation) {
+        Integer existing = slots.get(observation.grid());
+        int slot;
+        if (existing != null) {
+            slot = existing;
+            if (observedAt[slot] > observation.baseEpochSecond()) {
+                return;
+            }
+        } else {
+            slot = allocate(observation.grid());
+        }
+
+        observedAt[slot] = observation.baseEpochSecond();
+        for (int ordinal = 0; ordinal < CATEGORIES.length; ordinal++) {
+            float value = (float) observation.value(0, CATEGORIES[ordinal]);
+            if (columns[ordinal] == null) {
+                if (Float.isNaN(value)) {
+                    continue;
+                }
+                columns[ordinal] = new float[grids.length];
+                Arrays.fill(columns[ordinal], Float.NaN);
+            }
+            columns[ordinal][slot] = value;
+        }
+    }
+
+    private int allocate(GridCoordinate grid) {
+        int slot;
+        if (size < maxRegions) {
+            if (size == grids.length) {
+                grow(Math.min(maxRegions, grids.length * 2));
+            }
+            slot = size++;
+        } else {
+            // 가장 오래된 관측의 슬롯 재사용
+            slot = 0;
+            for (int i = 1; i < size; i++) {
+                if (observedAt[i] < observedAt[slot]) {
+                    slot = i;
+                }
+            }
+            slots.remove(grids[slot]);
+        }
+        grids[slot] = grid;
+        cities[slot] = (byte) City.fromGrid(grid).map(Enum::ordinal).orElse(-1).intValue();
+        for (float[] column : columns) {
+            if (column != null) {
+                column[slot] = Float.NaN;
+            }
+        }
+        slots.put(grid, slot);
+        return slot;
+    }
+
+    private void grow(int capacity) {
+        grids = Arrays.copyOf(grids, capacity);
+        observedAt = Arrays.copyOf(observedAt, capacity);
+        cities = Arrays.copyOf(cities, capacity);
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null) {
+                int from = columns[i].length;
+                columns[i] = Arrays.copyOf(columns[i], capacity);
+                Arrays.fill(columns[i], from, capacity, Float.NaN);
+            }
+        }
+    }
+
+    /**
+     * 요소 값 기준 상위 K개 지역 조회 (네트워크 호출 없음)
+     *
+     * @param query 조회 조건
+     * @return 순위 순서의 지역과 조건을 만족한 지역 수
+     */
+    public synchronized RankingResult top(RankingQuery query) {
+        float[] column = columns[query.category().ordinal()];
+        if (column == null || size == 0) {
+            return new RankingResult(List.of(), 0, size);
+        }
+
+        int limit = Math.min(query.limit(), size);
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        int matched = 0;
+        for (int slot = 0; slot < size; slot++) {
+            float value = column[slot];
+            if (Float.isNaN(value) || value < query.min() || value > query.max()
+                    || query.citiesOnly() && cities[slot] < 0 || observedAt[slot] < query.observedSince()) {
+                continue;
+            }
+            matched++;
+            if (heapSize < limit) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++, column, query.descending());
+            } else if (ranksBefore(slot, heap[0], column, query.descending())) {
+                // 힙의 루트는 현재 상위 K개 중 가장 낮은 순위
+                heap[0] = slot;
+                siftDown(heap, heapSize, column, query.descending());
+            }
+        }
+
+        RankedRegion[] ranked = new RankedRegion[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            int slot = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i, column, query.descending());
+            City city = cities[slot] < 0 ? null : CITIES[cities[slot]];
+            ranked[i] = new RankedRegion(grids[slot], city, column[slot], observedAt[slot]);
+        }
+        return new RankingResult(List.of(ranked), matched, size);
+    }
+
+    /**
+     * a가 b보다 앞 순위인지 (값이 같으면 먼저 기록된 슬롯이 앞)
+     */
+    private static boolean ranksBefore(int a, int b, float[] column, boolean descending) {
+        int compared = Float.compare(column[a], column[b]);
+        if (compared != 0) {
+            return descending ? compared > 0 : compared < 0;
+        }
+        return a < b;
+    }
+
+    private static void siftUp(int[] heap, int index, float[] column, boolean descending) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], slot, column, descending)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private static void siftDown(int[] heap, int size, float[] column, boolean descending) {
+        int index = 0;
+        int slot = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            // 두 자식 중 낮은 순위 쪽과 비교
+            if (child + 1 < size && ranksBefore(heap[child], heap[child + 1], column, descending)) {
+                child++;
+            }
+            if (!ranksBefore(slot, heap[child], column, descending)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+
+    /**
+     * 현재 관측이 있는 주요 도시 목록
+     */
+    public synchronized List<City> observedCities(long observedSince) {
+        List<City> observed = new ArrayList<>();
+        for (int slot = 0; slot < size; slot++) {
+            if (cities[slot] >= 0 && observedAt[slot] >= observedSince) {
+                observed.add(CITIES[cities[slot]]);
+            }
+        }
+        return observed;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int maxRegions() {
+        return maxRegions;
+    }
+}
@@ -0,0 +1,22 @@
+package dev.wony.mcp.tool.weather.ranking;
+
+import dev.wony.mcp.tool.weather.dto.City;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+
+/**
+ * 순위 조회 결과의 지역 한 곳
+ *
+ * @param grid        격자 좌표
+ * @param city        주요 도시 격자이면 그 도시, 아니면 null
+ * @param value       요소 값
+ * @param epochSecond 관측 시각 (epoch 초)
+ */
+public record RankedRegion(GridCoordinate grid, City city, float value, long epochSecond) {
+
+    /**
+     * 표시 이름 (도시명 또는 격자 좌표)
+     */
+    public String name() {
+        return city != null ? city.getName() : String.format("격자 (%d, %d)", grid.nx(), grid.ny());
+    }
+}
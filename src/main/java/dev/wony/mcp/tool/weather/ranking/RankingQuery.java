@@ -0,0 +1,27 @@
+package dev.wony.mcp.tool.weather.ranking;
+
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+
+/**
+ * 현재 관측 순위 조회 조건
+ *
+ * @param category      순위를 매길 예보 요소
+ * @param descending    큰 값부터 정렬할지 여부
+ * @param limit         반환할 지역 수 (1 이상)
+ * @param min           요소 값 하한 (포함, 제한 없으면 {@link Float#NEGATIVE_INFINITY})
+ * @param max           요소 값 상한 (포함, 제한 없으면 {@link Float#POSITIVE_INFINITY})
+ * @param citiesOnly    주요 도시만 포함할지 여부
+ * @param observedSince 이 시각 이후의 관측만 포함 (epoch 초)
+ */
+public record RankingQuery(WeatherCategory category, boolean descending, int limit, float min, float max,
+                           boolean citiesOnly, long observedSince) {
+
+    public RankingQuery {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다: " + limit);
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("하한이 상한보다 큽니다: " + min + " > " + max);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package dev.wony.mcp.tool.weather.ranking;
+
+import java.util.List;
+
+/**
+ * 현재 관측 순위 조회 결과
+ *
+ * @param regions 순위 순서의 상위 지역
+ * @param matched 조건을 만족한 지역 수
+ * @param indexed 인덱스에 있는 전체 지역 수
+ */
+public record RankingResult(List<RankedRegion> regions, int matched, int indexed) {
+}
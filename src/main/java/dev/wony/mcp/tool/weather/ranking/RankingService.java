@@ -0,0 +1,134 @@
+package dev.wony.mcp.tool.weather.ranking;
+
+import dev.wony.mcp.tool.weather.dto.City;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 캐시된 현재 관측(초단기실황) 순위 조회 서비스
+ * {@link CurrentConditionIndex}만 읽으며 기상청 API를 호출하지 않습니다.
+ */
+@Service
+public class RankingService {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd HHmm");
+    private static final int DEFAULT_LIMIT = 5;
+    private static final int MAX_LIMIT = 100;
+    // 이보다 오래된 관측은 현재 날씨로 보지 않음
+    private static final int MAX_AGE_HOURS = 3;
+
+    private final CurrentConditionIndex index;
+
+    public RankingService(CurrentConditionIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * 현재 관측 순위 조회
+     *
+     * @param category 예보 요소 코드
+     * @param order    정렬 방향 (desc/asc)
+     * @param limit    반환할 지역 수
+     * @param minValue 요소 값 하한
+     * @param maxValue 요소 값 상한
+     * @param scope    조회 범위 (cities/all)
+     * @return 순위 목록
+     */
+    @Tool(description = "Rank regions in Korea by a current observation value, e.g. the warmest, windiest or rainiest major city right now, with optional value filters. Reads cached current conditions (getCurrentWeather / getUltraSrtNcst results) only, no upstream API call.")
+    public String rankCurrentWeather(
+            @ToolParam(description = "요소 코드: T1H(기온), RN1(1시간 강수량), REH(습도), WSD(풍속), VEC(풍향), PTY(강수형태)") String category,
+            @ToolParam(description = "정렬 방향: desc(큰 값부터, 기본) 또는 asc(작은 값부터)", required = false) String order,
+            @ToolParam(description = "반환할 지역 수 (기본 5, 최대 100)", required = false) Integer limit,
+            @ToolParam(description = "요소 값 하한 (포함)", required = false) Double minValue,
+            @ToolParam(description = "요소 값 상한 (포함)", required = false) Double maxValue,
+            @ToolParam(description = "조회 범위: cities(주요 도시, 기본) 또는 all(조회된 모든 격자)", required = false) String scope
+    ) {
+        WeatherCategory parsedCategory = parseCategory(category);
+        if (parsedCategory == null) {
+            return "알 수 없는 요소입니다: " + category;
+        }
+        boolean descending = order == null || !order.trim().equalsIgnoreCase("asc");
+        boolean citiesOnly = scope == null || !scope.trim().equalsIgnoreCase("all");
+        int range = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        long observedSince = Forecast.toEpochSecond(LocalDateTime.now()) - (long) MAX_AGE_HOURS * Forecast.HOUR_SECONDS;
+
+        RankingResult result;
+        try {
+            result = index.top(new RankingQuery(parsedCategory, descending, range,
+                    minValue == null ? Float.NEGATIVE_INFINITY : minValue.floatValue(),
+                    maxValue == null ? Float.POSITIVE_INFINITY : maxValue.floatValue(),
+                    citiesOnly, observedSince));
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+
+        return formatRanking(result, parsedCategory, descending, citiesOnly, observedSince);
+    }
+
+    /**
+     * 순위 목록 포맷팅
+     */
+    private String formatRanking(RankingResult result, WeatherCategory category, boolean descending,
+                                 boolean citiesOnly, long observedSince) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("=== 현재 %s 순위 (%s, %s) ===\n", category.getDescription(),
+                descending ? "높은 순" : "낮은 순", citiesOnly ? "주요 도시" : "조회된 격자"));
+
+        if (result.regions().isEmpty()) {
+            builder.append("조건에 맞는 최근 ").append(MAX_AGE_HOURS).append("시간 이내 관측이 없습니다.\n");
+        } else {
+            builder.append(String.format("조건에 맞는 %d곳 중 상위 %d곳\n", result.matched(), result.regions().size()));
+            int rank = 1;
+            for (RankedRegion region : result.regions()) {
+                builder.append(rank++).append(". ").append(region.name()).append(": ")
+                        .append(formatNumber(region.value())).append(unitOf(category))
+                        .append(" (").append(Forecast.toDateTime(region.epochSecond()).format(TIME_FORMATTER))
+                        .append(" 관측)\n");
+            }
+        }
+
+        if (citiesOnly) {
+            Set<City> missing = EnumSet.allOf(City.class);
+            List<City> observed = index.observedCities(observedSince);
+            observed.forEach(missing::remove);
+            if (!missing.isEmpty()) {
+                builder.append("\n관측 없음: ")
+                        .append(String.join(", ", missing.stream().map(City::getName).toList()))
+                        .append(" (getCurrentWeather로 조회하면 순위에 포함됩니다)\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private static WeatherCategory parseCategory(String category) {
+        if (category == null) {
+            return null;
+        }
+        try {
+            return WeatherCategory.valueOf(category.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String unitOf(WeatherCategory category) {
+        return "코드값".equals(category.getUnit()) ? "" : category.getUnit();
+    }
+
+    private static String formatNumber(float value) {
+        if (value == Math.rint(value)) {
+            return String.valueOf((long) value);
+        }
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,256 @@
+package dev.wony.mcp.tool.weather.resource;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.ForecastCacheListener;
+import dev.wony.mcp.tool.weather.dto.City;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastJsonWriter;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncResourceSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceSpecification;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 캐시된 예보와 주요 도시 현재 날씨를 MCP 리소스로 게시
+ *
+ * <p>리소스 URI:
+ * <pre>
+ * weather://grid/{nx}/{ny}/ncst    초단기실황 (JSON)
+ * weather://grid/{nx}/{ny}/ultra   초단기예보 (JSON)
+ * weather://grid/{nx}/{ny}/vilage  단기예보 (JSON)
+ * weather://city/{city}            주요 도시 현재 날씨 (텍스트, 예: weather://city/seoul)
+ * </pre>
+ *
+ * <p>격자 리소스는 해당 격자의 예보가 처음 캐시에 들어올 때 등록되며(목록 변경 알림),
+ * 이후 새 발표가 캐시에 들어오면 리소스 갱신 알림을 보냅니다. 클라이언트는 도구를 반복 호출하는 대신 알림을 받을 때만 다시 읽으면 됩니다.
+ * 등록된 격자 리소스 수가 최대치를 넘으면 가장 먼저 등록된 리소스부터 제거합니다.
+ *
+ * <p>알림은 세션 수만큼 전송되므로 캐시에 예보를 넣은 도구 호출 스레드가 기다리지 않도록 전용 스레드 하나에서 차례로 보냅니다.
+ * 동기 서버({@link McpSyncServer})와 비동기 서버({@link McpAsyncServer}, {@code reactive} 프로파일) 모두 지원합니다.
+ */
+@Component
+public class WeatherResourcePublisher implements ForecastCacheListener {
+
+    private static final String JSON_MIME_TYPE = "application/json";
+    private static final String TEXT_MIME_TYPE = "text/plain";
+    private static final Duration ASYNC_NOTIFY_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Logger log = LoggerFactory.getLogger(WeatherResourcePublisher.class);
+
+    private final ForecastCache forecastCache;
+    private final WeatherService weatherService;
+    private final ObjectProvider<McpSyncServer> mcpServer;
+    private final ObjectProvider<McpAsyncServer> mcpAsyncServer;
+    private final int maxGridResources;
+    private final Set<String> gridResources = new LinkedHashSet<>();
+    private final ExecutorService notifier;
+
+    public WeatherResourcePublisher(
+            ForecastCache forecastCache,
+            WeatherService weatherService,
+            ObjectProvider<McpSyncServer> mcpServer,
+            ObjectProvider<McpAsyncServer> mcpAsyncServer,
+            @Value("${weather.resources.enabled:true}") boolean enabled,
+            @Value("${weather.resources.max-grids:256}") int maxGridResources) {
+        this.forecastCache = forecastCache;
+        this.weatherService = weatherService;
+        this.mcpServer = mcpServer;
+        this.mcpAsyncServer = mcpAsyncServer;
+        this.maxGridResources = maxGridResources;
+        if (enabled) {
+            // 알림 순서(등록 → 갱신)가 유지되도록 단일 스레드
+            this.notifier = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "weather-resource-notifier");
+                thread.setDaemon(true);
+                return thread;
+            });
+            forecastCache.addListener(this);
+        } else {
+            this.notifier = null;
+        }
+    }
+
+    /**
+     * 격자 예보 리소스 URI
+     */
+    public static String gridUri(ForecastType type, GridCoordinate grid) {
+        return String.format("weather://grid/%d/%d/%s", grid.nx(), grid.ny(), resourceName(type));
+    }
+
+    /**
+     * 도시 현재 날씨 리소스 URI
+     */
+    public static String cityUri(City city) {
+        return "weather://city/" + city.getId();
+    }
+
+    /**
+     * 주요 도시 현재 날씨 리소스 (서버 시작 시 등록)
+     * 읽을 때 캐시를 우선 사용하고, 캐시에 없으면 초단기실황을 조회합니다.
+     */
+    public List<SyncResourceSpecification> cityResources() {
+        return Arrays.stream(City.values())
+                .map(city -> new SyncResourceSpecification(cityResource(city),
+                        (exchange, request) -> readCity(city, request.uri())))
+                .toList();
+    }
+
+    /**
+     * 주요 도시 현재 날씨 리소스 (비동기 서버용, 조회는 이벤트 루프 밖에서 실행)
+     */
+    public List<AsyncResourceSpecification> asyncCityResources() {
+        return Arrays.stream(City.values())
+                .map(city -> new AsyncResourceSpecification(cityResource(city),
+                        (exchange, request) -> Mono.fromCallable(() -> readCity(city, request.uri()))
+                                .subscribeOn(Schedulers.boundedElastic())))
+                .toList();
+    }
+
+    @Override
+    public void onIssuance(Forecast forecast, Forecast previous) {
+        if (mcpServer.getIfAvailable() == null && mcpAsyncServer.getIfAvailable() == null) {
+            return;
+        }
+        try {
+            notifier.execute(() -> {
+                try {
+                    publish(forecast);
+                } catch (RuntimeException e) {
+                    log.warn("리소스 알림 전송 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private void publish(Forecast forecast) {
+        String uri = gridUri(forecast.type(), forecast.grid());
+        List<String> evicted = new ArrayList<>();
+        boolean added;
+        synchronized (gridResources) {
+            added = gridResources.add(uri);
+            Iterator<String> oldest = gridResources.iterator();
+            while (gridResources.size() > maxGridResources && oldest.hasNext()) {
+                evicted.add(oldest.next());
+                oldest.remove();
+            }
+        }
+
+        McpSyncServer server = mcpServer.getIfAvailable();
+        if (server != null) {
+            if (added) {
+                evicted.forEach(server::removeResource);
+                server.addResource(new SyncResourceSpecification(gridResource(forecast.type(), forecast.grid(), uri),
+                        (exchange, request) -> readGrid(forecast.type(), forecast.grid(), request.uri())));
+            } else {
+                server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification(uri));
+            }
+            if (forecast.type() == ForecastType.ULTRA_SRT_NCST) {
+                City.fromGrid(forecast.grid()).ifPresent(city ->
+                        server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification(cityUri(city))));
+            }
+            return;
+        }
+
+        // 비동기 서버: 알림 스레드에서 차례로 완료를 기다려 순서를 유지
+        McpAsyncServer asyncServer = mcpAsyncServer.getIfAvailable();
+        if (asyncServer == null) {
+            return;
+        }
+        if (added) {
+            evicted.forEach(evictedUri -> asyncServer.removeResource(evictedUri).block(ASYNC_NOTIFY_TIMEOUT));
+            asyncServer.addResource(new AsyncResourceSpecification(gridResource(forecast.type(), forecast.grid(), uri),
+                    (exchange, request) -> Mono.fromSupplier(() -> readGrid(forecast.type(), forecast.grid(), request.uri()))))
+                    .block(ASYNC_NOTIFY_TIMEOUT);
+        } else {
+            asyncServer.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification(uri)).block(ASYNC_NOTIFY_TIMEOUT);
+        }
+        if (forecast.type() == ForecastType.ULTRA_SRT_NCST) {
+            City.fromGrid(forecast.grid()).ifPresent(city -> asyncServer.notifyResourcesUpdated(
+                    new McpSchema.ResourcesUpdatedNotification(cityUri(city))).block(ASYNC_NOTIFY_TIMEOUT));
+        }
+    }
+
+    /**
+     * 등록된 격자 리소스 수
+     */
+    public int gridResourceCount() {
+        synchronized (gridResources) {
+            return gridResources.size();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (notifier != null) {
+            notifier.shutdownNow();
+        }
+    }
+
+    private static McpSchema.Resource cityResource(City city) {
+        return McpSchema.Resource.builder()
+                .uri(cityUri(city))
+                .name(city.getName() + " 현재 날씨")
+                .description(city.getName() + "의 현재 날씨 (초단기실황, 매시 갱신)")
+                .mimeType(TEXT_MIME_TYPE)
+                .build();
+    }
+
+    private McpSchema.ReadResourceResult readCity(City city, String uri) {
+        return textResult(uri, TEXT_MIME_TYPE, weatherService.getCurrentWeather(city.getName()));
+    }
+
+    private static McpSchema.Resource gridResource(ForecastType type, GridCoordinate grid, String uri) {
+        return McpSchema.Resource.builder()
+                .uri(uri)
+                .name(String.format("%s (%d, %d)", type.getDescription(), grid.nx(), grid.ny()))
+                .description(String.format("격자 (%d, %d)의 최신 %s (새 발표 시 갱신 알림)",
+                        grid.nx(), grid.ny(), type.getDescription()))
+                .mimeType(JSON_MIME_TYPE)
+                .build();
+    }
+
+    private McpSchema.ReadResourceResult readGrid(ForecastType type, GridCoordinate grid, String uri) {
+        Forecast latest = forecastCache.latest(type, grid);
+        if (latest == null) {
+            return textResult(uri, TEXT_MIME_TYPE, "캐시된 예보가 없습니다. 도구로 먼저 조회하세요.");
+        }
+        return textResult(uri, JSON_MIME_TYPE, ForecastJsonWriter.toJson(latest));
+    }
+
+    private static McpSchema.ReadResourceResult textResult(String uri, String mimeType, String text) {
+        return new McpSchema.ReadResourceResult(List.of(new McpSchema.TextResourceContents(uri, mimeType, text)));
+    }
+
+    private static String resourceName(ForecastType type) {
+        return switch (type) {
+            case ULTRA_SRT_NCST -> "ncst";
+            case ULTRA_SRT_FCST -> "ultra";
+            case VILAGE_FCST -> "vilage";
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package dev.wony.mcp.tool.weather.shared;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 예보의 바이너리 직렬화 (프로세스 간 공유, 클러스터 노드 간 전달용)
+ *
+ * <p>포맷 (big-endian):
+ * <pre>
+ * byte    조회 종류 (ordinal)
+ * short   nx, ny
+ * long    발표시각, 첫 예보 시각 (epoch 초)
+ * short   예보 시간 수
+ * short   요소 수
+ * 요소마다: byte 요소(ordinal), short 값 개수, 값마다 short 시간 인덱스 + UTF 원문 값
+ * </pre>
+ *
+ * <p>요소는 {@link Forecast#categories()} 순서로 기록하므로 복원한 예보의 요소 순서(응답 출력 순서)도 같습니다.
+ */
+public final class ForecastCodec {
+
+    private static final ForecastType[] TYPES = ForecastType.values();
+    private static final WeatherCategory[] CATEGORIES = WeatherCategory.values();
+
+    private ForecastCodec() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    public static byte[] encode(Forecast forecast) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + forecast.hourCount() * forecast.categories().size() * 8);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(forecast.type().ordinal());
+            out.writeShort(forecast.grid().nx());
+            out.writeShort(forecast.grid().ny());
+            out.writeLong(forecast.baseEpochSecond());
+            out.writeLong(forecast.epochSecondAt(0));
+            out.writeShort(forecast.hourCount());
+
+            List<WeatherCategory> categories = forecast.categories();
+            out.writeShort(categories.size());
+            for (WeatherCategory category : categories) {
+                out.writeByte(category.ordinal());
+                out.writeShort(forecast.count(category, 0, forecast.hourCount()));
+                for (int hour = 0; hour < forecast.hourCount(); hour++) {
+                    String value = forecast.rawValue(hour, category);
+                    if (value != null) {
+                        out.writeShort(hour);
+                        out.writeUTF(value);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 포맷이 맞지 않는 경우
+     */
+    public static Forecast decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            ForecastType type = TYPES[in.readUnsignedByte()];
+            GridCoordinate grid = new GridCoordinate(in.readShort(), in.readShort());
+            long baseEpochSecond = in.readLong();
+            long firstEpochSecond = in.readLong();
+            int hourCount = in.readUnsignedShort();
+
+            Forecast.Builder builder = Forecast.builder(type, grid, baseEpochSecond, firstEpochSecond, hourCount);
+            int categoryCount = in.readUnsignedShort();
+            for (int i = 0; i < categoryCount; i++) {
+                WeatherCategory category = CATEGORIES[in.readUnsignedByte()];
+                int valueCount = in.readUnsignedShort();
+                for (int j = 0; j < valueCount; j++) {
+                    builder.put(in.readUnsignedShort(), category, in.readUTF());
+                }
+            }
+            return builder.build();
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("공유 예보 형식이 올바르지 않습니다", e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package dev.wony.mcp.tool.weather.shared;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 호스트의 서버 프로세스끼리 예보를 공유하는 캐시
+ *
+ * <p>Claude Desktop이나 에이전트 세션마다 STDIO 서버 프로세스가 따로 뜨면, 각 프로세스가 같은 격자를 따로 조회하여
+ * 같은 일일 호출 한도를 나눠 쓰게 됩니다. {@code weather.shared-cache.enabled=true}이면 메모리 매핑 파일
+ * ({@link SharedForecastFile})로 API 응답에서 만든 예보를 공유하고, 같은 예보를 조회 중인 프로세스가 있으면
+ * 결과가 공유될 때까지 기다려 호스트에서 한 프로세스만 API를 호출합니다.
+ *
+ * <p>기다리는 시간은 {@code weather.shared-cache.max-wait}까지이며, 그동안 공유되지 않으면(조회 실패, 프로세스 종료)
+ * 직접 조회합니다. 파일을 열 수 없으면 경고를 남기고 공유 없이 동작합니다.
+ */
+@Component
+public class SharedForecastCache {
+
+    public static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private static final Logger log = LoggerFactory.getLogger(SharedForecastCache.class);
+    private static final Claim OWNER = new Claim(null, true);
+    private static final Claim BUSY = new Claim(null, false);
+
+    private final SharedForecastFile file;
+    private final Duration maxWait;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder publishes = new LongAdder();
+
+    public SharedForecastCache() {
+        this.file = null;
+        this.maxWait = Duration.ZERO;
+    }
+
+    @Autowired
+    public SharedForecastCache(
+            @Value("${weather.shared-cache.enabled:false}") boolean enabled,
+            @Value("${weather.shared-cache.file:${java.io.tmpdir}/weather-mcp/shared-forecasts.dat}") String path,
+            @Value("${weather.shared-cache.slots:1024}") int slots,
+            @Value("${weather.shared-cache.slot-size:16KB}") DataSize slotSize,
+            @Value("${weather.shared-cache.max-wait:3s}") Duration maxWait) {
+        this.file = enabled ? open(Path.of(path), slots, slotSize) : null;
+        this.maxWait = maxWait;
+    }
+
+    private static SharedForecastFile open(Path path, int slots, DataSize slotSize) {
+        try {
+            SharedForecastFile opened = SharedForecastFile.open(path, slots, (int) Math.min(Integer.MAX_VALUE, slotSize.toBytes()));
+            log.info("공유 예보 캐시 사용: {} (슬롯 {}개, 본문 최대 {}바이트)", path, opened.slotCount(), opened.payloadCapacity());
+            return opened;
+        } catch (IOException | RuntimeException e) {
+            log.warn("공유 예보 캐시 파일을 열 수 없어 공유 없이 동작합니다: {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * 공유된 예보 확인과 조회 권한 획득을 한 번 시도 (기다리지 않음)
+     *
+     * @return 공유된 예보, 또는 직접 조회할 권한, 또는 다른 프로세스가 조회 중({@link Claim#isBusy()})
+     */
+    public Claim tryClaim(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        long key = file == null ? 0 : SharedForecastFile.key(type, grid, Forecast.toEpochSecond(baseDateTime));
+        if (key == 0) {
+            return OWNER;
+        }
+        Forecast shared = read(key, type, grid, baseDateTime);
+        if (shared != null) {
+            hits.increment();
+            return new Claim(shared, false);
+        }
+        return file.tryLease(key, System.currentTimeMillis(), maxWait.toMillis()) ? OWNER : BUSY;
+    }
+
+    /**
+     * 공유된 예보 확인과 조회 권한 획득 (다른 프로세스가 조회 중이면 최대 {@code max-wait}까지 기다림)
+     *
+     * @return 공유된 예보, 또는 직접 조회할 권한, 기다려도 공유되지 않으면 권한 없이 직접 조회하도록 {@link Claim#isBusy()}
+     */
+    public Claim claim(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        Claim claim = tryClaim(type, grid, baseDateTime);
+        if (!claim.isBusy()) {
+            return claim;
+        }
+        waits.increment();
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (claim.isBusy() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return claim;
+            }
+            claim = tryClaim(type, grid, baseDateTime);
+        }
+        return claim;
+    }
+
+    /**
+     * 직접 조회한 예보 공유
+     */
+    public void publish(Forecast forecast) {
+        if (file == null) {
+            return;
+        }
+        long key = SharedForecastFile.key(forecast.type(), forecast.grid(), forecast.baseEpochSecond());
+        if (file.write(key, ForecastCodec.encode(forecast), System.currentTimeMillis())) {
+            publishes.increment();
+        }
+    }
+
+    /**
+     * 조회 권한 반납 ({@link Claim#owner()}인 경우 조회가 끝나면 성공 여부와 관계없이 호출)
+     */
+    public void release(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        long key = file == null ? 0 : SharedForecastFile.key(type, grid, Forecast.toEpochSecond(baseDateTime));
+        if (key != 0) {
+            file.releaseLease(key);
+        }
+    }
+
+    private Forecast read(long key, ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime) {
+        byte[] payload = file.read(key);
+        if (payload == null) {
+            return null;
+        }
+        try {
+            Forecast forecast = ForecastCodec.decode(payload);
+            // 발표시각은 분 단위로 키에 들어가므로 복원한 예보와 다시 비교
+            boolean matches = forecast.type() == type && forecast.grid().equals(grid)
+                    && forecast.baseEpochSecond() == Forecast.toEpochSecond(baseDateTime);
+            return matches ? forecast : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("공유 예보 복원 실패: {} {} {}", type, grid, baseDateTime, e);
+            return null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    public Duration maxWait() {
+        return maxWait;
+    }
+
+    public Path path() {
+        return file == null ? null : file.path();
+    }
+
+    /**
+     * 다른 프로세스가 공유한 예보를 사용한 횟수
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 다른 프로세스의 조회가 끝나기를 기다린 횟수 ({@link #claim} 기준)
+     */
+    public long waitCount() {
+        return waits.sum();
+    }
+
+    public long publishCount() {
+        return publishes.sum();
+    }
+
+    /**
+     * 공유 캐시 확인 결과
+     *
+     * @param forecast 공유된 예보, 없으면 null
+     * @param owner    직접 조회할 권한을 얻었는지 여부 (조회 후 {@link #release} 호출)
+     */
+    public record Claim(Forecast forecast, boolean owner) {
+
+        /**
+         * 공유된 예보가 없고 다른 프로세스가 조회 중
+         */
+        public boolean isBusy() {
+            return forecast == null && !owner;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package dev.wony.mcp.tool.weather.shared;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 여러 프로세스가 함께 매핑하는 공유 예보 파일
+ *
+ * <p>파일 구성 (네이티브 바이트 순서):
+ * <pre>
+ * 0                     헤더 64바이트: long MAGIC, int 버전, int 슬롯 수, int 슬롯 크기
+ * 64                    조회 권한(lease) 워드 - long x 슬롯 수: 만료 시각(epoch 초, 상위 32비트) | 키 태그(하위 32비트)
+ * 64 + 8 x 슬롯 수       슬롯 - 슬롯 크기 x 슬롯 수
+ *
+ * 슬롯: 0  long 시퀀스 (홀수면 쓰는 중)
+ *       8  long 쓰기 시작 시각 (epoch 밀리초)
+ *       16 long 키 (조회 종류 | nx | ny | 발표시각(분))
+ *       24 long 공유 시각 (epoch 밀리초)
+ *       32 int  본문 길이
+ *       36 int  본문 CRC32C
+ *       40      본문 ({@link ForecastCodec})
+ * </pre>
+ *
+ * <p>슬롯은 조회 종류와 격자로 고른 4개 슬롯 묶음 안에서 같은 격자의 슬롯, 빈 슬롯, 가장 오래전에 공유된 슬롯 순으로 선택합니다.
+ * 쓰기는 시퀀스를 CAS로 홀수로 바꿔 슬롯을 차지한 뒤 본문을 쓰고 짝수로 되돌리며(seqlock), 다른 쓰기와 겹치면 기다리지 않고 포기합니다.
+ * 읽기는 락 없이 본문을 복사한 뒤 시퀀스가 그대로이고 CRC가 맞을 때만 사용합니다.
+ * 쓰는 도중 프로세스가 종료되어 홀수로 남은 슬롯은 일정 시간이 지나면 다음 쓰기가 이어받습니다.
+ *
+ * <p>파일 생성과 헤더 확인은 파일 락으로 직렬화하며, 이미 있는 파일은 헤더의 슬롯 수와 크기를 그대로 따릅니다.
+ * 다른 프로세스가 계속 사용할 수 있으므로 종료 시 파일을 지우지 않습니다.
+ */
+final class SharedForecastFile {
+
+    static final int HEADER_SIZE = 64;
+    static final int SLOT_HEADER_SIZE = 40;
+    static final int WAYS = 4;
+
+    private static final long MAGIC = 0x5758_5346_4341_5331L; // "WXSFCAS1"
+    private static final int VERSION = 1;
+    private static final int MAX_FILE_SIZE = Integer.MAX_VALUE;
+    private static final long STALE_WRITE_MILLIS = 2_000;
+    private static final int READ_ATTEMPTS = 4;
+
+    private static final int SEQUENCE = 0;
+    private static final int WRITE_STARTED = 8;
+    private static final int KEY = 16;
+    private static final int PUBLISHED = 24;
+    private static final int LENGTH = 32;
+    private static final int CHECKSUM = 36;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int slotCount;
+    private final int slotSize;
+    private final int slotsOffset;
+
+    private SharedForecastFile(Path path, MappedByteBuffer buffer, int slotCount, int slotSize) {
+        this.path = path;
+        this.buffer = buffer;
+        this.slotCount = slotCount;
+        this.slotSize = slotSize;
+        this.slotsOffset = HEADER_SIZE + slotCount * Long.BYTES;
+    }
+
+    /**
+     * 공유 파일 열기 (없으면 생성)
+     *
+     * @param slotCount 슬롯 수 ({@link #WAYS}의 배수로 올림)
+     * @param slotSize  슬롯 크기 (8바이트 단위로 올림)
+     */
+    static SharedForecastFile open(Path path, int slotCount, int slotSize) throws IOException {
+        if (slotCount <= 0 || slotSize <= SLOT_HEADER_SIZE) {
+            throw new IllegalArgumentException("슬롯 수는 1 이상, 슬롯 크기는 " + SLOT_HEADER_SIZE + "바이트보다 커야 합니다: "
+                    + slotCount + ", " + slotSize);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.nativeOrder());
+            if (header.getLong(0) == MAGIC && header.getInt(8) == VERSION) {
+                // 먼저 연 프로세스가 정한 크기를 따름
+                slotCount = header.getInt(12);
+                slotSize = header.getInt(16);
+            } else {
+                slotCount = (slotCount + WAYS - 1) / WAYS * WAYS;
+                slotSize = (slotSize + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+            }
+
+            long size = HEADER_SIZE + (long) slotCount * Long.BYTES + (long) slotCount * slotSize;
+            if (size > MAX_FILE_SIZE) {
+                throw new IllegalArgumentException("공유 파일 크기가 2GB를 넘습니다: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.nativeOrder());
+            if (header.getLong(0) != MAGIC || header.getInt(8) != VERSION) {
+                // 새 파일 (또는 버전이 다른 파일): 영역을 비우고 헤더는 마지막에 MAGIC을 기록
+                for (int offset = HEADER_SIZE; offset < size; offset += Long.BYTES) {
+                    buffer.putLong(offset, 0L);
+                }
+                buffer.putInt(8, VERSION);
+                buffer.putInt(12, slotCount);
+                buffer.putInt(16, slotSize);
+                buffer.putLong(0, MAGIC);
+                buffer.force();
+            }
+            return new SharedForecastFile(path, buffer, slotCount, slotSize);
+        }
+    }
+
+    /**
+     * 공유 키 (조회 종류 4비트 | nx 12비트 | ny 12비트 | 발표시각(분) 36비트)
+     *
+     * @return 키, 표현할 수 없는 격자나 시각이면 0
+     */
+    static long key(ForecastType type, GridCoordinate grid, long baseEpochSecond) {
+        if (grid.nx() < 0 || grid.nx() >= 1 << 12 || grid.ny() < 0 || grid.ny() >= 1 << 12
+                || baseEpochSecond < 0 || type.ordinal() >= 15) {
+            return 0;
+        }
+        return (long) (type.ordinal() + 1) << 60
+                | (long) grid.nx() << 48
+                | (long) grid.ny() << 36
+                | (baseEpochSecond / 60) & ((1L << 36) - 1);
+    }
+
+    /**
+     * 키의 공유 본문 읽기
+     *
+     * @return 본문, 없거나 쓰는 중이거나 손상되었으면 null
+     */
+    byte[] read(long key) {
+        int first = setOf(key) * WAYS;
+        for (int way = 0; way < WAYS; way++) {
+            byte[] payload = readSlot(slotOffset(first + way), key);
+            if (payload != null) {
+                return payload;
+            }
+        }
+        return null;
+    }
+
+    private byte[] readSlot(int base, long key) {
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            long sequence = (long) LONGS.getAcquire(buffer, base + SEQUENCE);
+            if ((sequence & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (buffer.getLong(base + KEY) != key) {
+                return null;
+            }
+            int length = buffer.getInt(base + LENGTH);
+            int checksum = buffer.getInt(base + CHECKSUM);
+            if (length < 0 || length > payloadCapacity()) {
+                continue;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(base + SLOT_HEADER_SIZE, payload);
+
+            // 본문을 읽은 뒤 시퀀스를 다시 확인 (그사이 쓰기가 있었으면 다시 읽음)
+            VarHandle.acquireFence();
+            if ((long) LONGS.getVolatile(buffer, base + SEQUENCE) == sequence && checksum(payload) == checksum) {
+                return payload;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 본문 공유 (같은 격자의 슬롯을 덮어씀)
+     *
+     * @return 기록했으면 true, 본문이 너무 크거나 다른 쓰기와 겹쳐 포기했으면 false
+     */
+    boolean write(long key, byte[] payload, long nowMillis) {
+        if (key == 0 || payload.length > payloadCapacity()) {
+            return false;
+        }
+        int base = slotOffset(chooseSlot(key));
+        long sequence = (long) LONGS.getVolatile(buffer, base + SEQUENCE);
+        long writing;
+        if ((sequence & 1) == 0) {
+            writing = sequence + 1;
+        } else if (nowMillis - buffer.getLong(base + WRITE_STARTED) >= STALE_WRITE_MILLIS) {
+            // 쓰는 도중 종료된 프로세스의 슬롯 이어받기
+            writing = sequence + 2;
+        } else {
+            return false;
+        }
+        if (!LONGS.compareAndSet(buffer, base + SEQUENCE, sequence, writing)) {
+            return false;
+        }
+
+        buffer.putLong(base + WRITE_STARTED, nowMillis);
+        buffer.putLong(base + KEY, key);
+        buffer.putLong(base + PUBLISHED, nowMillis);
+        buffer.putInt(base + LENGTH, payload.length);
+        buffer.putInt(base + CHECKSUM, checksum(payload));
+        buffer.put(base + SLOT_HEADER_SIZE, payload);
+        LONGS.setRelease(buffer, base + SEQUENCE, writing + 1);
+        return true;
+    }
+
+    /**
+     * 같은 격자를 담은 슬롯(더 새로운 발표가 있으면 제외), 빈 슬롯, 가장 오래전에 공유된 슬롯 순으로 선택
+     */
+    private int chooseSlot(long key) {
+        int first = setOf(key) * WAYS;
+        int victim = first;
+        long oldest = Long.MAX_VALUE;
+        for (int way = 0; way < WAYS; way++) {
+            int base = slotOffset(first + way);
+            long stored = buffer.getLong(base + KEY);
+            if (stored == 0 || (stored >>> 36 == key >>> 36 && stored <= key)) {
+                return first + way;
+            }
+            long published = stored >>> 36 == key >>> 36 ? Long.MAX_VALUE : buffer.getLong(base + PUBLISHED);
+            if (published < oldest) {
+                oldest = published;
+                victim = first + way;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * 조회 권한 획득 시도 (같은 호스트에서 한 프로세스만 키를 조회하도록)
+     *
+     * @return 획득했으면 true, 다른 조회가 진행 중이면 false
+     */
+    boolean tryLease(long key, long nowMillis, long leaseMillis) {
+        int offset = leaseOffset(key);
+        long nowSecond = nowMillis / 1000;
+        long lease = (nowMillis + leaseMillis + 999) / 1000 << 32 | tag(key) & 0xFFFFFFFFL;
+        while (true) {
+            long current = (long) LONGS.getVolatile(buffer, offset);
+            if (isLive(current, nowSecond) && (int) current == tag(key)) {
+                return false;
+            }
+            if (isLive(current, nowSecond)) {
+                // 다른 키가 같은 워드를 쓰는 중이면 조율 없이 조회 (드문 충돌)
+                return true;
+            }
+            if (LONGS.compareAndSet(buffer, offset, current, lease)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 다른 조회가 키의 권한을 가지고 있는지 확인
+     */
+    boolean isLeased(long key, long nowMillis) {
+        long current = (long) LONGS.getVolatile(buffer, leaseOffset(key));
+        return isLive(current, nowMillis / 1000) && (int) current == tag(key);
+    }
+
+    /**
+     * 조회 권한 반납
+     */
+    void releaseLease(long key) {
+        int offset = leaseOffset(key);
+        long current = (long) LONGS.getVolatile(buffer, offset);
+        if (current != 0 && (int) current == tag(key)) {
+            LONGS.compareAndSet(buffer, offset, current, 0L);
+        }
+    }
+
+    int slotCount() {
+        return slotCount;
+    }
+
+    int payloadCapacity() {
+        return slotSize - SLOT_HEADER_SIZE;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    private int setOf(long key) {
+        return (int) Long.remainderUnsigned(mix(key >>> 36), slotCount / WAYS);
+    }
+
+    private int slotOffset(int slot) {
+        return slotsOffset + slot * slotSize;
+    }
+
+    private int leaseOffset(long key) {
+        return HEADER_SIZE + (int) Long.remainderUnsigned(mix(key), slotCount) * Long.BYTES;
+    }
+
+    private static boolean isLive(long lease, long nowSecond) {
+        return lease != 0 && lease >>> 32 > nowSecond;
+    }
+
+    private static int tag(long key) {
+        return (int) (mix(key) >>> 32) | 1;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        return value ^ value >>> 33;
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,143 @@
+package dev.wony.mcp.tool.weather.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 구간의 지연 시간 분포 (잠금 없는 롤링 히스토그램)
+ *
+ * <p>지연 시간(마이크로초)을 2의 거듭제곱마다 4칸으로 나눈 로그 구간에 세고, 구간의 상한으로 백분위를 추정합니다 (오차 25% 이내).
+ * 전체 기간을 여러 슬롯으로 나누어 시간이 지나면 가장 오래된 슬롯을 비우고 다시 사용하므로, 항상 최근 기간만 집계합니다.
+ *
+ * <p>기록은 원자적 증가만 사용하여 호출 경로에서 잠금 경합이 없습니다.
+ * 슬롯을 비우는 순간 동시에 기록된 값은 일부 누락될 수 있으며, 운영 지표로는 충분한 근사값입니다.
+ */
+final class RollingHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 2^33 마이크로초 (약 2시간 20분)까지 구분
+    private static final int BUCKET_COUNT = 32 * SUB_BUCKETS;
+
+    private final long slotMillis;
+    private final Slot[] slots;
+
+    RollingHistogram(long windowMillis, int slotCount) {
+        if (slotCount <= 0 || windowMillis < slotCount) {
+            throw new IllegalArgumentException("집계 기간은 슬롯 수 이상이어야 합니다: " + windowMillis + "ms, " + slotCount);
+        }
+        this.slotMillis = windowMillis / slotCount;
+        this.slots = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    /**
+     * 지연 시간 기록
+     */
+    void record(long micros, long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        Slot slot = slots[(int) (epoch % slots.length)];
+        long seen = slot.epoch.get();
+        if (seen != epoch) {
+            if (seen > epoch) {
+                // 시계가 거꾸로 간 경우 (이미 다음 주기에 재사용된 슬롯)
+                return;
+            }
+            if (slot.epoch.compareAndSet(seen, epoch)) {
+                slot.clear();
+            }
+        }
+        slot.counts.incrementAndGet(bucket(Math.max(0, micros)));
+        slot.sumMicros.addAndGet(micros);
+    }
+
+    /**
+     * 최근 기간 집계
+     */
+    Snapshot snapshot(long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        long[] merged = new long[BUCKET_COUNT];
+        long count = 0;
+        long sum = 0;
+        for (Slot slot : slots) {
+            long slotEpoch = slot.epoch.get();
+            if (slotEpoch > epoch || slotEpoch <= epoch - slots.length) {
+                continue;
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long value = slot.counts.get(i);
+                merged[i] += value;
+                count += value;
+            }
+            sum += slot.sumMicros.get();
+        }
+        return new Snapshot(merged, count, sum);
+    }
+
+    static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKET_COUNT - 1, (exponent - 1) * SUB_BUCKETS + subBucket);
+    }
+
+    /**
+     * 구간의 상한 (마이크로초)
+     */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * 집계 결과
+     *
+     * @param count     기록 수
+     * @param sumMicros 지연 시간 합계 (마이크로초)
+     */
+    record Snapshot(long[] buckets, long count, long sumMicros) {
+
+        /**
+         * 백분위 지연 시간 (마이크로초, 구간 상한), 기록이 없으면 0
+         */
+        long percentile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(buckets.length - 1);
+        }
+
+        long meanMicros() {
+            return count == 0 ? 0 : sumMicros / count;
+        }
+    }
+
+    private static final class Slot {
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong sumMicros = new AtomicLong();
+
+        private void clear() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts.set(i, 0);
+            }
+            sumMicros.set(0);
+        }
+    }
+}
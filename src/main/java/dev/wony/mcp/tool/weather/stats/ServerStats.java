@@ -0,0 +1,186 @@
+package dev.wony.mcp.tool.weather.stats;
+
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 도구와 기상청 API 호출 지표 수집기
+ *
+ * <p>도구별 지연 시간 분포와 실행 중인 호출 수, 기상청 API 호출의 지연 시간과 결과 코드별 횟수를 모읍니다.
+ * 지연 시간은 최근 {@code weather.stats.window} 동안의 {@link RollingHistogram}으로, 횟수는 누적 {@link LongAdder}로 집계하여
+ * 호출 경로에 잠금을 추가하지 않습니다.
+ */
+@Component
+public class ServerStats {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+
+    private static final int SLOT_COUNT = 6;
+
+    private final long windowMillis;
+    private final Map<String, ToolMetrics> tools = new ConcurrentHashMap<>();
+    private final RollingHistogram upstreamLatency;
+    private final Map<String, LongAdder> upstreamOutcomes = new ConcurrentHashMap<>();
+
+    public ServerStats() {
+        this(DEFAULT_WINDOW);
+    }
+
+    @Autowired
+    public ServerStats(@Value("${weather.stats.window:1m}") Duration window) {
+        this.windowMillis = window.toMillis();
+        this.upstreamLatency = new RollingHistogram(windowMillis, SLOT_COUNT);
+    }
+
+    /**
+     * 도구 호출 시작
+     *
+     * @return 시작 시각 ({@link #toolFinished(String, long)}에 전달)
+     */
+    public long toolStarted(String tool) {
+        metrics(tool).inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * 도구 호출 종료
+     */
+    public void toolFinished(String tool, long startNanos) {
+        ToolMetrics metrics = metrics(tool);
+        metrics.inFlight.decrementAndGet();
+        metrics.calls.increment();
+        metrics.latency.record(elapsedMicros(startNanos), System.currentTimeMillis());
+    }
+
+    /**
+     * 기상청 API 호출 시작
+     *
+     * @return 시작 시각 ({@link #upstreamFinished(WeatherApiResponse, long)}에 전달)
+     */
+    public long upstreamStarted() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 기상청 API 응답 기록 (결과 코드별)
+     */
+    public void upstreamFinished(WeatherApiResponse response, long startNanos) {
+        String resultCode = response == null || response.response() == null || response.response().header() == null
+                ? null : response.response().header().resultCode();
+        upstreamFinished(resultCode != null ? resultCode : "응답 없음", startNanos);
+    }
+
+    /**
+     * 기상청 API 호출 실패 기록 (HTTP 상태 또는 예외 종류별)
+     */
+    public void upstreamFailed(Throwable error, long startNanos) {
+        String outcome;
+        if (error instanceof RestClientResponseException responseException) {
+            outcome = "HTTP " + responseException.getStatusCode().value();
+        } else if (error instanceof WebClientResponseException responseException) {
+            outcome = "HTTP " + responseException.getStatusCode().value();
+        } else {
+            outcome = error.getClass().getSimpleName();
+        }
+        upstreamFinished(outcome, startNanos);
+    }
+
+    /**
+     * 기상청 API 호출 결과 기록
+     *
+     * @param outcome 결과 코드 (예: "00", "03", "HTTP 503", "ResourceAccessException")
+     */
+    void upstreamFinished(String outcome, long startNanos) {
+        upstreamOutcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        upstreamLatency.record(elapsedMicros(startNanos), System.currentTimeMillis());
+    }
+
+    private ToolMetrics metrics(String tool) {
+        ToolMetrics metrics = tools.get(tool);
+        return metrics != null ? metrics : tools.computeIfAbsent(tool, key -> new ToolMetrics(windowMillis));
+    }
+
+    private static long elapsedMicros(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 도구별 지표 (도구 이름순)
+     */
+    public List<ToolSnapshot> toolSnapshots() {
+        long now = System.currentTimeMillis();
+        List<ToolSnapshot> result = new ArrayList<>(tools.size());
+        tools.forEach((tool, metrics) -> result.add(new ToolSnapshot(
+                tool, metrics.calls.sum(), metrics.inFlight.get(), latency(metrics.latency.snapshot(now)))));
+        result.sort(Comparator.comparing(ToolSnapshot::tool));
+        return result;
+    }
+
+    /**
+     * 기상청 API 호출 지연 시간
+     */
+    public LatencySnapshot upstreamLatency() {
+        return latency(upstreamLatency.snapshot(System.currentTimeMillis()));
+    }
+
+    /**
+     * 기상청 API 결과 코드별 누적 호출 수 (결과 코드순)
+     */
+    public Map<String, Long> upstreamOutcomes() {
+        Map<String, Long> result = new TreeMap<>();
+        upstreamOutcomes.forEach((outcome, count) -> result.put(outcome, count.sum()));
+        return result;
+    }
+
+    public Duration window() {
+        return Duration.ofMillis(windowMillis);
+    }
+
+    private static LatencySnapshot latency(RollingHistogram.Snapshot snapshot) {
+        return new LatencySnapshot(snapshot.count(), snapshot.meanMicros(),
+                snapshot.percentile(0.50), snapshot.percentile(0.95), snapshot.percentile(0.99));
+    }
+
+    /**
+     * 최근 기간 지연 시간 (마이크로초)
+     *
+     * @param count 최근 기간 호출 수
+     */
+    public record LatencySnapshot(long count, long meanMicros, long p50Micros, long p95Micros, long p99Micros) {
+    }
+
+    /**
+     * 도구별 지표
+     *
+     * @param calls    누적 호출 수
+     * @param inFlight 실행 중인 호출 수
+     * @param latency  최근 기간 지연 시간
+     */
+    public record ToolSnapshot(String tool, long calls, int inFlight, LatencySnapshot latency) {
+    }
+
+    private static final class ToolMetrics {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder calls = new LongAdder();
+        private final RollingHistogram latency;
+
+        private ToolMetrics(long windowMillis) {
+            this.latency = new RollingHistogram(windowMillis, SLOT_COUNT);
+        }
+    }
+}
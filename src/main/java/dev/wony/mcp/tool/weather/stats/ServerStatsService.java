@@ -0,0 +1,242 @@
+package dev.wony.mcp.tool.weather.stats;
+
+import dev.wony.mcp.tool.weather.bulkhead.BulkheadStatus;
+import dev.wony.mcp.tool.weather.bulkhead.ToolBulkheads;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.NegativeResultCache;
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.client.RequestHedger;
+import dev.wony.mcp.tool.weather.client.ServiceKeyPool;
+import dev.wony.mcp.tool.weather.cluster.GridShardRouter;
+import dev.wony.mcp.tool.weather.popularity.GridPopularityTracker;
+import dev.wony.mcp.tool.weather.shared.SharedForecastCache;
+import dev.wony.mcp.tool.weather.warmup.JitWarmup;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 상태 조회 서비스
+ * 도구별 지연 시간, 기상청 API 호출 결과, 캐시, 서비스 키 사용량, JVM 상태를 한 번에 보여주며 기상청 API를 호출하지 않습니다.
+ */
+@Service
+public class ServerStatsService {
+
+    private static final int HOT_GRID_LIMIT = 5;
+    private static final long MB = 1024 * 1024;
+    private static final DateTimeFormatter QUARANTINE_FORMATTER =
+            DateTimeFormatter.ofPattern("MM/dd HH:mm").withZone(ZoneId.of("Asia/Seoul"));
+
+    private final ServerStats stats;
+    private final ToolBulkheads bulkheads;
+    private final ForecastCache forecastCache;
+    private final NegativeResultCache negativeResults;
+    private final ServiceKeyPool serviceKeys;
+    private final RequestHedger requestHedger;
+    private final GridPopularityTracker gridPopularity;
+    private final JitWarmup jitWarmup;
+    private final RenderedResponseCache renderedResponses;
+    private final SharedForecastCache sharedForecasts;
+    private final GridShardRouter shards;
+
+    public ServerStatsService(ServerStats stats, ToolBulkheads bulkheads, ForecastCache forecastCache,
+                              NegativeResultCache negativeResults, ServiceKeyPool serviceKeys,
+                              RequestHedger requestHedger, GridPopularityTracker gridPopularity,
+                              JitWarmup jitWarmup, RenderedResponseCache renderedResponses,
+                              SharedForecastCache sharedForecasts, GridShardRouter shards) {
+        this.stats = stats;
+        this.bulkheads = bulkheads;
+        this.forecastCache = forecastCache;
+        this.negativeResults = negativeResults;
+        this.serviceKeys = serviceKeys;
+        this.requestHedger = requestHedger;
+        this.gridPopularity = gridPopularity;
+        this.jitWarmup = jitWarmup;
+        this.renderedResponses = renderedResponses;
+        this.sharedForecasts = sharedForecasts;
+        this.shards = shards;
+    }
+
+    /**
+     * 서버 상태 조회
+     *
+     * @return 서버 상태 요약
+     */
+    @Tool(description = "Get live server statistics: per-tool latency percentiles and in-flight calls, upstream KMA API calls and errors by result code, cache size and hit ratio, API key quota usage, and JVM memory/GC. Use this when responses seem slow or failing. No upstream API call.")
+    public String getServerStats() {
+        StringBuilder result = new StringBuilder();
+        result.append("=== 서버 상태 ===\n");
+        result.append("가동 시간: ").append(formatDuration(Duration.ofMillis(
+                ManagementFactory.getRuntimeMXBean().getUptime()))).append('\n');
+        appendTools(result);
+        appendUpstream(result);
+        appendCache(result);
+        appendServiceKeys(result);
+        appendHotGrids(result);
+        appendJvm(result);
+        return result.toString();
+    }
+
+    private void appendTools(StringBuilder result) {
+        String window = formatDuration(stats.window());
+        result.append("\n[도구] (지연 시간은 최근 ").append(window).append(")\n");
+        List<ServerStats.ToolSnapshot> tools = stats.toolSnapshots();
+        if (tools.isEmpty()) {
+            result.append("호출 기록 없음\n");
+        }
+        for (ServerStats.ToolSnapshot tool : tools) {
+            result.append(String.format("%s: 누적 %d회, 실행 중 %d, %s%n",
+                    tool.tool(), tool.calls(), tool.inFlight(), formatLatency(tool.latency())));
+        }
+        for (BulkheadStatus bulkhead : bulkheads.status()) {
+            result.append(String.format("%s 한도: 실행 %d/%d, 대기 %d/%d, 거부 %d회, 대기 초과 %d회%n",
+                    bulkhead.tool(), bulkhead.active(), bulkhead.maxConcurrent(),
+                    bulkhead.waiting(), bulkhead.maxQueue(), bulkhead.rejected(), bulkhead.timedOut()));
+        }
+    }
+
+    private void appendUpstream(StringBuilder result) {
+        result.append("\n[기상청 API]\n");
+        result.append(formatLatency(stats.upstreamLatency())).append('\n');
+        Map<String, Long> outcomes = stats.upstreamOutcomes();
+        if (!outcomes.isEmpty()) {
+            StringBuilder line = new StringBuilder("결과 코드:");
+            outcomes.forEach((outcome, count) -> line.append(' ').append(outcome).append(' ').append(count).append("회,"));
+            line.setLength(line.length() - 1);
+            result.append(line).append('\n');
+        }
+        if (requestHedger.isEnabled()) {
+            result.append(String.format("헤징: 요청 %d회, 헤지 %d회 (헤지 응답 사용 %d회), 현재 지연 %s%n",
+                    requestHedger.requestCount(), requestHedger.hedgeCount(), requestHedger.hedgeWinCount(),
+                    formatMicros(requestHedger.hedgeDelay().toNanos() / 1000)));
+        } else {
+            result.append("헤징: 사용 안 함\n");
+        }
+    }
+
+    private void appendCache(StringBuilder result) {
+        long hits = forecastCache.hitCount();
+        long misses = forecastCache.missCount();
+        long lookups = hits + misses;
+        result.append("\n[캐시]\n");
+        result.append(String.format("예보: %d/%d개 격자, 약 %.1fMB, 적중률 %s (적중 %d회, 미스 %d회)%n",
+                forecastCache.size(), forecastCache.maxEntries(), forecastCache.estimatedSizeBytes() / (double) MB,
+                lookups == 0 ? "-" : String.format("%.1f%%", hits * 100.0 / lookups), hits, misses));
+        result.append(String.format("실패 결과: %d개, 적중 %d회%n", negativeResults.size(), negativeResults.hitCount()));
+        if (renderedResponses.isEnabled()) {
+            long renderHits = renderedResponses.hitCount();
+            long renderLookups = renderHits + renderedResponses.missCount();
+            result.append(String.format("렌더링 결과: %d개, 약 %.1f/%.1fMB, 적중률 %s (적중 %d회, 제거 %d회, 허용 거부 %d회)%n",
+                    renderedResponses.size(), renderedResponses.estimatedSizeBytes() / (double) MB,
+                    renderedResponses.maxBytes() / (double) MB,
+                    renderLookups == 0 ? "-" : String.format("%.1f%%", renderHits * 100.0 / renderLookups), renderHits,
+                    renderedResponses.evictionCount(), renderedResponses.rejectionCount()));
+        } else {
+            result.append("렌더링 결과: 사용 안 함\n");
+        }
+        if (sharedForecasts.isEnabled()) {
+            result.append(String.format("프로세스 간 공유: 사용 %d회, 공유 %d회, 대기 %d회 (%s)%n",
+                    sharedForecasts.hitCount(), sharedForecasts.publishCount(), sharedForecasts.waitCount(),
+                    sharedForecasts.path()));
+        } else {
+            result.append("프로세스 간 공유: 사용 안 함\n");
+        }
+        if (shards.isEnabled()) {
+            result.append(String.format("격자 분산: 노드 %d개 중 %s, 전달 %d회, 직접 조회 전환 %d회%n",
+                    shards.nodes().size(), shards.self(), shards.forwardedCount(), shards.fallbackCount()));
+        } else {
+            result.append("격자 분산: 사용 안 함\n");
+        }
+    }
+
+    private void appendServiceKeys(StringBuilder result) {
+        long quota = serviceKeys.dailyQuota();
+        result.append("\n[서비스 키] (일일 한도 ").append(quota > 0 ? quota + "회" : "없음").append(")\n");
+        for (ServiceKeyPool.KeyStatus key : serviceKeys.status()) {
+            result.append(String.format("%s: 오늘 %d회 (가중치 %d)", key.maskedKey(), key.usedToday(), key.weight()));
+            if (key.quarantinedUntil() != null) {
+                result.append(", 격리 중 (").append(QUARANTINE_FORMATTER.format(key.quarantinedUntil())).append("까지)");
+            }
+            result.append('\n');
+        }
+    }
+
+    private void appendHotGrids(StringBuilder result) {
+        List<GridPopularityTracker.HotGrid> hotSet = gridPopularity.hotSet();
+        if (hotSet.isEmpty()) {
+            return;
+        }
+        result.append("\n[많이 조회된 격자]\n");
+        for (GridPopularityTracker.HotGrid hot : hotSet.subList(0, Math.min(HOT_GRID_LIMIT, hotSet.size()))) {
+            result.append(String.format("%s (%d, %d): 약 %d회%n",
+                    hot.type().getDescription(), hot.grid().nx(), hot.grid().ny(), hot.count()));
+        }
+    }
+
+    private void appendJvm(StringBuilder result) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        result.append("\n[JVM]\n");
+        result.append(String.format("힙: 사용 %dMB / 할당 %dMB / 최대 %s%n",
+                heap.getUsed() / MB, heap.getCommitted() / MB, heap.getMax() < 0 ? "제한 없음" : heap.getMax() / MB + "MB"));
+        result.append(String.format("비힙: 사용 %dMB%n", nonHeap.getUsed() / MB));
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            result.append(String.format("GC %s: %d회, 누적 %dms%n",
+                    gc.getName(), Math.max(0, gc.getCollectionCount()), Math.max(0, gc.getCollectionTime())));
+        }
+        result.append(String.format("스레드: %d개%n", ManagementFactory.getThreadMXBean().getThreadCount()));
+        result.append("JIT 예열: ").append(formatWarmup()).append('\n');
+    }
+
+    private String formatWarmup() {
+        return switch (jitWarmup.state()) {
+            case DISABLED -> "사용 안 함";
+            case PENDING -> "대기 중";
+            case RUNNING -> "진행 중 (" + jitWarmup.completedIterations() + "회)";
+            case COMPLETED -> "완료 (" + jitWarmup.completedIterations() + "회, " + jitWarmup.elapsed().toMillis() + "ms)";
+            case FAILED -> "실패 (" + jitWarmup.completedIterations() + "회 실행 후)";
+        };
+    }
+
+    private static String formatLatency(ServerStats.LatencySnapshot latency) {
+        if (latency.count() == 0) {
+            return "최근 호출 없음";
+        }
+        return String.format("최근 %d회, 평균 %s, p50 %s, p95 %s, p99 %s", latency.count(),
+                formatMicros(latency.meanMicros()), formatMicros(latency.p50Micros()),
+                formatMicros(latency.p95Micros()), formatMicros(latency.p99Micros()));
+    }
+
+    static String formatMicros(long micros) {
+        if (micros < 1_000) {
+            return micros + "µs";
+        }
+        if (micros < 10_000) {
+            return String.format("%.1fms", micros / 1_000.0);
+        }
+        if (micros < 1_000_000) {
+            return micros / 1_000 + "ms";
+        }
+        return String.format("%.2fs", micros / 1_000_000.0);
+    }
+
+    private static String formatDuration(Duration duration) {
+        long hours = duration.toHours();
+        int minutes = duration.toMinutesPart();
+        if (hours > 0) {
+            return hours + "시간 " + minutes + "분";
+        }
+        if (minutes > 0) {
+            return minutes + "분" + (duration.toSecondsPart() > 0 ? " " + duration.toSecondsPart() + "초" : "");
+        }
+        return duration.toSecondsPart() + "초";
+    }
+}
@@ -0,0 +1,197 @@
+package dev.wony.mcp.tool.weather.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wony.mcp.tool.weather.CompactForecastRenderer;
+import dev.wony.mcp.tool.weather.WeatherResponseFormatter;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.client.KmaRequests;
+import dev.wony.mcp.tool.weather.dto.City;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastDiff;
+import dev.wony.mcp.tool.weather.forecast.ForecastJsonWriter;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.util.BaseTimeCalculator;
+import dev.wony.mcp.tool.weather.util.CoordinateConverter;
+import dev.wony.mcp.tool.weather.util.LocationPreflight;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static dev.wony.mcp.tool.weather.client.KmaRequests.DATE_FORMATTER;
+import static dev.wony.mcp.tool.weather.client.KmaRequests.TIME_FORMATTER;
+
+/**
+ * 시작 직후 응답 처리 경로 JIT 예열
+ *
+ * <p>실행 직후 첫 도구 호출은 Jackson 역직렬화, 예보 변환, 응답 포맷팅, 좌표 변환을 인터프리터로 실행하므로
+ * 같은 호출의 안정 상태보다 몇 배 느립니다. 애플리케이션이 준비되면 백그라운드 스레드에서 가상 기상청 응답
+ * ({@link SyntheticPayloads})으로 도구와 같은 파싱/렌더링 경로를 반복 실행하여 JIT 컴파일을 미리 유도합니다.
+ *
+ * <p>STDIO 전송은 예열과 관계없이 바로 요청을 받습니다. 기상청 API, 캐시, 통계에는 영향을 주지 않으며
+ * 네이티브 이미지에서는 JIT이 없으므로 실행하지 않습니다. {@code weather.warmup.enabled=true}일 때만 사용합니다.
+ */
+@Component
+public class JitWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(JitWarmup.class);
+
+    /**
+     * 예열 기준 시각 (가상 응답의 발표시각, 실제 시각과 무관)
+     */
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+
+    /**
+     * 예열 상태
+     */
+    public enum State {
+        DISABLED, PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final int iterations;
+    private final Duration maxDuration;
+    private final ObjectMapper objectMapper;
+
+    private volatile State state;
+    private volatile int completedIterations;
+    private volatile long elapsedMillis;
+    private volatile Thread worker;
+
+    public JitWarmup(
+            @Value("${weather.warmup.enabled:false}") boolean enabled,
+            @Value("${weather.warmup.iterations:200}") int iterations,
+            @Value("${weather.warmup.max-duration:20s}") Duration maxDuration) {
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+        // RestClient 기본 JSON 변환기와 같은 설정
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.state = enabled && iterations > 0 && !NativeDetector.inNativeImage() ? State.PENDING : State.DISABLED;
+    }
+
+    /**
+     * 애플리케이션 준비 후 백그라운드 스레드에서 예열 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (state != State.PENDING) {
+            return;
+        }
+        Thread thread = new Thread(this::runWarmup, "weather-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        worker = thread;
+        thread.start();
+    }
+
+    private void runWarmup() {
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        try {
+            int completed = 0;
+            while (completed < iterations && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                runOnce(completed);
+                completed++;
+                completedIterations = completed;
+            }
+            elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            state = State.COMPLETED;
+            log.info("JIT 예열 완료: {}회, {}ms", completed, elapsedMillis);
+        } catch (RuntimeException | JsonProcessingException e) {
+            elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            state = State.FAILED;
+            log.warn("JIT 예열 실패 ({}회 실행 후)", completedIterations, e);
+        }
+    }
+
+    /**
+     * 도구 한 번씩에 해당하는 파싱/렌더링 경로 실행
+     *
+     * @param variant 가상 응답 변형 번호
+     * @return 렌더링한 응답의 총 길이 (결과를 사용하여 실행이 생략되지 않도록 함)
+     */
+    int runOnce(int variant) throws JsonProcessingException {
+        City city = City.values()[variant % City.values().length];
+        double latitude = 33.2 + (variant * 0.137) % 5.3;
+        double longitude = 125.6 + (variant * 0.191) % 3.8;
+        int length = 0;
+
+        if (LocationPreflight.rejectionMessage(latitude, longitude) == null) {
+            GridCoordinate converted = CoordinateConverter.toGridCoordinate(latitude, longitude);
+            length += converted.nx() + converted.ny();
+        }
+        GridCoordinate grid = city.getGrid();
+
+        LocalDateTime ncstBase = BaseTimeCalculator.ultraSrtNcst(BASE.plusHours(variant % 24));
+        Forecast observation = decode(ForecastType.ULTRA_SRT_NCST, grid, ncstBase, variant);
+        length += WeatherResponseFormatter.formatUltraSrtNcstResponse(observation, latitude, longitude,
+                ncstBase.format(DATE_FORMATTER), ncstBase.format(TIME_FORMATTER)).length();
+        length += WeatherResponseFormatter.formatCityWeatherResponse(city.getName(),
+                ncstBase.format(DATE_FORMATTER), ncstBase.format(TIME_FORMATTER), observation).length();
+
+        LocalDateTime fcstBase = BaseTimeCalculator.ultraSrtFcst(BASE.plusHours(variant % 24));
+        Forecast ultraShort = decode(ForecastType.ULTRA_SRT_FCST, grid, fcstBase, variant);
+        length += WeatherResponseFormatter.formatUltraSrtFcstResponse(ultraShort, latitude, longitude,
+                fcstBase.format(DATE_FORMATTER), fcstBase.format(TIME_FORMATTER)).length();
+
+        LocalDateTime vilageBase = BaseTimeCalculator.vilageFcst(BASE.plusHours(variant % 24));
+        LocalDateTime previousBase = BaseTimeCalculator.previousIssuance(ForecastType.VILAGE_FCST, vilageBase);
+        Forecast current = decode(ForecastType.VILAGE_FCST, grid, vilageBase, variant);
+        Forecast previous = decode(ForecastType.VILAGE_FCST, grid, previousBase, variant + 1);
+        String baseDate = vilageBase.format(DATE_FORMATTER);
+        String baseTime = vilageBase.format(TIME_FORMATTER);
+        length += WeatherResponseFormatter.formatVilageFcstResponse(current, latitude, longitude, baseDate, baseTime).length();
+        length += CompactForecastRenderer.render(current, latitude, longitude, baseDate, baseTime,
+                variant % 2 == 0 ? null : 400).length();
+        length += WeatherResponseFormatter.formatVilageFcstChangesResponse(
+                ForecastDiff.between(previous, current), latitude, longitude).length();
+        length += ForecastJsonWriter.toJson(current).length();
+        return length;
+    }
+
+    private Forecast decode(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime, int variant)
+            throws JsonProcessingException {
+        String body = SyntheticPayloads.response(type, grid, baseDateTime, variant);
+        WeatherApiResponse response = objectMapper.readValue(body, WeatherApiResponse.class);
+        ForecastResult result = KmaRequests.decode(type, grid, baseDateTime, response,
+                "가상 응답 본문이 없습니다.", "가상 응답 항목이 없습니다.");
+        if (!result.isSuccess()) {
+            throw new IllegalStateException(result.errorMessage());
+        }
+        return result.forecast();
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public int completedIterations() {
+        return completedIterations;
+    }
+
+    /**
+     * 예열에 걸린 시간 (완료 또는 실패 후)
+     */
+    public Duration elapsed() {
+        return Duration.ofMillis(elapsedMillis);
+    }
+
+    @PreDestroy
+    public void close() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package dev.wony.mcp.tool.weather.warmup;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static dev.wony.mcp.tool.weather.client.KmaRequests.DATE_FORMATTER;
+import static dev.wony.mcp.tool.weather.client.KmaRequests.TIME_FORMATTER;
+
+/**
+ * JIT 예열용 가상 기상청 응답 (JSON 본문)
+ *
+ * <p>실제 응답과 같은 구조와 항목 수로 만들되, 값은 {@code variant}에 따라 조금씩 바꿔
+ * 강수 여부, 하늘상태, 변경 사항 등 응답 처리의 여러 분기를 거치도록 합니다.
+ */
+final class SyntheticPayloads {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String[] NCST_CATEGORIES = {"PTY", "REH", "RN1", "T1H", "UUU", "VEC", "VVV", "WSD"};
+    private static final String[] ULTRA_FCST_CATEGORIES = {"LGT", "PTY", "RN1", "SKY", "T1H", "REH", "UUU", "VVV", "VEC", "WSD"};
+    private static final String[] VILAGE_CATEGORIES = {"TMP", "UUU", "VVV", "VEC", "WSD", "SKY", "PTY", "POP", "WAV", "PCP", "REH", "SNO"};
+
+    private static final int ULTRA_FCST_HOURS = 6;
+    private static final int VILAGE_FCST_HOURS = 67;
+
+    private SyntheticPayloads() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 조회 종류별 가상 응답 생성
+     *
+     * @param variant 값 변형 번호 (같은 번호는 같은 응답)
+     */
+    static String response(ForecastType type, GridCoordinate grid, LocalDateTime baseDateTime, int variant) {
+        StringWriter writer = new StringWriter(type == ForecastType.VILAGE_FCST ? 160 * 1024 : 8 * 1024);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("response");
+            generator.writeObjectFieldStart("header");
+            generator.writeStringField("resultCode", "00");
+            generator.writeStringField("resultMsg", "NORMAL_SERVICE");
+            generator.writeEndObject();
+            generator.writeObjectFieldStart("body");
+            generator.writeStringField("dataType", "JSON");
+            generator.writeObjectFieldStart("items");
+            generator.writeArrayFieldStart("item");
+            int count = switch (type) {
+                case ULTRA_SRT_NCST -> writeObservation(generator, grid, baseDateTime, variant);
+                case ULTRA_SRT_FCST -> writeForecast(generator, grid, baseDateTime, variant,
+                        ULTRA_FCST_CATEGORIES, baseDateTime.plusMinutes(30), ULTRA_FCST_HOURS);
+                case VILAGE_FCST -> writeForecast(generator, grid, baseDateTime, variant,
+                        VILAGE_CATEGORIES, baseDateTime.plusMinutes(50), VILAGE_FCST_HOURS);
+            };
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeNumberField("pageNo", 1);
+            generator.writeNumberField("numOfRows", type.getNumOfRows());
+            generator.writeNumberField("totalCount", count);
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    private static int writeObservation(JsonGenerator generator, GridCoordinate grid, LocalDateTime baseDateTime,
+                                        int variant) throws IOException {
+        String baseDate = baseDateTime.format(DATE_FORMATTER);
+        String baseTime = baseDateTime.format(TIME_FORMATTER);
+        for (String category : NCST_CATEGORIES) {
+            generator.writeStartObject();
+            generator.writeStringField("baseDate", baseDate);
+            generator.writeStringField("baseTime", baseTime);
+            generator.writeStringField("category", category);
+            generator.writeNumberField("nx", grid.nx());
+            generator.writeNumberField("ny", grid.ny());
+            generator.writeStringField("obsrValue", observationValue(category, variant));
+            generator.writeEndObject();
+        }
+        return NCST_CATEGORIES.length;
+    }
+
+    /**
+     * 첫 예보 시각(정시)부터 시간별로 모든 요소를 기록
+     */
+    private static int writeForecast(JsonGenerator generator, GridCoordinate grid, LocalDateTime baseDateTime,
+                                     int variant, String[] categories, LocalDateTime after, int hours) throws IOException {
+        String baseDate = baseDateTime.format(DATE_FORMATTER);
+        String baseTime = baseDateTime.format(TIME_FORMATTER);
+        LocalDateTime first = after.withMinute(0).plusHours(1);
+        int count = 0;
+        for (int hour = 0; hour < hours; hour++) {
+            LocalDateTime time = first.plusHours(hour);
+            String fcstDate = time.format(DATE_FORMATTER);
+            String fcstTime = time.format(TIME_FORMATTER);
+            for (String category : categories) {
+                count += writeForecastItem(generator, grid, baseDate, baseTime, category, fcstDate, fcstTime,
+                        forecastValue(category, time.getHour(), hour + variant));
+            }
+            if (categories == VILAGE_CATEGORIES && time.getHour() == 6) {
+                count += writeForecastItem(generator, grid, baseDate, baseTime, "TMN", fcstDate, fcstTime,
+                        String.valueOf(2 + variant % 5));
+            } else if (categories == VILAGE_CATEGORIES && time.getHour() == 15) {
+                count += writeForecastItem(generator, grid, baseDate, baseTime, "TMX", fcstDate, fcstTime,
+                        String.valueOf(14 + variant % 5));
+            }
+        }
+        return count;
+    }
+
+    private static int writeForecastItem(JsonGenerator generator, GridCoordinate grid, String baseDate, String baseTime,
+                                         String category, String fcstDate, String fcstTime, String value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("baseDate", baseDate);
+        generator.writeStringField("baseTime", baseTime);
+        generator.writeStringField("category", category);
+        generator.writeStringField("fcstDate", fcstDate);
+        generator.writeStringField("fcstTime", fcstTime);
+        generator.writeStringField("fcstValue", value);
+        generator.writeNumberField("nx", grid.nx());
+        generator.writeNumberField("ny", grid.ny());
+        generator.writeEndObject();
+        return 1;
+    }
+
+    private static String observationValue(String category, int variant) {
+        boolean rain = variant % 3 == 0;
+        return switch (category) {
+            case "PTY" -> rain ? "1" : "0";
+            case "REH" -> String.valueOf(40 + variant % 50);
+            case "RN1" -> rain ? "1.5" : "0";
+            case "T1H" -> String.format(Locale.ROOT, "%.1f", -5 + variant % 35 + 0.3);
+            case "UUU" -> "-1.2";
+            case "VVV" -> "0.8";
+            case "VEC" -> String.valueOf(variant * 37 % 360);
+            case "WSD" -> String.format(Locale.ROOT, "%.1f", variant % 12 * 0.7);
+            default -> "0";
+        };
+    }
+
+    /**
+     * 시각과 변형 번호에 따라 바뀌는 예보값 (강수는 일부 시간대에만)
+     */
+    private static String forecastValue(String category, int hourOfDay, int seed) {
+        boolean rain = seed % 7 < 2;
+        return switch (category) {
+            case "TMP", "T1H" -> String.valueOf(5 + hourOfDay / 2 + seed % 3);
+            case "SKY" -> String.valueOf(rain ? 4 : 1 + seed % 3);
+            case "PTY" -> rain ? String.valueOf(1 + seed % 4) : "0";
+            case "POP" -> String.valueOf(rain ? 60 + seed % 4 * 10 : seed % 3 * 10);
+            case "PCP" -> rain ? (seed % 2 == 0 ? "1.0mm" : "1.0mm 미만") : "강수없음";
+            case "RN1" -> rain ? "1.0mm" : "강수없음";
+            case "SNO" -> "적설없음";
+            case "REH" -> String.valueOf(50 + seed % 40);
+            case "UUU" -> String.format(Locale.ROOT, "%.1f", (seed % 9 - 4) * 0.6);
+            case "VVV" -> String.format(Locale.ROOT, "%.1f", (seed % 7 - 3) * 0.5);
+            case "VEC" -> String.valueOf(seed * 23 % 360);
+            case "WSD" -> String.format(Locale.ROOT, "%.1f", 0.5 + seed % 10 * 0.6);
+            default -> "0";
+        };
+    }
+}
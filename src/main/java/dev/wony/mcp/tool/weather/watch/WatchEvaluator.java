@@ -0,0 +1,164 @@
+package dev.wony.mcp.tool.weather.watch;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.ForecastCacheListener;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.issuance.IssuanceTracker;
+import dev.wony.mcp.tool.weather.util.BaseTimeCalculator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 새 발표 예보가 캐시에 들어오면 감시 조건을 평가하는 리스너
+ *
+ * <p>단기예보의 새 발표가 캐시에 들어올 때 그 격자의 감시 조건을 {@link WatchRegistry}로 한 번 평가합니다.
+ * 아무도 조회하지 않는 감시 격자도 평가되도록, 주기적으로 확인된 최신 발표시각과 비교하여 아직 평가하지 않은 감시 격자만
+ * 백그라운드에서 조회합니다. 격자 분산으로 다른 노드가 맡은 격자는 캐시에 들어오지 않으므로 조회 결과로 바로 평가합니다.
+ *
+ * <p>백그라운드 조회도 API 일일 호출 한도를 쓰므로 기본은 꺼져 있으며, {@code weather.watch.enabled=true}일 때만 평가합니다.
+ * 켜져 있어도 감시가 하나도 없으면 리스너는 바로 돌아가고, 백그라운드 조회 스레드는 첫 감시가 등록된 뒤에 만듭니다.
+ */
+@Component
+public class WatchEvaluator implements ForecastCacheListener {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchEvaluator.class);
+
+    private final WatchRegistry registry;
+    private final ForecastCache forecastCache;
+    private final WeatherService weatherService;
+    private final IssuanceTracker issuanceTracker;
+    private final boolean enabled;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private ExecutorService executor;
+    private boolean closed;
+
+    public WatchEvaluator(
+            WatchRegistry registry,
+            ForecastCache forecastCache,
+            WeatherService weatherService,
+            IssuanceTracker issuanceTracker,
+            @Value("${weather.watch.enabled:false}") boolean enabled) {
+        this.registry = registry;
+        this.forecastCache = forecastCache;
+        this.weatherService = weatherService;
+        this.issuanceTracker = issuanceTracker;
+        this.enabled = enabled;
+        if (enabled) {
+            forecastCache.addListener(this);
+        }
+    }
+
+    @Override
+    public void onIssuance(Forecast forecast, Forecast previous) {
+        if (forecast.type() == ForecastType.VILAGE_FCST && registry.size() > 0) {
+            evaluate(forecast, Forecast.toEpochSecond(LocalDateTime.now()));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 격자에 캐시된 최신 단기예보로 바로 평가 (감시 등록 직후)
+     *
+     * @return 평가했으면 true, 캐시된 예보가 없으면 false
+     */
+    public boolean evaluateCached(GridCoordinate grid) {
+        Forecast latest = forecastCache.latest(ForecastType.VILAGE_FCST, grid);
+        if (!enabled || latest == null) {
+            return false;
+        }
+        evaluate(latest, Forecast.toEpochSecond(LocalDateTime.now()));
+        return true;
+    }
+
+    private void evaluate(Forecast forecast, long nowEpochSecond) {
+        List<WatchStatus> triggered = registry.evaluate(forecast, nowEpochSecond);
+        for (WatchStatus status : triggered) {
+            log.info("감시 #{} 조건 충족: {} {}", status.rule().id(), status.rule().label(), status.rule().describe());
+        }
+    }
+
+    /**
+     * 아직 최신 발표로 평가하지 않은 감시 격자 조회 (백그라운드 실행, 이전 조회가 진행 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${weather.watch.check-interval:1m}")
+    public void refreshWatchedGrids() {
+        if (!enabled || registry.size() == 0 || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor().execute(() -> {
+                try {
+                    refresh(LocalDateTime.now());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    void refresh(LocalDateTime now) {
+        LocalDateTime baseDateTime = issuanceTracker.resolve(ForecastType.VILAGE_FCST, BaseTimeCalculator.vilageFcst(now));
+        long baseEpochSecond = Forecast.toEpochSecond(baseDateTime);
+        for (GridCoordinate grid : registry.grids()) {
+            if (registry.isEvaluated(grid, baseEpochSecond)) {
+                continue;
+            }
+            try {
+                ForecastResult result = weatherService.refresh(ForecastType.VILAGE_FCST, grid, baseDateTime);
+                if (result.isSuccess()) {
+                    evaluate(result.forecast(), Forecast.toEpochSecond(now));
+                } else {
+                    log.debug("감시 격자 {} 조회 실패: {}", grid, result.errorMessage());
+                }
+            } catch (RestClientException e) {
+                log.debug("감시 격자 {} 조회 실패", grid, e);
+            }
+        }
+    }
+
+    /**
+     * 백그라운드 조회 스레드 (감시가 처음 등록된 뒤 첫 확인 때 생성)
+     */
+    private synchronized ExecutorService executor() {
+        if (closed) {
+            throw new RejectedExecutionException("감시 평가기가 종료되었습니다.");
+        }
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "weather-watch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
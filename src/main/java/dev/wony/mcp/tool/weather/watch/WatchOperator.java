@@ -0,0 +1,54 @@
+package dev.wony.mcp.tool.weather.watch;
+
+import java.util.Optional;
+
+/**
+ * 감시 조건의 비교 연산자
+ */
+public enum WatchOperator {
+    GE(">=", true),
+    GT(">", true),
+    LE("<=", false),
+    LT("<", false);
+
+    private final String symbol;
+    private final boolean upper;
+
+    WatchOperator(String symbol, boolean upper) {
+        this.symbol = symbol;
+        this.upper = upper;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * 구간 최댓값으로 판정하는 연산자인지 여부 (아니면 최솟값으로 판정)
+     */
+    public boolean isUpper() {
+        return upper;
+    }
+
+    public boolean matches(double value, double threshold) {
+        return switch (this) {
+            case GE -> value >= threshold;
+            case GT -> value > threshold;
+            case LE -> value <= threshold;
+            case LT -> value < threshold;
+        };
+    }
+
+    /**
+     * 기호로 연산자 조회 (예: ">=", "<")
+     */
+    public static Optional<WatchOperator> fromSymbol(String symbol) {
+        String trimmed = symbol == null ? "" : symbol.trim();
+        for (WatchOperator operator : values()) {
+            if (operator.symbol.equals(trimmed)) {
+                return Optional.of(operator);
+            }
+        }
+        return Optional.empty();
+    }
+}
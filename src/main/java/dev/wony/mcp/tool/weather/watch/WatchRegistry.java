@@ -0,0 +1,233 @@
+package dev.wony.mcp.tool.weather.watch;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 예보 감시 조건 저장소와 평가기
+ *
+ * <p>감시 조건을 격자와 예보 요소별로 묶어 보관합니다. 격자의 새 발표 예보를 평가할 때 요소마다 감시 구간을 한 번만 훑어
+ * 구간 길이별 최솟값/최댓값을 만들고, 각 조건은 자기 구간 길이의 값과 기준값을 한 번 비교하여 판정합니다.
+ * 같은 격자와 요소에 조건이 수천 개 있어도 예보 데이터는 요소당 한 번만 읽습니다.
+ *
+ * <p>격자마다 마지막으로 평가한 발표시각을 기억하여 같은 발표는 다시 평가하지 않습니다 (조건이 추가된 격자는 다시 평가).
+ */
+@Component
+public class WatchRegistry {
+
+    public static final int DEFAULT_MAX_WATCHES = 10_000;
+    public static final int MAX_HOURS = 72;
+
+    /**
+     * 감시할 수 있는 예보 요소 (단기예보의 숫자 값 요소)
+     */
+    public static final Set<WeatherCategory> WATCHABLE = EnumSet.of(
+            WeatherCategory.POP, WeatherCategory.TMP, WeatherCategory.TMN, WeatherCategory.TMX,
+            WeatherCategory.REH, WeatherCategory.WSD, WeatherCategory.SKY, WeatherCategory.PTY);
+
+    private final int maxWatches;
+    private final Map<Long, WatchRule> rules = new LinkedHashMap<>();
+    private final Map<GridCoordinate, GridWatches> grids = new HashMap<>();
+    private final Map<Long, WatchStatus> statuses = new HashMap<>();
+    private long nextId = 1;
+
+    public WatchRegistry() {
+        this(DEFAULT_MAX_WATCHES);
+    }
+
+    @Autowired
+    public WatchRegistry(@Value("${weather.watch.max-watches:10000}") int maxWatches) {
+        if (maxWatches <= 0) {
+            throw new IllegalArgumentException("최대 감시 수는 1 이상이어야 합니다: " + maxWatches);
+        }
+        this.maxWatches = maxWatches;
+    }
+
+    /**
+     * 감시 조건 등록
+     *
+     * @throws IllegalArgumentException 감시할 수 없는 요소나 구간이거나 감시 수가 최대치에 이른 경우
+     */
+    public synchronized WatchRule add(String label, GridCoordinate grid, WeatherCategory category,
+                                      WatchOperator operator, double threshold, int hours) {
+        if (!WATCHABLE.contains(category)) {
+            throw new IllegalArgumentException("감시할 수 없는 예보 요소입니다: " + category);
+        }
+        if (hours <= 0 || hours > MAX_HOURS) {
+            throw new IllegalArgumentException("감시 구간은 1~" + MAX_HOURS + "시간이어야 합니다: " + hours);
+        }
+        if (Double.isNaN(threshold) || Double.isInfinite(threshold)) {
+            throw new IllegalArgumentException("기준값이 올바르지 않습니다: " + threshold);
+        }
+        if (rules.size() >= maxWatches) {
+            throw new IllegalArgumentException("감시는 최대 " + maxWatches + "개까지 등록할 수 있습니다.");
+        }
+
+        WatchRule rule = new WatchRule(nextId++, label, grid, category, operator, threshold, hours);
+        rules.put(rule.id(), rule);
+        GridWatches watches = grids.computeIfAbsent(grid, ignored -> new GridWatches());
+        watches.byCategory.computeIfAbsent(category, ignored -> new ArrayList<>()).add(rule);
+        // 새 조건도 평가되도록 같은 발표를 다시 평가할 수 있게 함
+        watches.stale = true;
+        return rule;
+    }
+
+    /**
+     * 감시 조건 삭제
+     *
+     * @return 삭제했으면 true
+     */
+    public synchronized boolean remove(long id) {
+        WatchRule rule = rules.remove(id);
+        if (rule == null) {
+            return false;
+        }
+        statuses.remove(id);
+        GridWatches watches = grids.get(rule.grid());
+        List<WatchRule> group = watches.byCategory.get(rule.category());
+        group.remove(rule);
+        if (group.isEmpty()) {
+            watches.byCategory.remove(rule.category());
+        }
+        if (watches.byCategory.isEmpty()) {
+            grids.remove(rule.grid());
+        }
+        return true;
+    }
+
+    /**
+     * 격자의 새 발표 예보로 감시 조건 평가 (격자마다 발표당 한 번)
+     *
+     * @param nowEpochSecond 감시 구간 시작 시각 (epoch 초)
+     * @return 이번 발표에서 새로 충족한 조건의 결과
+     */
+    public synchronized List<WatchStatus> evaluate(Forecast forecast, long nowEpochSecond) {
+        GridWatches watches = grids.get(forecast.grid());
+        if (watches == null || forecast.baseEpochSecond() < watches.evaluatedBase
+                || forecast.baseEpochSecond() == watches.evaluatedBase && !watches.stale) {
+            return List.of();
+        }
+        watches.evaluatedBase = forecast.baseEpochSecond();
+        watches.stale = false;
+
+        List<WatchStatus> triggered = new ArrayList<>();
+        for (Map.Entry<WeatherCategory, List<WatchRule>> group : watches.byCategory.entrySet()) {
+            evaluate(forecast, nowEpochSecond, group.getKey(), group.getValue(), triggered);
+        }
+        return triggered;
+    }
+
+    private void evaluate(Forecast forecast, long nowEpochSecond, WeatherCategory category, List<WatchRule> group,
+                          List<WatchStatus> triggered) {
+        int horizon = 0;
+        for (WatchRule rule : group) {
+            horizon = Math.max(horizon, rule.hours());
+        }
+        int start = (int) Math.max(0, Math.floorDiv(nowEpochSecond - forecast.epochSecondAt(0), Forecast.HOUR_SECONDS));
+        int length = Math.max(0, Math.min(forecast.hourCount(), start + horizon) - start);
+
+        // 구간 길이(1~length시간)별 최솟값/최댓값과 그 시간 인덱스를 한 번의 순회로 계산
+        double[] mins = new double[length];
+        double[] maxs = new double[length];
+        int[] minHours = new int[length];
+        int[] maxHours = new int[length];
+        double min = Double.NaN;
+        double max = Double.NaN;
+        int minHour = -1;
+        int maxHour = -1;
+        for (int i = 0; i < length; i++) {
+            double value = forecast.value(start + i, category);
+            if (!Double.isNaN(value)) {
+                if (Double.isNaN(min) || value < min) {
+                    min = value;
+                    minHour = start + i;
+                }
+                if (Double.isNaN(max) || value > max) {
+                    max = value;
+                    maxHour = start + i;
+                }
+            }
+            mins[i] = min;
+            maxs[i] = max;
+            minHours[i] = minHour;
+            maxHours[i] = maxHour;
+        }
+
+        for (WatchRule rule : group) {
+            int span = Math.min(rule.hours(), length);
+            double value = span == 0 ? Double.NaN : rule.operator().isUpper() ? maxs[span - 1] : mins[span - 1];
+            int hour = span == 0 ? -1 : rule.operator().isUpper() ? maxHours[span - 1] : minHours[span - 1];
+            boolean matched = !Double.isNaN(value) && rule.operator().matches(value, rule.threshold());
+
+            // 같은 발표를 다시 평가할 때는 이전 판정의 '새로 충족' 여부를 유지
+            WatchStatus previous = statuses.get(rule.id());
+            boolean newly = matched && (previous == null || !previous.triggered()
+                    || previous.newlyTriggered() && previous.baseEpochSecond() == forecast.baseEpochSecond());
+            WatchStatus status = new WatchStatus(rule, forecast.baseEpochSecond(), value,
+                    hour < 0 ? 0 : forecast.epochSecondAt(hour), matched, newly);
+            statuses.put(rule.id(), status);
+            if (newly && (previous == null || !previous.newlyTriggered())) {
+                triggered.add(status);
+            }
+        }
+    }
+
+    /**
+     * 격자를 해당 발표시각(또는 그 이후 발표)으로 이미 평가했는지 확인
+     */
+    public synchronized boolean isEvaluated(GridCoordinate grid, long baseEpochSecond) {
+        GridWatches watches = grids.get(grid);
+        return watches == null || !watches.stale && watches.evaluatedBase >= baseEpochSecond;
+    }
+
+    /**
+     * 감시 중인 격자 목록
+     */
+    public synchronized List<GridCoordinate> grids() {
+        return List.copyOf(grids.keySet());
+    }
+
+    /**
+     * 등록 순서대로 정렬된 감시 조건 목록
+     */
+    public synchronized List<WatchRule> rules() {
+        return List.copyOf(rules.values());
+    }
+
+    /**
+     * 감시 조건의 마지막 평가 결과
+     *
+     * @return 평가 결과, 아직 평가하지 않았으면 null
+     */
+    public synchronized WatchStatus status(long id) {
+        return statuses.get(id);
+    }
+
+    public synchronized int size() {
+        return rules.size();
+    }
+
+    public int maxWatches() {
+        return maxWatches;
+    }
+
+    private static final class GridWatches {
+
+        private final Map<WeatherCategory, List<WatchRule>> byCategory = new EnumMap<>(WeatherCategory.class);
+        private long evaluatedBase = Long.MIN_VALUE;
+        private boolean stale;
+    }
+}
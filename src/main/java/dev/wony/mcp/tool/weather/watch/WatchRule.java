@@ -0,0 +1,38 @@
+package dev.wony.mcp.tool.weather.watch;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+
+/**
+ * 예보 감시 조건 (격자의 예보 요소가 앞으로 {@code hours}시간 안에 기준값을 넘는지)
+ *
+ * @param id        감시 번호
+ * @param label     사용자에게 보여줄 위치 (예: 위경도)
+ * @param grid      감시 격자
+ * @param category  예보 요소
+ * @param operator  비교 연산자
+ * @param threshold 기준값
+ * @param hours     감시 구간 (현재 시각부터 시간 수)
+ */
+public record WatchRule(long id, String label, GridCoordinate grid, WeatherCategory category,
+                        WatchOperator operator, double threshold, int hours) {
+
+    /**
+     * 조건 설명 (예: "강수확률 >= 60% (24시간 이내)")
+     */
+    public String describe() {
+        return String.format("%s %s %s%s (%d시간 이내)", category.getDescription(), operator.getSymbol(),
+                formatValue(threshold), unitOf(category), hours);
+    }
+
+    /**
+     * 값 뒤에 붙일 단위 (코드값 요소는 단위 없음)
+     */
+    static String unitOf(WeatherCategory category) {
+        return "코드값".equals(category.getUnit()) ? "" : category.getUnit();
+    }
+
+    static String formatValue(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
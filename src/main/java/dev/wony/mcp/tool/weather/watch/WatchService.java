@@ -0,0 +1,198 @@
+package dev.wony.mcp.tool.weather.watch;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.util.CoordinateConverter;
+import dev.wony.mcp.tool.weather.util.LocationPreflight;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 예보 감시 등록/해제/조회 서비스
+ * 감시 조건은 새 발표 예보가 들어올 때 {@link WatchEvaluator}가 평가하며, 이 서비스는 평가 결과만 읽습니다.
+ */
+@Service
+public class WatchService {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd HHmm");
+    private static final int DEFAULT_HOURS = 24;
+    private static final int MAX_LINES = 100;
+
+    private final WatchRegistry registry;
+    private final WatchEvaluator evaluator;
+
+    public WatchService(WatchRegistry registry, WatchEvaluator evaluator) {
+        this.registry = registry;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * 예보 감시 등록
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     * @param category  예보 요소 코드
+     * @param operator  비교 연산자 기호
+     * @param threshold 기준값
+     * @param hours     감시 구간 (시간)
+     * @return 등록 결과
+     */
+    @Tool(description = "Register a forecast watch for a latitude/longitude in Korea, e.g. notify when precipitation probability (POP) >= 60 within the next 24 hours. The watch is evaluated once per new short-term forecast issuance; read results with getWeatherWatchAlerts.")
+    public String addWeatherWatch(
+            @ToolParam(description = "Latitude (위도)") double latitude,
+            @ToolParam(description = "Longitude (경도)") double longitude,
+            @ToolParam(description = "예보 요소 코드: POP(강수확률), TMP(기온), TMN(최저기온), TMX(최고기온), REH(습도), WSD(풍속), SKY(하늘상태), PTY(강수형태)") String category,
+            @ToolParam(description = "비교 연산자: >=, >, <=, <") String operator,
+            @ToolParam(description = "기준값 (예: 60)") double threshold,
+            @ToolParam(description = "감시 구간, 현재부터 시간 수 (기본 24, 최대 72)", required = false) Integer hours
+    ) {
+        if (!evaluator.isEnabled()) {
+            return disabledMessage();
+        }
+        String rejected = LocationPreflight.rejectionMessage(latitude, longitude);
+        if (rejected != null) {
+            return rejected;
+        }
+        Optional<WeatherCategory> parsedCategory = parseCategory(category);
+        if (parsedCategory.isEmpty()) {
+            return "알 수 없는 예보 요소입니다: " + category;
+        }
+        Optional<WatchOperator> parsedOperator = WatchOperator.fromSymbol(operator);
+        if (parsedOperator.isEmpty()) {
+            return "알 수 없는 비교 연산자입니다: " + operator + " (>=, >, <=, < 중 하나)";
+        }
+
+        GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+        String label = String.format("위도 %.4f, 경도 %.4f", latitude, longitude);
+        WatchRule rule;
+        try {
+            rule = registry.add(label, grid, parsedCategory.get(), parsedOperator.get(), threshold,
+                    hours == null ? DEFAULT_HOURS : hours);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("감시 #%d 등록: %s - %s\n", rule.id(), label, rule.describe()));
+        if (evaluator.evaluateCached(grid)) {
+            WatchStatus status = registry.status(rule.id());
+            if (status != null) {
+                result.append(status.triggered() ? "현재 예보에서 조건을 충족합니다: " : "현재 예보에서는 조건을 충족하지 않습니다: ");
+                appendValue(result, status);
+                result.append('\n');
+            }
+        } else {
+            result.append("다음 예보 발표 때 평가합니다.\n");
+        }
+        return result.toString();
+    }
+
+    /**
+     * 예보 감시 해제
+     *
+     * @param id 감시 번호
+     * @return 해제 결과
+     */
+    @Tool(description = "Remove a forecast watch registered with addWeatherWatch by its id.")
+    public String removeWeatherWatch(
+            @ToolParam(description = "감시 번호") long id
+    ) {
+        return registry.remove(id) ? "감시 #" + id + "를 해제했습니다." : "감시 #" + id + "를 찾을 수 없습니다.";
+    }
+
+    /**
+     * 예보 감시 결과 조회
+     *
+     * @param includeAll 조건을 충족하지 않은 감시도 포함할지 여부
+     * @return 감시 결과
+     */
+    @Tool(description = "List forecast watches whose condition is met by the latest short-term forecast issuance, marking those newly met in that issuance. Reads stored evaluation results only, no upstream API call.")
+    public String getWeatherWatchAlerts(
+            @ToolParam(description = "조건을 충족하지 않은 감시도 포함할지 여부 (기본 false)", required = false) Boolean includeAll
+    ) {
+        if (!evaluator.isEnabled()) {
+            return disabledMessage();
+        }
+        List<WatchRule> rules = registry.rules();
+        if (rules.isEmpty()) {
+            return "등록된 예보 감시가 없습니다.";
+        }
+
+        int triggered = 0;
+        int pending = 0;
+        StringBuilder lines = new StringBuilder();
+        int written = 0;
+        for (WatchRule rule : rules) {
+            WatchStatus status = registry.status(rule.id());
+            if (status == null) {
+                pending++;
+            } else if (status.triggered()) {
+                triggered++;
+            }
+            boolean show = Boolean.TRUE.equals(includeAll) || status != null && status.triggered();
+            if (!show) {
+                continue;
+            }
+            if (written++ == MAX_LINES) {
+                lines.append("...\n");
+            }
+            if (written > MAX_LINES) {
+                continue;
+            }
+            lines.append('#').append(rule.id()).append(' ');
+            if (status != null && status.newlyTriggered()) {
+                lines.append("[새로 충족] ");
+            }
+            lines.append(rule.label()).append(" - ").append(rule.describe()).append(": ");
+            if (status == null) {
+                lines.append("평가 전");
+            } else {
+                appendValue(lines, status);
+            }
+            lines.append('\n');
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("=== 예보 감시 (감시 %d개, 조건 충족 %d개, 평가 전 %d개) ===\n",
+                rules.size(), triggered, pending));
+        if (lines.isEmpty()) {
+            result.append("조건을 충족한 감시가 없습니다.\n");
+        } else {
+            result.append(lines);
+        }
+        return result.toString();
+    }
+
+    private static void appendValue(StringBuilder result, WatchStatus status) {
+        String base = Forecast.toDateTime(status.baseEpochSecond()).format(TIME_FORMATTER);
+        if (Double.isNaN(status.value())) {
+            result.append("감시 구간의 예보 값 없음 (발표 ").append(base).append(')');
+            return;
+        }
+        result.append(WatchRule.formatValue(status.value())).append(WatchRule.unitOf(status.rule().category()))
+                .append(" (").append(Forecast.toDateTime(status.epochSecond()).format(TIME_FORMATTER))
+                .append(", 발표 ").append(base).append(')');
+    }
+
+    private static Optional<WeatherCategory> parseCategory(String category) {
+        if (category == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(WeatherCategory.valueOf(category.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String disabledMessage() {
+        return "예보 감시가 비활성화되어 있습니다. (weather.watch.enabled=true 로 설정하세요)";
+    }
+}
@@ -0,0 +1,15 @@
+package dev.wony.mcp.tool.weather.watch;
+
+/**
+ * 발표 하나에 대한 감시 조건 평가 결과
+ *
+ * @param rule            감시 조건
+ * @param baseEpochSecond 평가한 예보의 발표시각 (epoch 초)
+ * @param value           감시 구간의 최댓값(이상/초과) 또는 최솟값(이하/미만), 값이 없으면 {@link Double#NaN}
+ * @param epochSecond     그 값의 예보 시각 (epoch 초), 값이 없으면 0
+ * @param triggered       조건 충족 여부
+ * @param newlyTriggered  직전 평가에서는 충족하지 않았다가 이번 발표에서 충족했는지 여부
+ */
+public record WatchStatus(WatchRule rule, long baseEpochSecond, double value, long epochSecond,
+                          boolean triggered, boolean newlyTriggered) {
+}
@@ -0,0 +1,48 @@
+package dev.wony.mcp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AotSettingsGuard 테스트")
+class AotSettingsGuardTest {
+
+    @Test
+    @DisplayName("기본 STDIO 설정은 AOT 실행을 허용한다")
+    void allowsDefaultStdio() {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.main.web-application-type", "none")
+                .withProperty("spring.ai.mcp.server.stdio", "true");
+
+        // when
+        List<String> unsupported = AotSettingsGuard.unsupportedSettings(environment);
+
+        // then
+        assertThat(unsupported).isEmpty();
+    }
+
+    @Test
+    @DisplayName("HTTP 전송, 비동기 도구, 격자 분산, 예보 내보내기 설정은 AOT 실행에서 거부한다")
+    void rejectsSettingsFixedAtBuildTime() {
+        // given - http,reactive 프로파일과 선택 기능을 켠 설정
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.main.web-application-type", "servlet")
+                .withProperty("spring.ai.mcp.server.stdio", "false")
+                .withProperty("spring.ai.mcp.server.type", "ASYNC")
+                .withProperty("weather.cluster.enabled", "true")
+                .withProperty("weather.export.enabled", "true");
+
+        // when
+        List<String> unsupported = AotSettingsGuard.unsupportedSettings(environment);
+
+        // then
+        assertThat(unsupported).containsExactly("spring.main.web-application-type=servlet",
+                "spring.ai.mcp.server.stdio=false", "spring.ai.mcp.server.type=ASYNC",
+                "weather.cluster.enabled=true", "weather.export.enabled=true");
+    }
+}
@@ -0,0 +1,209 @@
+package dev.wony.mcp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.util.CoordinateConverter;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streamable HTTP 전송 동시 세션 부하 테스트
+ *
+ * 하나의 서버 프로세스에 여러 MCP 세션을 동시에 연결하여 같은 위치의 초단기예보를 조회하고,
+ * 세션 수별 처리량을 출력합니다. 기상청 API 대신 로컬 가짜 서버를 사용하며,
+ * 세션들이 하나의 예보 캐시를 공유하여 격자당 한 번만 API를 호출하는지 확인합니다.
+ *
+ * 실행 방법:
+ * ./gradlew loadTest
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "weather.api.service-key=load-test",
+                // 처리량만 측정하도록 도구별 동시 실행 한도와 백그라운드 조회는 끔
+                "weather.bulkhead.enabled=false",
+                "weather.version.enabled=false",
+                "weather.prefetch.enabled=false"
+        })
+@ActiveProfiles("http")
+@Tag("load")
+@DisplayName("HTTP 전송 동시 세션 부하 테스트")
+class McpHttpLoadTest {
+
+    private static final int CALLS_PER_SESSION = 50;
+    private static final long UPSTREAM_DELAY_MILLIS = 200;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmm");
+
+    private static final ConcurrentMap<String, AtomicInteger> UPSTREAM_CALLS = new ConcurrentHashMap<>();
+    private static final HttpServer KMA = startKmaStub();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void kmaProperties(DynamicPropertyRegistry registry) {
+        registry.add("weather.api.url", () -> "http://127.0.0.1:" + KMA.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopKmaStub() {
+        KMA.stop(0);
+    }
+
+    /**
+     * 초단기예보를 응답하는 가짜 기상청 서버 (응답은 일부러 늦게 보내 동시 조회가 겹치게 함)
+     */
+    private static HttpServer startKmaStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/getUltraSrtFcst", McpHttpLoadTest::ultraSrtFcst);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void ultraSrtFcst(HttpExchange exchange) throws IOException {
+        Map<String, String> query = new HashMap<>();
+        for (String parameter : exchange.getRequestURI().getRawQuery().split("&")) {
+            String[] pair = parameter.split("=", 2);
+            query.put(pair[0], pair.length > 1 ? pair[1] : "");
+        }
+        String nx = query.get("nx");
+        String ny = query.get("ny");
+        UPSTREAM_CALLS.computeIfAbsent(nx + ":" + ny, grid -> new AtomicInteger()).incrementAndGet();
+
+        LocalDateTime base = LocalDateTime.parse(query.get("base_date") + query.get("base_time"),
+                DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+        StringBuilder items = new StringBuilder();
+        for (int hour = 1; hour <= 6; hour++) {
+            LocalDateTime time = base.withMinute(0).plusHours(hour);
+            if (hour > 1) {
+                items.append(',');
+            }
+            items.append(String.format("{\"baseDate\":\"%s\",\"baseTime\":\"%s\",\"category\":\"T1H\","
+                            + "\"fcstDate\":\"%s\",\"fcstTime\":\"%s\",\"fcstValue\":\"%d\",\"nx\":%s,\"ny\":%s}",
+                    base.format(DATE), base.format(TIME), time.format(DATE), time.format(TIME), 10 + hour, nx, ny));
+        }
+        byte[] body = ("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL_SERVICE\"},"
+                + "\"body\":{\"dataType\":\"JSON\",\"items\":{\"item\":[" + items + "]},"
+                + "\"pageNo\":1,\"numOfRows\":60,\"totalCount\":6}}}").getBytes(StandardCharsets.UTF_8);
+
+        try {
+            Thread.sleep(UPSTREAM_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @ParameterizedTest(name = "동시 세션 {0}개")
+    @DisplayName("여러 MCP 세션이 하나의 서버 프로세스와 예보 캐시를 동시에 사용한다")
+    @CsvSource({
+            "1, 37.5665, 126.9780",
+            "10, 35.1796, 129.0756",
+            "50, 35.8714, 128.6014"
+    })
+    void concurrentSessions(int sessions, double latitude, double longitude) throws Exception {
+        // given - 세션 수마다 다른 격자를 사용하여 격자별 API 호출 수를 따로 셈
+        GridCoordinate grid = CoordinateConverter.toGridCoordinate(latitude, longitude);
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        CountDownLatch ready = new CountDownLatch(sessions);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            results.add(executor.submit(() -> runSession(ready, start, latitude, longitude)));
+        }
+
+        // when
+        ready.await(1, TimeUnit.MINUTES);
+        long startedAt = System.nanoTime();
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Integer> result : results) {
+            succeeded += result.get(2, TimeUnit.MINUTES);
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        executor.shutdown();
+
+        // then - 모든 호출이 성공하고, 동시에 시작한 세션들의 캐시 미스는 API 호출 한 번으로 합쳐짐
+        int upstreamCalls = UPSTREAM_CALLS.getOrDefault(grid.nx() + ":" + grid.ny(), new AtomicInteger()).get();
+        System.out.printf("동시 세션 %d개: 호출 %d건, %.2f초, 처리량 %.1f건/초, 기상청 API 호출 %d건%n",
+                sessions, succeeded, elapsedSeconds, succeeded / elapsedSeconds, upstreamCalls);
+        assertThat(succeeded).isEqualTo(sessions * CALLS_PER_SESSION);
+        assertThat(upstreamCalls).isEqualTo(1);
+    }
+
+    private int runSession(CountDownLatch ready, CountDownLatch start, double latitude, double longitude)
+            throws InterruptedException {
+        McpSyncClient client = McpClient.sync(HttpClientStreamableHttpTransport.builder("http://localhost:" + port)
+                        .endpoint("/mcp")
+                        .build())
+                .requestTimeout(Duration.ofSeconds(30))
+                .build();
+        try {
+            try {
+                client.initialize();
+            } finally {
+                ready.countDown();
+            }
+            start.await();
+
+            int succeeded = 0;
+            for (int i = 0; i < CALLS_PER_SESSION; i++) {
+                McpSchema.CallToolResult result = client.callTool(new McpSchema.CallToolRequest("getUltraSrtFcst",
+                        Map.of("latitude", latitude, "longitude", longitude)));
+                if (!Boolean.TRUE.equals(result.isError())
+                        && result.content().get(0) instanceof McpSchema.TextContent text
+                        && text.text().contains("=== 초단기예보")) {
+                    succeeded++;
+                }
+            }
+            return succeeded;
+        } finally {
+            client.closeGracefully();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.wony.mcp;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeatherRuntimeHints 테스트")
+class WeatherRuntimeHintsTest {
+
+    @Test
+    @DisplayName("기상청 응답 레코드와 중첩 레코드가 바인딩용으로 등록된다")
+    void registerResponseBinding() {
+        // given
+        RuntimeHints hints = new RuntimeHints();
+
+        // when
+        new WeatherRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then
+        assertThat(RuntimeHintsPredicates.reflection().onType(WeatherApiResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(WeatherApiResponse.Item.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(WeatherApiResponse.Header.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("도구 클래스의 public 메서드 호출이 등록된다")
+    void registerToolMethods() {
+        // given
+        RuntimeHints hints = new RuntimeHints();
+
+        // when
+        new WeatherRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then
+        assertThat(RuntimeHintsPredicates.reflection().onType(WeatherService.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+    }
+}
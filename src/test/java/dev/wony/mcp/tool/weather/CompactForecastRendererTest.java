@@ -0,0 +1,110 @@
+package dev.wony.mcp.tool.weather;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompactForecastRenderer 테스트")
+class CompactForecastRendererTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    // 05시 발표, 06시부터 예보
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+
+    private static Forecast.Builder builder(int hourCount) {
+        long baseEpochSecond = Forecast.toEpochSecond(BASE);
+        return Forecast.builder(ForecastType.VILAGE_FCST, SEOUL, baseEpochSecond,
+                baseEpochSecond + Forecast.HOUR_SECONDS, hourCount);
+    }
+
+    /**
+     * 매시간 기온과 풍속이 바뀌는 이틀치 예보 (시간대별 출력이 길어지도록)
+     */
+    private static Forecast twoDayForecast() {
+        Forecast.Builder builder = builder(42);
+        for (int hour = 0; hour < 42; hour++) {
+            builder.put(hour, WeatherCategory.TMP, String.valueOf(10 + hour % 12))
+                    .put(hour, WeatherCategory.WSD, String.format("%.1f", 1 + hour % 7 * 0.3))
+                    .put(hour, WeatherCategory.POP, hour < 10 ? "0" : "30")
+                    .put(hour, WeatherCategory.SKY, hour < 6 ? "1" : "3")
+                    .put(hour, WeatherCategory.PTY, hour >= 30 && hour < 33 ? "1" : "0");
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("값이 같은 연속 시간은 하나의 구간으로 묶는다")
+    void collapsesUnchangedHours() {
+        // given - 19일 06~08시 12℃, 09시 14℃, 하늘 06~09시 맑음
+        Forecast forecast = builder(4)
+                .put(0, WeatherCategory.TMP, "12").put(0, WeatherCategory.SKY, "1")
+                .put(1, WeatherCategory.TMP, "12").put(1, WeatherCategory.SKY, "1")
+                .put(2, WeatherCategory.TMP, "12").put(2, WeatherCategory.SKY, "1")
+                .put(3, WeatherCategory.TMP, "14").put(3, WeatherCategory.SKY, "1")
+                .build();
+
+        // when
+        String result = CompactForecastRenderer.render(forecast, 37.5665, 126.978, "20251019", "0500", null);
+
+        // then
+        assertThat(result).contains("표시: 시간대별");
+        assertThat(result).contains("1시간 기온: 19일 06~08시 12℃, 09시 14℃\n");
+        assertThat(result).contains("하늘상태: 19일 06~09시 맑음\n");
+    }
+
+    @Test
+    @DisplayName("빠진 시간이 있으면 구간을 나누고, 풍속 성분은 출력하지 않는다")
+    void splitsRunsAtMissingHours() {
+        // given - 07시 기온 없음
+        Forecast forecast = builder(3)
+                .put(0, WeatherCategory.TMP, "12").put(0, WeatherCategory.UUU, "1.2")
+                .put(2, WeatherCategory.TMP, "12").put(2, WeatherCategory.UUU, "1.2")
+                .build();
+
+        // when
+        String result = CompactForecastRenderer.render(forecast, 37.5665, 126.978, "20251019", "0500", null);
+
+        // then
+        assertThat(result).contains("1시간 기온: 19일 06시 12℃, 08시 12℃\n");
+        assertThat(result).doesNotContain("풍속(동서성분)");
+    }
+
+    @Test
+    @DisplayName("출력 한도를 넘으면 날짜별 요약으로 바꾼다")
+    void fallsBackToDailySummary() {
+        // given
+        Forecast forecast = twoDayForecast();
+
+        // when
+        String result = CompactForecastRenderer.render(forecast, 37.5665, 126.978, "20251019", "0500", 600);
+
+        // then
+        assertThat(result.length()).isLessThanOrEqualTo(600);
+        assertThat(result).contains("표시: 일별 요약 (출력 한도 600자)");
+        assertThat(result).contains("10/19: 기온 10~21℃, 하늘 맑음→구름많음, 강수확률 최대 30%, 강수 없음, 최대 풍속 2.8m/s\n");
+        assertThat(result).contains("10/20: 기온 10~21℃, 하늘 구름많음, 강수확률 최대 30%, 비(12~14시), 최대 풍속 2.8m/s\n");
+    }
+
+    @Test
+    @DisplayName("날짜별 요약도 한도를 넘으면 뒤쪽 날짜를 생략한다")
+    void omitsTrailingDays() {
+        // given
+        Forecast forecast = twoDayForecast();
+
+        // when - 최소 한도보다 작은 값은 최소 한도로 올림
+        String result = CompactForecastRenderer.render(forecast, 37.5665, 126.978, "20251019", "0500", 50);
+
+        // then
+        assertThat(result.length()).isLessThanOrEqualTo(CompactForecastRenderer.MIN_MAX_CHARS);
+        assertThat(result).contains("10/19: ");
+        assertThat(result).doesNotContain("10/20: ");
+        assertThat(result).endsWith("... (1일 생략)\n");
+    }
+}
@@ -0,0 +1,161 @@
+package dev.wony.mcp.tool.weather;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.wony.mcp.tool.weather.bulkhead.ToolBulkheads;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.NegativeResultCache;
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.client.RequestHedger;
+import dev.wony.mcp.tool.weather.client.ServiceKeyPool;
+import dev.wony.mcp.tool.weather.cluster.GridShardRouter;
+import dev.wony.mcp.tool.weather.issuance.IssuanceTracker;
+import dev.wony.mcp.tool.weather.popularity.GridPopularityTracker;
+import dev.wony.mcp.tool.weather.shared.SharedForecastCache;
+import dev.wony.mcp.tool.weather.stats.ServerStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReactiveWeatherService 테스트")
+class ReactiveWeatherServiceTest {
+
+    private ReactiveWeatherService reactiveWeatherService;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트용 서비스 키 (실제 API 호출은 통합 테스트에서 수행)
+        reactiveWeatherService = new ReactiveWeatherService("", new ForecastCache());
+    }
+
+    @Test
+    @DisplayName("지원 도시 목록을 조회한다")
+    void getSupportedCities() {
+        // when
+        String result = reactiveWeatherService.getSupportedCities().block();
+
+        // then
+        assertThat(result).contains("서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "제주");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 도시 조회 시 API를 호출하지 않고 에러 메시지를 반환한다")
+    void getCurrentWeather_unsupportedCity() {
+        // when
+        String result = reactiveWeatherService.getCurrentWeather("평양").block();
+
+        // then
+        assertThat(result).contains("지원하지 않는 도시");
+    }
+
+    @Test
+    @DisplayName("구독하기 전에는 API를 호출하지 않는다")
+    void lazyUntilSubscribed() {
+        // given
+        ForecastCache cache = new ForecastCache();
+        ReactiveWeatherService service = new ReactiveWeatherService("", cache);
+
+        // when
+        service.getVilageFcst(37.5665, 126.9780);
+
+        // then
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회한 예보를 캐시에 넣는 단계와 캐시 리스너는 이벤트 루프가 아닌 boundedElastic 스레드에서 실행한다")
+    void notifiesListenersOffEventLoop() throws IOException {
+        // given - 어떤 요청에도 서울 초단기실황을 응답하는 가짜 기상청 서버
+        HttpServer kma = observationServer(new AtomicInteger(), 0);
+        ForecastCache cache = new ForecastCache();
+        AtomicReference<String> listenerThread = new AtomicReference<>();
+        cache.addListener((forecast, previous) -> listenerThread.set(Thread.currentThread().getName()));
+        ReactiveWeatherService service = serviceFor(kma, cache);
+
+        try {
+            // when
+            String result = service.getUltraSrtNcst(37.5665, 126.9780).block(Duration.ofSeconds(10));
+
+            // then
+            assertThat(result).contains("=== 초단기실황").contains("12.3");
+            assertThat(listenerThread.get()).startsWith("boundedElastic");
+        } finally {
+            kma.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 격자를 동시에 조회하면 API는 한 번만 호출하고 결과를 함께 받는다")
+    void coalescesConcurrentMisses() throws IOException {
+        // given - 응답을 늦게 보내 조회가 겹치도록 하는 가짜 기상청 서버
+        AtomicInteger calls = new AtomicInteger();
+        HttpServer kma = observationServer(calls, 300);
+        ReactiveWeatherService service = serviceFor(kma, new ForecastCache());
+
+        try {
+            // when
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(service.getUltraSrtNcst(37.5665, 126.9780).toFuture());
+            }
+
+            // then
+            for (CompletableFuture<String> result : results) {
+                assertThat(result.orTimeout(10, TimeUnit.SECONDS).join()).contains("12.3");
+            }
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            kma.stop(0);
+        }
+    }
+
+    /**
+     * 어떤 요청에도 요청한 발표시각의 서울 초단기실황(기온 12.3)을 응답하는 가짜 기상청 서버
+     */
+    private static HttpServer observationServer(AtomicInteger calls, long delayMillis) throws IOException {
+        HttpServer kma = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        kma.createContext("/", exchange -> {
+            calls.incrementAndGet();
+            String query = exchange.getRequestURI().getRawQuery();
+            String baseDate = query.replaceAll(".*base_date=(\\d+).*", "$1");
+            String baseTime = query.replaceAll(".*base_time=(\\d+).*", "$1");
+            byte[] body = ("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL_SERVICE\"},"
+                    + "\"body\":{\"dataType\":\"JSON\",\"items\":{\"item\":[{\"baseDate\":\"" + baseDate
+                    + "\",\"baseTime\":\"" + baseTime + "\",\"category\":\"T1H\",\"nx\":60,\"ny\":127,"
+                    + "\"obsrValue\":\"12.3\"}]},\"pageNo\":1,\"numOfRows\":10,\"totalCount\":1}}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        kma.start();
+        return kma;
+    }
+
+    private static ReactiveWeatherService serviceFor(HttpServer kma, ForecastCache cache) {
+        return new ReactiveWeatherService(ServiceKeyPool.of("test-key"), cache,
+                new IssuanceTracker(), RequestHedger.disabled(), new GridPopularityTracker(), new NegativeResultCache(),
+                ToolBulkheads.unlimited(), new ServerStats(), RenderedResponseCache.disabled(), new SharedForecastCache(),
+                GridShardRouter.standalone(), "http://127.0.0.1:" + kma.getAddress().getPort());
+    }
+}
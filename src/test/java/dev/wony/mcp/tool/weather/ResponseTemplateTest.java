@@ -0,0 +1,51 @@
+package dev.wony.mcp.tool.weather;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResponseTemplate 테스트")
+class ResponseTemplateTest {
+
+    @Test
+    @DisplayName("자리표시자 위치에 값을 그대로 이어 붙인다")
+    void appendsValues() {
+        // given
+        ResponseTemplate template = ResponseTemplate.compile("  {}: {}{}\n");
+        StringBuilder result = new StringBuilder("[앞]");
+
+        // when
+        template.appendTo(result, "1시간 기온", "12", "℃");
+        template.appendTo(result, "습도", null, "%");
+
+        // then
+        assertThat(template.arity()).isEqualTo(3);
+        assertThat(result.toString()).isEqualTo("[앞]  1시간 기온: 12℃\n  습도: null%\n");
+    }
+
+    @Test
+    @DisplayName("값 개수가 자리표시자 수와 다르면 예외가 발생한다")
+    void arityMismatch() {
+        ResponseTemplate template = ResponseTemplate.compile("발표시각: {} {}\n\n");
+
+        assertThatThrownBy(() -> template.appendTo(new StringBuilder(), "20251019"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("자리표시자 2개");
+        assertThatThrownBy(() -> ResponseTemplate.compile("{}{}{}{}{}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("예보 시각은 yyyyMMdd HHmm 형식으로 추가한다")
+    void appendDateTime() {
+        StringBuilder result = new StringBuilder();
+
+        ResponseTemplate.appendDateTime(result, LocalDateTime.of(2025, 1, 9, 7, 5));
+
+        assertThat(result.toString()).isEqualTo("20250109 0705");
+    }
+}
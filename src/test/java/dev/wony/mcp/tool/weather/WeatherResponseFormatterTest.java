@@ -0,0 +1,256 @@
+package dev.wony.mcp.tool.weather;
+
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastDiff;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 포맷 골든 테스트
+ * 기대 출력(src/test/resources/golden)은 String.format 기반 포맷터의 출력을 그대로 저장한 것으로, 한 바이트도 달라지면 안 됩니다.
+ */
+@DisplayName("WeatherResponseFormatter 테스트")
+class WeatherResponseFormatterTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final LocalDateTime NCST_BASE = LocalDateTime.of(2025, 10, 19, 10, 0);
+    private static final LocalDateTime FCST_BASE = LocalDateTime.of(2025, 10, 19, 10, 30);
+    private static final LocalDateTime VILAGE_BASE = LocalDateTime.of(2025, 10, 19, 17, 0);
+
+    private static Forecast.Builder builder(ForecastType type, LocalDateTime base, LocalDateTime first, int hourCount) {
+        return Forecast.builder(type, SEOUL, Forecast.toEpochSecond(base), Forecast.toEpochSecond(first), hourCount);
+    }
+
+    static Forecast observation(String rain, String precipitationType) {
+        return builder(ForecastType.ULTRA_SRT_NCST, NCST_BASE, NCST_BASE, 1)
+                .put(0, WeatherCategory.PTY, precipitationType)
+                .put(0, WeatherCategory.REH, "85")
+                .put(0, WeatherCategory.RN1, rain)
+                .put(0, WeatherCategory.T1H, "12.3")
+                .put(0, WeatherCategory.UUU, "-1.2")
+                .put(0, WeatherCategory.VEC, "225")
+                .put(0, WeatherCategory.VVV, "0.8")
+                .put(0, WeatherCategory.WSD, "3.1")
+                .build();
+    }
+
+    /**
+     * 6시간 초단기예보 (3번째 시간은 값 없음, 풍향 원문이 숫자가 아닌 시간 포함)
+     */
+    static Forecast ultraShortForecast() {
+        Forecast.Builder builder = builder(ForecastType.ULTRA_SRT_FCST, FCST_BASE, FCST_BASE.plusMinutes(30), 6);
+        for (int hour = 0; hour < 6; hour++) {
+            if (hour == 3) {
+                continue;
+            }
+            builder.put(hour, WeatherCategory.LGT, "0")
+                    .put(hour, WeatherCategory.RN1, hour < 2 ? "강수없음" : "1mm 미만")
+                    .put(hour, WeatherCategory.SKY, String.valueOf(1 + hour % 4))
+                    .put(hour, WeatherCategory.T1H, String.valueOf(14 + hour))
+                    .put(hour, WeatherCategory.REH, String.valueOf(60 + hour * 5))
+                    .put(hour, WeatherCategory.UUU, "-0.4")
+                    .put(hour, WeatherCategory.VVV, "1.6")
+                    .put(hour, WeatherCategory.VEC, hour == 5 ? "알수없음" : String.valueOf(hour * 70))
+                    .put(hour, WeatherCategory.WSD, String.valueOf(0.5 + hour));
+            if (hour != 4) {
+                builder.put(hour, WeatherCategory.PTY, hour == 2 ? "4" : "0");
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 18시부터 다음 날 15시까지의 단기예보 (최저/최고기온, 강수량/적설 문자열 포함)
+     *
+     * @param variant 값 변형 번호 (변경 사항 비교용)
+     */
+    static Forecast vilageForecast(LocalDateTime base, int variant) {
+        Forecast.Builder builder = builder(ForecastType.VILAGE_FCST, base, VILAGE_BASE.plusHours(1), 22);
+        for (int hour = 0; hour < 22; hour++) {
+            boolean rain = hour >= 8 + variant && hour < 12 + variant;
+            builder.put(hour, WeatherCategory.TMP, String.valueOf(15 - hour / 3 + (hour > 14 ? hour - 14 : 0)))
+                    .put(hour, WeatherCategory.UUU, "1.2")
+                    .put(hour, WeatherCategory.VVV, "-2.5")
+                    .put(hour, WeatherCategory.VEC, String.valueOf(hour * 17 % 360))
+                    .put(hour, WeatherCategory.WSD, String.valueOf(2 + hour % 3))
+                    .put(hour, WeatherCategory.SKY, rain ? "4" : hour % 5 == 0 ? "3" : "1")
+                    .put(hour, WeatherCategory.PTY, rain ? "1" : "0")
+                    .put(hour, WeatherCategory.POP, rain ? "70" : String.valueOf(variant * 10))
+                    .put(hour, WeatherCategory.PCP, rain ? "1.0mm" : "강수없음")
+                    .put(hour, WeatherCategory.REH, String.valueOf(55 + hour))
+                    .put(hour, WeatherCategory.SNO, "적설없음");
+            if (hour == 12) {
+                builder.put(hour, WeatherCategory.TMN, "8.0");
+            } else if (hour == 21) {
+                builder.put(hour, WeatherCategory.TMX, String.valueOf(18 + variant));
+            }
+        }
+        return builder.build();
+    }
+
+    private static String golden(String name) throws IOException {
+        try (InputStream input = WeatherResponseFormatterTest.class.getResourceAsStream("/golden/" + name + ".txt")) {
+            assertThat(input).as(name).isNotNull();
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("초단기실황 응답은 골든 출력과 같다")
+    void ultraSrtNcst() throws IOException {
+        String result = WeatherResponseFormatter.formatUltraSrtNcstResponse(
+                observation("1.5", "1"), 37.5665, 126.978, "20251019", "1000");
+
+        assertThat(result).isEqualTo(golden("ultra-srt-ncst"));
+    }
+
+    @Test
+    @DisplayName("초단기예보 응답은 골든 출력과 같다")
+    void ultraSrtFcst() throws IOException {
+        String result = WeatherResponseFormatter.formatUltraSrtFcstResponse(
+                ultraShortForecast(), 35.17955, 129.07565, "20251019", "1030");
+
+        assertThat(result).isEqualTo(golden("ultra-srt-fcst"));
+    }
+
+    @Test
+    @DisplayName("단기예보 응답은 골든 출력과 같다")
+    void vilageFcst() throws IOException {
+        String result = WeatherResponseFormatter.formatVilageFcstResponse(
+                vilageForecast(VILAGE_BASE, 0), 33.4996, 126.5312, "20251019", "1700");
+
+        assertThat(result).isEqualTo(golden("vilage-fcst"));
+    }
+
+    @Test
+    @DisplayName("단기예보 변경 사항 응답은 골든 출력과 같다")
+    void vilageFcstChanges() throws IOException {
+        ForecastDiff diff = ForecastDiff.between(vilageForecast(VILAGE_BASE.minusHours(3), 0), vilageForecast(VILAGE_BASE, 1));
+        ForecastDiff unchanged = ForecastDiff.between(vilageForecast(VILAGE_BASE.minusHours(3), 0), vilageForecast(VILAGE_BASE, 0));
+
+        String result = WeatherResponseFormatter.formatVilageFcstChangesResponse(diff, 37.5665, 126.978)
+                + WeatherResponseFormatter.formatVilageFcstChangesResponse(unchanged, 37.5665, 126.978);
+
+        assertThat(result).isEqualTo(golden("vilage-fcst-changes"));
+    }
+
+    @Test
+    @DisplayName("도시 날씨 응답은 골든 출력과 같다")
+    void cityWeather() throws IOException {
+        StringBuilder result = new StringBuilder();
+        for (String precipitationType : new String[]{"0", "1", "2", "3", "5", "6", "7", "9"}) {
+            result.append(WeatherResponseFormatter.formatCityWeatherResponse("서울", "20251019", "1000",
+                    observation(precipitationType.equals("0") ? "0" : "2.5", precipitationType)));
+        }
+        result.append(WeatherResponseFormatter.formatCityWeatherResponse("제주", "20251019", "1000",
+                observation("강수없음", "0")));
+
+        assertThat(result.toString()).isEqualTo(golden("city-weather"));
+    }
+
+    @Test
+    @DisplayName("렌더링 캐시의 본문을 사용해도 응답은 같고 제목은 요청 좌표와 도시로 만든다")
+    void renderedResponseCache() throws IOException {
+        // given
+        RenderedResponseCache cache = new RenderedResponseCache();
+        Forecast previous = vilageForecast(VILAGE_BASE.minusHours(3), 0);
+        Forecast current = vilageForecast(VILAGE_BASE, 1);
+
+        // when & then - 두 번째 호출부터 본문은 캐시에서 가져옴
+        for (int call = 0; call < 2; call++) {
+            assertThat(WeatherResponseFormatter.formatVilageFcstResponse(
+                    vilageForecast(VILAGE_BASE, 0), 33.4996, 126.5312, "20251019", "1700", cache))
+                    .isEqualTo(golden("vilage-fcst"));
+            assertThat(WeatherResponseFormatter.formatVilageFcstResponse(
+                    vilageForecast(VILAGE_BASE, 0), 33.5, 126.53, "20251019", "1700", cache))
+                    .isEqualTo(WeatherResponseFormatter.formatVilageFcstResponse(
+                            vilageForecast(VILAGE_BASE, 0), 33.5, 126.53, "20251019", "1700"));
+            assertThat(WeatherResponseFormatter.formatVilageFcstChangesResponse(previous, current, 37.5665, 126.978, cache))
+                    .isEqualTo(WeatherResponseFormatter.formatVilageFcstChangesResponse(
+                            ForecastDiff.between(previous, current), 37.5665, 126.978));
+            assertThat(WeatherResponseFormatter.formatCityWeatherResponse("제주", "20251019", "1000",
+                    observation("강수없음", "0"), cache))
+                    .isEqualTo(WeatherResponseFormatter.formatCityWeatherResponse("제주", "20251019", "1000",
+                            observation("강수없음", "0")));
+            for (Integer maxChars : new Integer[]{null, 300}) {
+                assertThat(CompactForecastRenderer.render(current, 37.5665, 126.978, "20251019", "1700", maxChars, cache))
+                        .isEqualTo(CompactForecastRenderer.render(current, 37.5665, 126.978, "20251019", "1700", maxChars));
+            }
+        }
+        assertThat(cache.hitCount()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("현재 날씨와 6시간 예보 응답은 실황 본문 아래 예보 시각마다 한 줄을 출력한다")
+    void nowcast() throws IOException {
+        // given - 실황 본문은 초단기실황 골든 출력의 본문과 같음
+        String ncst = golden("ultra-srt-ncst");
+        String observed = ncst.substring(ncst.indexOf("\n\n") + 2);
+
+        // when
+        String result = WeatherResponseFormatter.formatNowcastResponse(
+                ForecastResult.success(observation("1.5", "1")), ForecastResult.success(ultraShortForecast()),
+                37.5665, 126.978);
+
+        // then
+        assertThat(result).isEqualTo("=== 현재 날씨와 6시간 예보 (위도: 37.5665, 경도: 126.9780) ===\n"
+                + "[현재] 관측시각: 20251019 1000\n"
+                + observed
+                + """
+
+                [6시간 예보] 발표시각: 20251019 1030
+                  20251019 1100: 14℃, 맑음, 강수없음, 습도 60%, 바람 N 0.5m/s
+                  20251019 1200: 15℃, 2, 강수없음, 습도 65%, 바람 ENE 1.5m/s
+                  20251019 1300: 16℃, 구름많음, 소나기 1mm 미만, 습도 70%, 바람 SE 2.5m/s
+                  20251019 1500: 18℃, 맑음, 1mm 미만, 습도 80%, 바람 W 4.5m/s
+                  20251019 1600: 19℃, 2, 1mm 미만, 습도 85%, 바람 알수없음 5.5m/s
+                """);
+    }
+
+    @Test
+    @DisplayName("현재 날씨와 6시간 예보 중 한쪽 조회가 실패하면 그 자리에 오류 메시지를 넣는다")
+    void nowcastWithFailure() {
+        // when
+        String result = WeatherResponseFormatter.formatNowcastResponse(
+                ForecastResult.success(observation("0", "0")), ForecastResult.failure("날씨 예보 조회 실패: timeout"),
+                37.5665, 126.978);
+
+        // then
+        assertThat(result).contains("[현재] 관측시각: 20251019 1000\n강수형태: 없음\n")
+                .endsWith("\n[6시간 예보]\n날씨 예보 조회 실패: timeout\n");
+    }
+
+    @Test
+    @DisplayName("좌표는 String.format(\"%.4f\")와 같게 반올림하고 기본 로케일의 숫자 형식을 따른다")
+    void coordinateFormatting() {
+        double[] values = {37.5665, 126.978, 35.17955, 129.07565, 0.00005, -0.00005, -0.0, 0.0,
+                33.12344999, 1.00005, 2.99995, -126.5, 38.61, 124.00004999999};
+        Locale original = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            for (Locale locale : new Locale[]{Locale.KOREA, Locale.US, Locale.GERMANY}) {
+                Locale.setDefault(Locale.Category.FORMAT, locale);
+                for (double value : values) {
+                    String expected = String.format("=== 초단기실황 (위도: %.4f, 경도: %.4f) ===\n", value, -value);
+                    String result = WeatherResponseFormatter.formatUltraSrtNcstResponse(
+                            observation("0", "0"), value, -value, "20251019", "1000");
+                    assertThat(result).as("%s %s", locale, value).startsWith(expected);
+                }
+            }
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, original);
+        }
+    }
+}
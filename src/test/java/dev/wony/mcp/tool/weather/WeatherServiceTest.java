@@ -1,10 +1,30 @@
 package dev.wony.mcp.tool.weather;
 
+import com.sun.net.httpserver.HttpServer;
+import dev.wony.mcp.tool.weather.bulkhead.ToolBulkheads;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.NegativeResultCache;
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.client.RequestHedger;
+import dev.wony.mcp.tool.weather.client.ServiceKeyPool;
+import dev.wony.mcp.tool.weather.cluster.GridShardRouter;
 import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.issuance.IssuanceTracker;
+import dev.wony.mcp.tool.weather.popularity.GridPopularityTracker;
+import dev.wony.mcp.tool.weather.shared.SharedForecastCache;
+import dev.wony.mcp.tool.weather.stats.ServerStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("WeatherService 테스트")
@@ -116,4 +136,120 @@ class WeatherServiceTest {
             assertThat(result).isNotEmpty();
         }
     }
+
+    @Test
+    @DisplayName("한국 밖 좌표는 API를 호출하지 않고 거부한다")
+    void rejectsLocationOutsideKorea() {
+        // when - 도쿄
+        String result = weatherService.getVilageFcst(35.6762, 139.6503);
+
+        // then
+        assertThat(result).contains("기상청 예보 영역 밖의 좌표입니다");
+    }
+
+    @Test
+    @DisplayName("현재 날씨와 6시간 예보도 한국 밖 좌표는 API를 호출하지 않고 거부한다")
+    void nowcastRejectsLocationOutsideKorea() {
+        // when - 도쿄
+        String result = weatherService.getNowcast(35.6762, 139.6503);
+
+        // then
+        assertThat(result).contains("기상청 예보 영역 밖의 좌표입니다");
+    }
+
+    @Test
+    @DisplayName("현재 날씨와 6시간 예보는 두 조회를 동시에 보내 느린 쪽 응답 시간만큼 걸린다")
+    void nowcastLoadsBothPartsConcurrently() throws IOException {
+        // given - 실황과 예보 모두 1초 뒤에 응답하는 가짜 기상청 서버
+        ExecutorService handlers = Executors.newCachedThreadPool();
+        HttpServer kma = nowcastServer(handlers, 1000, false);
+        WeatherService service = serviceFor(kma);
+
+        try {
+            // when
+            long start = System.nanoTime();
+            String result = service.getNowcast(37.5665, 126.9780);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            // then - 차례로 조회하면 2초 이상 걸림
+            assertThat(result).contains("[현재] 관측시각").contains("12.3")
+                    .contains("[6시간 예보] 발표시각").contains("14.5");
+            assertThat(elapsed).isBetween(Duration.ofMillis(1000), Duration.ofMillis(1800));
+        } finally {
+            service.close();
+            kma.stop(0);
+            handlers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("현재 날씨 조회가 실패해도 6시간 예보는 그대로 보여준다")
+    void nowcastKeepsSuccessfulPart() throws IOException {
+        // given - 실황은 HTTP 500으로 실패하는 가짜 기상청 서버
+        ExecutorService handlers = Executors.newCachedThreadPool();
+        HttpServer kma = nowcastServer(handlers, 0, true);
+        WeatherService service = serviceFor(kma);
+
+        try {
+            // when
+            String result = service.getNowcast(37.5665, 126.9780);
+
+            // then
+            assertThat(result).contains("[현재]\n날씨 정보 조회 실패")
+                    .contains("[6시간 예보] 발표시각").contains("14.5");
+        } finally {
+            service.close();
+            kma.stop(0);
+            handlers.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청한 발표시각의 서울 초단기실황(기온 12.3)과 초단기예보(기온 14.5)를 지연 후 응답하는 가짜 기상청 서버
+     */
+    private static HttpServer nowcastServer(ExecutorService handlers, long delayMillis, boolean failObservation)
+            throws IOException {
+        HttpServer kma = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        kma.createContext("/", exchange -> {
+            boolean observation = exchange.getRequestURI().getPath().endsWith("/getUltraSrtNcst");
+            String query = exchange.getRequestURI().getRawQuery();
+            String baseDate = query.replaceAll(".*base_date=(\\d+).*", "$1");
+            String baseTime = query.replaceAll(".*base_time=(\\d+).*", "$1");
+            String item = observation
+                    ? "\"category\":\"T1H\",\"obsrValue\":\"12.3\""
+                    : "\"category\":\"T1H\",\"fcstDate\":\"" + baseDate + "\",\"fcstTime\":\"" + baseTime
+                    + "\",\"fcstValue\":\"14.5\"";
+            byte[] body = ("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL_SERVICE\"},"
+                    + "\"body\":{\"dataType\":\"JSON\",\"items\":{\"item\":[{\"baseDate\":\"" + baseDate
+                    + "\",\"baseTime\":\"" + baseTime + "\"," + item + ",\"nx\":60,\"ny\":127}]},"
+                    + "\"pageNo\":1,\"numOfRows\":10,\"totalCount\":1}}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (observation && failObservation) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // 두 요청을 동시에 처리하도록 요청마다 별도 스레드 사용
+        kma.setExecutor(handlers);
+        kma.start();
+        return kma;
+    }
+
+    private static WeatherService serviceFor(HttpServer kma) {
+        return new WeatherService(ServiceKeyPool.of("test-key"), new ForecastCache(), new IssuanceTracker(),
+                RequestHedger.disabled(), new GridPopularityTracker(), new NegativeResultCache(),
+                ToolBulkheads.unlimited(), new ServerStats(), RenderedResponseCache.disabled(), new SharedForecastCache(),
+                GridShardRouter.standalone(), "http://127.0.0.1:" + kma.getAddress().getPort());
+    }
 }
@@ -0,0 +1,160 @@
+package dev.wony.mcp.tool.weather.bulkhead;
+
+import dev.wony.mcp.tool.weather.stats.ServerStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ToolBulkheads 테스트")
+class ToolBulkheadsTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 해제될 때까지 실행 허가를 점유하는 호출
+     */
+    private Future<String> hold(ToolBulkheads bulkheads, String tool, CountDownLatch started, CountDownLatch release) {
+        return executor.submit(() -> bulkheads.run(tool, () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "완료";
+        }));
+    }
+
+    @Test
+    @DisplayName("동시 실행 한도와 대기열이 가득 차면 바로 거부한다")
+    void rejectsWhenSaturated() throws Exception {
+        // given
+        ToolBulkheads bulkheads = new ToolBulkheads(List.of("getVilageFcst:1:0"), Duration.ofSeconds(1), new ServerStats());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = hold(bulkheads, "getVilageFcst", started, release);
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        String rejected = bulkheads.run("getVilageFcst", () -> "실행됨");
+        String other = bulkheads.run("getSupportedCities", () -> "실행됨");
+        release.countDown();
+
+        // then
+        assertThat(rejected).contains("getVilageFcst", "잠시 후 다시 시도");
+        assertThat(other).isEqualTo("실행됨");
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("완료");
+
+        BulkheadStatus status = bulkheads.status().get(0);
+        assertThat(status.tool()).isEqualTo("getVilageFcst");
+        assertThat(status.accepted()).isEqualTo(1);
+        assertThat(status.rejected()).isEqualTo(1);
+        assertThat(status.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열에 들어간 호출은 앞선 호출이 끝나면 실행된다")
+    void queuedCallRunsAfterRelease() throws Exception {
+        // given
+        ToolBulkheads bulkheads = new ToolBulkheads(List.of("getVilageFcst:1:1"), Duration.ofSeconds(5), new ServerStats());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = hold(bulkheads, "getVilageFcst", started, release);
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<String> queued = executor.submit(() -> bulkheads.run("getVilageFcst", () -> "대기 후 실행"));
+        while (bulkheads.status().get(0).waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("완료");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("대기 후 실행");
+        assertThat(bulkheads.status().get(0).accepted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 거부하고 대기열에서 제거한다")
+    void rejectsAfterMaxWait() throws Exception {
+        // given
+        ToolBulkheads bulkheads = new ToolBulkheads(List.of("getVilageFcst:1:4"), Duration.ofMillis(50), new ServerStats());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = hold(bulkheads, "getVilageFcst", started, release);
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        String result = bulkheads.run("getVilageFcst", () -> "실행됨");
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).contains("잠시 후 다시 시도");
+        BulkheadStatus status = bulkheads.status().get(0);
+        assertThat(status.timedOut()).isEqualTo(1);
+        assertThat(status.waiting()).isZero();
+        assertThat(status.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("도구의 동시 실행 한도를 알려주고, 제한하지 않는 도구는 기본값을 돌려준다")
+    void maxConcurrent() {
+        // given
+        ToolBulkheads bulkheads = new ToolBulkheads(List.of("getNowcast:3:8"), Duration.ofSeconds(1), new ServerStats());
+
+        // when & then
+        assertThat(bulkheads.maxConcurrent("getNowcast", 8)).isEqualTo(3);
+        assertThat(bulkheads.maxConcurrent("getSupportedCities", 8)).isEqualTo(8);
+        assertThat(ToolBulkheads.unlimited().maxConcurrent("getNowcast", 8)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("비동기 호출은 한도 안에서 실행되고 끝나면 허가를 반납한다")
+    void runAsync() {
+        // given
+        ToolBulkheads bulkheads = new ToolBulkheads(List.of("getVilageFcst:1:0"), Duration.ofSeconds(1), new ServerStats());
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        Mono<String> running = bulkheads.runAsync("getVilageFcst", () -> Mono.fromFuture(upstream));
+        CompletableFuture<String> result = running.toFuture();
+
+        // when
+        String rejected = bulkheads.runAsync("getVilageFcst", () -> Mono.just("실행됨")).block();
+        upstream.complete("완료");
+
+        // then
+        assertThat(rejected).contains("잠시 후 다시 시도");
+        assertThat(result.join()).isEqualTo("완료");
+        assertThat(bulkheads.runAsync("getVilageFcst", () -> Mono.just("실행됨")).block()).isEqualTo("실행됨");
+        assertThat(bulkheads.status().get(0).active()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도 설정 형식이 올바르지 않으면 예외가 발생한다")
+    void invalidLimits() {
+        assertThatThrownBy(() -> new ToolBulkheads(List.of("getVilageFcst:4"), Duration.ofSeconds(1), new ServerStats()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("도구:동시실행:대기열");
+        assertThatThrownBy(() -> new ToolBulkheads(List.of("getVilageFcst:0:4"), Duration.ofSeconds(1), new ServerStats()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.wony.mcp.tool.weather.cache;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ForecastCache 테스트")
+class ForecastCacheTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final GridCoordinate BUSAN = new GridCoordinate(98, 76);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+
+    private static Forecast forecast(GridCoordinate grid, LocalDateTime base) {
+        long epoch = Forecast.toEpochSecond(base);
+        return Forecast.builder(ForecastType.VILAGE_FCST, grid, epoch, epoch + Forecast.HOUR_SECONDS, 1).build();
+    }
+
+    @Test
+    @DisplayName("발표시각이 일치하는 예보만 조회된다")
+    void getByBaseTime() {
+        // given
+        ForecastCache cache = new ForecastCache();
+        cache.put(forecast(SEOUL, BASE));
+
+        // when & then
+        assertThat(cache.get(ForecastType.VILAGE_FCST, SEOUL, BASE)).isNotNull();
+        assertThat(cache.get(ForecastType.VILAGE_FCST, SEOUL, BASE.plusHours(3))).isNull();
+        assertThat(cache.get(ForecastType.ULTRA_SRT_FCST, SEOUL, BASE)).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("새 발표 예보가 들어오면 직전 예보를 보관하고 리스너에게 알린다")
+    void newIssuanceNotifiesListener() {
+        // given
+        ForecastCache cache = new ForecastCache();
+        List<Forecast> previous = new ArrayList<>();
+        cache.addListener((forecast, prev) -> previous.add(prev));
+        Forecast first = forecast(SEOUL, BASE);
+        Forecast second = forecast(SEOUL, BASE.plusHours(3));
+
+        // when
+        cache.put(first);
+        cache.put(second);
+        cache.put(forecast(SEOUL, BASE.plusHours(3)));
+
+        // then
+        assertThat(previous).containsExactly(null, first);
+        assertThat(cache.latest(ForecastType.VILAGE_FCST, SEOUL)).isSameAs(second);
+        assertThat(cache.previous(ForecastType.VILAGE_FCST, SEOUL)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 조회되지 않은 격자를 제거한다")
+    void evictLeastRecentlyUsed() {
+        // given
+        ForecastCache cache = new ForecastCache(1);
+        cache.put(forecast(SEOUL, BASE));
+
+        // when
+        cache.put(forecast(BUSAN, BASE));
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.latest(ForecastType.VILAGE_FCST, SEOUL)).isNull();
+        assertThat(cache.latest(ForecastType.VILAGE_FCST, BUSAN)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("리스너 오류는 저장 경로로 전파되지 않는다")
+    void listenerFailureIsIsolated() {
+        // given
+        ForecastCache cache = new ForecastCache();
+        cache.addListener((forecast, prev) -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // when
+        cache.put(forecast(SEOUL, BASE));
+
+        // then
+        assertThat(cache.latest(ForecastType.VILAGE_FCST, SEOUL)).isNotNull();
+    }
+}
@@ -0,0 +1,119 @@
+package dev.wony.mcp.tool.weather.cache;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NegativeResultCache 테스트")
+class NegativeResultCacheTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final GridCoordinate BUSAN = new GridCoordinate(98, 76);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 14, 0);
+
+    @Test
+    @DisplayName("저장한 실패 결과는 TTL 동안만 조회된다")
+    void expiresAfterTtl() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2025-10-19T05:00:00Z"));
+        NegativeResultCache cache = new NegativeResultCache(Duration.ofMinutes(2), 16, clock);
+        cache.put(ForecastType.VILAGE_FCST, SEOUL, BASE, "API 오류: 03 - NO_DATA");
+
+        // when & then
+        assertThat(cache.get(ForecastType.VILAGE_FCST, SEOUL, BASE)).isEqualTo("API 오류: 03 - NO_DATA");
+        assertThat(cache.get(ForecastType.VILAGE_FCST, SEOUL, BASE.minusHours(3))).isNull();
+        assertThat(cache.get(ForecastType.ULTRA_SRT_FCST, SEOUL, BASE)).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(cache.get(ForecastType.VILAGE_FCST, SEOUL, BASE)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래된 항목부터 제거한다")
+    void evictsOldest() {
+        // given
+        NegativeResultCache cache = new NegativeResultCache(Duration.ofMinutes(2), 2, Clock.systemUTC());
+        cache.put(ForecastType.VILAGE_FCST, SEOUL, BASE, "오류 1");
+        cache.put(ForecastType.VILAGE_FCST, BUSAN, BASE, "오류 2");
+
+        // when
+        cache.put(ForecastType.ULTRA_SRT_NCST, SEOUL, BASE, "오류 3");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(ForecastType.VILAGE_FCST, SEOUL, BASE)).isNull();
+        assertThat(cache.get(ForecastType.VILAGE_FCST, BUSAN, BASE)).isEqualTo("오류 2");
+    }
+
+    @Test
+    @DisplayName("새 발표가 확인되면 해당 발표시각의 항목만 제거한다")
+    void invalidatesIssuance() {
+        // given
+        NegativeResultCache cache = new NegativeResultCache();
+        cache.put(ForecastType.VILAGE_FCST, SEOUL, BASE, "데이터 없음");
+        cache.put(ForecastType.VILAGE_FCST, BUSAN, BASE, "데이터 없음");
+        cache.put(ForecastType.VILAGE_FCST, BUSAN, BASE.minusHours(3), "데이터 없음");
+        cache.put(ForecastType.ULTRA_SRT_FCST, SEOUL, BASE, "데이터 없음");
+
+        // when
+        cache.invalidate(ForecastType.VILAGE_FCST, BASE);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(ForecastType.VILAGE_FCST, BUSAN, BASE.minusHours(3))).isNotNull();
+        assertThat(cache.get(ForecastType.ULTRA_SRT_FCST, SEOUL, BASE)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("TTL이 0이면 저장하지 않는다")
+    void disabledWithZeroTtl() {
+        // given
+        NegativeResultCache cache = new NegativeResultCache(Duration.ZERO, 16, Clock.systemUTC());
+
+        // when
+        cache.put(ForecastType.VILAGE_FCST, SEOUL, BASE, "데이터 없음");
+
+        // then
+        assertThat(cache.get(ForecastType.VILAGE_FCST, SEOUL, BASE)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
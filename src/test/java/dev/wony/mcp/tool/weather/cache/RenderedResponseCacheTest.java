@@ -0,0 +1,143 @@
+package dev.wony.mcp.tool.weather.cache;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RenderedResponseCache 테스트")
+class RenderedResponseCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 10, 0);
+
+    private static Forecast forecast(int nx, LocalDateTime base) {
+        long baseEpochSecond = Forecast.toEpochSecond(base);
+        return Forecast.builder(ForecastType.ULTRA_SRT_NCST, new GridCoordinate(nx, 127), baseEpochSecond, baseEpochSecond, 1)
+                .put(0, WeatherCategory.T1H, "12.3")
+                .build();
+    }
+
+    private static Function<Forecast, String> counting(AtomicInteger renders, int length) {
+        return forecast -> {
+            renders.incrementAndGet();
+            return forecast.grid().nx() + "x".repeat(length);
+        };
+    }
+
+    @Test
+    @DisplayName("같은 형식, 격자, 발표시각이면 다시 렌더링하지 않고 저장된 문자열을 반환한다")
+    void hit() {
+        // given
+        RenderedResponseCache cache = new RenderedResponseCache();
+        AtomicInteger renders = new AtomicInteger();
+
+        // when
+        String first = cache.get("vilage-fcst", forecast(60, BASE), counting(renders, 100));
+        String second = cache.get("vilage-fcst", forecast(60, BASE), counting(renders, 100));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(renders).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("형식, 변형, 격자, 발표시각, 포맷 로케일이 다르면 따로 렌더링한다")
+    void separateKeys() {
+        // given
+        RenderedResponseCache cache = new RenderedResponseCache();
+        AtomicInteger renders = new AtomicInteger();
+        Locale original = Locale.getDefault(Locale.Category.FORMAT);
+
+        // when
+        try {
+            cache.get("vilage-fcst", forecast(60, BASE), counting(renders, 10));
+            cache.get("ultra-srt-fcst", forecast(60, BASE), counting(renders, 10));
+            cache.get("vilage-fcst", 400, forecast(60, BASE), counting(renders, 10));
+            cache.get("vilage-fcst", forecast(61, BASE), counting(renders, 10));
+            cache.get("vilage-fcst", forecast(60, BASE.plusHours(3)), counting(renders, 10));
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            cache.get("vilage-fcst", forecast(60, BASE), counting(renders, 10));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, original);
+        }
+
+        // then
+        assertThat(renders).hasValue(6);
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 크기가 한도를 넘지 않도록 항목을 제거하거나 받아들이지 않는다")
+    void boundedBySize() {
+        // given
+        RenderedResponseCache cache = new RenderedResponseCache(true, DataSize.ofKilobytes(64));
+        AtomicInteger renders = new AtomicInteger();
+
+        // when - 항목 하나 약 2KB
+        for (int nx = 0; nx < 200; nx++) {
+            cache.get("vilage-fcst", forecast(nx, BASE), counting(renders, 1000));
+        }
+
+        // then
+        assertThat(cache.estimatedSizeBytes()).isLessThanOrEqualTo(DataSize.ofKilobytes(64).toBytes());
+        assertThat(cache.size()).isBetween(20, 32);
+        assertThat(cache.evictionCount() + cache.rejectionCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("자주 조회되는 응답은 한 번씩만 조회되는 응답이 많이 들어와도 밀려나지 않는다")
+    void frequentEntriesSurviveScan() {
+        // given - 자주 조회되는 격자 10개
+        RenderedResponseCache cache = new RenderedResponseCache(true, DataSize.ofKilobytes(64));
+        AtomicInteger renders = new AtomicInteger();
+        for (int round = 0; round < 5; round++) {
+            for (int nx = 0; nx < 10; nx++) {
+                cache.get("vilage-fcst", forecast(nx, BASE), counting(renders, 1000));
+            }
+        }
+
+        // when - 한 번씩만 조회되는 격자 500개
+        for (int nx = 1000; nx < 1500; nx++) {
+            cache.get("vilage-fcst", forecast(nx, BASE), counting(renders, 1000));
+        }
+        renders.set(0);
+        for (int nx = 0; nx < 10; nx++) {
+            cache.get("vilage-fcst", forecast(nx, BASE), counting(renders, 1000));
+        }
+
+        // then
+        assertThat(renders).hasValue(0);
+        assertThat(cache.rejectionCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("사용하지 않으면 매번 렌더링하고 저장하지 않는다")
+    void disabled() {
+        // given
+        RenderedResponseCache cache = RenderedResponseCache.disabled();
+        AtomicInteger renders = new AtomicInteger();
+
+        // when
+        cache.get("vilage-fcst", forecast(60, BASE), counting(renders, 10));
+        cache.get("vilage-fcst", forecast(60, BASE), counting(renders, 10));
+
+        // then
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(renders).hasValue(2);
+        assertThat(cache.size()).isZero();
+        assertThat(new RenderedResponseCache(true, DataSize.ofBytes(0)).isEnabled()).isFalse();
+    }
+}
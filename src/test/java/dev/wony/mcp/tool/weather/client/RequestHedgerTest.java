@@ -0,0 +1,193 @@
+package dev.wony.mcp.tool.weather.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestHedger 테스트")
+class RequestHedgerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private RequestHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hedger != null) {
+            hedger.close();
+        }
+    }
+
+    private static RequestHedger hedger(double maxRatio) {
+        return new RequestHedger(true, 0.95, Duration.ofMillis(20), Duration.ofMillis(1), maxRatio);
+    }
+
+    /**
+     * 첫 요청은 풀려날 때까지 지연되고, 이후 요청은 바로 응답
+     */
+    private String slowFirst(AtomicInteger calls) {
+        if (calls.incrementAndGet() == 1) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "primary";
+        }
+        return "hedge";
+    }
+
+    @Test
+    @DisplayName("지연 시간 안에 응답이 없으면 헤지 요청의 응답을 사용한다")
+    void usesHedgeWhenPrimaryIsSlow() {
+        // given
+        hedger = hedger(1.0);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedger.call(() -> slowFirst(calls));
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(hedger.hedgeCount()).isEqualTo(1);
+        assertThat(hedger.hedgeWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 한도를 넘으면 원래 요청만 기다린다")
+    void respectsHedgeRatio() {
+        // given - 요청 10건마다 헤지 1건
+        hedger = hedger(0.1);
+        AtomicInteger calls = new AtomicInteger();
+        new Thread(() -> {
+            sleep(100);
+            release.countDown();
+        }).start();
+
+        // when
+        String result = hedger.call(() -> slowFirst(calls));
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(hedger.hedgeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("헤지 지연은 최근 응답 시간의 백분위를 따른다")
+    void adaptsDelayToLatencyPercentile() {
+        // given - 표본이 부족하면 초기 지연(20ms)
+        hedger = hedger(0.05);
+        Duration initial = hedger.hedgeDelay();
+        for (int i = 0; i < 64; i++) {
+            // 약 3%는 2초 이상 걸리는 꼬리 응답
+            hedger.recordLatency(TimeUnit.MILLISECONDS.toNanos(i % 32 == 31 ? 2000 : 30));
+        }
+
+        // when
+        Duration delay = hedger.hedgeDelay();
+
+        // then - p95는 꼬리 응답을 제외한 응답 시간
+        assertThat(initial).isEqualTo(Duration.ofMillis(20));
+        assertThat(delay).isEqualTo(Duration.ofMillis(30));
+    }
+
+    @Test
+    @DisplayName("헤지 요청이 없으면 원래 요청의 오류를 그대로 전달한다")
+    void propagatesFailure() {
+        // given
+        hedger = hedger(0);
+
+        // when & then
+        assertThatThrownBy(() -> hedger.call(() -> {
+            throw new RestClientException("timeout");
+        })).isInstanceOf(RestClientException.class).hasMessage("timeout");
+    }
+
+    @Test
+    @DisplayName("실패한 요청의 응답 시간도 기록한다")
+    void recordsLatencyOfFailures() {
+        // given
+        hedger = hedger(0);
+
+        // when
+        assertThatThrownBy(() -> hedger.call(() -> {
+            throw new RestClientException("timeout");
+        })).isInstanceOf(RestClientException.class);
+        assertThatThrownBy(() -> hedger.hedge(Mono.error(new RestClientException("timeout"))).block())
+                .isInstanceOf(RestClientException.class);
+
+        // then
+        assertThat(hedger.latencySampleCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 원래 요청이 먼저 실패해도 헤지 요청의 응답을 기다린다")
+    void hedgeOutlivesPrimaryFailure() {
+        // given - 원래 요청은 헤지 요청이 나간 뒤 실패하고, 헤지 요청은 그보다 늦게 성공
+        hedger = hedger(1.0);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(100)).then(Mono.<String>error(new RestClientException("primary failed")))
+                : Mono.delay(Duration.ofMillis(200)).thenReturn("hedge"));
+
+        // when
+        String result = hedger.hedge(request).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(hedger.hedgeWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 헤지 요청 없이 원래 요청이 실패하면 바로 오류를 전달한다")
+    void hedgePropagatesLastFailure() {
+        // given - 헤지 한도가 없으면 원래 요청의 실패가 마지막 실패
+        hedger = hedger(0);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(50)).then(Mono.<String>error(new RestClientException("timeout")));
+        });
+
+        // when & then
+        assertThatThrownBy(() -> hedger.hedge(request).block(Duration.ofSeconds(5)))
+                .isInstanceOf(RestClientException.class)
+                .hasMessage("timeout");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화되면 요청을 그대로 실행한다")
+    void disabled() {
+        // given
+        RequestHedger disabled = RequestHedger.disabled();
+
+        // when
+        String result = disabled.call(() -> "direct");
+
+        // then
+        assertThat(result).isEqualTo("direct");
+        assertThat(disabled.requestCount()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package dev.wony.mcp.tool.weather.client;
+
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ServiceKeyPool 테스트")
+class ServiceKeyPoolTest {
+
+    // 2025-10-19 14:00 KST
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-10-19T05:00:00Z"));
+
+    private static WeatherApiResponse response(String resultCode) {
+        return new WeatherApiResponse(new WeatherApiResponse.Response(
+                new WeatherApiResponse.Header(resultCode, "message"), null));
+    }
+
+    private static List<String> acquire(ServiceKeyPool pool, int count) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            keys.add(pool.acquire());
+        }
+        return keys;
+    }
+
+    @Test
+    @DisplayName("가중치에 비례하여 키를 고르게 번갈아 사용한다")
+    void weightedRoundRobin() {
+        // given
+        ServiceKeyPool pool = new ServiceKeyPool(List.of("key-a:2", "key-b"), 0, Duration.ofHours(1), clock);
+
+        // when
+        List<String> keys = acquire(pool, 6);
+
+        // then
+        assertThat(keys).containsExactly("key-a", "key-b", "key-a", "key-a", "key-b", "key-a");
+    }
+
+    @Test
+    @DisplayName("일일 할당량을 넘은 키는 다음 날까지 건너뛴다")
+    void skipsExhaustedKeys() {
+        // given
+        ServiceKeyPool pool = new ServiceKeyPool(List.of("key-a", "key-b"), 2, Duration.ofHours(1), clock);
+        acquire(pool, 4);
+
+        // when & then
+        assertThatThrownBy(pool::acquire).isInstanceOf(RestClientException.class);
+
+        clock.advance(Duration.ofHours(10));
+        assertThat(pool.acquire()).isEqualTo("key-a");
+        assertThat(pool.status()).extracting(ServiceKeyPool.KeyStatus::usedToday).containsExactly(1L, 0L);
+    }
+
+    @Test
+    @DisplayName("할당량 초과 응답을 받은 키는 다음 날(KST)까지 격리한다")
+    void quarantinesUntilNextDayOnQuotaError() {
+        // given
+        ServiceKeyPool pool = new ServiceKeyPool(List.of("key-a", "key-b"), 0, Duration.ofHours(1), clock);
+
+        // when
+        boolean rejected = pool.record("key-a", response("22"));
+
+        // then
+        assertThat(rejected).isTrue();
+        assertThat(acquire(pool, 3)).containsOnly("key-b");
+        assertThat(pool.status().get(0).quarantinedUntil()).isEqualTo(Instant.parse("2025-10-19T15:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("인증 오류를 받은 키는 격리 기간 동안만 제외한다")
+    void quarantinesForConfiguredDurationOnAuthError() {
+        // given
+        ServiceKeyPool pool = new ServiceKeyPool(List.of("key-a", "key-b"), 0, Duration.ofHours(1), clock);
+        pool.recordHttpStatus("key-b", 401);
+
+        // when & then
+        assertThat(pool.record("key-a", response("30"))).isTrue();
+        assertThat(pool.hasAvailable()).isFalse();
+
+        clock.advance(Duration.ofMinutes(61));
+        assertThat(pool.hasAvailable()).isTrue();
+        assertThat(pool.record("key-a", response("00"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 남은 키는 인증 오류를 받아도 격리하지 않고 짧은 백오프 후 다시 사용한다")
+    void backsOffLastKeyOnAuthError() {
+        // given
+        ServiceKeyPool pool = new ServiceKeyPool(List.of("key-a"), 0, Duration.ofHours(1), clock);
+
+        // when
+        boolean rejected = pool.record("key-a", response("30"));
+
+        // then - 1초 뒤 다시 사용하고, 연속 실패마다 대기 시간이 두 배로 늘어남
+        assertThat(rejected).isTrue();
+        assertThat(pool.hasAvailable()).isFalse();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(pool.acquire()).isEqualTo("key-a");
+
+        pool.recordHttpStatus("key-a", 401);
+        assertThat(pool.status().get(0).quarantinedUntil()).isEqualTo(clock.instant().plusSeconds(2));
+
+        // 정상 응답을 받으면 백오프가 처음부터 다시 시작됨
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(pool.record("key-a", response("00"))).isFalse();
+        pool.recordHttpStatus("key-a", 403);
+        assertThat(pool.status().get(0).quarantinedUntil()).isEqualTo(clock.instant().plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("초당 호출 제한(HTTP 429)은 다음 날까지 격리하지 않고 짧게 물러난다")
+    void backsOffOnRateLimit() {
+        // given
+        ServiceKeyPool pool = new ServiceKeyPool(List.of("key-a", "key-b"), 0, Duration.ofHours(1), clock);
+
+        // when
+        pool.recordHttpStatus("key-a", 429);
+
+        // then
+        assertThat(pool.status().get(0).quarantinedUntil()).isEqualTo(clock.instant().plusSeconds(1));
+        assertThat(pool.acquire()).isEqualTo("key-b");
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(pool.status().get(0).quarantinedUntil()).isNull();
+    }
+
+    @Test
+    @DisplayName("목록이 비어 있으면 단일 서비스 키를 사용한다")
+    void fallsBackToSingleKey() {
+        // given
+        ServiceKeyPool pool = new ServiceKeyPool("single-key", List.of(" "), 0, Duration.ofHours(1));
+
+        // when & then
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(pool.acquire()).isEqualTo("single-key");
+        assertThat(pool.status().get(0).maskedKey()).isEqualTo("sing****");
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 키 하나로 몇 번을 호출해도 일일 한도로 막지 않는다")
+    void singleKeyIsUnlimitedByDefault() {
+        // given
+        ServiceKeyPool pool = new ServiceKeyPool("single-key", List.of(), ServiceKeyPool.DEFAULT_DAILY_QUOTA,
+                Duration.ofHours(1));
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            pool.acquire();
+        }
+
+        // then
+        assertThat(pool.acquire()).isEqualTo("single-key");
+        assertThat(pool.hasAvailable()).isTrue();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.wony.mcp.tool.weather.cluster;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConsistentHashRing 테스트")
+class ConsistentHashRingTest {
+
+    private static final List<String> NODES = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+
+    @Test
+    @DisplayName("전체 격자를 노드에 고르게 나눈다")
+    void balanced() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // when
+        int total = 0;
+        for (int nx = 1; nx <= 149; nx++) {
+            for (int ny = 1; ny <= 253; ny++) {
+                counts.merge(ring.owner(new GridCoordinate(nx, ny)), 1, Integer::sum);
+                total++;
+            }
+        }
+
+        // then
+        assertThat(counts).containsOnlyKeys(NODES);
+        for (int count : counts.values()) {
+            assertThat(count).isBetween(total / 3 * 8 / 10, total / 3 * 12 / 10);
+        }
+    }
+
+    @Test
+    @DisplayName("노드를 더하면 새 노드가 맡는 격자만 옮겨진다")
+    void minimalMovement() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(NODES, 128);
+        String added = "http://localhost:8084";
+        ConsistentHashRing after = new ConsistentHashRing(
+                List.of(NODES.get(0), NODES.get(1), NODES.get(2), added), 128);
+
+        // when
+        int moved = 0;
+        int total = 0;
+        for (int nx = 1; nx <= 149; nx++) {
+            for (int ny = 1; ny <= 253; ny++) {
+                GridCoordinate grid = new GridCoordinate(nx, ny);
+                String owner = after.owner(grid);
+                if (!owner.equals(before.owner(grid))) {
+                    assertThat(owner).isEqualTo(added);
+                    moved++;
+                }
+                total++;
+            }
+        }
+
+        // then - 약 1/4
+        assertThat(moved).isBetween(total / 4 * 7 / 10, total / 4 * 13 / 10);
+    }
+
+    @Test
+    @DisplayName("노드 목록 순서와 관계없이 같은 담당 노드를 계산한다")
+    void orderIndependent() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 64);
+        ConsistentHashRing reversed = new ConsistentHashRing(List.of(NODES.get(2), NODES.get(1), NODES.get(0)), 64);
+
+        // when & then
+        for (int nx = 1; nx <= 149; nx += 7) {
+            for (int ny = 1; ny <= 253; ny += 11) {
+                GridCoordinate grid = new GridCoordinate(nx, ny);
+                assertThat(reversed.owner(grid)).isEqualTo(ring.owner(grid));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("노드가 없으면 예외가 발생한다")
+    void empty() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 128))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,178 @@
+package dev.wony.mcp.tool.weather.cluster;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.shared.ForecastCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GridShardRouter 테스트")
+class GridShardRouterTest {
+
+    private static final String SELF = "http://127.0.0.1:1";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+
+    private HttpServer peer;
+    private String peerUrl;
+    private final AtomicReference<String> requestedUri = new AtomicReference<>();
+    private final AtomicReference<String> requestedSecret = new AtomicReference<>();
+    private volatile int status = 200;
+    private volatile byte[] body = new byte[0];
+
+    @BeforeEach
+    void setUp() throws IOException {
+        peer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        peer.createContext(GridShardRouter.FORECAST_PATH, exchange -> {
+            requestedUri.set(exchange.getRequestURI().toString());
+            requestedSecret.set(exchange.getRequestHeaders().getFirst(GridShardRouter.SECRET_HEADER));
+            exchange.getResponseHeaders().add("Content-Type",
+                    status == 200 ? "application/octet-stream" : "text/plain;charset=UTF-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        peer.start();
+        peerUrl = "http://127.0.0.1:" + peer.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        peer.stop(0);
+    }
+
+    private GridShardRouter router(String... peers) {
+        return new GridShardRouter(true, SELF, List.of(peers), 64, Duration.ofSeconds(2));
+    }
+
+    /**
+     * 다른 노드가 담당하는 격자
+     */
+    private static GridCoordinate remoteGrid(GridShardRouter router) {
+        for (int nx = 1; nx <= 149; nx++) {
+            GridCoordinate grid = new GridCoordinate(nx, 127);
+            if (!router.isLocal(grid)) {
+                return grid;
+            }
+        }
+        throw new IllegalStateException("다른 노드가 담당하는 격자가 없습니다");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 담당하는 격자는 담당 노드의 예보를 받아 사용한다")
+    void forwardsToOwner() {
+        // given
+        GridShardRouter router = router(SELF, peerUrl);
+        GridCoordinate grid = remoteGrid(router);
+        long base = Forecast.toEpochSecond(BASE);
+        body = ForecastCodec.encode(Forecast.builder(ForecastType.VILAGE_FCST, grid, base, base + 3600, 1)
+                .put(0, WeatherCategory.TMP, "12")
+                .build());
+
+        // when
+        ForecastResult result = router.forward(ForecastType.VILAGE_FCST, grid, BASE);
+
+        // then
+        assertThat(router.ownerOf(grid)).isEqualTo(peerUrl);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.forecast().rawValue(0, WeatherCategory.TMP)).isEqualTo("12");
+        assertThat(requestedUri.get()).isEqualTo(GridShardRouter.FORECAST_PATH + "/VILAGE_FCST/"
+                + grid.nx() + "/" + grid.ny() + "?base=202510190500");
+        assertThat(router.forwardedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("공유 비밀을 설정하면 전달 요청에 헤더로 실어 보내고, 같은 값만 허용한다")
+    void sendsSharedSecret() {
+        // given
+        GridShardRouter router = new GridShardRouter(true, SELF, List.of(SELF, peerUrl), 64, Duration.ofSeconds(2),
+                "cluster-secret");
+        status = GridShardRouter.UNAVAILABLE_STATUS;
+        body = "단기예보 정보가 없습니다.".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        router.forward(ForecastType.VILAGE_FCST, remoteGrid(router), BASE);
+
+        // then
+        assertThat(requestedSecret.get()).isEqualTo("cluster-secret");
+        assertThat(router.isAuthorized("cluster-secret")).isTrue();
+        assertThat(router.isAuthorized("other")).isFalse();
+        assertThat(router.isAuthorized(null)).isFalse();
+        assertThat(router(SELF, peerUrl).isAuthorized(null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("담당 노드에 예보가 없으면 담당 노드의 오류 메시지를 그대로 사용한다")
+    void ownerFailure() {
+        // given
+        GridShardRouter router = router(SELF, peerUrl);
+        status = GridShardRouter.UNAVAILABLE_STATUS;
+        body = "단기예보 정보가 없습니다.".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        ForecastResult result = router.forward(ForecastType.VILAGE_FCST, remoteGrid(router), BASE);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("단기예보 정보가 없습니다.");
+        assertThat(router.fallbackCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("담당 노드에 연결할 수 없거나 응답이 올바르지 않으면 직접 조회하도록 null을 반환한다")
+    void fallsBack() {
+        // given
+        GridShardRouter router = router(SELF, peerUrl);
+        GridCoordinate grid = remoteGrid(router);
+        status = 500;
+
+        // when
+        ForecastResult serverError = router.forward(ForecastType.VILAGE_FCST, grid, BASE);
+        peer.stop(0);
+        ForecastResult unreachable = router.forward(ForecastType.VILAGE_FCST, grid, BASE);
+
+        // then
+        assertThat(serverError).isNull();
+        assertThat(unreachable).isNull();
+        assertThat(router.fallbackCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용하지 않거나 노드가 하나뿐이면 모든 격자를 직접 조회한다")
+    void standalone() {
+        // given
+        GridShardRouter disabled = GridShardRouter.standalone();
+        GridShardRouter single = router(SELF + "/");
+
+        // when & then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(single.isEnabled()).isFalse();
+        assertThat(disabled.isLocal(new GridCoordinate(60, 127))).isTrue();
+        assertThat(single.isLocal(new GridCoordinate(60, 127))).isTrue();
+    }
+
+    @Test
+    @DisplayName("자신이 노드 목록에 없으면 예외가 발생한다")
+    void selfMissing() {
+        assertThatThrownBy(() -> router(peerUrl))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
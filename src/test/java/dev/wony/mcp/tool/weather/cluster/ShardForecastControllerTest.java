@@ -0,0 +1,84 @@
+package dev.wony.mcp.tool.weather.cluster;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.shared.ForecastCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ShardForecastController 테스트")
+class ShardForecastControllerTest {
+
+    private static final String SECRET = "cluster-secret";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 19, 6, 20);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+
+    private WeatherService weatherService;
+    private ShardForecastController controller;
+
+    @BeforeEach
+    void setUp() {
+        weatherService = mock(WeatherService.class);
+        long base = Forecast.toEpochSecond(BASE);
+        when(weatherService.loadShard(any(), any(), any())).thenReturn(ForecastResult.success(
+                Forecast.builder(ForecastType.VILAGE_FCST, SEOUL, base, base + 3600, 1).build()));
+        GridShardRouter shards = new GridShardRouter(false, "", List.of(), 64, Duration.ofSeconds(2), SECRET);
+        controller = new ShardForecastController(weatherService, shards);
+    }
+
+    private ResponseEntity<byte[]> request(String type, int nx, int ny, String base, String secret) {
+        return controller.forecast(type, nx, ny, base, secret, NOW);
+    }
+
+    @Test
+    @DisplayName("공유 비밀이 맞고 최근 발표시각이면 담당 노드로서 조회한 예보를 돌려준다")
+    void servesRecentIssuance() {
+        // when
+        ResponseEntity<byte[]> response = request("VILAGE_FCST", 60, 127, "202510190500", SECRET);
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(ForecastCodec.decode(response.getBody()).grid()).isEqualTo(SEOUL);
+        verify(weatherService).loadShard(ForecastType.VILAGE_FCST, SEOUL, BASE);
+    }
+
+    @Test
+    @DisplayName("공유 비밀이 없거나 다르면 API를 호출하지 않고 거부한다")
+    void rejectsWrongSecret() {
+        // when & then
+        assertThat(request("VILAGE_FCST", 60, 127, "202510190500", null).getStatusCode().value()).isEqualTo(403);
+        assertThat(request("VILAGE_FCST", 60, 127, "202510190500", "guess").getStatusCode().value()).isEqualTo(403);
+        verify(weatherService, never()).loadShard(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("예보 영역 밖의 격자나 발표 일정에 없거나 최근이 아닌 발표시각은 API를 호출하지 않고 거부한다")
+    void rejectsInvalidRequests() {
+        // when & then
+        assertThat(request("VILAGE_FCST", 500, 127, "202510190500", SECRET).getStatusCode().value()).isEqualTo(400);
+        // 단기예보는 02시부터 3시간 간격으로 발표
+        assertThat(request("VILAGE_FCST", 60, 127, "202510190600", SECRET).getStatusCode().value()).isEqualTo(400);
+        // 하루보다 오래된 발표와 아직 오지 않은 발표
+        assertThat(request("VILAGE_FCST", 60, 127, "202510170500", SECRET).getStatusCode().value()).isEqualTo(400);
+        assertThat(request("ULTRA_SRT_FCST", 60, 127, "202510190730", SECRET).getStatusCode().value()).isEqualTo(400);
+        assertThat(request("UNKNOWN", 60, 127, "202510190500", SECRET).getStatusCode().value()).isEqualTo(400);
+        verify(weatherService, never()).loadShard(any(), any(), any());
+    }
+}
@@ -0,0 +1,81 @@
+package dev.wony.mcp.tool.weather.export;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ForecastExportController 테스트")
+class ForecastExportControllerTest {
+
+    private static final String SECRET = "export-secret";
+
+    private ForecastExporter exporter;
+    private ForecastExportController controller;
+
+    @BeforeEach
+    void setUp() {
+        exporter = mock(ForecastExporter.class);
+        when(exporter.maxBodyBytes()).thenReturn(1024L);
+        controller = new ForecastExportController(exporter, SECRET);
+    }
+
+    private static ByteArrayInputStream body(String grids) {
+        return new ByteArrayInputStream(grids.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("공유 비밀이 맞으면 요청 본문의 격자를 내보낸다")
+    void exportsWithSecret() throws IOException {
+        // given
+        ByteArrayInputStream grids = body("60:127");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = controller.export("VILAGE_FCST", SECRET, 6L, grids);
+        response.getBody().writeTo(new ByteArrayOutputStream());
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        verify(exporter).export(any(), any(InputStream.class), any());
+    }
+
+    @Test
+    @DisplayName("공유 비밀이 없거나 다르면 API를 호출하지 않고 거부한다")
+    void rejectsWrongSecret() throws IOException {
+        // when
+        ResponseEntity<StreamingResponseBody> missing = controller.export("VILAGE_FCST", null, 6L, body("60:127"));
+        ResponseEntity<StreamingResponseBody> wrong = controller.export("VILAGE_FCST", "guess", 6L, body("60:127"));
+
+        // then
+        assertThat(missing.getStatusCode().value()).isEqualTo(403);
+        assertThat(wrong.getStatusCode().value()).isEqualTo(403);
+        verify(exporter, never()).export(any(), any(InputStream.class), any());
+    }
+
+    @Test
+    @DisplayName("공유 비밀을 설정하지 않으면 헤더 없이도 처리한다")
+    void allowsWithoutConfiguredSecret() {
+        // given
+        ForecastExportController open = new ForecastExportController(exporter, "");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = open.export("VILAGE_FCST", null, 6L, body("60:127"));
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,179 @@
+package dev.wony.mcp.tool.weather.export;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.issuance.IssuanceTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClientException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ForecastExporter 테스트")
+class ForecastExporterTest {
+
+    private static final GridCoordinate BUSAN = new GridCoordinate(98, 76);
+
+    private WeatherService weatherService;
+    private ForecastExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        weatherService = mock(WeatherService.class);
+        when(weatherService.refresh(eq(ForecastType.VILAGE_FCST), any(), any())).thenAnswer(invocation ->
+                ForecastResult.success(forecast(invocation.getArgument(1), invocation.getArgument(2))));
+        exporter = new ForecastExporter(weatherService, new IssuanceTracker(), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exporter.close();
+    }
+
+    private static Forecast forecast(GridCoordinate grid, LocalDateTime base) {
+        long epoch = Forecast.toEpochSecond(base);
+        return Forecast.builder(ForecastType.VILAGE_FCST, grid, epoch, epoch + Forecast.HOUR_SECONDS, 3)
+                .put(0, WeatherCategory.TMP, "20").put(0, WeatherCategory.PCP, "강수없음")
+                .put(2, WeatherCategory.TMP, "18")
+                .build();
+    }
+
+    private List<String> export(ForecastExporter target, String... grids) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        target.export(ForecastType.VILAGE_FCST, List.of(grids).iterator(), out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    @DisplayName("격자-시각마다 한 줄의 JSON을 출력한다")
+    void writesOneLinePerGridHour() throws IOException {
+        // when
+        List<String> lines = export(exporter, "60:127", "98:76");
+
+        // then - 값이 있는 시각만 격자당 2줄
+        assertThat(lines).hasSize(4);
+        assertThat(lines).allSatisfy(line -> assertThat(line).startsWith("{\"type\":\"VILAGE_FCST\",").endsWith("}"));
+        assertThat(lines).filteredOn(line -> line.contains("\"nx\":60,\"ny\":127")).hasSize(2);
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"TMP\":20").contains("\"PCP\":\"강수없음\""));
+    }
+
+    @Test
+    @DisplayName("잘못된 격자와 조회 실패는 오류 줄로 출력하고 나머지 격자는 계속 내보낸다")
+    void writesErrorLines() throws IOException {
+        // given
+        when(weatherService.refresh(eq(ForecastType.VILAGE_FCST), eq(BUSAN), any()))
+                .thenThrow(new RestClientException("timeout"));
+
+        // when
+        List<String> lines = export(exporter, "abc", "999:1", "98:76", "60:127");
+
+        // then
+        assertThat(lines).filteredOn(line -> line.contains("\"error\"")).hasSize(3);
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"grid\":\"abc\""));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"grid\":\"98:76\"").contains("timeout"));
+        assertThat(lines).filteredOn(line -> line.contains("\"nx\":60")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("동시 조회 수를 넘지 않는다")
+    void boundsConcurrency() throws IOException {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(weatherService.refresh(eq(ForecastType.VILAGE_FCST), any(), any())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return ForecastResult.success(forecast(invocation.getArgument(1), invocation.getArgument(2)));
+        });
+        String[] grids = new String[40];
+        for (int i = 0; i < grids.length; i++) {
+            grids[i] = (50 + i) + ":100";
+        }
+
+        // when
+        List<String> lines = export(exporter, grids);
+
+        // then
+        assertThat(lines).hasSize(80);
+        assertThat(peak.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("최대 격자 수를 넘으면 나머지는 생략하고 오류 줄을 남긴다")
+    void limitsGridCount() throws IOException {
+        // given
+        ForecastExporter limited = new ForecastExporter(weatherService, new IssuanceTracker(), 2, 1);
+
+        try {
+            // when
+            List<String> lines = export(limited, "60:127", "98:76", "52:38");
+
+            // then
+            assertThat(lines).hasSize(3);
+            assertThat(lines.get(2)).contains("\"grid\":\"98:76\"").contains("최대 1개");
+        } finally {
+            limited.close();
+        }
+    }
+
+    @Test
+    @DisplayName("요청 본문에서 쉼표나 공백, 줄바꿈으로 구분한 격자를 읽어 내보낸다")
+    void readsGridsFromBody() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] body = "60:127,\t98:76\n\n".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        ForecastExporter.ExportSummary summary = exporter.export(ForecastType.VILAGE_FCST,
+                new ByteArrayInputStream(body), out);
+
+        // then
+        assertThat(summary.grids()).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines().toList())
+                .filteredOn(line -> line.contains("\"nx\":98,\"ny\":76")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("요청 본문이 최대 크기를 넘으면 더 읽지 않고 잘린 격자 대신 오류 줄을 남긴다")
+    void limitsBodySize() throws IOException {
+        // given - 최대 10바이트: 두 번째 격자("98:76")는 한도에서 잘림
+        ForecastExporter limited = new ForecastExporter(weatherService, new IssuanceTracker(), 2, 100,
+                DataSize.ofBytes(10));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] body = "60:127,98:76,52:38".getBytes(StandardCharsets.UTF_8);
+
+        try {
+            // when
+            ForecastExporter.ExportSummary summary = limited.export(ForecastType.VILAGE_FCST,
+                    new ByteArrayInputStream(body), out);
+
+            // then
+            List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+            assertThat(lines).noneMatch(line -> line.contains("98:7") || line.contains("52:38"));
+            assertThat(lines.get(lines.size() - 1)).contains("\"error\"").contains("최대 10바이트");
+            assertThat(summary.failures()).isEqualTo(1);
+        } finally {
+            limited.close();
+        }
+    }
+}
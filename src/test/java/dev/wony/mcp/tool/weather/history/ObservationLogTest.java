@@ -0,0 +1,150 @@
+package dev.wony.mcp.tool.weather.history;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ObservationLog 테스트")
+class ObservationLogTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final GridCoordinate BUSAN = new GridCoordinate(98, 76);
+    private static final long DAY_START = Forecast.toEpochSecond(LocalDateTime.of(2025, 10, 17, 0, 0));
+    private static final long HOUR = Forecast.HOUR_SECONDS;
+
+    @TempDir
+    Path directory;
+
+    private ObservationLog open(int segmentRecords) {
+        return new ObservationLog(directory, Duration.ofDays(1), Duration.ofDays(7), segmentRecords);
+    }
+
+    private static ObservationRecord record(GridCoordinate grid, long epochSecond, float value) {
+        float[] values = new float[ObservationRecord.CATEGORIES.size()];
+        Arrays.fill(values, value);
+        return new ObservationRecord(grid, epochSecond, values);
+    }
+
+    @Test
+    @DisplayName("격자와 시간 범위로 관측 기록을 조회한다")
+    void scanByGridAndRange() {
+        // given
+        try (ObservationLog log = open(100)) {
+            for (int hour = 0; hour < 10; hour++) {
+                log.append(record(SEOUL, DAY_START + hour * HOUR, hour));
+                log.append(record(BUSAN, DAY_START + hour * HOUR, -hour));
+            }
+
+            // when
+            List<ObservationRecord> records = log.scan(SEOUL, DAY_START + 2 * HOUR, DAY_START + 4 * HOUR);
+
+            // then
+            assertThat(records).extracting(ObservationRecord::epochSecond)
+                    .containsExactly(DAY_START + 2 * HOUR, DAY_START + 3 * HOUR, DAY_START + 4 * HOUR);
+            assertThat(records).allMatch(record -> record.grid().equals(SEOUL));
+        }
+    }
+
+    @Test
+    @DisplayName("관측 시각이 다음 날로 넘어가거나 세그먼트가 가득 차면 새 세그먼트를 만든다")
+    void rollover() {
+        // given
+        try (ObservationLog log = open(5)) {
+            // when
+            for (int hour = 0; hour < 30; hour++) {
+                log.append(record(SEOUL, DAY_START + hour * HOUR, hour));
+            }
+
+            // then - 첫날 24건(5건씩 5개), 둘째 날 6건(2개)
+            assertThat(log.segmentCount()).isEqualTo(7);
+            assertThat(log.scan(SEOUL, DAY_START, DAY_START + 30 * HOUR)).hasSize(30);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 관측 시각의 기록은 나중에 추가된 값이 유효하다")
+    void latestRecordWins() {
+        // given
+        try (ObservationLog log = open(100)) {
+            log.append(record(SEOUL, DAY_START, 1));
+            log.append(record(SEOUL, DAY_START, 2));
+
+            // when
+            List<ObservationRecord> records = log.scan(SEOUL, DAY_START, DAY_START);
+
+            // then
+            assertThat(records).hasSize(1);
+            assertThat(records.get(0).values()[0]).isEqualTo(2f);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 기존 세그먼트의 기록을 복구한다")
+    void recoverAfterReopen() {
+        // given
+        try (ObservationLog log = open(10)) {
+            for (int hour = 0; hour < 15; hour++) {
+                log.append(record(SEOUL, DAY_START + hour * HOUR, hour));
+            }
+        }
+
+        // when
+        try (ObservationLog reopened = open(10)) {
+            reopened.append(record(SEOUL, DAY_START + 15 * HOUR, 15));
+
+            // then
+            assertThat(reopened.scan(SEOUL, DAY_START, DAY_START + 24 * HOUR)).hasSize(16);
+        }
+    }
+
+    @Test
+    @DisplayName("압축은 지난 구간의 세그먼트를 합치고 중복 기록을 제거한다")
+    void compactMergesClosedBuckets() {
+        // given
+        try (ObservationLog log = open(4)) {
+            for (int hour = 0; hour < 24; hour++) {
+                log.append(record(SEOUL, DAY_START + hour * HOUR, hour));
+                log.append(record(SEOUL, DAY_START + hour * HOUR, hour + 100));
+            }
+            log.append(record(SEOUL, DAY_START + 24 * HOUR, 24));
+
+            // when
+            int segments = log.compact(DAY_START + 25 * HOUR);
+
+            // then
+            assertThat(segments).isEqualTo(2);
+            List<ObservationRecord> records = log.scan(SEOUL, DAY_START, DAY_START + 24 * HOUR);
+            assertThat(records).hasSize(25);
+            assertThat(records.get(0).values()[0]).isEqualTo(100f);
+        }
+    }
+
+    @Test
+    @DisplayName("압축은 보관 기간이 지난 세그먼트를 삭제한다")
+    void compactDropsExpiredSegments() {
+        // given
+        try (ObservationLog log = open(100)) {
+            log.append(record(SEOUL, DAY_START, 1));
+            log.append(record(SEOUL, DAY_START + 10 * 24 * HOUR, 2));
+
+            // when
+            log.compact(DAY_START + 10 * 24 * HOUR);
+
+            // then
+            assertThat(log.segmentCount()).isEqualTo(1);
+            assertThat(log.scan(SEOUL, DAY_START, DAY_START + 11 * 24 * HOUR))
+                    .extracting(ObservationRecord::epochSecond)
+                    .containsExactly(DAY_START + 10 * 24 * HOUR);
+        }
+    }
+}
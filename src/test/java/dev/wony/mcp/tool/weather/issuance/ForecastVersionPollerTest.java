@@ -0,0 +1,94 @@
+package dev.wony.mcp.tool.weather.issuance;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.cache.NegativeResultCache;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.popularity.HotGridPrefetcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ForecastVersionPoller 테스트")
+class ForecastVersionPollerTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 10, 19, 0, 0);
+    private static final Instant CHECKED_AT = Instant.parse("2025-10-19T05:05:00Z");
+
+    private WeatherService weatherService;
+    private HotGridPrefetcher prefetcher;
+    private NegativeResultCache negativeResults;
+    private IssuanceTracker tracker;
+    private ForecastVersionPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        weatherService = mock(WeatherService.class);
+        prefetcher = mock(HotGridPrefetcher.class);
+        negativeResults = new NegativeResultCache();
+        tracker = new IssuanceTracker();
+        poller = new ForecastVersionPoller(weatherService, tracker, prefetcher, negativeResults, true);
+    }
+
+    @Test
+    @DisplayName("다음 발표 일정 전에는 예보버전을 조회하지 않는다")
+    void skipsBetweenIssuances() {
+        // given - 14:05에 14시 발표까지 확인됨
+        LocalDateTime now = DAY.withHour(14).withMinute(5);
+        for (ForecastType type : ForecastType.values()) {
+            tracker.recordPublished(type, DAY.withHour(14), CHECKED_AT);
+        }
+
+        // when
+        poller.poll(now, CHECKED_AT);
+
+        // then
+        verify(weatherService, never()).isPublished(any(), any());
+    }
+
+    @Test
+    @DisplayName("처음 확인할 때 아직 발표 전이면 직전 발표를 최신으로 기록한다")
+    void assumesPreviousIssuanceOnFirstCheck() {
+        // given
+        LocalDateTime now = DAY.withHour(14).withMinute(5);
+        when(weatherService.isPublished(any(), any())).thenReturn(false);
+
+        // when
+        poller.poll(now, CHECKED_AT);
+
+        // then
+        assertThat(tracker.published(ForecastType.VILAGE_FCST)).isEqualTo(DAY.withHour(11));
+        assertThat(tracker.published(ForecastType.ULTRA_SRT_NCST)).isEqualTo(DAY.withHour(13));
+    }
+
+    @Test
+    @DisplayName("새 발표가 확인되면 발표시각을 갱신하고 인기 격자를 미리 조회한다")
+    void prefetchesOnNewIssuance() {
+        // given - 11시 발표까지 확인됨
+        LocalDateTime now = DAY.withHour(14).withMinute(5);
+        tracker.recordPublished(ForecastType.VILAGE_FCST, DAY.withHour(11), CHECKED_AT);
+        when(weatherService.isPublished(eq(ForecastType.VILAGE_FCST), eq(DAY.withHour(14)))).thenReturn(true);
+        // 발표 전에 조회되어 기억된 데이터 없음 응답
+        negativeResults.put(ForecastType.VILAGE_FCST, new GridCoordinate(60, 127), DAY.withHour(14), "데이터 없음");
+
+        // when
+        poller.poll(now, CHECKED_AT);
+
+        // then
+        assertThat(tracker.published(ForecastType.VILAGE_FCST)).isEqualTo(DAY.withHour(14));
+        verify(prefetcher).prefetch(ForecastType.VILAGE_FCST, DAY.withHour(14));
+        verify(prefetcher, never()).prefetch(ForecastType.ULTRA_SRT_NCST, DAY.withHour(13));
+        assertThat(negativeResults.size()).isZero();
+    }
+}
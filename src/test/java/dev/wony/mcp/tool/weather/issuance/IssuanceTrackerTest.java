@@ -0,0 +1,73 @@
+package dev.wony.mcp.tool.weather.issuance;
+
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IssuanceTracker 테스트")
+class IssuanceTrackerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 14, 0);
+    private static final Instant NOW = Instant.parse("2025-10-19T05:05:00Z");
+
+    private final IssuanceTracker tracker = new IssuanceTracker(Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("확인된 발표가 없으면 시계 추정값을 사용한다")
+    void usesEstimateWithoutConfirmation() {
+        // when
+        LocalDateTime result = tracker.resolve(ForecastType.VILAGE_FCST, BASE.minusHours(3), NOW);
+
+        // then
+        assertThat(result).isEqualTo(BASE.minusHours(3));
+    }
+
+    @Test
+    @DisplayName("최근에 확인된 발표시각이 추정값보다 우선한다")
+    void prefersConfirmedIssuance() {
+        // given - 14시 발표가 제공 지연(10분) 전에 확인됨
+        tracker.recordPublished(ForecastType.VILAGE_FCST, BASE, NOW);
+
+        // when
+        LocalDateTime result = tracker.resolve(ForecastType.VILAGE_FCST, BASE.minusHours(3), NOW.plusSeconds(60));
+
+        // then
+        assertThat(result).isEqualTo(BASE);
+    }
+
+    @Test
+    @DisplayName("확인이 오래되면 추정값으로 돌아간다")
+    void fallsBackWhenStale() {
+        // given
+        tracker.recordPublished(ForecastType.VILAGE_FCST, BASE.minusHours(3), NOW);
+
+        // when
+        LocalDateTime result = tracker.resolve(ForecastType.VILAGE_FCST, BASE, NOW.plus(Duration.ofMinutes(6)));
+
+        // then
+        assertThat(result).isEqualTo(BASE);
+    }
+
+    @Test
+    @DisplayName("새 발표 없음 확인은 확인 시각만 갱신하고, 이전 발표는 최신 발표를 바꾸지 않는다")
+    void keepsLatestIssuance() {
+        // given
+        tracker.recordPublished(ForecastType.VILAGE_FCST, BASE, NOW);
+
+        // when
+        boolean newer = tracker.recordPublished(ForecastType.VILAGE_FCST, BASE.minusHours(3), NOW);
+        tracker.recordChecked(ForecastType.VILAGE_FCST, NOW.plus(Duration.ofMinutes(4)));
+
+        // then
+        assertThat(newer).isFalse();
+        assertThat(tracker.published(ForecastType.VILAGE_FCST)).isEqualTo(BASE);
+        assertThat(tracker.resolve(ForecastType.VILAGE_FCST, BASE.plusHours(3), NOW.plus(Duration.ofMinutes(8))))
+                .isEqualTo(BASE);
+    }
+}
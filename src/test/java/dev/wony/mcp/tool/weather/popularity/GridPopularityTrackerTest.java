@@ -0,0 +1,95 @@
+package dev.wony.mcp.tool.weather.popularity;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GridPopularityTracker 테스트")
+class GridPopularityTrackerTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final GridCoordinate BUSAN = new GridCoordinate(98, 76);
+    private static final GridCoordinate JEJU = new GridCoordinate(52, 38);
+
+    private static void record(GridPopularityTracker tracker, ForecastType type, GridCoordinate grid, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(type, grid);
+        }
+    }
+
+    @Test
+    @DisplayName("조회 종류별로 많이 요청된 격자 순서로 반환한다")
+    void hotGridsByFrequency() {
+        // given
+        GridPopularityTracker tracker = new GridPopularityTracker();
+        record(tracker, ForecastType.VILAGE_FCST, BUSAN, 3);
+        record(tracker, ForecastType.VILAGE_FCST, SEOUL, 10);
+        record(tracker, ForecastType.ULTRA_SRT_NCST, JEJU, 20);
+
+        // when & then
+        assertThat(tracker.hotGrids(ForecastType.VILAGE_FCST, 10)).containsExactly(SEOUL, BUSAN);
+        assertThat(tracker.hotGrids(ForecastType.VILAGE_FCST, 1)).containsExactly(SEOUL);
+        assertThat(tracker.hotGrids(ForecastType.VILAGE_FCST, 10, 5)).containsExactly(SEOUL);
+        assertThat(tracker.hotGrids(ForecastType.ULTRA_SRT_NCST, 10)).containsExactly(JEJU);
+        assertThat(tracker.hotSet()).extracting(GridPopularityTracker.HotGrid::count).containsExactly(20, 10, 3);
+    }
+
+    @Test
+    @DisplayName("후보 수를 넘으면 가장 적게 요청된 격자를 더 많이 요청된 격자로 교체한다")
+    void boundedTopK() {
+        // given
+        GridPopularityTracker tracker = new GridPopularityTracker(2);
+        record(tracker, ForecastType.VILAGE_FCST, SEOUL, 5);
+        record(tracker, ForecastType.VILAGE_FCST, BUSAN, 2);
+
+        // when - 한 번 요청된 격자는 후보에 들어가지 못하고, 더 많이 요청되면 교체
+        tracker.record(ForecastType.VILAGE_FCST, JEJU);
+        assertThat(tracker.hotGrids(ForecastType.VILAGE_FCST, 10)).containsExactly(SEOUL, BUSAN);
+        record(tracker, ForecastType.VILAGE_FCST, JEJU, 2);
+
+        // then
+        assertThat(tracker.hotSet()).hasSize(2);
+        assertThat(tracker.hotGrids(ForecastType.VILAGE_FCST, 10)).containsExactly(SEOUL, JEJU);
+    }
+
+    @Test
+    @DisplayName("감쇠하면 빈도가 절반으로 줄고 빈도가 0인 후보는 제거된다")
+    void decay() {
+        // given
+        GridPopularityTracker tracker = new GridPopularityTracker();
+        record(tracker, ForecastType.VILAGE_FCST, SEOUL, 8);
+        tracker.record(ForecastType.VILAGE_FCST, BUSAN);
+
+        // when
+        tracker.decay();
+
+        // then
+        assertThat(tracker.estimate(ForecastType.VILAGE_FCST, SEOUL)).isEqualTo(4);
+        assertThat(tracker.hotGrids(ForecastType.VILAGE_FCST, 10)).containsExactly(SEOUL);
+    }
+
+    @Test
+    @DisplayName("범위 밖 격자 좌표도 그대로 복원한다")
+    void restoresNegativeCoordinates() {
+        // given
+        GridPopularityTracker tracker = new GridPopularityTracker();
+        GridCoordinate outside = new GridCoordinate(-3, 300);
+
+        // when
+        tracker.record(ForecastType.ULTRA_SRT_FCST, outside);
+
+        // then
+        assertThat(tracker.hotGrids(ForecastType.ULTRA_SRT_FCST, 1)).containsExactly(outside);
+    }
+
+    @Test
+    @DisplayName("후보 수가 0 이하이면 예외가 발생한다")
+    void rejectsInvalidTopK() {
+        assertThatThrownBy(() -> new GridPopularityTracker(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package dev.wony.mcp.tool.weather.popularity;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.client.ForecastResult;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("HotGridPrefetcher 테스트")
+class HotGridPrefetcherTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 14, 0);
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final GridCoordinate BUSAN = new GridCoordinate(98, 76);
+    private static final GridCoordinate JEJU = new GridCoordinate(52, 38);
+
+    private WeatherService weatherService;
+    private ForecastCache cache;
+    private GridPopularityTracker popularity;
+    private HotGridPrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        weatherService = mock(WeatherService.class);
+        when(weatherService.refresh(any(), any(), any())).thenReturn(ForecastResult.failure("테스트"));
+        cache = new ForecastCache();
+        popularity = new GridPopularityTracker();
+        prefetcher = new HotGridPrefetcher(weatherService, cache, popularity, true, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.close();
+    }
+
+    private static Forecast forecast(GridCoordinate grid, LocalDateTime base) {
+        long epoch = Forecast.toEpochSecond(base);
+        return Forecast.builder(ForecastType.VILAGE_FCST, grid, epoch, epoch, 1).build();
+    }
+
+    @Test
+    @DisplayName("상위 격자 중 새 발표가 아직 캐시되지 않은 격자만 미리 조회한다")
+    void refreshesHotGridsOnly() {
+        // given - 서울, 부산이 상위 2개, 서울은 이미 새 발표가 캐시됨
+        for (int i = 0; i < 5; i++) {
+            popularity.record(ForecastType.VILAGE_FCST, SEOUL);
+            popularity.record(ForecastType.VILAGE_FCST, BUSAN);
+        }
+        popularity.record(ForecastType.VILAGE_FCST, JEJU);
+        cache.put(forecast(SEOUL, BASE));
+        cache.put(forecast(BUSAN, BASE.minusHours(3)));
+
+        // when
+        prefetcher.refreshHotGrids(ForecastType.VILAGE_FCST, BASE);
+
+        // then
+        verify(weatherService).refresh(ForecastType.VILAGE_FCST, BUSAN, BASE);
+        verify(weatherService, never()).refresh(eq(ForecastType.VILAGE_FCST), eq(SEOUL), any());
+        verify(weatherService, never()).refresh(eq(ForecastType.VILAGE_FCST), eq(JEJU), any());
+    }
+
+    @Test
+    @DisplayName("최소 요청 수보다 적게 요청된 격자는 미리 조회하지 않는다")
+    void skipsGridsBelowMinHits() {
+        // given - 서울은 두 번, 부산은 한 번 요청되었고 둘 다 이전 발표만 캐시됨
+        popularity.record(ForecastType.VILAGE_FCST, SEOUL);
+        popularity.record(ForecastType.VILAGE_FCST, SEOUL);
+        popularity.record(ForecastType.VILAGE_FCST, BUSAN);
+        cache.put(forecast(SEOUL, BASE.minusHours(3)));
+        cache.put(forecast(BUSAN, BASE.minusHours(3)));
+
+        // when
+        prefetcher.refreshHotGrids(ForecastType.VILAGE_FCST, BASE);
+
+        // then
+        verify(weatherService).refresh(ForecastType.VILAGE_FCST, SEOUL, BASE);
+        verify(weatherService, never()).refresh(eq(ForecastType.VILAGE_FCST), eq(BUSAN), any());
+    }
+
+    @Test
+    @DisplayName("같은 발표시각에 대해서는 한 번만 미리 조회한다")
+    void prefetchesOncePerIssuance() {
+        // when & then
+        assertThat(prefetcher.prefetch(ForecastType.VILAGE_FCST, BASE)).isTrue();
+        assertThat(prefetcher.prefetch(ForecastType.VILAGE_FCST, BASE)).isFalse();
+        assertThat(prefetcher.prefetch(ForecastType.VILAGE_FCST, BASE.minusHours(3))).isFalse();
+        assertThat(prefetcher.prefetch(ForecastType.ULTRA_SRT_NCST, BASE)).isTrue();
+        assertThat(prefetcher.prefetch(ForecastType.VILAGE_FCST, BASE.plusHours(3))).isTrue();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 미리 조회하지 않는다")
+    void disabled() {
+        // given
+        HotGridPrefetcher disabled = new HotGridPrefetcher(weatherService, cache, popularity, false, 2);
+
+        // when & then
+        assertThat(disabled.prefetch(ForecastType.VILAGE_FCST, BASE)).isFalse();
+    }
+}
@@ -0,0 +1,168 @@
+package dev.wony.mcp.tool.weather.ranking;
+
+import dev.wony.mcp.tool.weather.dto.City;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CurrentConditionIndex 테스트")
+class CurrentConditionIndexTest {
+
+    private static final long BASE = Forecast.toEpochSecond(LocalDateTime.of(2025, 10, 19, 14, 0));
+
+    private static Forecast observation(GridCoordinate grid, long base, String temperature, String wind) {
+        Forecast.Builder builder = Forecast.builder(ForecastType.ULTRA_SRT_NCST, grid, base, base, 1)
+                .put(0, WeatherCategory.T1H, temperature);
+        if (wind != null) {
+            builder.put(0, WeatherCategory.WSD, wind);
+        }
+        return builder.build();
+    }
+
+    private static RankingQuery query(WeatherCategory category, boolean descending, int limit) {
+        return new RankingQuery(category, descending, limit, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY,
+                false, 0);
+    }
+
+    @Test
+    @DisplayName("요소 값 순서로 상위 K개를 반환한다")
+    void returnsTopK() {
+        // given
+        CurrentConditionIndex index = new CurrentConditionIndex();
+        index.update(observation(City.SEOUL.getGrid(), BASE, "12.5", "2.1"));
+        index.update(observation(City.BUSAN.getGrid(), BASE, "16", "7.4"));
+        index.update(observation(City.JEJU.getGrid(), BASE, "18.2", "5"));
+        index.update(observation(City.DAEGU.getGrid(), BASE, "14", "1"));
+
+        // when
+        RankingResult warmest = index.top(query(WeatherCategory.T1H, true, 2));
+        RankingResult calmest = index.top(query(WeatherCategory.WSD, false, 1));
+
+        // then
+        assertThat(warmest.regions()).extracting(RankedRegion::city).containsExactly(City.JEJU, City.BUSAN);
+        assertThat(warmest.regions()).extracting(RankedRegion::value).containsExactly(18.2f, 16f);
+        assertThat(warmest.matched()).isEqualTo(4);
+        assertThat(calmest.regions()).extracting(RankedRegion::city).containsExactly(City.DAEGU);
+    }
+
+    @Test
+    @DisplayName("값 범위, 주요 도시, 관측 시각 조건으로 거른다")
+    void filters() {
+        // given
+        CurrentConditionIndex index = new CurrentConditionIndex();
+        index.update(observation(City.SEOUL.getGrid(), BASE, "12", null));
+        index.update(observation(City.JEJU.getGrid(), BASE - 5 * Forecast.HOUR_SECONDS, "20", null));
+        index.update(observation(new GridCoordinate(1, 1), BASE, "25", null));
+
+        // when
+        RankingResult ranged = index.top(new RankingQuery(WeatherCategory.T1H, true, 5, 13, 22, false, 0));
+        RankingResult cities = index.top(new RankingQuery(WeatherCategory.T1H, true, 5,
+                Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, true, 0));
+        RankingResult recent = index.top(new RankingQuery(WeatherCategory.T1H, true, 5,
+                Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, false, BASE - Forecast.HOUR_SECONDS));
+
+        // then
+        assertThat(ranged.regions()).extracting(RankedRegion::city).containsExactly(City.JEJU);
+        assertThat(cities.regions()).extracting(RankedRegion::city).containsExactly(City.JEJU, City.SEOUL);
+        assertThat(recent.regions()).extracting(RankedRegion::name).containsExactly("격자 (1, 1)", "서울");
+    }
+
+    @Test
+    @DisplayName("값이 없는 지역과 기록되지 않은 요소는 제외한다")
+    void skipsMissingValues() {
+        // given
+        CurrentConditionIndex index = new CurrentConditionIndex();
+        index.update(observation(City.SEOUL.getGrid(), BASE, "12", "3"));
+        index.update(observation(City.BUSAN.getGrid(), BASE, "16", null));
+
+        // when
+        RankingResult wind = index.top(query(WeatherCategory.WSD, true, 5));
+        RankingResult humidity = index.top(query(WeatherCategory.REH, true, 5));
+
+        // then
+        assertThat(wind.regions()).extracting(RankedRegion::city).containsExactly(City.SEOUL);
+        assertThat(humidity.regions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 격자는 최신 관측으로 덮어쓰고 이전 관측은 무시한다")
+    void keepsLatestObservation() {
+        // given
+        CurrentConditionIndex index = new CurrentConditionIndex();
+        index.update(observation(City.SEOUL.getGrid(), BASE, "12", "3"));
+        index.update(observation(City.SEOUL.getGrid(), BASE + Forecast.HOUR_SECONDS, "13", null));
+        index.update(observation(City.SEOUL.getGrid(), BASE - Forecast.HOUR_SECONDS, "9", "9"));
+
+        // when
+        RankingResult temperature = index.top(query(WeatherCategory.T1H, true, 5));
+        RankingResult wind = index.top(query(WeatherCategory.WSD, true, 5));
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(temperature.regions()).extracting(RankedRegion::value).containsExactly(13f);
+        assertThat(wind.regions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래된 관측의 슬롯을 재사용한다")
+    void evictsOldestObservation() {
+        // given
+        CurrentConditionIndex index = new CurrentConditionIndex(2);
+        index.update(observation(City.SEOUL.getGrid(), BASE, "12", null));
+        index.update(observation(City.BUSAN.getGrid(), BASE - Forecast.HOUR_SECONDS, "16", null));
+
+        // when
+        index.update(observation(City.JEJU.getGrid(), BASE, "18", null));
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.top(query(WeatherCategory.T1H, true, 5)).regions())
+                .extracting(RankedRegion::city).containsExactly(City.JEJU, City.SEOUL);
+    }
+
+    @Test
+    @DisplayName("많은 지역에서도 전체 정렬과 같은 상위 K개를 반환한다")
+    void matchesFullSort() {
+        // given
+        CurrentConditionIndex index = new CurrentConditionIndex();
+        Random random = new Random(7);
+        List<Float> values = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            float value = Math.round(random.nextGaussian() * 100) / 10f;
+            values.add(value);
+            index.update(observation(new GridCoordinate(i % 149, i / 149), BASE, String.valueOf(value), null));
+        }
+
+        // when
+        RankingResult highest = index.top(query(WeatherCategory.T1H, true, 20));
+        RankingResult lowest = index.top(query(WeatherCategory.T1H, false, 20));
+
+        // then
+        assertThat(highest.regions()).extracting(RankedRegion::value)
+                .containsExactlyElementsOf(values.stream().sorted(Comparator.reverseOrder()).limit(20).toList());
+        assertThat(lowest.regions()).extracting(RankedRegion::value)
+                .containsExactlyElementsOf(values.stream().sorted().limit(20).toList());
+    }
+
+    @Test
+    @DisplayName("조회 개수가 0 이하이거나 하한이 상한보다 크면 예외가 발생한다")
+    void rejectsInvalidQuery() {
+        // when & then
+        assertThatThrownBy(() -> query(WeatherCategory.T1H, true, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RankingQuery(WeatherCategory.T1H, true, 5, 10, 5, false, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,163 @@
+package dev.wony.mcp.tool.weather.resource;
+
+import dev.wony.mcp.tool.weather.WeatherService;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.dto.City;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncResourceSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceSpecification;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WeatherResourcePublisher 테스트")
+class WeatherResourcePublisherTest {
+
+    private static final GridCoordinate SEOUL = City.SEOUL.getGrid();
+    private static final GridCoordinate OTHER = new GridCoordinate(10, 10);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    private ForecastCache cache;
+    private McpSyncServer server;
+    private WeatherResourcePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ForecastCache();
+        server = mock(McpSyncServer.class);
+        publisher = new WeatherResourcePublisher(cache, new WeatherService("test-key", cache),
+                provider(server), provider(null), true, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T bean) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bean);
+        return provider;
+    }
+
+    private static Forecast forecast(ForecastType type, GridCoordinate grid, LocalDateTime base) {
+        long epoch = Forecast.toEpochSecond(base);
+        return Forecast.builder(type, grid, epoch, epoch, 1).build();
+    }
+
+    @Test
+    @DisplayName("리소스 URI는 격자와 조회 종류, 도시 식별자로 구성된다")
+    void resourceUri() {
+        // when & then
+        assertThat(WeatherResourcePublisher.gridUri(ForecastType.VILAGE_FCST, SEOUL))
+                .isEqualTo("weather://grid/60/127/vilage");
+        assertThat(WeatherResourcePublisher.gridUri(ForecastType.ULTRA_SRT_NCST, SEOUL))
+                .isEqualTo("weather://grid/60/127/ncst");
+        assertThat(WeatherResourcePublisher.cityUri(City.SEOUL)).isEqualTo("weather://city/seoul");
+    }
+
+    @Test
+    @DisplayName("격자의 첫 예보는 리소스를 등록하고, 새 발표는 갱신 알림을 보낸다")
+    void registerThenNotify() {
+        // when
+        cache.put(forecast(ForecastType.VILAGE_FCST, OTHER, BASE));
+        cache.put(forecast(ForecastType.VILAGE_FCST, OTHER, BASE.plusHours(3)));
+
+        // then
+        verify(server, timeout(TIMEOUT_MILLIS).times(1)).notifyResourcesUpdated(
+                new McpSchema.ResourcesUpdatedNotification("weather://grid/10/10/vilage"));
+        verify(server, times(1)).addResource(any(SyncResourceSpecification.class));
+    }
+
+    @Test
+    @DisplayName("주요 도시의 초단기실황이 들어오면 도시 리소스 갱신 알림도 보낸다")
+    void notifyCityResource() {
+        // when
+        cache.put(forecast(ForecastType.ULTRA_SRT_NCST, SEOUL, BASE));
+
+        // then
+        verify(server, timeout(TIMEOUT_MILLIS))
+                .notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification("weather://city/seoul"));
+    }
+
+    @Test
+    @DisplayName("등록된 격자 리소스가 최대치를 넘으면 가장 먼저 등록된 리소스를 제거한다")
+    void evictOldestGridResource() {
+        // when
+        cache.put(forecast(ForecastType.VILAGE_FCST, OTHER, BASE));
+        cache.put(forecast(ForecastType.ULTRA_SRT_FCST, OTHER, BASE));
+        verify(server, never()).removeResource(any());
+        cache.put(forecast(ForecastType.VILAGE_FCST, SEOUL, BASE));
+
+        // then
+        verify(server, timeout(TIMEOUT_MILLIS)).removeResource("weather://grid/10/10/vilage");
+    }
+
+    @Test
+    @DisplayName("알림 전송이 늦어도 캐시에 예보를 넣는 스레드는 기다리지 않는다")
+    void notifiesOffCallerThread() throws InterruptedException {
+        // given - 세션이 많아 알림 전송이 오래 걸리는 서버
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS))
+                .when(server).addResource(any(SyncResourceSpecification.class));
+
+        // when
+        long start = System.nanoTime();
+        cache.put(forecast(ForecastType.VILAGE_FCST, OTHER, BASE));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // then
+        assertThat(elapsedMillis).isLessThan(TIMEOUT_MILLIS / 2);
+        verify(server, timeout(TIMEOUT_MILLIS)).addResource(any(SyncResourceSpecification.class));
+    }
+
+    @Test
+    @DisplayName("비동기 서버에도 격자 리소스를 등록하고 갱신 알림을 보낸다")
+    void publishesToAsyncServer() {
+        // given
+        McpAsyncServer asyncServer = mock(McpAsyncServer.class);
+        when(asyncServer.addResource(any())).thenReturn(Mono.empty());
+        when(asyncServer.notifyResourcesUpdated(any())).thenReturn(Mono.empty());
+        publisher.close();
+        publisher = new WeatherResourcePublisher(cache, new WeatherService("test-key", cache),
+                provider(null), provider(asyncServer), true, 2);
+
+        // when
+        cache.put(forecast(ForecastType.ULTRA_SRT_NCST, SEOUL, BASE));
+        cache.put(forecast(ForecastType.ULTRA_SRT_NCST, SEOUL, BASE.plusHours(1)));
+
+        // then
+        verify(asyncServer, timeout(TIMEOUT_MILLIS).times(1)).notifyResourcesUpdated(
+                new McpSchema.ResourcesUpdatedNotification("weather://grid/60/127/ncst"));
+        verify(asyncServer, timeout(TIMEOUT_MILLIS).times(2)).notifyResourcesUpdated(
+                new McpSchema.ResourcesUpdatedNotification("weather://city/seoul"));
+        verify(asyncServer).addResource(any(AsyncResourceSpecification.class));
+        assertThat(publisher.asyncCityResources()).hasSize(City.values().length);
+    }
+}
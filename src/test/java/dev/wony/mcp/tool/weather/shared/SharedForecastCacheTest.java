@@ -0,0 +1,150 @@
+package dev.wony.mcp.tool.weather.shared;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SharedForecastCache 테스트")
+class SharedForecastCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * 같은 파일을 여는 인스턴스는 서로 다른 프로세스처럼 동작함
+     */
+    private SharedForecastCache open(Duration maxWait) {
+        return new SharedForecastCache(true, directory.resolve("shared.dat").toString(), 64,
+                DataSize.ofKilobytes(16), maxWait);
+    }
+
+    private static Forecast forecast(GridCoordinate grid, LocalDateTime base) {
+        long baseEpochSecond = Forecast.toEpochSecond(base);
+        return Forecast.builder(ForecastType.VILAGE_FCST, grid, baseEpochSecond, baseEpochSecond + 3600, 3)
+                .put(0, WeatherCategory.TMP, "12")
+                .put(1, WeatherCategory.TMP, "13")
+                .put(2, WeatherCategory.TMP, "14")
+                .put(0, WeatherCategory.SKY, "1")
+                .put(2, WeatherCategory.PCP, "강수없음")
+                .build();
+    }
+
+    @Test
+    @DisplayName("다른 프로세스가 공유한 예보를 API 조회 없이 사용한다")
+    void sharedAcrossInstances() {
+        // given
+        SharedForecastCache first = open(Duration.ofSeconds(1));
+        SharedForecastCache second = open(Duration.ofSeconds(1));
+        Forecast original = forecast(SEOUL, BASE);
+
+        // when
+        SharedForecastCache.Claim owner = first.claim(ForecastType.VILAGE_FCST, SEOUL, BASE);
+        first.publish(original);
+        first.release(ForecastType.VILAGE_FCST, SEOUL, BASE);
+        SharedForecastCache.Claim shared = second.claim(ForecastType.VILAGE_FCST, SEOUL, BASE);
+
+        // then
+        assertThat(owner.owner()).isTrue();
+        assertThat(shared.owner()).isFalse();
+        assertThat(shared.forecast()).isNotNull();
+        assertThat(shared.forecast().categories()).containsExactlyElementsOf(original.categories());
+        assertThat(shared.forecast().rawValue(2, WeatherCategory.PCP)).isEqualTo("강수없음");
+        assertThat(shared.forecast().rawValue(1, WeatherCategory.SKY)).isNull();
+        assertThat(shared.forecast().epochSecondAt(0)).isEqualTo(original.epochSecondAt(0));
+        assertThat(second.hitCount()).isEqualTo(1);
+        assertThat(first.publishCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 프로세스가 조회 중이면 공유될 때까지 기다린다")
+    void waitsForOwner() throws InterruptedException {
+        // given
+        SharedForecastCache first = open(Duration.ofSeconds(2));
+        SharedForecastCache second = open(Duration.ofSeconds(2));
+        assertThat(first.tryClaim(ForecastType.VILAGE_FCST, SEOUL, BASE).owner()).isTrue();
+
+        // when
+        Thread publisher = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            first.publish(forecast(SEOUL, BASE));
+            first.release(ForecastType.VILAGE_FCST, SEOUL, BASE);
+        });
+        publisher.start();
+        SharedForecastCache.Claim busy = second.tryClaim(ForecastType.VILAGE_FCST, SEOUL, BASE);
+        SharedForecastCache.Claim claim = second.claim(ForecastType.VILAGE_FCST, SEOUL, BASE);
+        publisher.join();
+
+        // then
+        assertThat(busy.isBusy()).isTrue();
+        assertThat(claim.forecast()).isNotNull();
+        assertThat(second.waitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기다려도 공유되지 않으면 권한 없이 직접 조회하도록 반환한다")
+    void waitTimesOut() {
+        // given
+        SharedForecastCache first = open(Duration.ofSeconds(5));
+        SharedForecastCache second = open(Duration.ofMillis(100));
+        first.tryClaim(ForecastType.VILAGE_FCST, SEOUL, BASE);
+
+        // when
+        SharedForecastCache.Claim claim = second.claim(ForecastType.VILAGE_FCST, SEOUL, BASE);
+
+        // then
+        assertThat(claim.isBusy()).isTrue();
+        assertThat(claim.owner()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 격자의 새 발표는 이전 발표를 덮어쓰고, 다른 발표시각으로는 조회되지 않는다")
+    void newerIssuanceReplacesOlder() {
+        // given
+        SharedForecastCache first = open(Duration.ofSeconds(1));
+        SharedForecastCache second = open(Duration.ofSeconds(1));
+        LocalDateTime next = BASE.plusHours(3);
+
+        // when
+        first.publish(forecast(SEOUL, BASE));
+        first.publish(forecast(SEOUL, next));
+
+        // then
+        assertThat(second.tryClaim(ForecastType.VILAGE_FCST, SEOUL, next).forecast()).isNotNull();
+        assertThat(second.tryClaim(ForecastType.VILAGE_FCST, SEOUL, BASE).owner()).isTrue();
+        assertThat(second.tryClaim(ForecastType.ULTRA_SRT_FCST, SEOUL, next).owner()).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용하지 않으면 항상 직접 조회한다")
+    void disabled() {
+        // given
+        SharedForecastCache cache = new SharedForecastCache();
+
+        // when
+        cache.publish(forecast(SEOUL, BASE));
+        SharedForecastCache.Claim claim = cache.claim(ForecastType.VILAGE_FCST, SEOUL, BASE);
+
+        // then
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(claim.owner()).isTrue();
+        assertThat(claim.forecast()).isNull();
+    }
+}
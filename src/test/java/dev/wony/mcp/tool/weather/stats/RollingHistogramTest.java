@@ -0,0 +1,83 @@
+package dev.wony.mcp.tool.weather.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RollingHistogram 테스트")
+class RollingHistogramTest {
+
+    private static final long NOW = 1_760_850_000_000L;
+
+    @Test
+    @DisplayName("구간 상한은 기록한 값 이상이고 25% 이내로 크다")
+    void bucketBounds() {
+        for (long micros : new long[]{0, 1, 3, 4, 7, 8, 100, 999, 12_345, 1_000_000, 60_000_000}) {
+            long upper = RollingHistogram.upperBound(RollingHistogram.bucket(micros));
+            assertThat(upper).isGreaterThanOrEqualTo(micros);
+            assertThat(upper).isLessThanOrEqualTo(Math.max(3, micros + micros / 4));
+        }
+    }
+
+    @Test
+    @DisplayName("백분위 지연 시간을 구간 상한으로 추정한다")
+    void percentiles() {
+        // given - 90회 10ms, 10회 500ms
+        RollingHistogram histogram = new RollingHistogram(60_000, 6);
+        for (int i = 0; i < 90; i++) {
+            histogram.record(10_000, NOW);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(500_000, NOW);
+        }
+
+        // when
+        RollingHistogram.Snapshot snapshot = histogram.snapshot(NOW);
+
+        // then
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.meanMicros()).isEqualTo(59_000);
+        assertThat(snapshot.percentile(0.50)).isBetween(10_000L, 12_500L);
+        assertThat(snapshot.percentile(0.95)).isBetween(500_000L, 625_000L);
+    }
+
+    @Test
+    @DisplayName("집계 기간이 지난 기록은 제외한다")
+    void dropsExpiredSlots() {
+        // given
+        RollingHistogram histogram = new RollingHistogram(60_000, 6);
+        histogram.record(10_000, NOW);
+        histogram.record(20_000, NOW + 30_000);
+
+        // when & then
+        assertThat(histogram.snapshot(NOW + 30_000).count()).isEqualTo(2);
+        assertThat(histogram.snapshot(NOW + 65_000).count()).isEqualTo(1);
+        assertThat(histogram.snapshot(NOW + 100_000).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("슬롯을 다시 사용할 때 이전 주기의 기록을 지운다")
+    void reusesSlots() {
+        // given
+        RollingHistogram histogram = new RollingHistogram(60_000, 6);
+        histogram.record(10_000, NOW);
+
+        // when - 같은 슬롯의 다음 주기
+        histogram.record(20_000, NOW + 60_000);
+
+        // then
+        RollingHistogram.Snapshot snapshot = histogram.snapshot(NOW + 60_000);
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.meanMicros()).isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 백분위는 0이다")
+    void empty() {
+        RollingHistogram.Snapshot snapshot = new RollingHistogram(60_000, 6).snapshot(NOW);
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.percentile(0.99)).isZero();
+    }
+}
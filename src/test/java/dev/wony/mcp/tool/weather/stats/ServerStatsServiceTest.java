@@ -0,0 +1,69 @@
+package dev.wony.mcp.tool.weather.stats;
+
+import dev.wony.mcp.tool.weather.bulkhead.ToolBulkheads;
+import dev.wony.mcp.tool.weather.cache.ForecastCache;
+import dev.wony.mcp.tool.weather.cache.NegativeResultCache;
+import dev.wony.mcp.tool.weather.cache.RenderedResponseCache;
+import dev.wony.mcp.tool.weather.client.RequestHedger;
+import dev.wony.mcp.tool.weather.client.ServiceKeyPool;
+import dev.wony.mcp.tool.weather.cluster.GridShardRouter;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import dev.wony.mcp.tool.weather.popularity.GridPopularityTracker;
+import dev.wony.mcp.tool.weather.shared.SharedForecastCache;
+import dev.wony.mcp.tool.weather.warmup.JitWarmup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ServerStatsService 테스트")
+class ServerStatsServiceTest {
+
+    @Test
+    @DisplayName("도구 지연 시간, API 결과 코드, 캐시, 서비스 키, JVM 상태를 보여준다")
+    void reportsServerStats() {
+        // given
+        ServerStats stats = new ServerStats();
+        ToolBulkheads bulkheads = new ToolBulkheads(true, List.of("getVilageFcst:4:16"), Duration.ofMillis(500), stats);
+        GridPopularityTracker popularity = new GridPopularityTracker();
+        ServerStatsService service = new ServerStatsService(stats, bulkheads, new ForecastCache(),
+                new NegativeResultCache(), ServiceKeyPool.of("test-key"), RequestHedger.disabled(), popularity,
+                new JitWarmup(false, 0, Duration.ZERO), new RenderedResponseCache(),
+                new SharedForecastCache(), GridShardRouter.standalone());
+
+        bulkheads.run("getVilageFcst", () -> "예보");
+        stats.upstreamFinished("00", stats.upstreamStarted());
+        stats.upstreamFailed(new ResourceAccessException("timeout"), stats.upstreamStarted());
+        popularity.record(ForecastType.VILAGE_FCST, new GridCoordinate(60, 127));
+
+        // when
+        String result = service.getServerStats();
+
+        // then
+        assertThat(result).contains("=== 서버 상태 ===");
+        assertThat(result).contains("getVilageFcst: 누적 1회, 실행 중 0, 최근 1회");
+        assertThat(result).contains("getVilageFcst 한도: 실행 0/4, 대기 0/16");
+        assertThat(result).contains("결과 코드: 00 1회, ResourceAccessException 1회");
+        assertThat(result).contains("헤징: 사용 안 함");
+        assertThat(result).contains("예보: 0/1024개 격자", "적중률 -");
+        assertThat(result).contains("렌더링 결과: 0개, 약 0.0/8.0MB", "프로세스 간 공유: 사용 안 함",
+                "격자 분산: 사용 안 함");
+        assertThat(result).contains("test****: 오늘 0회");
+        assertThat(result).contains("단기예보 (60, 127): 약 1회");
+        assertThat(result).contains("[JVM]", "힙: 사용", "스레드:", "JIT 예열: 사용 안 함");
+    }
+
+    @Test
+    @DisplayName("지연 시간은 크기에 맞는 단위로 표시한다")
+    void formatMicros() {
+        assertThat(ServerStatsService.formatMicros(850)).isEqualTo("850µs");
+        assertThat(ServerStatsService.formatMicros(2_500)).isEqualTo("2.5ms");
+        assertThat(ServerStatsService.formatMicros(180_000)).isEqualTo("180ms");
+        assertThat(ServerStatsService.formatMicros(1_250_000)).isEqualTo("1.25s");
+    }
+}
@@ -0,0 +1,80 @@
+package dev.wony.mcp.tool.weather.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherApiResponse;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JitWarmup 테스트")
+class JitWarmupTest {
+
+    @Test
+    @DisplayName("가상 응답은 실제 응답과 같은 구조로 역직렬화된다")
+    void syntheticPayload() throws Exception {
+        // given
+        String body = SyntheticPayloads.response(ForecastType.VILAGE_FCST, new GridCoordinate(60, 127),
+                LocalDateTime.of(2025, 10, 19, 5, 0), 0);
+
+        // when
+        WeatherApiResponse response = new ObjectMapper().readValue(body, WeatherApiResponse.class);
+
+        // then
+        assertThat(response.response().header().resultCode()).isEqualTo("00");
+        assertThat(response.response().body().items().item())
+                .hasSize(response.response().body().totalCount())
+                .extracting(WeatherApiResponse.Item::category)
+                .contains("TMP", "SKY", "PTY", "PCP", "TMN", "TMX");
+    }
+
+    @Test
+    @DisplayName("한 번 실행하면 모든 도구의 파싱/렌더링 경로를 거친다")
+    void runOnce() throws Exception {
+        // given
+        JitWarmup warmup = new JitWarmup(true, 1, Duration.ofSeconds(10));
+
+        // when & then - 변형 번호마다 강수 여부와 출력 한도가 달라짐
+        for (int variant = 0; variant < 8; variant++) {
+            assertThat(warmup.runOnce(variant)).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("준비 이벤트 후 백그라운드에서 예열을 마친다")
+    void completesInBackground() throws Exception {
+        // given
+        JitWarmup warmup = new JitWarmup(true, 3, Duration.ofSeconds(10));
+        assertThat(warmup.state()).isEqualTo(JitWarmup.State.PENDING);
+
+        // when
+        warmup.start();
+
+        // then
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (warmup.state() != JitWarmup.State.COMPLETED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(warmup.state()).isEqualTo(JitWarmup.State.COMPLETED);
+        assertThat(warmup.completedIterations()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("사용하지 않으면 예열 스레드를 시작하지 않는다")
+    void disabled() {
+        // given
+        JitWarmup warmup = new JitWarmup(false, 200, Duration.ofSeconds(10));
+
+        // when
+        warmup.start();
+
+        // then
+        assertThat(warmup.state()).isEqualTo(JitWarmup.State.DISABLED);
+        assertThat(warmup.completedIterations()).isZero();
+    }
+}
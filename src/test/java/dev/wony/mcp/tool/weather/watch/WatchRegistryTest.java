@@ -0,0 +1,246 @@
+package dev.wony.mcp.tool.weather.watch;
+
+import dev.wony.mcp.tool.weather.dto.GridCoordinate;
+import dev.wony.mcp.tool.weather.dto.WeatherCategory;
+import dev.wony.mcp.tool.weather.forecast.Forecast;
+import dev.wony.mcp.tool.weather.forecast.ForecastType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WatchRegistry 테스트")
+class WatchRegistryTest {
+
+    private static final GridCoordinate SEOUL = new GridCoordinate(60, 127);
+    private static final GridCoordinate BUSAN = new GridCoordinate(98, 76);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 19, 5, 0);
+    private static final LocalDateTime NEXT_BASE = LocalDateTime.of(2025, 10, 19, 8, 0);
+
+    /**
+     * 발표 1시간 뒤부터 시간별 강수확률을 담은 단기예보
+     */
+    private static Forecast forecast(GridCoordinate grid, LocalDateTime base, int... pops) {
+        long baseEpochSecond = Forecast.toEpochSecond(base);
+        Forecast.Builder builder = Forecast.builder(ForecastType.VILAGE_FCST, grid, baseEpochSecond,
+                baseEpochSecond + Forecast.HOUR_SECONDS, pops.length);
+        for (int i = 0; i < pops.length; i++) {
+            builder.put(i, WeatherCategory.POP, String.valueOf(pops[i]));
+            builder.put(i, WeatherCategory.TMP, String.valueOf(10 + i));
+        }
+        return builder.build();
+    }
+
+    private static long now(LocalDateTime base) {
+        return Forecast.toEpochSecond(base.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("감시 구간의 최댓값이 기준값 이상이면 조건을 충족한다")
+    void triggersOnMaximumWithinHorizon() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule rule = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+
+        // when
+        List<WatchStatus> triggered = registry.evaluate(forecast(SEOUL, BASE, 10, 20, 70, 30, 0, 0), now(BASE));
+
+        // then
+        assertThat(triggered).hasSize(1);
+        WatchStatus status = triggered.get(0);
+        assertThat(status.rule()).isEqualTo(rule);
+        assertThat(status.value()).isEqualTo(70);
+        assertThat(status.epochSecond()).isEqualTo(Forecast.toEpochSecond(BASE.plusHours(3)));
+        assertThat(status.triggered()).isTrue();
+        assertThat(status.newlyTriggered()).isTrue();
+    }
+
+    @Test
+    @DisplayName("감시 구간 밖의 값은 판정에 쓰지 않는다")
+    void ignoresValuesBeyondHorizon() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule shortRule = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 2);
+        WatchRule longRule = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 3);
+
+        // when
+        List<WatchStatus> triggered = registry.evaluate(forecast(SEOUL, BASE, 10, 20, 70), now(BASE));
+
+        // then
+        assertThat(triggered).extracting(WatchStatus::rule).containsExactly(longRule);
+        assertThat(registry.status(shortRule.id()).triggered()).isFalse();
+        assertThat(registry.status(shortRule.id()).value()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("감시 구간은 평가 시각부터 시작한다")
+    void horizonStartsAtNow() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule rule = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 2);
+
+        // when - 첫 예보 시각(70%)이 이미 지난 뒤 평가
+        registry.evaluate(forecast(SEOUL, BASE, 70, 20, 30, 90), now(BASE) + Forecast.HOUR_SECONDS);
+
+        // then
+        assertThat(registry.status(rule.id()).triggered()).isFalse();
+        assertThat(registry.status(rule.id()).value()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("이하 조건은 감시 구간의 최솟값으로 판정한다")
+    void lowerOperatorUsesMinimum() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule rule = registry.add("서울", SEOUL, WeatherCategory.TMP, WatchOperator.LT, 11, 24);
+
+        // when - 기온 10, 11, 12
+        List<WatchStatus> triggered = registry.evaluate(forecast(SEOUL, BASE, 0, 0, 0), now(BASE));
+
+        // then
+        assertThat(triggered).extracting(WatchStatus::rule).containsExactly(rule);
+        assertThat(triggered.get(0).value()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("같은 발표는 한 번만 평가한다")
+    void evaluatesOncePerIssuance() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+        Forecast forecast = forecast(SEOUL, BASE, 80);
+        registry.evaluate(forecast, now(BASE));
+
+        // when
+        List<WatchStatus> again = registry.evaluate(forecast, now(BASE));
+
+        // then
+        assertThat(again).isEmpty();
+        assertThat(registry.isEvaluated(SEOUL, Forecast.toEpochSecond(BASE))).isTrue();
+        assertThat(registry.isEvaluated(SEOUL, Forecast.toEpochSecond(NEXT_BASE))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다음 발표에서도 계속 충족하면 새로 충족한 것으로 보지 않는다")
+    void newlyTriggeredOnlyOnTransition() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule rule = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+        registry.evaluate(forecast(SEOUL, BASE, 80), now(BASE));
+
+        // when
+        List<WatchStatus> triggered = registry.evaluate(forecast(SEOUL, NEXT_BASE, 90), now(NEXT_BASE));
+
+        // then
+        assertThat(triggered).isEmpty();
+        assertThat(registry.status(rule.id()).triggered()).isTrue();
+        assertThat(registry.status(rule.id()).newlyTriggered()).isFalse();
+        assertThat(registry.status(rule.id()).value()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("이전 발표의 예보는 평가하지 않는다")
+    void ignoresOlderIssuance() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule rule = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+        registry.evaluate(forecast(SEOUL, NEXT_BASE, 10), now(NEXT_BASE));
+
+        // when
+        List<WatchStatus> triggered = registry.evaluate(forecast(SEOUL, BASE, 80), now(NEXT_BASE));
+
+        // then
+        assertThat(triggered).isEmpty();
+        assertThat(registry.status(rule.id()).triggered()).isFalse();
+    }
+
+    @Test
+    @DisplayName("감시를 추가한 격자는 같은 발표로 다시 평가하며 기존 판정의 새로 충족 여부를 유지한다")
+    void reevaluatesAfterAdd() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule first = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+        Forecast forecast = forecast(SEOUL, BASE, 80);
+        registry.evaluate(forecast, now(BASE));
+
+        // when
+        WatchRule second = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 70, 6);
+        List<WatchStatus> triggered = registry.evaluate(forecast, now(BASE));
+
+        // then
+        assertThat(triggered).extracting(WatchStatus::rule).containsExactly(second);
+        assertThat(registry.status(first.id()).newlyTriggered()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 격자의 감시는 평가하지 않는다")
+    void evaluatesOnlyForecastGrid() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule seoul = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+        WatchRule busan = registry.add("부산", BUSAN, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+
+        // when
+        registry.evaluate(forecast(SEOUL, BASE, 80), now(BASE));
+
+        // then
+        assertThat(registry.status(seoul.id())).isNotNull();
+        assertThat(registry.status(busan.id())).isNull();
+        assertThat(registry.isEvaluated(BUSAN, Forecast.toEpochSecond(BASE))).isFalse();
+    }
+
+    @Test
+    @DisplayName("감시를 삭제하면 결과와 격자도 정리한다")
+    void removesRule() {
+        // given
+        WatchRegistry registry = new WatchRegistry();
+        WatchRule rule = registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+        registry.evaluate(forecast(SEOUL, BASE, 80), now(BASE));
+
+        // when
+        boolean removed = registry.remove(rule.id());
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(registry.remove(rule.id())).isFalse();
+        assertThat(registry.status(rule.id())).isNull();
+        assertThat(registry.grids()).isEmpty();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("감시할 수 없는 요소, 구간, 최대 개수 초과는 거부한다")
+    void rejectsInvalidWatches() {
+        // given
+        WatchRegistry registry = new WatchRegistry(1);
+
+        // when & then
+        assertThatThrownBy(() -> registry.add("서울", SEOUL, WeatherCategory.VEC, WatchOperator.GE, 180, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60,
+                WatchRegistry.MAX_HOURS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 6);
+        assertThatThrownBy(() -> registry.add("서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 70, 6))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 1개");
+    }
+
+    @Test
+    @DisplayName("조건 설명은 요소 이름과 단위를 포함한다")
+    void describesRule() {
+        // given
+        WatchRule pop = new WatchRule(1, "서울", SEOUL, WeatherCategory.POP, WatchOperator.GE, 60, 24);
+        WatchRule sky = new WatchRule(2, "서울", SEOUL, WeatherCategory.SKY, WatchOperator.GE, 4, 12);
+
+        // when & then
+        assertThat(pop.describe()).isEqualTo("강수확률 >= 60% (24시간 이내)");
+        assertThat(sky.describe()).isEqualTo("하늘상태 >= 4 (12시간 이내)");
+    }
+}